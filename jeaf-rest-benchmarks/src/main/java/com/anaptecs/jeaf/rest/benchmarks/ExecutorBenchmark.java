@@ -0,0 +1,111 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks that compare REST request executors (see {@link ExecutorSetup}) against a {@link LoopbackServer} with
+ * configurable latency and payload size. Each benchmark is measured in mode throughput and sample time. The latter
+ * reports the percentiles p50, p99 and p999 of the latency. Run them with the gc profiler to get allocations per
+ * operation, e.g.:
+ *
+ * <pre>
+ * java -jar jeaf-rest-benchmarks/target/benchmarks.jar ExecutorBenchmark -prof gc -p executor=HTTP_CLIENT -t 32
+ * </pre>
+ *
+ * Please be aware that the server runs in the same JVM. Allocations of the server are therefore included in the results
+ * of the gc profiler. They are the same for all executors though as the server only writes prepared responses.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class ExecutorBenchmark {
+  private static final RESTRequest NO_RESULT =
+      RESTRequest.builder(LoopbackServer.class, HttpMethod.GET, ContentType.JSON).setPath("/empty").build();
+
+  private static final RESTRequest SINGLE_OBJECT =
+      RESTRequest.builder(LoopbackServer.class, HttpMethod.GET, ContentType.JSON).setPath("/object").build();
+
+  private static final RESTRequest COLLECTION =
+      RESTRequest.builder(LoopbackServer.class, HttpMethod.GET, ContentType.JSON).setPath("/collection").build();
+
+  @Param({ "HTTP_CLIENT", "HTTP_CLIENT_VIRTUAL_THREADS", "HTTP_CLIENT_REACTIVE" })
+  private ExecutorSetup executor;
+
+  /**
+   * Latency in milliseconds that the server adds to every response.
+   */
+  @Param({ "0", "5" })
+  private int latencyMillis;
+
+  /**
+   * Size of the response body in bytes.
+   */
+  @Param({ "256", "65536" })
+  private int payloadSize;
+
+  /**
+   * Amount of elements of collection results.
+   */
+  @Param({ "20" })
+  private int collectionSize;
+
+  private LoopbackServer server;
+
+  private ExecutorSetup.Target target;
+
+  @Setup
+  public void setup( ) {
+    server = LoopbackServer.start(Duration.ofMillis(latencyMillis), payloadSize, collectionSize);
+    target = executor.create(server.getBaseURI());
+  }
+
+  @TearDown
+  public void tearDown( ) {
+    server.close();
+  }
+
+  @Benchmark
+  public void executeNoResultRequest( ) {
+    target.executeNoResult(NO_RESULT);
+  }
+
+  @Benchmark
+  public String executeSingleObjectResultRequest( ) {
+    return target.executeSingleObject(SINGLE_OBJECT);
+  }
+
+  @Benchmark
+  public List<String> executeCollectionResultRequest( ) {
+    return target.executeCollection(COLLECTION);
+  }
+}
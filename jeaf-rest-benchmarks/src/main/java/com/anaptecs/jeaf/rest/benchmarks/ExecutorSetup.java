@@ -0,0 +1,123 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreadRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.httpclient.HttpClientRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.httpclient.ServiceConfiguration;
+
+/**
+ * Enumeration defines the executor implementations that can be compared by {@link ExecutorBenchmark}. Further
+ * implementations, e.g. an executor based on another http client or a stack of decorators, can be benchmarked by adding
+ * a constant that creates them. Requests of all executors use {@link LoopbackServer} as service class.
+ *
+ * @author JEAF Development Team
+ */
+public enum ExecutorSetup {
+  /**
+   * Blocking calls using {@link HttpClientRESTRequestExecutor}.
+   */
+  HTTP_CLIENT {
+    @Override
+    Target create( URI pBaseURI ) {
+      return blocking(createHttpClientExecutor(pBaseURI));
+    }
+  },
+
+  /**
+   * Blocking calls using {@link HttpClientRESTRequestExecutor} decorated with {@link VirtualThreadRESTRequestExecutor}.
+   */
+  HTTP_CLIENT_VIRTUAL_THREADS {
+    @Override
+    Target create( URI pBaseURI ) {
+      return blocking(VirtualThreadRESTRequestExecutor.builder(createHttpClientExecutor(pBaseURI)).build());
+    }
+  },
+
+  /**
+   * Reactive calls based on the asynchronous executor of {@link HttpClientRESTRequestExecutor}.
+   */
+  HTTP_CLIENT_REACTIVE {
+    @Override
+    Target create( URI pBaseURI ) {
+      return reactive(RESTRequestExecutorReactive.fromAsync(createHttpClientExecutor(pBaseURI).getAsyncExecutor()));
+    }
+  };
+
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  /**
+   * Method creates the executor that should be benchmarked.
+   *
+   * @param pBaseURI Base URI of the loopback server. The parameter must not be null.
+   * @return {@link Target} Executor under test. The method never returns null.
+   */
+  abstract Target create( URI pBaseURI );
+
+  private static HttpClientRESTRequestExecutor createHttpClientExecutor( URI pBaseURI ) {
+    return HttpClientRESTRequestExecutor.builder()
+        .addService(LoopbackServer.class, ServiceConfiguration.builder(pBaseURI).build())
+        .setCodec(ContentType.JSON, new PlainTextCodec()).build();
+  }
+
+  static Target blocking( RESTRequestExecutor pExecutor ) {
+    return new Target() {
+      @Override
+      public void executeNoResult( RESTRequest pRequest ) {
+        pExecutor.executeNoResultRequest(pRequest, 204);
+      }
+
+      @Override
+      public String executeSingleObject( RESTRequest pRequest ) {
+        return pExecutor.executeSingleObjectResultRequest(pRequest, 200, STRING_TYPE);
+      }
+
+      @Override
+      public List<String> executeCollection( RESTRequest pRequest ) {
+        return pExecutor.executeCollectionResultRequest(pRequest, 200, List.class, STRING_TYPE);
+      }
+    };
+  }
+
+  static Target reactive( RESTRequestExecutorReactive pExecutor ) {
+    return new Target() {
+      @Override
+      public void executeNoResult( RESTRequest pRequest ) {
+        pExecutor.executeNoResultRequest(pRequest, 204).block();
+      }
+
+      @Override
+      public String executeSingleObject( RESTRequest pRequest ) {
+        return pExecutor.<String> executeSingleObjectResultRequest(pRequest, 200, STRING_TYPE).block();
+      }
+
+      @Override
+      public List<String> executeCollection( RESTRequest pRequest ) {
+        return pExecutor.<List<String>> executeCollectionResultRequest(pRequest, 200, List.class, STRING_TYPE).block();
+      }
+    };
+  }
+
+  /**
+   * Interface unifies blocking and reactive executors for the benchmark. Reactive executors are measured from the
+   * subscription until the result is available.
+   */
+  interface Target {
+    void executeNoResult( RESTRequest pRequest );
+
+    String executeSingleObject( RESTRequest pRequest );
+
+    List<String> executeCollection( RESTRequest pRequest );
+  }
+}
@@ -0,0 +1,138 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Class implements a minimal http server on the loopback interface that is used to benchmark REST request executors.
+ * Every request is handled by its own virtual thread (if available, see {@link VirtualThreads}) so that simulated
+ * latency does not limit the throughput of the server. The server provides the following resources:
+ * <ul>
+ * <li><code>/empty</code> responds with status 204 and no body.</li>
+ * <li><code>/object</code> responds with one line of the configured payload size.</li>
+ * <li><code>/collection</code> responds with the configured amount of lines that together have the configured payload
+ * size.</li>
+ * </ul>
+ * All responses are created once when the server is started so that the server itself allocates as little as possible.
+ *
+ * @author JEAF Development Team
+ */
+public final class LoopbackServer implements AutoCloseable {
+  private final HttpServer server;
+
+  private final ExecutorService threads;
+
+  private final long latencyNanos;
+
+  private final byte[] object;
+
+  private final byte[] collection;
+
+  /**
+   * Method starts a new server.
+   *
+   * @param pLatency Latency that is added to every response. The parameter must not be null.
+   * @param pPayloadSize Size of the response body in bytes of resources <code>/object</code> and
+   * <code>/collection</code>.
+   * @param pCollectionSize Amount of elements that are returned by resource <code>/collection</code>.
+   * @return {@link LoopbackServer} Started server. The method never returns null.
+   */
+  public static LoopbackServer start( Duration pLatency, int pPayloadSize, int pCollectionSize ) {
+    if (pLatency != null && pPayloadSize > 0 && pCollectionSize > 0) {
+      return new LoopbackServer(pLatency, pPayloadSize, pCollectionSize);
+    }
+    else {
+      throw new IllegalArgumentException(
+          "Parameter 'pLatency' must not be null and 'pPayloadSize' and 'pCollectionSize' must be greater than 0.");
+    }
+  }
+
+  private LoopbackServer( Duration pLatency, int pPayloadSize, int pCollectionSize ) {
+    latencyNanos = pLatency.toNanos();
+    object = createLines(pPayloadSize, 1);
+    collection = createLines(pPayloadSize, pCollectionSize);
+    try {
+      server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Unable to start loopback server.", e);
+    }
+    server.createContext("/empty", pExchange -> this.respond(pExchange, 204, null));
+    server.createContext("/object", pExchange -> this.respond(pExchange, 200, object));
+    server.createContext("/collection", pExchange -> this.respond(pExchange, 200, collection));
+    threads = VirtualThreads.newExecutor("loopback-server-");
+    server.setExecutor(threads);
+    server.start();
+  }
+
+  /**
+   * Method creates a body consisting of the passed amount of lines with the passed total size in bytes.
+   */
+  private static byte[] createLines( int pSize, int pLines ) {
+    byte[] lBody = new byte[Math.max(pSize, pLines * 2)];
+    Arrays.fill(lBody, (byte) 'x');
+    int lLineLength = lBody.length / pLines;
+    for (int i = 1; i < pLines; i++) {
+      lBody[i * lLineLength - 1] = '\n';
+    }
+    return lBody;
+  }
+
+  /**
+   * Method returns the base URI of the server.
+   *
+   * @return {@link URI} Base URI of the server, e.g. <code>http://127.0.0.1:54321/</code>. The method never returns
+   * null.
+   */
+  public URI getBaseURI( ) {
+    InetSocketAddress lAddress = server.getAddress();
+    return URI.create("http://" + lAddress.getAddress().getHostAddress() + ":" + lAddress.getPort() + "/");
+  }
+
+  private void respond( HttpExchange pExchange, int pStatusCode, byte[] pBody ) throws IOException {
+    try (pExchange) {
+      pExchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+      if (latencyNanos > 0) {
+        TimeUnit.NANOSECONDS.sleep(latencyNanos);
+      }
+      if (pBody != null) {
+        pExchange.getResponseHeaders().set("Content-Type", "text/plain; charset=" + StandardCharsets.UTF_8.name());
+        pExchange.sendResponseHeaders(pStatusCode, pBody.length);
+        pExchange.getResponseBody().write(pBody);
+      }
+      else {
+        pExchange.sendResponseHeaders(pStatusCode, -1);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Method stops the server immediately.
+   */
+  @Override
+  public void close( ) {
+    server.stop(0);
+    threads.shutdownNow();
+  }
+}
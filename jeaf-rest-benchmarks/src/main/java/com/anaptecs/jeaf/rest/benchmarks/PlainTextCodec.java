@@ -0,0 +1,54 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.httpclient.BodyCodec;
+
+/**
+ * Codec that reads response bodies as plain text. Single objects are returned as one string, collections contain one
+ * string per line. This way benchmarks measure the executor and not the costs of a JSON library.
+ *
+ * @author JEAF Development Team
+ */
+public final class PlainTextCodec implements BodyCodec {
+  @Override
+  public byte[] serialize( Object pObject ) {
+    return pObject.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T deserialize( InputStream pInput, ObjectType pObjectType ) throws IOException {
+    return (T) new String(pInput.readAllBytes(), StandardCharsets.UTF_8);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T deserializeCollection( InputStream pInput, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    List<String> lLines = new ArrayList<>();
+    this.<String> deserializeElements(pInput, pObjectType).forEachRemaining(lLines::add);
+    return (T) lLines;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Iterator<T> deserializeElements( InputStream pInput, ObjectType pObjectType ) {
+    BufferedReader lReader = new BufferedReader(new InputStreamReader(pInput, StandardCharsets.UTF_8));
+    return (Iterator<T>) lReader.lines().iterator();
+  }
+}
@@ -0,0 +1,237 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the construction of {@link RESTRequest}s and the accessors that executors use. Every generated REST
+ * client goes through this code for each call so throughput and allocation rate should be watched. Run them with the
+ * gc profiler to get the allocation rate per operation:
+ *
+ * <pre>
+ * java -jar jeaf-rest-benchmarks/target/benchmarks.jar RESTRequestBenchmark -prof gc
+ * </pre>
+ *
+ * Legacy views and the encoded path are created lazily and then cached inside the request. Their benchmarks therefore
+ * build a new request every time. Compare them with {@link #buildTypical()} to get the costs of the view itself.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RESTRequestBenchmark {
+  private static final RESTRequest.Template GET_PRODUCT =
+      RESTRequest.builder(RESTRequestBenchmark.class, HttpMethod.GET, ContentType.JSON)
+          .setPath("/products/{id}").setHeader(HeaderNames.ACCEPT_LANGUAGE, "de").buildTemplate();
+
+  private static final String[] HEADER_NAMES = new String[16];
+
+  private static final String[] QUERY_NAMES = new String[16];
+
+  static {
+    for (int i = 0; i < HEADER_NAMES.length; i++) {
+      HEADER_NAMES[i] = "X-Header-" + i;
+      QUERY_NAMES[i] = "param" + i;
+    }
+  }
+
+  private final List<String> sortFields = List.of("name", "price");
+
+  private long productID = 4711;
+
+  private RESTRequest request;
+
+  @Setup
+  public void setup( ) {
+    request = this.buildTypical();
+  }
+
+  @Benchmark
+  public RESTRequest buildMinimal( ) {
+    return RESTRequest.builder(RESTRequestBenchmark.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .build();
+  }
+
+  /**
+   * Typical request of a generated client with some header fields and query parameters of different types.
+   */
+  @Benchmark
+  public RESTRequest buildTypical( ) {
+    return RESTRequest.builder(RESTRequestBenchmark.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .setHeader(HeaderNames.ACCEPT_LANGUAGE, "de").setHeader(HeaderNames.AUTHORIZATION, "Bearer 0123456789")
+        .setHeader(HeaderNames.X_REQUEST_ID, "a1b2c3d4").setHeader("X-Tenant", 42)
+        .setQueryParameter("query", "red shoes").setQueryParameter("size", 20).setQueryParameter("sort", sortFields)
+        .setCookie("session", "4711").build();
+  }
+
+  @Benchmark
+  public RESTRequest buildTypicalReusable( ) {
+    return RESTRequest.reusableBuilder(RESTRequestBenchmark.class, HttpMethod.GET, ContentType.JSON)
+        .setPath("/products").setHeader(HeaderNames.ACCEPT_LANGUAGE, "de")
+        .setHeader(HeaderNames.AUTHORIZATION, "Bearer 0123456789").setHeader(HeaderNames.X_REQUEST_ID, "a1b2c3d4")
+        .setHeader("X-Tenant", 42).setQueryParameter("query", "red shoes").setQueryParameter("size", 20)
+        .setQueryParameter("sort", sortFields).setCookie("session", "4711").build();
+  }
+
+  @Benchmark
+  public RESTRequest buildFromTemplate( ) {
+    return GET_PRODUCT.builder(productID).setHeader(HeaderNames.X_REQUEST_ID, "a1b2c3d4").build();
+  }
+
+  @Benchmark
+  public RESTRequest buildWithManyParameters( ) {
+    RESTRequest.Builder lBuilder = RESTRequest.builder(RESTRequestBenchmark.class, HttpMethod.GET, ContentType.JSON);
+    for (int i = 0; i < 16; i++) {
+      lBuilder.setHeader(HEADER_NAMES[i], i);
+      lBuilder.setQueryParameter(QUERY_NAMES[i], i);
+    }
+    return lBuilder.build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderBoolean( ) {
+    return this.requestBuilder().setHeader("X-Value", true).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderByte( ) {
+    return this.requestBuilder().setHeader("X-Value", (byte) 17).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderShort( ) {
+    return this.requestBuilder().setHeader("X-Value", (short) 4711).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderInt( ) {
+    return this.requestBuilder().setHeader("X-Value", 4711, 4712).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderLong( ) {
+    return this.requestBuilder().setHeader("X-Value", productID).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderFloat( ) {
+    return this.requestBuilder().setHeader("X-Value", 47.11f).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderDouble( ) {
+    return this.requestBuilder().setHeader("X-Value", 47.11d).build();
+  }
+
+  @Benchmark
+  public RESTRequest setHeaderChar( ) {
+    return this.requestBuilder().setHeader("X-Value", 'A').build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterBoolean( ) {
+    return this.requestBuilder().setQueryParameter("value", true).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterByte( ) {
+    return this.requestBuilder().setQueryParameter("value", (byte) 17).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterShort( ) {
+    return this.requestBuilder().setQueryParameter("value", (short) 4711).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterInt( ) {
+    return this.requestBuilder().setQueryParameter("value", 4711, 4712).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterLong( ) {
+    return this.requestBuilder().setQueryParameter("value", productID).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterFloat( ) {
+    return this.requestBuilder().setQueryParameter("value", 47.11f).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterDouble( ) {
+    return this.requestBuilder().setQueryParameter("value", 47.11d).build();
+  }
+
+  @Benchmark
+  public RESTRequest setQueryParameterChar( ) {
+    return this.requestBuilder().setQueryParameter("value", 'A').build();
+  }
+
+  @Benchmark
+  public List<String> getHeaderFields( ) {
+    return request.getHeaderFields().get(HeaderNames.AUTHORIZATION);
+  }
+
+  @Benchmark
+  public List<String> getHeaderFieldsOtherCase( ) {
+    return request.getHeaderFields().get("authorization");
+  }
+
+  @Benchmark
+  public String getHeader( ) {
+    return request.getHeader(HeaderNames.AUTHORIZATION);
+  }
+
+  @Benchmark
+  public List<String> getQueryParameters( ) {
+    return request.getQueryParameters().get("sort");
+  }
+
+  @SuppressWarnings("deprecation")
+  @Benchmark
+  public String getHeadersLegacyView( ) {
+    return this.buildTypical().getHeaders().get(HeaderNames.AUTHORIZATION);
+  }
+
+  @SuppressWarnings("deprecation")
+  @Benchmark
+  public Map<String, Set<String>> getQueryParamsLegacyView( ) {
+    return this.buildTypical().getQueryParams();
+  }
+
+  @Benchmark
+  public String getEncodedPathAndQuery( ) {
+    return this.buildTypical().getEncodedPathAndQuery();
+  }
+
+  private RESTRequest.Builder requestBuilder( ) {
+    return RESTRequest.builder(RESTRequestBenchmark.class, HttpMethod.GET, ContentType.JSON).setPath("/products");
+  }
+}
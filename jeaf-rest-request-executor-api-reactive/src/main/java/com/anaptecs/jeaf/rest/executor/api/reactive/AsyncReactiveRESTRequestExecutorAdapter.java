@@ -0,0 +1,55 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api.reactive;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+
+/**
+ * Class adapts a {@link RESTRequestExecutorReactive} to {@link RESTRequestExecutorAsync}.
+ *
+ * @author JEAF Development Team
+ */
+final class AsyncReactiveRESTRequestExecutorAdapter implements RESTRequestExecutorAsync {
+  private final RESTRequestExecutorReactive executor;
+
+  /**
+   * Initialize object.
+   *
+   * @param pExecutor Reactive executor that should be adapted. The parameter must not be null.
+   */
+  AsyncReactiveRESTRequestExecutorAdapter( RESTRequestExecutorReactive pExecutor ) {
+    if (pExecutor != null) {
+      executor = pExecutor;
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pExecutor' must not be null.");
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return executor.executeNoResultRequest(pRequest, pSuccessfulStatusCode).toFuture();
+  }
+
+  @Override
+  public <T> CompletableFuture<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return executor.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType).toFuture();
+  }
+
+  @Override
+  public <T> CompletableFuture<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return executor.<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType)
+        .toFuture();
+  }
+}
@@ -6,11 +6,20 @@
 package com.anaptecs.jeaf.rest.executor.api.reactive;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import com.anaptecs.jeaf.rest.executor.api.ObjectType;
 import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.StreamingBody;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Interface defines an abstraction for reactive calls to an REST resource. Idea of this interface is to provide a
@@ -19,8 +28,11 @@ import reactor.core.publisher.Mono;
  * 
  * Responsibilities of implementations:
  * <ul>
- * <li>Ensure http compatibility of query parameters (they need to be URL encoded)</li>
+ * <li>Ensure http compatibility of query parameters (they need to be URL encoded). Path and query parameters are
+ * already available in encoded form via {@link RESTRequest#getEncodedPathAndQuery()}.</li>
  * <li>Conversion of body to defined content-type. Support for JSON is mandatory, XML is optional.</li>
+ * <li>Bodies of type {@link StreamingBody} must not be converted. Their content has to be streamed as it is without
+ * loading it into memory.</li>
  * <li>Proper handling of passed cookies</li>
  * <li>Problem-Handling: For technical problems as well as in case that the REST resource returns a problem. It is
  * expected that a runtime exception will be thrown that represents the occurred problem e.g. using Zalando Problem
@@ -34,6 +46,46 @@ import reactor.core.publisher.Mono;
  * @author JEAF Development Team
  */
 public interface RESTRequestExecutorReactive {
+  /**
+   * Method creates a reactive executor that executes all requests using the passed asynchronous executor. Requests are
+   * only executed when the returned {@link Mono} is subscribed. Cancelling the subscription cancels the future of the
+   * request.
+   * 
+   * @param pExecutor Asynchronous executor that should be adapted. The parameter must not be null.
+   * @return {@link RESTRequestExecutorReactive} Reactive executor. The method never returns null.
+   */
+  static RESTRequestExecutorReactive fromAsync( RESTRequestExecutorAsync pExecutor ) {
+    return new ReactiveRESTRequestExecutorAdapter(pExecutor);
+  }
+
+  /**
+   * Method creates a reactive executor that executes all requests using the passed blocking executor. Requests are only
+   * executed when the returned {@link Mono} or {@link Flux} is subscribed. Every request occupies a thread of the
+   * passed scheduler while it is executed, e.g. <code>Schedulers.boundedElastic()</code>.
+   * <p/>
+   * Stream results are emitted from {@link RESTRequestExecutor#executeStreamResultRequest(RESTRequest, int,
+   * ObjectType)} and elements are only pulled from the stream as requested by downstream subscribers. So if the
+   * blocking executor deserializes elements incrementally then the returned executor does so as well.
+   * 
+   * @param pExecutor Blocking executor that should be adapted. The parameter must not be null.
+   * @param pScheduler Scheduler that is used to execute the blocking calls. The parameter must not be null.
+   * @return {@link RESTRequestExecutorReactive} Reactive executor. The method never returns null.
+   */
+  static RESTRequestExecutorReactive fromBlocking( RESTRequestExecutor pExecutor, Scheduler pScheduler ) {
+    return new ReactiveBlockingRESTRequestExecutorAdapter(pExecutor, pScheduler);
+  }
+
+  /**
+   * Method creates an asynchronous executor that executes all requests using the passed reactive executor. Requests
+   * are executed immediately by subscribing to the {@link Mono} of the request.
+   * 
+   * @param pExecutor Reactive executor that should be adapted. The parameter must not be null.
+   * @return {@link RESTRequestExecutorAsync} Asynchronous executor. The method never returns null.
+   */
+  static RESTRequestExecutorAsync toAsync( RESTRequestExecutorReactive pExecutor ) {
+    return new AsyncReactiveRESTRequestExecutorAdapter(pExecutor);
+  }
+
   /**
    * Method executes a reactive HTTP REST request that is expected to return no response (aka return type void). The
    * REST resource that should be called can be resolved using the service class that is defined in the passed request.
@@ -75,4 +127,70 @@ public interface RESTRequestExecutorReactive {
   <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
       @SuppressWarnings("rawtypes")
       Class<? extends Collection> pCollectionClass, ObjectType pObjectType );
+
+  /**
+   * Method executes a reactive HTTP request that is expected to return a collection of objects as result. In opposite
+   * to {@link #executeCollectionResultRequest(RESTRequest, int, Class, ObjectType)} the result is not collected as a
+   * whole. Instead every element is emitted as soon as it was parsed from the response body. Implementations are
+   * expected to support JSON arrays as well as newline delimited JSON (NDJSON) and to only read as much of the response
+   * as requested by downstream subscribers. This way memory consumption stays bounded regardless of the size of the
+   * response.
+   * <p/>
+   * The default implementation is only a fallback that does not stream at all: It calls
+   * {@link #executeCollectionResultRequest(RESTRequest, int, Class, ObjectType)} and thus buffers the whole result in
+   * memory before the first element is emitted. Backpressure only limits the emitted elements but not what is read
+   * from the response. Implementations are expected to override this method with a real streaming implementation.
+   * Executors created with {@link #fromBlocking(RESTRequestExecutor, Scheduler)} do so.
+   * 
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call. This status code is required in
+   * order to be able to distinguish between successful and failed requests. In case of failed requests an runtime
+   * exception is expected to be thrown.
+   * @param pObjectType Type of the objects that will be emitted. The parameter must not be null.
+   * @return {@link Flux} Flux emitting the objects as it was defined by <code>pObjectType</code>. The method never
+   * returns null.
+   */
+  default <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Mono<Collection<T>> lResult =
+        this.<Collection<T>> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, List.class, pObjectType);
+    return lResult.flatMapIterable(Function.identity());
+  }
+
+  /**
+   * Method executes a reactive HTTP request and returns the complete response including status code and header fields.
+   * This way callers like caches are able to evaluate headers such as <code>Cache-Control</code> or <code>ETag</code>.
+   * <p/>
+   * If the passed request is a conditional request (e.g. contains header <code>If-None-Match</code>) then status code
+   * {@link RESTResponse#NOT_MODIFIED} has to be treated as successful as well. In this case the returned response has
+   * no result.
+   * <p/>
+   * The default implementation delegates to the matching <code>execute...Request</code> method and returns a response
+   * with the expected status code but without any header fields. Implementations that have access to the http
+   * response are expected to override this method.
+   *
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call.
+   * @param pCollectionClass Class object of collection class that should be returned e.g. List. The parameter may be
+   * null if the request returns a single object or no result at all.
+   * @param pObjectType Type of the returned object or of the objects inside the collection. The parameter may be null
+   * if the request returns no result.
+   * @return {@link Mono} Mono emitting the response of the request. The method never returns null.
+   */
+  default <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    Mono<T> lResult;
+    if (pObjectType == null) {
+      lResult = this.executeNoResultRequest(pRequest, pSuccessfulStatusCode).then(Mono.empty());
+    }
+    else if (pCollectionClass == null) {
+      lResult = this.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    }
+    else {
+      lResult = this.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    return lResult.map(pResult -> RESTResponse.of(pSuccessfulStatusCode, Map.<String, List<String>> of(), pResult))
+        .switchIfEmpty(Mono.fromSupplier(( ) -> RESTResponse.<T> of(pSuccessfulStatusCode, Map.of(), null)));
+  }
 }
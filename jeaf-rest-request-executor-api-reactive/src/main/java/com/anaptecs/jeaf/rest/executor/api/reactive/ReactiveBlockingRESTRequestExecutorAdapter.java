@@ -0,0 +1,90 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api.reactive;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Class adapts a blocking {@link RESTRequestExecutor} to {@link RESTRequestExecutorReactive}. Blocking calls are
+ * executed on the passed scheduler. Stream results are pulled from
+ * {@link RESTRequestExecutor#executeStreamResultRequest(RESTRequest, int, ObjectType)} according to the demand of
+ * subscribers.
+ *
+ * @author JEAF Development Team
+ */
+final class ReactiveBlockingRESTRequestExecutorAdapter implements RESTRequestExecutorReactive {
+  private final RESTRequestExecutor executor;
+
+  private final Scheduler scheduler;
+
+  /**
+   * Initialize object.
+   *
+   * @param pExecutor Blocking executor that should be adapted. The parameter must not be null.
+   * @param pScheduler Scheduler that is used to execute the blocking calls. The parameter must not be null.
+   */
+  ReactiveBlockingRESTRequestExecutorAdapter( RESTRequestExecutor pExecutor, Scheduler pScheduler ) {
+    if (pExecutor != null && pScheduler != null) {
+      executor = pExecutor;
+      scheduler = pScheduler;
+    }
+    else {
+      throw new IllegalArgumentException("Parameters 'pExecutor' and 'pScheduler' must not be null.");
+    }
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return Mono.<Void> fromRunnable(( ) -> executor.executeNoResultRequest(pRequest, pSuccessfulStatusCode))
+        .subscribeOn(scheduler);
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return Mono.fromCallable(
+        ( ) -> executor.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType))
+        .subscribeOn(scheduler);
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return Mono.fromCallable(( ) -> executor.<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType)).subscribeOn(scheduler);
+  }
+
+  /**
+   * Method emits the elements of the stream that is returned by the blocking executor. Elements are only pulled from
+   * the stream as requested by downstream subscribers. The stream and thus the underlying http connection is closed
+   * when the flux completes, fails or is cancelled.
+   */
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return Flux.using(( ) -> executor.<T> executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType),
+        Flux::fromStream, Stream::close).subscribeOn(scheduler);
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return Mono.fromCallable(( ) -> executor.<T> executeResponseRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType)).subscribeOn(scheduler);
+  }
+}
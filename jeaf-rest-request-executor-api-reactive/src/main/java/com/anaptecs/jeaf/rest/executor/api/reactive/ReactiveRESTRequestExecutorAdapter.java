@@ -0,0 +1,57 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api.reactive;
+
+import java.util.Collection;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Class adapts a {@link RESTRequestExecutorAsync} to {@link RESTRequestExecutorReactive}.
+ *
+ * @author JEAF Development Team
+ */
+final class ReactiveRESTRequestExecutorAdapter implements RESTRequestExecutorReactive {
+  private final RESTRequestExecutorAsync executor;
+
+  /**
+   * Initialize object.
+   *
+   * @param pExecutor Asynchronous executor that should be adapted. The parameter must not be null.
+   */
+  ReactiveRESTRequestExecutorAdapter( RESTRequestExecutorAsync pExecutor ) {
+    if (pExecutor != null) {
+      executor = pExecutor;
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pExecutor' must not be null.");
+    }
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return Mono.fromFuture(( ) -> executor.executeNoResultRequest(pRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return Mono.fromFuture(
+        ( ) -> executor.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return Mono.fromFuture(( ) -> executor.<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+}
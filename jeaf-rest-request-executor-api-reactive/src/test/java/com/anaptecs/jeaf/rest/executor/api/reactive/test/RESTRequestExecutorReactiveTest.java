@@ -0,0 +1,220 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class RESTRequestExecutorReactiveTest {
+  @Test
+  void testStreamResultFallback( ) {
+    List<Object> lRequests = new ArrayList<>();
+    RESTRequestExecutorReactive lExecutor = new RESTRequestExecutorReactive() {
+      @Override
+      public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+        return Mono.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          ObjectType pObjectType ) {
+        return Mono.error(new UnsupportedOperationException());
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          @SuppressWarnings("rawtypes")
+          Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+        lRequests.add(pRequest);
+        lRequests.add(pCollectionClass);
+        return pRequest.getPath().equals("/empty") ? Mono.empty() : Mono.just((T) List.of(1, 2, 3));
+      }
+    };
+
+    RESTRequest lRequest =
+        RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("/all").build();
+    ObjectType lObjectType = ObjectType.createObjectType(Integer.class);
+    List<Integer> lElements = lExecutor.<Integer> executeStreamResultRequest(lRequest, 200, lObjectType)
+        .collectList().block();
+    assertEquals(List.of(1, 2, 3), lElements);
+    assertSame(lRequest, lRequests.get(0));
+    assertSame(List.class, lRequests.get(1));
+
+    // Fallback only limits the emitted elements. The whole result was collected before.
+    assertEquals(List.of(1, 2), lExecutor.<Integer> executeStreamResultRequest(lRequest, 200, lObjectType).take(2)
+        .collectList().block());
+
+    lRequest = RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("/empty").build();
+    assertEquals(0, lExecutor.executeStreamResultRequest(lRequest, 200, lObjectType).count().block());
+  }
+
+  @Test
+  void testAsyncAdapters( ) throws InterruptedException, ExecutionException {
+    AtomicInteger lCalls = new AtomicInteger();
+    IllegalStateException lException = new IllegalStateException("Failed");
+    RESTRequestExecutorAsync lAsync = new RESTRequestExecutorAsync() {
+      @Override
+      public CompletableFuture<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+        lCalls.incrementAndGet();
+        return CompletableFuture.failedFuture(lException);
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> CompletableFuture<T> executeSingleObjectResultRequest( RESTRequest pRequest,
+          int pSuccessfulStatusCode, ObjectType pObjectType ) {
+        lCalls.incrementAndGet();
+        return CompletableFuture.completedFuture((T) pRequest.getPath());
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> CompletableFuture<T> executeCollectionResultRequest( RESTRequest pRequest,
+          int pSuccessfulStatusCode, @SuppressWarnings("rawtypes")
+          Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+        lCalls.incrementAndGet();
+        return CompletableFuture.completedFuture((T) List.of(pRequest.getPath()));
+      }
+    };
+
+    RESTRequest lRequest =
+        RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/reactive").build();
+    ObjectType lObjectType = ObjectType.createObjectType(String.class);
+    RESTRequestExecutorReactive lReactive = RESTRequestExecutorReactive.fromAsync(lAsync);
+
+    // Requests are only executed on subscription.
+    Mono<String> lSingle = lReactive.executeSingleObjectResultRequest(lRequest, 200, lObjectType);
+    assertEquals(0, lCalls.get());
+    assertEquals("/reactive", lSingle.block());
+    assertEquals(1, lCalls.get());
+    assertEquals(List.of("/reactive"), lReactive.executeStreamResultRequest(lRequest, 200, lObjectType)
+        .collectList().block());
+    try {
+      lReactive.executeNoResultRequest(lRequest, 204).block();
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertSame(lException, e);
+    }
+
+    RESTRequestExecutorAsync lAsyncAgain = RESTRequestExecutorReactive.toAsync(lReactive);
+    assertEquals("/reactive", lAsyncAgain.executeSingleObjectResultRequest(lRequest, 200, lObjectType).get());
+    assertEquals(List.of("/reactive"),
+        lAsyncAgain.executeCollectionResultRequest(lRequest, 200, List.class, lObjectType).get());
+    try {
+      lAsyncAgain.executeNoResultRequest(lRequest, 204).get();
+      fail();
+    }
+    catch (ExecutionException e) {
+      assertSame(lException, e.getCause());
+    }
+  }
+
+  @Test
+  void testBlockingAdapter( ) {
+    AtomicInteger lPulled = new AtomicInteger();
+    AtomicBoolean lClosed = new AtomicBoolean();
+    List<String> lThreads = new ArrayList<>();
+    RESTRequestExecutor lBlocking = new RESTRequestExecutor() {
+      @Override
+      public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+        throw new IllegalStateException("Failed");
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          ObjectType pObjectType ) {
+        lThreads.add(Thread.currentThread().getName());
+        return (T) pRequest.getPath();
+      }
+
+      @Override
+      public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          @SuppressWarnings("rawtypes")
+          Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+        throw new UnsupportedOperationException();
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          ObjectType pObjectType ) {
+        // Endless result that can only be processed incrementally.
+        return (Stream<T>) Stream.iterate(0, i -> i + 1).peek(i -> lPulled.incrementAndGet())
+            .onClose(( ) -> lClosed.set(true));
+      }
+    };
+
+    RESTRequest lRequest =
+        RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("/blocking").build();
+    ObjectType lObjectType = ObjectType.createObjectType(Integer.class);
+    RESTRequestExecutorReactive lReactive = RESTRequestExecutorReactive.fromBlocking(lBlocking,
+        Schedulers.boundedElastic());
+
+    // Elements are only pulled from the stream as requested and the stream is closed on cancellation.
+    Flux<Integer> lElements = lReactive.executeStreamResultRequest(lRequest, 200, lObjectType);
+    assertEquals(0, lPulled.get());
+    assertEquals(List.of(0, 1, 2), lElements.take(3).collectList().block());
+    assertTrue(lPulled.get() <= 4, "Pulled elements: " + lPulled.get());
+    assertTrue(lClosed.get());
+
+    lPulled.set(0);
+    lClosed.set(false);
+    assertEquals(Integer.valueOf(99), lElements.limitRate(10).elementAt(99).block());
+    assertTrue(lPulled.get() <= 110, "Pulled elements: " + lPulled.get());
+    assertTrue(lClosed.get());
+
+    // Blocking calls are executed on the scheduler.
+    Mono<String> lSingle = lReactive.executeSingleObjectResultRequest(lRequest, 200, lObjectType);
+    assertEquals(0, lThreads.size());
+    assertEquals("/blocking", lSingle.block());
+    assertTrue(lThreads.get(0).startsWith("boundedElastic"), lThreads.get(0));
+    RESTResponse<String> lResponse = lReactive.<String> executeResponseRequest(lRequest, 200, null, lObjectType)
+        .block();
+    assertEquals("/blocking", lResponse.getResult());
+    try {
+      lReactive.executeNoResultRequest(lRequest, 204).block();
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Failed", e.getMessage());
+    }
+    try {
+      RESTRequestExecutorReactive.fromBlocking(lBlocking, null);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameters 'pExecutor' and 'pScheduler' must not be null.", e.getMessage());
+    }
+  }
+}
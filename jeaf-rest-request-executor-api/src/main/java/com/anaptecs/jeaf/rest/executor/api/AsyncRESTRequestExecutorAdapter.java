@@ -0,0 +1,59 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Class adapts a blocking {@link RESTRequestExecutor} to {@link RESTRequestExecutorAsync}. Blocking calls are executed
+ * using a thread pool.
+ *
+ * @author JEAF Development Team
+ */
+final class AsyncRESTRequestExecutorAdapter implements RESTRequestExecutorAsync {
+  private final RESTRequestExecutor executor;
+
+  private final Executor threadPool;
+
+  /**
+   * Initialize object.
+   *
+   * @param pExecutor Blocking executor that should be adapted. The parameter must not be null.
+   * @param pThreadPool Thread pool that is used to execute the blocking calls. The parameter must not be null.
+   */
+  AsyncRESTRequestExecutorAdapter( RESTRequestExecutor pExecutor, Executor pThreadPool ) {
+    if (pExecutor != null && pThreadPool != null) {
+      executor = pExecutor;
+      threadPool = pThreadPool;
+    }
+    else {
+      throw new IllegalArgumentException("Parameters 'pExecutor' and 'pThreadPool' must not be null.");
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return CompletableFuture.runAsync(( ) -> executor.executeNoResultRequest(pRequest, pSuccessfulStatusCode),
+        threadPool);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return CompletableFuture.supplyAsync(
+        ( ) -> executor.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType), threadPool);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return CompletableFuture.supplyAsync(( ) -> executor.<T> executeCollectionResultRequest(pRequest,
+        pSuccessfulStatusCode, pCollectionClass, pObjectType), threadPool);
+  }
+}
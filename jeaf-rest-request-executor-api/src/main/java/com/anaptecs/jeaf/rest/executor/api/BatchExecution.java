@@ -0,0 +1,145 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class executes the items of a batch using a {@link RESTRequestExecutorAsync}. At most the defined amount of
+ * requests is in progress at the same time. Whenever a request completes the next one is started. No thread is
+ * blocked while waiting for responses.
+ *
+ * @author JEAF Development Team
+ */
+final class BatchExecution<T> {
+  private final RESTRequestExecutorAsync executor;
+
+  private final List<BatchItem<T>> items;
+
+  private final BatchResult<T>[] results;
+
+  /**
+   * Index of the next item that will be started.
+   */
+  private final AtomicInteger nextItem = new AtomicInteger();
+
+  /**
+   * Amount of items that are not yet completed.
+   */
+  private final AtomicInteger pendingItems;
+
+  /**
+   * Amount of requested starts that were not yet processed. Starts are processed in a loop by the thread that
+   * increments the counter from 0. This way items that complete synchronously do not cause deep recursion.
+   */
+  private final AtomicInteger requestedStarts = new AtomicInteger();
+
+  private final CompletableFuture<List<BatchResult<T>>> completion = new CompletableFuture<>();
+
+  /**
+   * Method executes the passed batch sequentially using the passed blocking executor.
+   *
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @param pItems Items of the batch. The parameter must not be null.
+   * @return {@link List} Results of all items in the same order as the items. The method never returns null.
+   */
+  static <T> List<BatchResult<T>> executeSequentially( RESTRequestExecutor pExecutor, List<BatchItem<T>> pItems ) {
+    checkParameters(pItems, 1);
+    List<BatchResult<T>> lResults = new ArrayList<>(pItems.size());
+    for (BatchItem<T> lItem : pItems) {
+      try {
+        lResults.add(new BatchResult<>(lItem, lItem.execute(pExecutor), null));
+      }
+      catch (RuntimeException e) {
+        lResults.add(new BatchResult<>(lItem, null, e));
+      }
+    }
+    return Collections.unmodifiableList(lResults);
+  }
+
+  /**
+   * Method executes the passed batch using the passed asynchronous executor.
+   *
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @param pItems Items of the batch. The parameter must not be null.
+   * @param pMaxParallelism Maximum amount of requests that are executed at the same time. The value must be greater
+   * than 0.
+   * @return {@link CompletableFuture} Future with the results of all items in the same order as the items. The method
+   * never returns null.
+   */
+  static <T> CompletableFuture<List<BatchResult<T>>> execute( RESTRequestExecutorAsync pExecutor,
+      List<BatchItem<T>> pItems, int pMaxParallelism ) {
+    checkParameters(pItems, pMaxParallelism);
+    BatchExecution<T> lExecution = new BatchExecution<>(pExecutor, pItems);
+    if (pItems.isEmpty()) {
+      lExecution.completion.complete(List.of());
+    }
+    else {
+      for (int i = 0; i < Math.min(pMaxParallelism, pItems.size()); i++) {
+        lExecution.startNext();
+      }
+    }
+    return lExecution.completion;
+  }
+
+  private static void checkParameters( List<?> pItems, int pMaxParallelism ) {
+    if (pItems == null) {
+      throw new IllegalArgumentException("Parameter 'pItems' must not be null.");
+    }
+    if (pMaxParallelism < 1) {
+      throw new IllegalArgumentException("Parameter 'pMaxParallelism' must be greater than 0.");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private BatchExecution( RESTRequestExecutorAsync pExecutor, List<BatchItem<T>> pItems ) {
+    executor = pExecutor;
+    // Items are copied as the passed list might be changed while the batch is executed.
+    items = new ArrayList<>(pItems);
+    results = new BatchResult[pItems.size()];
+    pendingItems = new AtomicInteger(pItems.size());
+  }
+
+  private void startNext( ) {
+    if (requestedStarts.getAndIncrement() == 0) {
+      do {
+        int lIndex = nextItem.getAndIncrement();
+        if (lIndex < items.size()) {
+          this.start(lIndex);
+        }
+      }
+      while (requestedStarts.decrementAndGet() != 0);
+    }
+  }
+
+  private void start( int pIndex ) {
+    BatchItem<T> lItem = items.get(pIndex);
+    CompletableFuture<T> lFuture;
+    try {
+      lFuture = lItem.execute(executor);
+    }
+    catch (RuntimeException e) {
+      lFuture = CompletableFuture.failedFuture(e);
+    }
+    lFuture.whenComplete(( pResult, pFailure ) -> {
+      Throwable lFailure = pFailure instanceof CompletionException && pFailure.getCause() != null ? pFailure
+          .getCause() : pFailure;
+      results[pIndex] = new BatchResult<>(lItem, lFailure == null ? pResult : null, lFailure);
+      if (pendingItems.decrementAndGet() == 0) {
+        completion.complete(Collections.unmodifiableList(Arrays.asList(results)));
+      }
+      else {
+        this.startNext();
+      }
+    });
+  }
+}
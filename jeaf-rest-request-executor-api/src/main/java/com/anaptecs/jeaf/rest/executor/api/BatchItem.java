@@ -0,0 +1,188 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class represents one request of a batch that is executed using
+ * {@link RESTRequestExecutor#executeBatch(java.util.List, int)} or
+ * {@link RESTRequestExecutorAsync#executeBatch(java.util.List, int)}. Besides the request itself an item defines the
+ * expected status code and the type of the result.
+ *
+ * @author JEAF Development Team
+ */
+public final class BatchItem<T> {
+  /**
+   * Request that should be executed.
+   */
+  private final RESTRequest request;
+
+  /**
+   * Status code that represents a successful call.
+   */
+  private final int successfulStatusCode;
+
+  /**
+   * Class of the collection that is returned or null if no collection is expected.
+   */
+  @SuppressWarnings("rawtypes")
+  private final Class<? extends Collection> collectionClass;
+
+  /**
+   * Type of the result or null if no result is expected.
+   */
+  private final ObjectType objectType;
+
+  /**
+   * Method creates a batch item for a request that is expected to return no response (see
+   * {@link RESTRequestExecutor#executeNoResultRequest(RESTRequest, int)}).
+   *
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call.
+   * @return {@link BatchItem} Created item. The method never returns null.
+   */
+  public static <T> BatchItem<T> noResult( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return new BatchItem<>(pRequest, pSuccessfulStatusCode, null, null);
+  }
+
+  /**
+   * Method creates a batch item for a request that is expected to return a single object (see
+   * {@link RESTRequestExecutor#executeSingleObjectResultRequest(RESTRequest, int, ObjectType)}).
+   *
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call.
+   * @param pObjectType Type of the object that will be returned by the call. The parameter must not be null.
+   * @return {@link BatchItem} Created item. The method never returns null.
+   */
+  public static <T> BatchItem<T> singleObject( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    if (pObjectType != null) {
+      return new BatchItem<>(pRequest, pSuccessfulStatusCode, null, pObjectType);
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pObjectType' must not be null.");
+    }
+  }
+
+  /**
+   * Method creates a batch item for a request that is expected to return a collection of objects (see
+   * {@link RESTRequestExecutor#executeCollectionResultRequest(RESTRequest, int, Class, ObjectType)}).
+   *
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call.
+   * @param pCollectionClass Class object of collection class that should be returned e.g. List. The parameter must not
+   * be null.
+   * @param pObjectType Type of the objects that will be inside the collection. The parameter must not be null.
+   * @return {@link BatchItem} Created item. The method never returns null.
+   */
+  public static <T> BatchItem<T> collection( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    if (pCollectionClass != null && pObjectType != null) {
+      return new BatchItem<>(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    else {
+      throw new IllegalArgumentException("Parameters 'pCollectionClass' and 'pObjectType' must not be null.");
+    }
+  }
+
+  /**
+   * Initialize object.
+   */
+  private BatchItem( RESTRequest pRequest, int pSuccessfulStatusCode, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    if (pRequest != null) {
+      request = pRequest;
+      successfulStatusCode = pSuccessfulStatusCode;
+      collectionClass = pCollectionClass;
+      objectType = pObjectType;
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pRequest' must not be null.");
+    }
+  }
+
+  /**
+   * Method returns the request that should be executed.
+   *
+   * @return {@link RESTRequest} Request of this item. The method never returns null.
+   */
+  public RESTRequest getRequest( ) {
+    return request;
+  }
+
+  /**
+   * Method returns the status code that represents a successful call.
+   *
+   * @return int Expected http status code.
+   */
+  public int getSuccessfulStatusCode( ) {
+    return successfulStatusCode;
+  }
+
+  /**
+   * Method returns the class of the collection that is returned by the request.
+   *
+   * @return {@link Class} Collection class. The method returns null if the request does not return a collection.
+   */
+  @SuppressWarnings("rawtypes")
+  public Class<? extends Collection> getCollectionClass( ) {
+    return collectionClass;
+  }
+
+  /**
+   * Method returns the type of the result of the request.
+   *
+   * @return {@link ObjectType} Type of the result or of the elements of the returned collection. The method returns
+   * null if the request does not return a result.
+   */
+  public ObjectType getObjectType( ) {
+    return objectType;
+  }
+
+  /**
+   * Method executes the request of this item using the passed executor.
+   *
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @return T Result of the request. The method returns null if the request does not return a result.
+   */
+  T execute( RESTRequestExecutor pExecutor ) {
+    T lResult;
+    if (objectType == null) {
+      pExecutor.executeNoResultRequest(request, successfulStatusCode);
+      lResult = null;
+    }
+    else if (collectionClass == null) {
+      lResult = pExecutor.executeSingleObjectResultRequest(request, successfulStatusCode, objectType);
+    }
+    else {
+      lResult = pExecutor.executeCollectionResultRequest(request, successfulStatusCode, collectionClass, objectType);
+    }
+    return lResult;
+  }
+
+  /**
+   * Method executes the request of this item using the passed asynchronous executor.
+   *
+   * @param pExecutor Executor that should be used. The parameter must not be null.
+   * @return {@link CompletableFuture} Future with the result of the request. The method never returns null.
+   */
+  CompletableFuture<T> execute( RESTRequestExecutorAsync pExecutor ) {
+    CompletableFuture<T> lResult;
+    if (objectType == null) {
+      lResult = pExecutor.executeNoResultRequest(request, successfulStatusCode).thenApply(pVoid -> null);
+    }
+    else if (collectionClass == null) {
+      lResult = pExecutor.executeSingleObjectResultRequest(request, successfulStatusCode, objectType);
+    }
+    else {
+      lResult = pExecutor.executeCollectionResultRequest(request, successfulStatusCode, collectionClass, objectType);
+    }
+    return lResult;
+  }
+}
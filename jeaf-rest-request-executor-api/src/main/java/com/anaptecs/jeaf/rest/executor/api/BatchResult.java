@@ -0,0 +1,78 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+/**
+ * Class represents the outcome of one {@link BatchItem} of a batch. Failures of single items do not fail the whole
+ * batch. Instead they are reported through {@link #getFailure()}.
+ *
+ * @author JEAF Development Team
+ */
+public final class BatchResult<T> {
+  /**
+   * Item to which this result belongs.
+   */
+  private final BatchItem<T> item;
+
+  /**
+   * Result of the request. It is always null in case of a failure.
+   */
+  private final T result;
+
+  /**
+   * Exception that caused the request to fail or null if the request was successful.
+   */
+  private final Throwable failure;
+
+  /**
+   * Initialize object.
+   *
+   * @param pItem Item to which this result belongs. The parameter must not be null.
+   * @param pResult Result of the request. The parameter may be null.
+   * @param pFailure Exception that caused the request to fail. The parameter may be null.
+   */
+  BatchResult( BatchItem<T> pItem, T pResult, Throwable pFailure ) {
+    item = pItem;
+    result = pResult;
+    failure = pFailure;
+  }
+
+  /**
+   * Method returns the item to which this result belongs.
+   *
+   * @return {@link BatchItem} Item of the batch. The method never returns null.
+   */
+  public BatchItem<T> getItem( ) {
+    return item;
+  }
+
+  /**
+   * Method checks if the request of the item was executed successfully.
+   *
+   * @return boolean Method returns true if the request was successful and false otherwise.
+   */
+  public boolean isSuccessful( ) {
+    return failure == null;
+  }
+
+  /**
+   * Method returns the result of the request.
+   *
+   * @return T Result of the request. The method returns null if the request failed or did not return a result.
+   */
+  public T getResult( ) {
+    return result;
+  }
+
+  /**
+   * Method returns the exception that caused the request to fail.
+   *
+   * @return {@link Throwable} Cause of the failure. The method returns null if the request was successful.
+   */
+  public Throwable getFailure( ) {
+    return failure;
+  }
+}
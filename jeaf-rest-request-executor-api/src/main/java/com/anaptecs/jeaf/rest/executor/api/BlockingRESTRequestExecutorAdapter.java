@@ -0,0 +1,82 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Class adapts a {@link RESTRequestExecutorAsync} to the blocking {@link RESTRequestExecutor}. The calling thread waits
+ * for the completion of the future of every request.
+ *
+ * @author JEAF Development Team
+ */
+final class BlockingRESTRequestExecutorAdapter implements RESTRequestExecutor {
+  private final RESTRequestExecutorAsync executor;
+
+  /**
+   * Initialize object.
+   *
+   * @param pExecutor Asynchronous executor that should be adapted. The parameter must not be null.
+   */
+  BlockingRESTRequestExecutorAdapter( RESTRequestExecutorAsync pExecutor ) {
+    if (pExecutor != null) {
+      executor = pExecutor;
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pExecutor' must not be null.");
+    }
+  }
+
+  @Override
+  public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    await(executor.executeNoResultRequest(pRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return await(executor.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return await(executor.<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, pCollectionClass,
+        pObjectType));
+  }
+
+  /**
+   * Method waits for the passed future. Runtime exceptions and errors that completed the future are thrown as they
+   * are. Checked exceptions are wrapped into a {@link CompletionException}.
+   */
+  private static <T> T await( CompletableFuture<T> pFuture ) {
+    try {
+      return pFuture.get();
+    }
+    catch (ExecutionException e) {
+      Throwable lCause = e.getCause();
+      if (lCause instanceof RuntimeException) {
+        throw (RuntimeException) lCause;
+      }
+      else if (lCause instanceof Error) {
+        throw (Error) lCause;
+      }
+      else {
+        throw new CompletionException(lCause);
+      }
+    }
+    catch (InterruptedException e) {
+      pFuture.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Thread was interrupted while waiting for response.");
+    }
+  }
+}
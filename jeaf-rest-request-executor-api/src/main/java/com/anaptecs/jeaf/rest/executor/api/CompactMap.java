@@ -0,0 +1,465 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Class implements a compact and immutable map that is backed by two parallel arrays for names and values. It is used
+ * by {@link RESTRequest} to store header fields, query parameters and cookies. In opposite to a
+ * {@link java.util.HashMap} no entry objects are required and the map takes over the arrays of its {@link Builder}
+ * without copying them.
+ * <p/>
+ * Small maps are searched linearly which is faster than hashing for the typical number of headers or query parameters
+ * of a request. Only larger maps get an additional open addressing index. Entries keep the order in which they were
+ * added.
+ * <p/>
+ * Maps for header fields compare names case-insensitively. Names are first compared by reference so that lookups with
+ * the constants of {@link HeaderNames} usually do not need to compare any characters.
+ *
+ * @author JEAF Development Team
+ */
+final class CompactMap<V> extends AbstractMap<String, V> {
+  /**
+   * Maps with more entries than this threshold get an additional hash index.
+   */
+  static final int INDEX_THRESHOLD = 8;
+
+  private static final String[] NO_NAMES = new String[0];
+
+  private static final Object[] NO_VALUES = new Object[0];
+
+  private static final CompactMap<?> EMPTY = new CompactMap<>(NO_NAMES, NO_VALUES, 0, false);
+
+  private static final CompactMap<?> EMPTY_IGNORE_CASE = new CompactMap<>(NO_NAMES, NO_VALUES, 0, true);
+
+  /**
+   * Names of all entries. The array may be larger than {@link #size}.
+   */
+  private final String[] names;
+
+  /**
+   * Values of all entries. Value at position i belongs to name at position i.
+   */
+  private final Object[] values;
+
+  /**
+   * Amount of entries of this map.
+   */
+  private final int size;
+
+  /**
+   * Open addressing hash index containing the position of an entry + 1. The index is only created for maps with more
+   * than {@link #INDEX_THRESHOLD} entries.
+   */
+  private final int[] index;
+
+  /**
+   * Flag indicates that names are compared case-insensitively.
+   */
+  private final boolean ignoreCase;
+
+  /**
+   * Entry set view of this map. It is created lazily as most callers never need it.
+   */
+  private Set<Entry<String, V>> entrySet;
+
+  /**
+   * Method returns an empty map.
+   *
+   * @param pIgnoreCase Flag defines if the map compares names case-insensitively.
+   * @return {@link CompactMap} Empty map. The method never returns null.
+   */
+  @SuppressWarnings("unchecked")
+  static <V> CompactMap<V> empty( boolean pIgnoreCase ) {
+    return (CompactMap<V>) (pIgnoreCase ? EMPTY_IGNORE_CASE : EMPTY);
+  }
+
+  /**
+   * Initialize object. Passed arrays are not copied so they must not be changed afterwards.
+   *
+   * @param pNames Names of all entries. The parameter must not be null.
+   * @param pValues Values of all entries. The parameter must not be null.
+   * @param pSize Amount of used entries of the passed arrays.
+   * @param pIgnoreCase Flag defines if names are compared case-insensitively.
+   */
+  private CompactMap( String[] pNames, Object[] pValues, int pSize, boolean pIgnoreCase ) {
+    this(pNames, pValues, pSize, pSize > INDEX_THRESHOLD ? createIndex(pNames, pSize, pIgnoreCase) : null,
+        pIgnoreCase);
+  }
+
+  private CompactMap( String[] pNames, Object[] pValues, int pSize, int[] pIndex, boolean pIgnoreCase ) {
+    names = pNames;
+    values = pValues;
+    size = pSize;
+    index = pIndex;
+    ignoreCase = pIgnoreCase;
+  }
+
+  private static int[] createIndex( String[] pNames, int pSize, boolean pIgnoreCase ) {
+    // Table is at least twice as large as the amount of entries to keep probe sequences short.
+    int[] lIndex = new int[Integer.highestOneBit(pSize - 1) << 2];
+    int lMask = lIndex.length - 1;
+    for (int i = 0; i < pSize; i++) {
+      int lSlot = hash(pNames[i], pIgnoreCase) & lMask;
+      while (lIndex[lSlot] != 0) {
+        lSlot = (lSlot + 1) & lMask;
+      }
+      lIndex[lSlot] = i + 1;
+    }
+    return lIndex;
+  }
+
+  private static int hash( String pName, boolean pIgnoreCase ) {
+    int h;
+    if (pIgnoreCase) {
+      // Same case folding as String.equalsIgnoreCase(...) so that equal names always get the same hash.
+      h = 0;
+      for (int i = 0; i < pName.length(); i++) {
+        h = 31 * h + Character.toLowerCase(Character.toUpperCase(pName.charAt(i)));
+      }
+    }
+    else {
+      h = pName.hashCode();
+    }
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Method returns the position of the entry with the passed name.
+   *
+   * @param pName Name of the entry. The parameter may be null.
+   * @return int Position of the entry or -1 if there is no such entry.
+   */
+  int indexOf( Object pName ) {
+    if (pName instanceof String) {
+      if (index == null) {
+        return linearSearch(names, size, (String) pName, ignoreCase);
+      }
+      else {
+        int lMask = index.length - 1;
+        int lSlot = hash((String) pName, ignoreCase) & lMask;
+        int lPosition;
+        while ((lPosition = index[lSlot]) != 0) {
+          if (matches(names[lPosition - 1], (String) pName, ignoreCase)) {
+            return lPosition - 1;
+          }
+          lSlot = (lSlot + 1) & lMask;
+        }
+        return -1;
+      }
+    }
+    else {
+      return -1;
+    }
+  }
+
+  private static int linearSearch( String[] pNames, int pSize, String pName, boolean pIgnoreCase ) {
+    // Names are often constants so a check by reference is done before any characters are compared.
+    for (int i = 0; i < pSize; i++) {
+      if (pNames[i] == pName) {
+        return i;
+      }
+    }
+    for (int i = 0; i < pSize; i++) {
+      if (matches(pNames[i], pName, pIgnoreCase)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean matches( String pName, String pOther, boolean pIgnoreCase ) {
+    return pIgnoreCase ? pName.equalsIgnoreCase(pOther) : pName.equals(pOther);
+  }
+
+  /**
+   * Method returns the name of the entry at the passed position.
+   *
+   * @param pPosition Position of the entry. The parameter must be between 0 and {@link #size()} - 1.
+   * @return {@link String} Name of the entry. The method never returns null.
+   */
+  String nameAt( int pPosition ) {
+    return names[pPosition];
+  }
+
+  /**
+   * Method returns the value of the entry at the passed position.
+   *
+   * @param pPosition Position of the entry. The parameter must be between 0 and {@link #size()} - 1.
+   * @return V Value of the entry. The method may return null.
+   */
+  @SuppressWarnings("unchecked")
+  V valueAt( int pPosition ) {
+    return (V) values[pPosition];
+  }
+
+  /**
+   * Method creates a new map that contains all entries of this map and the passed entry. An already existing entry
+   * with the same name is replaced. In this case names and index are shared with this map. Otherwise both arrays are
+   * copied with one additional entry. This map is not changed.
+   *
+   * @param pName Name of the entry. The parameter must not be null.
+   * @param pValue Value of the entry. The parameter may be null.
+   * @return {@link CompactMap} Map with the passed entry. The method never returns null.
+   */
+  CompactMap<V> with( String pName, V pValue ) {
+    int lPosition = this.indexOf(pName);
+    CompactMap<V> lMap;
+    if (lPosition >= 0) {
+      Object[] lValues = Arrays.copyOf(values, size);
+      lValues[lPosition] = pValue;
+      lMap = new CompactMap<>(names, lValues, size, index, ignoreCase);
+    }
+    else {
+      String[] lNames = Arrays.copyOf(names, size + 1);
+      Object[] lValues = Arrays.copyOf(values, size + 1);
+      lNames[size] = pName;
+      lValues[size] = pValue;
+      lMap = new CompactMap<>(lNames, lValues, size + 1, ignoreCase);
+    }
+    return lMap;
+  }
+
+  /**
+   * Method creates a new map with the same names as this one and values that are derived from the values of this map.
+   * Names and index are shared with this map so only a new array for the values is required.
+   *
+   * @param pMapper Function that is used to derive the new values. The parameter must not be null.
+   * @return {@link CompactMap} Map with the converted values. The method never returns null.
+   */
+  <W> CompactMap<W> mapValues( Function<? super V, ? extends W> pMapper ) {
+    if (size > 0) {
+      Object[] lValues = new Object[size];
+      for (int i = 0; i < size; i++) {
+        lValues[i] = pMapper.apply(this.valueAt(i));
+      }
+      return new CompactMap<>(names, lValues, size, index, ignoreCase);
+    }
+    else {
+      return empty(ignoreCase);
+    }
+  }
+
+  @Override
+  public int size( ) {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty( ) {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey( Object pKey ) {
+    return this.indexOf(pKey) >= 0;
+  }
+
+  @Override
+  public V get( Object pKey ) {
+    int lPosition = this.indexOf(pKey);
+    return lPosition >= 0 ? this.valueAt(lPosition) : null;
+  }
+
+  @Override
+  public void forEach( BiConsumer<? super String, ? super V> pAction ) {
+    for (int i = 0; i < size; i++) {
+      pAction.accept(names[i], this.valueAt(i));
+    }
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet( ) {
+    Set<Entry<String, V>> lEntrySet = entrySet;
+    if (lEntrySet == null) {
+      lEntrySet = new EntrySet();
+      entrySet = lEntrySet;
+    }
+    return lEntrySet;
+  }
+
+  /**
+   * Class implements the entry set view of the map. Entries are created on the fly while iterating.
+   */
+  private final class EntrySet extends AbstractSet<Entry<String, V>> {
+    @Override
+    public int size( ) {
+      return size;
+    }
+
+    @Override
+    public Iterator<Entry<String, V>> iterator( ) {
+      return new Iterator<Entry<String, V>>() {
+        private int position;
+
+        @Override
+        public boolean hasNext( ) {
+          return position < size;
+        }
+
+        @Override
+        public Entry<String, V> next( ) {
+          if (position < size) {
+            Entry<String, V> lEntry = new SimpleImmutableEntry<>(names[position], valueAt(position));
+            position++;
+            return lEntry;
+          }
+          else {
+            throw new NoSuchElementException();
+          }
+        }
+      };
+    }
+  }
+
+  /**
+   * Class is used to build a {@link CompactMap}. When {@link #build()} is called the internal arrays are handed over to
+   * the created map. They will only be copied in case that the builder is modified afterwards (copy on write).
+   */
+  static final class Builder<V> {
+    private String[] names = NO_NAMES;
+
+    private Object[] values = NO_VALUES;
+
+    private int size;
+
+    /**
+     * Flag indicates that the current arrays are shared with a map that was already built.
+     */
+    private boolean shared;
+
+    private final boolean ignoreCase;
+
+    /**
+     * Initialize empty builder.
+     */
+    Builder( ) {
+      this(false);
+    }
+
+    /**
+     * Initialize empty builder.
+     *
+     * @param pIgnoreCase Flag defines if names should be compared case-insensitively.
+     */
+    Builder( boolean pIgnoreCase ) {
+      ignoreCase = pIgnoreCase;
+    }
+
+    /**
+     * Initialize builder with the content of the passed map. The arrays of the map are shared until the builder gets
+     * modified.
+     *
+     * @param pMap Map whose content should be taken over. The parameter must not be null.
+     */
+    Builder( CompactMap<V> pMap ) {
+      names = pMap.names;
+      values = pMap.values;
+      size = pMap.size;
+      shared = true;
+      ignoreCase = pMap.ignoreCase;
+    }
+
+    /**
+     * Method returns the value of the entry with the passed name.
+     *
+     * @param pName Name of the entry. The parameter must not be null.
+     * @return V Value of the entry. The method returns null if there is no such entry or if its value is null.
+     */
+    @SuppressWarnings("unchecked")
+    V get( String pName ) {
+      int lPosition = linearSearch(names, size, pName, ignoreCase);
+      return lPosition >= 0 ? (V) values[lPosition] : null;
+    }
+
+    /**
+     * Method sets the entry with the passed name. An already existing entry with the same name will be overwritten.
+     *
+     * @param pName Name of the entry. The parameter must not be null.
+     * @param pValue Value of the entry. The parameter may be null.
+     */
+    void put( String pName, V pValue ) {
+      int lPosition = linearSearch(names, size, pName, ignoreCase);
+      if (lPosition >= 0) {
+        this.ensureWritable(size);
+        values[lPosition] = pValue;
+      }
+      else {
+        this.ensureWritable(size + 1);
+        names[size] = pName;
+        values[size] = pValue;
+        size++;
+      }
+    }
+
+    private void ensureWritable( int pRequiredCapacity ) {
+      if (shared || pRequiredCapacity > names.length) {
+        int lCapacity = Math.max(names.length, 4);
+        while (lCapacity < pRequiredCapacity) {
+          lCapacity = lCapacity << 1;
+        }
+        names = Arrays.copyOf(names, lCapacity);
+        values = Arrays.copyOf(values, lCapacity);
+        shared = false;
+      }
+    }
+
+    /**
+     * Method removes all entries from this builder. Arrays that are not shared with a map are kept so that the builder
+     * can be filled again without allocating new ones.
+     */
+    void clear( ) {
+      if (shared) {
+        names = NO_NAMES;
+        values = NO_VALUES;
+        shared = false;
+      }
+      else {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+      }
+      size = 0;
+    }
+
+    /**
+     * Method creates an immutable map from the current content of this builder. In opposite to {@link #build()} the
+     * map gets its own arrays of the exact size so that the arrays of this builder can be reused.
+     *
+     * @return {@link CompactMap} Created map. The method never returns null.
+     */
+    CompactMap<V> buildCopy( ) {
+      if (size > 0) {
+        return new CompactMap<>(Arrays.copyOf(names, size), Arrays.copyOf(values, size), size, ignoreCase);
+      }
+      else {
+        return empty(ignoreCase);
+      }
+    }
+
+    /**
+     * Method creates an immutable map from the current content of this builder.
+     *
+     * @return {@link CompactMap} Created map. The method never returns null.
+     */
+    CompactMap<V> build( ) {
+      if (size > 0) {
+        shared = true;
+        return new CompactMap<>(names, values, size, ignoreCase);
+      }
+      else {
+        return empty(ignoreCase);
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class defines the names of well-known http headers. Header names that are passed to {@link RESTRequest.Builder} are
+ * replaced by these constants if they match one of them exactly or in lower case. This way requests share the same
+ * string instances and lookups with the constants, e.g. <code>pRequest.getHeader(HeaderNames.AUTHORIZATION)</code>,
+ * can be resolved by reference comparison.
+ *
+ * @author JEAF Development Team
+ */
+public final class HeaderNames {
+  public static final String ACCEPT = "Accept";
+
+  public static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+  public static final String ACCEPT_LANGUAGE = "Accept-Language";
+
+  public static final String AGE = "Age";
+
+  public static final String AUTHORIZATION = "Authorization";
+
+  public static final String CACHE_CONTROL = "Cache-Control";
+
+  public static final String CONTENT_ENCODING = "Content-Encoding";
+
+  public static final String CONTENT_LENGTH = "Content-Length";
+
+  public static final String CONTENT_TYPE = "Content-Type";
+
+  public static final String COOKIE = "Cookie";
+
+  public static final String DATE = "Date";
+
+  public static final String ETAG = "ETag";
+
+  public static final String EXPIRES = "Expires";
+
+  public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+  public static final String IF_MATCH = "If-Match";
+
+  public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+  public static final String IF_NONE_MATCH = "If-None-Match";
+
+  public static final String LAST_MODIFIED = "Last-Modified";
+
+  public static final String TRACEPARENT = "traceparent";
+
+  public static final String TRACESTATE = "tracestate";
+
+  public static final String USER_AGENT = "User-Agent";
+
+  public static final String VARY = "Vary";
+
+  public static final String X_CORRELATION_ID = "X-Correlation-ID";
+
+  public static final String X_REQUEST_ID = "X-Request-ID";
+
+  /**
+   * Well-known header names in their defined and in lower case spelling mapped to the instance that should be used.
+   * The map is never changed after class initialization so concurrent reads are fine.
+   */
+  private static final Map<String, String> INTERNED_NAMES = new HashMap<>();
+
+  static {
+    for (String lName : new String[] { ACCEPT, ACCEPT_ENCODING, ACCEPT_LANGUAGE, AGE, AUTHORIZATION, CACHE_CONTROL,
+        CONTENT_ENCODING, CONTENT_LENGTH, CONTENT_TYPE, COOKIE, DATE, ETAG, EXPIRES, IDEMPOTENCY_KEY, IF_MATCH,
+        IF_MODIFIED_SINCE, IF_NONE_MATCH, LAST_MODIFIED, TRACEPARENT, TRACESTATE, USER_AGENT, VARY, X_CORRELATION_ID,
+        X_REQUEST_ID }) {
+      INTERNED_NAMES.put(lName, lName);
+      INTERNED_NAMES.putIfAbsent(lName.toLowerCase(Locale.ROOT), lName.toLowerCase(Locale.ROOT).intern());
+    }
+  }
+
+  /**
+   * Constructor is private as class only provides constants.
+   */
+  private HeaderNames( ) {
+  }
+
+  /**
+   * Method returns the shared instance of the passed header name if it is a well-known one. Otherwise the passed name
+   * is returned.
+   *
+   * @param pHeaderName Name of the header. The parameter must not be null.
+   * @return {@link String} Shared instance of the header name or the passed name. The method never returns null.
+   */
+  static String intern( String pHeaderName ) {
+    String lInterned = INTERNED_NAMES.get(pHeaderName);
+    return lInterned != null ? lInterned : pHeaderName;
+  }
+}
@@ -11,5 +11,34 @@ package com.anaptecs.jeaf.rest.executor.api;
  * "https://developer.mozilla.org/de/docs/Web/HTTP/Methods">https://developer.mozilla.org/de/docs/Web/HTTP/Methods</a>
  */
 public enum HttpMethod {
-  GET, POST, PUT, PATCH, DELETE, HEAD, OPTIONS, TRACE
+  GET(true, true), POST(false, false), PUT(false, true), PATCH(false, false), DELETE(false, true), HEAD(true, true),
+  OPTIONS(true, true), TRACE(true, true);
+
+  private final boolean safe;
+
+  private final boolean idempotent;
+
+  private HttpMethod( boolean pSafe, boolean pIdempotent ) {
+    safe = pSafe;
+    idempotent = pIdempotent;
+  }
+
+  /**
+   * Method checks if the http method is safe according to RFC 9110, which means that it is read-only on the server.
+   *
+   * @return boolean Method returns true if the http method is safe and false otherwise.
+   */
+  public boolean isSafe( ) {
+    return safe;
+  }
+
+  /**
+   * Method checks if the http method is idempotent according to RFC 9110. Requests with an idempotent method can be
+   * sent more than once with the same effect on the server as sending them once.
+   *
+   * @return boolean Method returns true if the http method is idempotent and false otherwise.
+   */
+  public boolean isIdempotent( ) {
+    return idempotent;
+  }
 }
\ No newline at end of file
@@ -5,8 +5,11 @@
  */
 package com.anaptecs.jeaf.rest.executor.api;
 
+import java.util.Objects;
+
 /**
- * Class can be used to define the expected result type when deserializing JSON into objects.
+ * Class can be used to define the expected result type when deserializing JSON into objects. Object types are
+ * compared by value so two object types describing the same type are equal.
  * 
  * @author JEAF Development Team
  */
@@ -67,6 +70,16 @@ public abstract class ObjectType {
     public Class<?> getObjectType( ) {
       return objectType;
     }
+
+    @Override
+    public boolean equals( Object pObject ) {
+      return pObject instanceof SingleObjectType && objectType == ((SingleObjectType) pObject).objectType;
+    }
+
+    @Override
+    public int hashCode( ) {
+      return Objects.hashCode(objectType);
+    }
   }
 
   /**
@@ -89,6 +102,24 @@ public abstract class ObjectType {
     public Class<?> getParameterType( ) {
       return parameterType;
     }
+
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lEquals;
+      if (pObject instanceof GenericsObjectType) {
+        GenericsObjectType lOther = (GenericsObjectType) pObject;
+        lEquals = genericType == lOther.genericType && parameterType == lOther.parameterType;
+      }
+      else {
+        lEquals = false;
+      }
+      return lEquals;
+    }
+
+    @Override
+    public int hashCode( ) {
+      return 31 * Objects.hashCode(genericType) + Objects.hashCode(parameterType);
+    }
   }
 
   /**
@@ -104,5 +135,19 @@ public abstract class ObjectType {
     public TypeReference<?> getTypeReference( ) {
       return typeReference;
     }
+
+    /**
+     * Type references are equal if they represent the same type even if they are different anonymous classes.
+     */
+    @Override
+    public boolean equals( Object pObject ) {
+      return pObject instanceof TypeReferenceObjectType
+          && typeReference.getType().equals(((TypeReferenceObjectType) pObject).typeReference.getType());
+    }
+
+    @Override
+    public int hashCode( ) {
+      return typeReference.getType().hashCode();
+    }
   }
 }
@@ -0,0 +1,466 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Class represents the values of a header field or query parameter that were set as primitive values e.g. using
+ * {@link RESTRequest.Builder#setQueryParameter(String, long...)}. Values are kept in a primitive array and are only
+ * converted into a {@link String} when they are read through the {@link java.util.List} interface. Formatted values
+ * are cached so that every value is converted at most once.
+ * <p/>
+ * Executors that write header fields or query parameters into a buffer should check for this class and use
+ * {@link #appendTo(int, StringBuilder)} or {@link #writeTo(int, ByteBuffer)}. This way no {@link String} objects are
+ * created at all.
+ * <p/>
+ * Instances are immutable. The list can not be modified and the values are a copy of the array that was passed to the
+ * builder.
+ *
+ * @author JEAF Development Team
+ */
+public abstract class PrimitiveValueList extends AbstractList<String> implements RandomAccess {
+  /**
+   * Values that were already converted into strings. The array is created when the first value is read.
+   */
+  private String[] formatted;
+
+  /**
+   * Method creates a value list for the passed boolean values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( boolean[] pValues ) {
+    return new BooleanValueList(pValues.clone());
+  }
+
+  /**
+   * Method creates a value list for the passed byte values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( byte[] pValues ) {
+    int[] lValues = new int[pValues.length];
+    for (int i = 0; i < pValues.length; i++) {
+      lValues[i] = pValues[i];
+    }
+    return new IntValueList(lValues);
+  }
+
+  /**
+   * Method creates a value list for the passed short values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( short[] pValues ) {
+    int[] lValues = new int[pValues.length];
+    for (int i = 0; i < pValues.length; i++) {
+      lValues[i] = pValues[i];
+    }
+    return new IntValueList(lValues);
+  }
+
+  /**
+   * Method creates a value list for the passed int values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( int[] pValues ) {
+    return new IntValueList(pValues.clone());
+  }
+
+  /**
+   * Method creates a value list for the passed long values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( long[] pValues ) {
+    return new LongValueList(pValues.clone());
+  }
+
+  /**
+   * Method creates a value list for the passed float values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( float[] pValues ) {
+    return new FloatValueList(pValues.clone());
+  }
+
+  /**
+   * Method creates a value list for the passed double values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( double[] pValues ) {
+    return new DoubleValueList(pValues.clone());
+  }
+
+  /**
+   * Method creates a value list for the passed char values.
+   *
+   * @param pValues Values of the list. The parameter must not be null.
+   * @return {@link PrimitiveValueList} List with a copy of the passed values. The method never returns null.
+   */
+  static PrimitiveValueList of( char[] pValues ) {
+    return new CharValueList(pValues.clone());
+  }
+
+  /**
+   * Constructor is package private to block unexpected subclasses.
+   */
+  PrimitiveValueList( ) {
+  }
+
+  /**
+   * Method returns the value at the passed position as string. The string is created on first access and then reused.
+   *
+   * @param pIndex Index of the value. The parameter must be between 0 and {@link #size()} - 1.
+   * @return {@link String} String representation of the value. The method never returns null.
+   */
+  @Override
+  public String get( int pIndex ) {
+    String[] lFormatted = formatted;
+    if (lFormatted == null) {
+      lFormatted = new String[this.size()];
+      formatted = lFormatted;
+    }
+    String lValue = lFormatted[pIndex];
+    if (lValue == null) {
+      lValue = this.format(pIndex);
+      lFormatted[pIndex] = lValue;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method appends the value at the passed position to the passed buffer without creating a {@link String} for it.
+   *
+   * @param pIndex Index of the value. The parameter must be between 0 and {@link #size()} - 1.
+   * @param pBuffer Buffer to which the value should be appended. The parameter must not be null.
+   * @return {@link StringBuilder} Passed buffer. The method never returns null.
+   */
+  public abstract StringBuilder appendTo( int pIndex, StringBuilder pBuffer );
+
+  /**
+   * Method writes the UTF-8 representation of the value at the passed position to the passed byte buffer. Integral
+   * values are written digit by digit without creating a {@link String} for them.
+   *
+   * @param pIndex Index of the value. The parameter must be between 0 and {@link #size()} - 1.
+   * @param pTarget Byte buffer to which the value should be written. The parameter must not be null.
+   * @throws BufferOverflowException if the remaining space of the passed buffer is not sufficient. In this case nothing
+   * is written to the buffer.
+   */
+  public void writeTo( int pIndex, ByteBuffer pTarget ) {
+    byte[] lBytes = this.get(pIndex).getBytes(StandardCharsets.UTF_8);
+    if (pTarget.remaining() >= lBytes.length) {
+      pTarget.put(lBytes);
+    }
+    else {
+      throw new BufferOverflowException();
+    }
+  }
+
+  /**
+   * Method converts the value at the passed position into a string.
+   *
+   * @param pIndex Index of the value.
+   * @return {@link String} String representation of the value. The method never returns null.
+   */
+  abstract String format( int pIndex );
+
+  /**
+   * Method adds the string representation of the value at the passed position to the passed fingerprint hash (see
+   * {@link RESTRequest#getFingerprint()}). The result is the same as for the formatted value. Integral, boolean and
+   * char values are hashed without creating a {@link String}. Floating point values are formatted once and then
+   * cached.
+   *
+   * @param pIndex Index of the value. The parameter must be between 0 and {@link #size()} - 1.
+   * @param pHash Hash to which the value should be added.
+   * @return long New hash.
+   */
+  long hash( int pIndex, long pHash ) {
+    return RESTRequest.hash(pHash, this.get(pIndex), false);
+  }
+
+  /**
+   * Method checks if the string representation of the values may contain characters that need to be URL encoded.
+   *
+   * @return boolean Method returns true if values never need to be URL encoded.
+   */
+  boolean isURLSafe( ) {
+    return true;
+  }
+
+  /**
+   * Method writes the decimal representation of the passed value to the passed byte buffer.
+   */
+  static void writeDecimal( long pValue, ByteBuffer pTarget ) {
+    if (pValue == Long.MIN_VALUE) {
+      URLEncoding.writeASCII(Long.toString(pValue), pTarget);
+    }
+    else {
+      long lValue = Math.abs(pValue);
+      int lDigits = 1;
+      for (long lLimit = 10; lDigits < 19 && lValue >= lLimit; lLimit = lLimit * 10) {
+        lDigits++;
+      }
+      int lLength = pValue < 0 ? lDigits + 1 : lDigits;
+      if (pTarget.remaining() >= lLength) {
+        int lStart = pTarget.position();
+        if (pValue < 0) {
+          pTarget.put(lStart, (byte) '-');
+        }
+        for (int i = lStart + lLength - 1; i >= lStart + lLength - lDigits; i--) {
+          pTarget.put(i, (byte) ('0' + lValue % 10));
+          lValue = lValue / 10;
+        }
+        pTarget.position(lStart + lLength);
+      }
+      else {
+        throw new BufferOverflowException();
+      }
+    }
+  }
+
+  /**
+   * Method adds the decimal representation of the passed value to the passed fingerprint hash without creating a
+   * {@link String} for it.
+   */
+  static long hashDecimal( long pValue, long pHash ) {
+    long lHash;
+    if (pValue == Long.MIN_VALUE) {
+      lHash = RESTRequest.hash(pHash, Long.toString(pValue), false);
+    }
+    else {
+      lHash = pHash;
+      int lLength = 0;
+      if (pValue < 0) {
+        lHash = RESTRequest.mix(lHash, '-');
+        lLength++;
+      }
+      long lValue = Math.abs(pValue);
+      long lDivisor = 1;
+      while (lValue / lDivisor >= 10) {
+        lDivisor = lDivisor * 10;
+      }
+      for (; lDivisor > 0; lDivisor = lDivisor / 10) {
+        lHash = RESTRequest.mix(lHash, (char) ('0' + lValue / lDivisor % 10));
+        lLength++;
+      }
+      lHash = RESTRequest.mix(lHash, lLength);
+    }
+    return lHash;
+  }
+
+  /**
+   * Value list for boolean values.
+   */
+  private static final class BooleanValueList extends PrimitiveValueList {
+    private final boolean[] values;
+
+    BooleanValueList( boolean[] pValues ) {
+      values = pValues;
+    }
+
+    @Override
+    public int size( ) {
+      return values.length;
+    }
+
+    @Override
+    public String get( int pIndex ) {
+      // Strings for boolean values are constants so there is no need to cache them.
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    String format( int pIndex ) {
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    public StringBuilder appendTo( int pIndex, StringBuilder pBuffer ) {
+      return pBuffer.append(values[pIndex]);
+    }
+
+    @Override
+    public void writeTo( int pIndex, ByteBuffer pTarget ) {
+      URLEncoding.writeASCII(this.get(pIndex), pTarget);
+    }
+  }
+
+  /**
+   * Value list for byte, short and int values.
+   */
+  private static final class IntValueList extends PrimitiveValueList {
+    private final int[] values;
+
+    IntValueList( int[] pValues ) {
+      values = pValues;
+    }
+
+    @Override
+    public int size( ) {
+      return values.length;
+    }
+
+    @Override
+    String format( int pIndex ) {
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    public StringBuilder appendTo( int pIndex, StringBuilder pBuffer ) {
+      return pBuffer.append(values[pIndex]);
+    }
+
+    @Override
+    public void writeTo( int pIndex, ByteBuffer pTarget ) {
+      writeDecimal(values[pIndex], pTarget);
+    }
+
+    @Override
+    long hash( int pIndex, long pHash ) {
+      return hashDecimal(values[pIndex], pHash);
+    }
+  }
+
+  /**
+   * Value list for long values.
+   */
+  private static final class LongValueList extends PrimitiveValueList {
+    private final long[] values;
+
+    LongValueList( long[] pValues ) {
+      values = pValues;
+    }
+
+    @Override
+    public int size( ) {
+      return values.length;
+    }
+
+    @Override
+    String format( int pIndex ) {
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    public StringBuilder appendTo( int pIndex, StringBuilder pBuffer ) {
+      return pBuffer.append(values[pIndex]);
+    }
+
+    @Override
+    public void writeTo( int pIndex, ByteBuffer pTarget ) {
+      writeDecimal(values[pIndex], pTarget);
+    }
+
+    @Override
+    long hash( int pIndex, long pHash ) {
+      return hashDecimal(values[pIndex], pHash);
+    }
+  }
+
+  /**
+   * Value list for float values.
+   */
+  private static final class FloatValueList extends PrimitiveValueList {
+    private final float[] values;
+
+    FloatValueList( float[] pValues ) {
+      values = pValues;
+    }
+
+    @Override
+    public int size( ) {
+      return values.length;
+    }
+
+    @Override
+    String format( int pIndex ) {
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    public StringBuilder appendTo( int pIndex, StringBuilder pBuffer ) {
+      return pBuffer.append(values[pIndex]);
+    }
+  }
+
+  /**
+   * Value list for double values.
+   */
+  private static final class DoubleValueList extends PrimitiveValueList {
+    private final double[] values;
+
+    DoubleValueList( double[] pValues ) {
+      values = pValues;
+    }
+
+    @Override
+    public int size( ) {
+      return values.length;
+    }
+
+    @Override
+    String format( int pIndex ) {
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    public StringBuilder appendTo( int pIndex, StringBuilder pBuffer ) {
+      return pBuffer.append(values[pIndex]);
+    }
+  }
+
+  /**
+   * Value list for char values.
+   */
+  private static final class CharValueList extends PrimitiveValueList {
+    private final char[] values;
+
+    CharValueList( char[] pValues ) {
+      values = pValues;
+    }
+
+    @Override
+    public int size( ) {
+      return values.length;
+    }
+
+    @Override
+    String format( int pIndex ) {
+      return String.valueOf(values[pIndex]);
+    }
+
+    @Override
+    public StringBuilder appendTo( int pIndex, StringBuilder pBuffer ) {
+      return pBuffer.append(values[pIndex]);
+    }
+
+    @Override
+    long hash( int pIndex, long pHash ) {
+      return RESTRequest.mix(RESTRequest.mix(pHash, values[pIndex]), 1);
+    }
+
+    @Override
+    boolean isURLSafe( ) {
+      return false;
+    }
+  }
+}
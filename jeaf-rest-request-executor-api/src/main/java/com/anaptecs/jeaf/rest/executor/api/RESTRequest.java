@@ -5,17 +5,17 @@
  */
 package com.anaptecs.jeaf.rest.executor.api;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -34,6 +34,36 @@ public class RESTRequest {
 
   private static final String QUERY_PARAM_NAME_NULL_ERROR = "Parameter 'pQueryParamName' must not be null.";
 
+  /**
+   * Names of headers that are not part of the fingerprint of a request by default. The set contains the headers that
+   * are commonly used to correlate or trace requests. Names are in lower case.
+   */
+  public static final Set<String> DEFAULT_FINGERPRINT_EXCLUDED_HEADERS =
+      Set.of("traceparent", "tracestate", "x-request-id", "x-correlation-id");
+
+  private static final String[] DEFAULT_EXCLUDED_HEADER_NAMES =
+      DEFAULT_FINGERPRINT_EXCLUDED_HEADERS.toArray(new String[0]);
+
+  /**
+   * Offset basis and prime of the 64 bit FNV-1a hash that is used to calculate fingerprints.
+   */
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /**
+   * Value of {@link #fingerprint} as long as it was not calculated yet. Calculated fingerprints with this value are
+   * replaced by {@link #ZERO_FINGERPRINT}.
+   */
+  private static final long NO_FINGERPRINT = 0;
+
+  private static final long ZERO_FINGERPRINT = 1;
+
+  /**
+   * Builders that are reused by the threads that call {@link #reusableBuilder(Class, HttpMethod, ContentType)}.
+   */
+  private static final ThreadLocal<Builder> REUSABLE_BUILDERS = new ThreadLocal<>();
+
   /**
    * Based on the service class a REST executor ({@link RESTRequestExecutor}) is able to resolve the URL of the REST
    * resource that should be called as well as all other configuration parameters.
@@ -50,21 +80,26 @@ public class RESTRequest {
    */
   private final String path;
 
+  /**
+   * Path pattern of the template from which the request was created or null if the path was set directly.
+   */
+  private final String pathTemplate;
+
   /**
    * Http request headers that belong to the request.
    */
-  private final Map<String, List<String>> headerFields;
+  private final CompactMap<List<String>> headerFields;
 
   /**
    * Query parameters that belong to the request. Please be aware that for query parameters it is supported to have more
    * than one value for it.
    */
-  private final Map<String, List<String>> queryParameters;
+  private final CompactMap<List<String>> queryParameters;
 
   /**
    * Cookies that belong to the request
    */
-  private final Map<String, String> cookies;
+  private final CompactMap<String> cookies;
 
   /**
    * Object representing the body of the request. Please be aware that the body here needs to be transformed into the
@@ -79,6 +114,41 @@ public class RESTRequest {
    */
   private final ContentType contentType;
 
+  /**
+   * Names of headers in lower case that are not part of the fingerprint and the canonical key of this request.
+   */
+  private final String[] fingerprintExcludedHeaders;
+
+  /**
+   * Lazily calculated 64 bit fingerprint of the request (see {@link #getFingerprint()}). Value
+   * {@link #NO_FINGERPRINT} means that it was not calculated yet. The field is volatile as reads and writes of long
+   * values are not atomic otherwise. Concurrent calls might calculate the fingerprint more than once which is fine as
+   * the result is always the same.
+   */
+  private volatile long fingerprint;
+
+  /**
+   * Lazily created canonical key as it is returned by {@link #getCanonicalKey()}.
+   */
+  private String canonicalKey;
+
+  /**
+   * Lazily created view on {@link #headerFields} as it is returned by {@link #getHeaders()}. As the view is immutable
+   * it is fine if it is created more than once in case of concurrent calls.
+   */
+  private Map<String, String> headers;
+
+  /**
+   * Lazily created view on {@link #queryParameters} as it is returned by {@link #getQueryParams()}.
+   */
+  private Map<String, Set<String>> queryParams;
+
+  /**
+   * Lazily created URL encoded form of path and query parameters as it is returned by
+   * {@link #getEncodedPathAndQuery()}.
+   */
+  private String encodedPathAndQuery;
+
   /**
    * Method creates new builder. All mandatory parameters already have to be passed here.
    * 
@@ -95,6 +165,35 @@ public class RESTRequest {
     return new Builder(pServiceClass, pHttpMethod, pContentType);
   }
 
+  /**
+   * Method returns a builder that is bound to the current thread and reused by all further calls of this method from
+   * the same thread. The builder is reset (see {@link Builder#reset(Class, HttpMethod, ContentType)}) and keeps its
+   * internal arrays across uses. Requests built with it get their own arrays of the exact size. This way steady state
+   * request construction only allocates the request itself and its values.
+   * <p/>
+   * The returned builder must only be used by the calling thread and only until the next call of this method. It must
+   * therefore never be stored or passed to other code that might build requests itself. For virtual threads that only
+   * build a single request no advantage can be expected as every thread gets its own builder.
+   * 
+   * @param pServiceClass Service class of the request. The parameter must not be null.
+   * @param pHttpMethod Http method that should be used to execute the REST call. The parameter must not be null.
+   * @param pContentType Content type that should be used for communication with the REST resource. The parameter must
+   * not be null.
+   * @return {@link Builder} Reset builder of the current thread. The method never returns null.
+   */
+  public static Builder reusableBuilder( Class<?> pServiceClass, HttpMethod pHttpMethod, ContentType pContentType ) {
+    Builder lBuilder = REUSABLE_BUILDERS.get();
+    if (lBuilder == null) {
+      lBuilder = new Builder(pServiceClass, pHttpMethod, pContentType);
+      lBuilder.reusable = true;
+      REUSABLE_BUILDERS.set(lBuilder);
+    }
+    else {
+      lBuilder.reset(pServiceClass, pHttpMethod, pContentType);
+    }
+    return lBuilder;
+  }
+
   /**
    * Initialize object.
    * 
@@ -104,11 +203,48 @@ public class RESTRequest {
     serviceClass = pBuilder.serviceClass;
     httpMethod = pBuilder.httpMethod;
     path = pBuilder.path;
-    headerFields = new HashMap<>(pBuilder.headerFields);
-    queryParameters = new HashMap<>(pBuilder.queryParameters);
-    cookies = new HashMap<>(pBuilder.cookies);
+    pathTemplate = pBuilder.pathTemplate;
+    // Internal arrays of the builder are taken over without copying them unless the builder is reused.
+    if (pBuilder.reusable) {
+      headerFields = pBuilder.headerFields.buildCopy();
+      queryParameters = pBuilder.queryParameters.buildCopy();
+      cookies = pBuilder.cookies.buildCopy();
+    }
+    else {
+      headerFields = pBuilder.headerFields.build();
+      queryParameters = pBuilder.queryParameters.build();
+      cookies = pBuilder.cookies.build();
+    }
     body = pBuilder.body;
     contentType = pBuilder.contentType;
+    fingerprintExcludedHeaders = pBuilder.fingerprintExcludedHeaders;
+  }
+
+  /**
+   * Initialize object as copy of the passed request with other header fields.
+   * 
+   * @param pRequest Request whose values should be taken over. The parameter must not be null.
+   * @param pHeaderFields Header fields of the new request. The parameter must not be null.
+   * @param pChangedHeader Name of the header in which both requests differ. The parameter must not be null.
+   */
+  private RESTRequest( RESTRequest pRequest, CompactMap<List<String>> pHeaderFields, String pChangedHeader ) {
+    serviceClass = pRequest.serviceClass;
+    httpMethod = pRequest.httpMethod;
+    path = pRequest.path;
+    pathTemplate = pRequest.pathTemplate;
+    headerFields = pHeaderFields;
+    queryParameters = pRequest.queryParameters;
+    cookies = pRequest.cookies;
+    body = pRequest.body;
+    contentType = pRequest.contentType;
+    fingerprintExcludedHeaders = pRequest.fingerprintExcludedHeaders;
+    // Values that do not depend on the header fields are taken over.
+    queryParams = pRequest.queryParams;
+    encodedPathAndQuery = pRequest.encodedPathAndQuery;
+    if (pRequest.isExcludedHeader(pChangedHeader)) {
+      fingerprint = pRequest.fingerprint;
+      canonicalKey = pRequest.canonicalKey;
+    }
   }
 
   /**
@@ -141,79 +277,218 @@ public class RESTRequest {
   }
 
   /**
-   * Method returns the http headers that should be sent as part of the request. In case that there is more then one
-   * value for a header field the the values will be concatenated using ','.
+   * Method returns the path template of the request. For requests that were created from a {@link Template} this is
+   * its path pattern, e.g. <code>/products/{id}</code>. For all other requests the path itself is returned. Metrics and
+   * traces should use the path template instead of the path so that all calls of one operation are grouped together.
    * 
-   * @return {@link Map} All http headers that should be sent as part of the request. The method never returns null.
+   * @return {@link String} Path template of the request. The method never returns null.
+   */
+  public String getPathTemplate( ) {
+    return pathTemplate != null ? pathTemplate : path;
+  }
+
+  /**
+   * Method returns the resource path together with all query parameters in URL encoded form, e.g.
+   * <code>/products/4711?filter=a+b&amp;size=10</code>. Query parameter names and values are encoded in the same way as
+   * {@link java.net.URLEncoder} does it using UTF-8. Characters of the path that are not allowed inside an URL path are
+   * also encoded. Escape sequences that are already part of the path are kept as they are.
+   * <p/>
+   * As requests are immutable the string is only created once and then reused for all further calls.
    * 
-   * @deprecated Please switch to #getHeaderFields()
+   * @return {@link String} Encoded path and query string. The method never returns null.
    */
-  @Deprecated
-  public Map<String, String> getHeaders( ) {
-    Map<String, String> lHeaders = new HashMap<>();
-    for (Entry<String, List<String>> lNext : headerFields.entrySet()) {
-      StringBuilder lBuffer = new StringBuilder();
-      List<String> lValue = lNext.getValue();
-      if (lValue != null) {
-        Iterator<String> lIterator = lValue.iterator();
-        while (lIterator.hasNext()) {
-          lBuffer.append(lIterator.next());
-          if (lIterator.hasNext()) {
-            lBuffer.append(DELIMITER);
-          }
-          lHeaders.put(lNext.getKey(), lBuffer.toString());
+  public String getEncodedPathAndQuery( ) {
+    String lEncoded = encodedPathAndQuery;
+    if (lEncoded == null) {
+      StringBuilder lBuffer = new StringBuilder(path.length() + queryParameters.size() * 16);
+      this.encodePathAndQuery(lBuffer);
+      lEncoded = lBuffer.toString();
+      encodedPathAndQuery = lEncoded;
+    }
+    return lEncoded;
+  }
+
+  /**
+   * Method appends the resource path together with all query parameters in URL encoded form to the passed buffer (see
+   * {@link #getEncodedPathAndQuery()} for details). This way executors can build the complete URL within one buffer. If
+   * the encoded form was already created before then it will be reused.
+   * 
+   * @param pBuffer Buffer to which the encoded path and query string will be appended. The parameter must not be null.
+   * @return {@link StringBuilder} Passed buffer. The method never returns null.
+   */
+  public StringBuilder appendEncodedPathAndQuery( StringBuilder pBuffer ) {
+    String lEncoded = encodedPathAndQuery;
+    if (lEncoded != null) {
+      pBuffer.append(lEncoded);
+    }
+    else {
+      this.encodePathAndQuery(pBuffer);
+    }
+    return pBuffer;
+  }
+
+  /**
+   * Method writes the resource path together with all query parameters in URL encoded form to the passed byte buffer
+   * (see {@link #getEncodedPathAndQuery()} for details). As the encoded form only consists of ASCII characters every
+   * character is written as one byte.
+   * 
+   * @param pTarget Byte buffer to which the encoded path and query string will be written. The parameter must not be
+   * null.
+   * @throws java.nio.BufferOverflowException if the remaining space of the passed buffer is not sufficient. In this
+   * case nothing is written to the buffer.
+   */
+  public void writeEncodedPathAndQuery( ByteBuffer pTarget ) {
+    URLEncoding.writeASCII(this.getEncodedPathAndQuery(), pTarget);
+  }
+
+  private void encodePathAndQuery( StringBuilder pBuffer ) {
+    URLEncoding.appendPath(path, pBuffer);
+    char lSeparator = '?';
+    for (int i = 0; i < queryParameters.size(); i++) {
+      String lName = queryParameters.nameAt(i);
+      List<String> lValues = queryParameters.valueAt(i);
+      // Primitive values do not require any encoding and can be appended directly without creating strings for them.
+      if (lValues instanceof PrimitiveValueList && ((PrimitiveValueList) lValues).isURLSafe()) {
+        PrimitiveValueList lPrimitiveValues = (PrimitiveValueList) lValues;
+        for (int lValueIndex = 0; lValueIndex < lPrimitiveValues.size(); lValueIndex++) {
+          pBuffer.append(lSeparator);
+          URLEncoding.appendQueryComponent(lName, pBuffer);
+          pBuffer.append('=');
+          lPrimitiveValues.appendTo(lValueIndex, pBuffer);
+          lSeparator = '&';
         }
       }
       else {
-        lHeaders.put(lNext.getKey(), null);
+        for (String lValue : lValues) {
+          if (lValue != null) {
+            pBuffer.append(lSeparator);
+            URLEncoding.appendQueryComponent(lName, pBuffer);
+            pBuffer.append('=');
+            URLEncoding.appendQueryComponent(lValue, pBuffer);
+            lSeparator = '&';
+          }
+        }
       }
     }
+  }
+
+  /**
+   * Method returns the http headers that should be sent as part of the request. In case that there is more then one
+   * value for a header field the the values will be concatenated using ','.
+   * <p/>
+   * Up to version 2.0.0-RC1 the method returned a new mutable map on every call. As the returned map is now cached and
+   * shared, attempts to modify it fail with an {@link UnsupportedOperationException}. Callers that need to change the
+   * headers have to copy them first e.g. using <code>new HashMap&lt;&gt;(pRequest.getHeaders())</code>.
+   *
+   * @return {@link Map} All http headers that should be sent as part of the request. The returned map is immutable. The
+   * method never returns null.
+   * 
+   * @deprecated Please switch to #getHeaderFields()
+   */
+  @Deprecated
+  public Map<String, String> getHeaders( ) {
+    Map<String, String> lHeaders = headers;
+    if (lHeaders == null) {
+      lHeaders = headerFields.mapValues(RESTRequest::joinHeaderValues);
+      headers = lHeaders;
+    }
     return lHeaders;
   }
 
+  private static String joinHeaderValues( List<String> pValues ) {
+    String lResult;
+    if (pValues == null) {
+      lResult = null;
+    }
+    else if (pValues.size() == 1) {
+      lResult = pValues.get(0);
+    }
+    else {
+      lResult = String.join(DELIMITER, pValues);
+    }
+    return lResult;
+  }
+
   /**
    * Method returns the http headers that should be sent as part of the request. Please be aware there mights be more
-   * then one value for a header field.
+   * then one value for a header field. As http header names are case-insensitive the returned map also looks up names
+   * case-insensitively.
    * 
-   * @return {@link Map} All http headers that should be sent as part of the request. The method never returns null.
+   * @return {@link Map} All http headers that should be sent as part of the request. The returned map is immutable. The
+   * method never returns null.
    */
   public Map<String, List<String>> getHeaderFields( ) {
-    return Collections.unmodifiableMap(headerFields);
+    return headerFields;
+  }
+
+  /**
+   * Method returns the first value of the header with the passed name. The name is case-insensitive. Lookups with the
+   * constants of {@link HeaderNames} are resolved by reference comparison in most cases. The method does not allocate
+   * any objects apart from formatting a primitive value when it is requested for the first time.
+   * 
+   * @param pHeaderName Name of the header. The parameter may be null.
+   * @return {@link String} First value of the header or null if the request has no value for this header.
+   */
+  public String getHeader( String pHeaderName ) {
+    int lPosition = headerFields.indexOf(pHeaderName);
+    String lValue;
+    if (lPosition >= 0) {
+      List<String> lValues = headerFields.valueAt(lPosition);
+      lValue = lValues != null && lValues.isEmpty() == false ? lValues.get(0) : null;
+    }
+    else {
+      lValue = null;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method checks if the request may be sent more than once, e.g. by retries or hedged requests. This is the case if
+   * its http method is idempotent or if the request was explicitly marked as idempotent using header
+   * {@link HeaderNames#IDEMPOTENCY_KEY}.
+   * 
+   * @return boolean Method returns true if the request is idempotent and false otherwise.
+   */
+  public boolean isIdempotent( ) {
+    return httpMethod.isIdempotent() || headerFields.indexOf(HeaderNames.IDEMPOTENCY_KEY) >= 0;
   }
 
   /**
    * Method returns the query parameters that should be sent as part of the request. Please be aware that for query
    * params it is supported to have more than one value for it.
    * 
-   * @return {@link Map} All query parameters that should be sent as part of the request. The method never returns null.
+   * @return {@link Map} All query parameters that should be sent as part of the request. The returned map is immutable.
+   * The method never returns null.
    * @deprecated Please use {@link #getQueryParameters()}
    */
   @Deprecated
   public Map<String, Set<String>> getQueryParams( ) {
-    Map<String, Set<String>> lEntries = new HashMap<>();
-    for (Entry<String, List<String>> lNext : queryParameters.entrySet()) {
-      lEntries.put(lNext.getKey(), new HashSet<>(lNext.getValue()));
+    Map<String, Set<String>> lQueryParams = queryParams;
+    if (lQueryParams == null) {
+      lQueryParams = queryParameters.mapValues(lValues -> Collections.unmodifiableSet(new HashSet<>(lValues)));
+      queryParams = lQueryParams;
     }
-    return Collections.unmodifiableMap(lEntries);
+    return lQueryParams;
   }
 
   /**
    * Method returns the query parameters that should be sent as part of the request. Please be aware that for query
    * params it is supported to have more than one value for it.
    * 
-   * @return {@link Map} All query parameters that should be sent as part of the request. The method never returns null.
+   * @return {@link Map} All query parameters that should be sent as part of the request. The returned map is immutable.
+   * The method never returns null.
    */
   public Map<String, List<String>> getQueryParameters( ) {
-    return Collections.unmodifiableMap(queryParameters);
+    return queryParameters;
   }
 
   /**
    * Method returns the cookies that should be sent as part of the request.
    * 
-   * @return {@link Map} All cookies that should be sent as part of the request.
+   * @return {@link Map} All cookies that should be sent as part of the request. The returned map is immutable.
    */
   public Map<String, String> getCookies( ) {
-    return Collections.unmodifiableMap(cookies);
+    return cookies;
   }
 
   /**
@@ -225,6 +500,37 @@ public class RESTRequest {
     return body;
   }
 
+  /**
+   * Method checks if the body of this request is a {@link StreamingBody}. Streaming bodies are not converted according
+   * to the content type of the request but are sent as they are.
+   * 
+   * @return boolean Method returns true if the body is a streaming body and false otherwise.
+   */
+  public boolean hasStreamingBody( ) {
+    return body instanceof StreamingBody;
+  }
+
+  /**
+   * Method returns the body of this request as {@link StreamingBody}.
+   * 
+   * @return {@link StreamingBody} Streaming body of this request. The method returns null if the request has no body or
+   * if it is not a streaming body.
+   */
+  public StreamingBody getStreamingBody( ) {
+    return body instanceof StreamingBody ? (StreamingBody) body : null;
+  }
+
+  /**
+   * Method checks if the body of this request can be sent more than once. This is the case for all requests except
+   * those with a {@link StreamingBody} that is not repeatable (see {@link StreamingBody#isRepeatable()}). Requests that
+   * are not repeatable must neither be retried nor hedged even if they are idempotent.
+   *
+   * @return boolean Method returns true if the request can be sent more than once and false otherwise.
+   */
+  public boolean isRepeatable( ) {
+    return body instanceof StreamingBody == false || ((StreamingBody) body).isRepeatable();
+  }
+
   /**
    * Method returns the content type that should be used for request and response.
    * 
@@ -235,36 +541,556 @@ public class RESTRequest {
     return contentType;
   }
 
+  /**
+   * Method returns the 64 bit fingerprint of the request. The fingerprint covers service class, http method, content
+   * type, path, query parameters, header fields and cookies. Query parameters, header fields and cookies are taken into
+   * account in the order of their names so the order in which they were set does not matter. Header names are
+   * case-insensitive. Headers that are excluded from the fingerprint (see
+   * {@link Builder#setFingerprintExcludedHeaders(String...)}) as well as the body are not part of it.
+   * <p/>
+   * The fingerprint is calculated once when it is requested for the first time. This does not create any intermediate
+   * objects and also primitive header and query parameter values are not converted into strings. Requests with the
+   * same canonical key (see {@link #getCanonicalKey()}) always have the same fingerprint. As different requests might
+   * have the same fingerprint it should be used for fast lookups but not as identity on its own.
+   * 
+   * @return long Fingerprint of the request.
+   */
+  public long getFingerprint( ) {
+    long lFingerprint = fingerprint;
+    if (lFingerprint == NO_FINGERPRINT) {
+      lFingerprint = this.calculateFingerprint();
+      fingerprint = lFingerprint;
+    }
+    return lFingerprint;
+  }
+
+  /**
+   * Method returns the canonical key of the request. The key is a string that covers exactly the same parts of the
+   * request as its fingerprint, e.g.
+   * <code>GET com.acme.ProductService JSON %2Fproducts?q=abc accept-language=de cookie:session=4711</code>. All parts
+   * are URL encoded so that they can not be mixed up with the separators of the key.
+   * <p/>
+   * As requests are immutable the string is only created once when it is requested for the first time.
+   * 
+   * @return {@link String} Canonical key of the request. The method never returns null.
+   */
+  public String getCanonicalKey( ) {
+    String lKey = canonicalKey;
+    if (lKey == null) {
+      lKey = this.createCanonicalKey();
+      canonicalKey = lKey;
+    }
+    return lKey;
+  }
+
+  /**
+   * Method returns the names of the headers that are not part of the fingerprint and the canonical key of this
+   * request.
+   * 
+   * @return {@link Set} Names of the excluded headers in lower case. The returned set is immutable. The method never
+   * returns null.
+   */
+  public Set<String> getFingerprintExcludedHeaders( ) {
+    return Set.copyOf(Arrays.asList(fingerprintExcludedHeaders));
+  }
+
+  /**
+   * Requests are equal if they have the same canonical key (see {@link #getCanonicalKey()}) and equal bodies. The
+   * fingerprint is compared first so that the canonical keys are only created if the fingerprints match.
+   */
+  @Override
+  public boolean equals( Object pObject ) {
+    boolean lEquals;
+    if (pObject == this) {
+      lEquals = true;
+    }
+    else if (pObject instanceof RESTRequest) {
+      RESTRequest lOther = (RESTRequest) pObject;
+      lEquals = this.getFingerprint() == lOther.getFingerprint() && serviceClass == lOther.serviceClass
+          && httpMethod == lOther.httpMethod && contentType == lOther.contentType
+          && this.getCanonicalKey().equals(lOther.getCanonicalKey()) && Objects.equals(body, lOther.body);
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+
+  @Override
+  public int hashCode( ) {
+    long lFingerprint = this.getFingerprint();
+    return (int) (lFingerprint ^ (lFingerprint >>> 32));
+  }
+
+  private long calculateFingerprint( ) {
+    long lHash = hash(FNV_OFFSET_BASIS, serviceClass.getName(), false);
+    lHash = hash(lHash, httpMethod.name(), false);
+    lHash = hash(lHash, contentType.name(), false);
+    lHash = hash(lHash, path, false);
+
+    // Hashes of the entries are added up. This way the order in which they were set does not matter without sorting
+    // them. Every entry hash is mixed on its own so that entries can not cancel each other out.
+    long lEntries = 0;
+    for (int i = 0; i < queryParameters.size(); i++) {
+      long lEntry = hash(FNV_OFFSET_BASIS, queryParameters.nameAt(i), false);
+      lEntries += avalanche(hashValues(lEntry, queryParameters.valueAt(i)));
+    }
+    lHash = mix(lHash, lEntries);
+    lEntries = 0;
+    for (int i = 0; i < headerFields.size(); i++) {
+      String lName = headerFields.nameAt(i);
+      if (this.isExcludedHeader(lName) == false) {
+        long lEntry = hash(FNV_OFFSET_BASIS, lName, true);
+        lEntries += avalanche(hashValues(lEntry, headerFields.valueAt(i)));
+      }
+    }
+    lHash = mix(lHash, lEntries);
+    lEntries = 0;
+    for (int i = 0; i < cookies.size(); i++) {
+      long lEntry = hash(FNV_OFFSET_BASIS, cookies.nameAt(i), false);
+      lEntries += avalanche(hash(lEntry, cookies.valueAt(i), false));
+    }
+    lHash = avalanche(mix(lHash, lEntries));
+    return lHash != NO_FINGERPRINT ? lHash : ZERO_FINGERPRINT;
+  }
+
+  private String createCanonicalKey( ) {
+    StringBuilder lBuffer = new StringBuilder(64 + path.length());
+    lBuffer.append(httpMethod.name()).append(' ').append(serviceClass.getName()).append(' ');
+    lBuffer.append(contentType.name()).append(' ');
+    URLEncoding.appendQueryComponent(path, lBuffer);
+    int[] lPositions = sortedPositions(queryParameters, false);
+    for (int i = 0; i < lPositions.length; i++) {
+      lBuffer.append(i == 0 ? '?' : '&');
+      URLEncoding.appendQueryComponent(queryParameters.nameAt(lPositions[i]), lBuffer);
+      appendValues(queryParameters.valueAt(lPositions[i]), lBuffer);
+    }
+    lPositions = sortedPositions(headerFields, true);
+    char lSeparator = ' ';
+    for (int lPosition : lPositions) {
+      String lName = headerFields.nameAt(lPosition);
+      if (this.isExcludedHeader(lName) == false) {
+        lBuffer.append(lSeparator);
+        URLEncoding.appendQueryComponent(toLowerCase(lName), lBuffer);
+        appendValues(headerFields.valueAt(lPosition), lBuffer);
+        lSeparator = '&';
+      }
+    }
+    lPositions = sortedPositions(cookies, false);
+    for (int i = 0; i < lPositions.length; i++) {
+      lBuffer.append(i == 0 ? " cookie:" : "&");
+      URLEncoding.appendQueryComponent(cookies.nameAt(lPositions[i]), lBuffer);
+      String lValue = cookies.valueAt(lPositions[i]);
+      if (lValue != null) {
+        lBuffer.append('=');
+        URLEncoding.appendQueryComponent(lValue, lBuffer);
+      }
+    }
+    return lBuffer.toString();
+  }
+
+  private boolean isExcludedHeader( String pHeaderName ) {
+    for (String lExcluded : fingerprintExcludedHeaders) {
+      if (lExcluded.equalsIgnoreCase(pHeaderName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Method returns the positions of the entries of the passed map in the order of their names. Positions are sorted
+   * once using insertion sort as maps are usually small and mostly already sorted.
+   * 
+   * @param pMap Map whose entries should be sorted. The parameter must not be null.
+   * @param pIgnoreCase Flag defines if names should be compared case-insensitively. Names that only differ in case are
+   * ordered case-sensitively then.
+   * @return int[] Positions of the entries in the order of their names. The method never returns null.
+   */
+  private static int[] sortedPositions( CompactMap<?> pMap, boolean pIgnoreCase ) {
+    int[] lPositions = new int[pMap.size()];
+    for (int i = 0; i < lPositions.length; i++) {
+      String lName = pMap.nameAt(i);
+      int j = i;
+      while (j > 0 && compareNames(pMap.nameAt(lPositions[j - 1]), lName, pIgnoreCase) > 0) {
+        lPositions[j] = lPositions[j - 1];
+        j--;
+      }
+      lPositions[j] = i;
+    }
+    return lPositions;
+  }
+
+  private static int compareNames( String pFirst, String pSecond, boolean pIgnoreCase ) {
+    int lResult = pIgnoreCase ? pFirst.compareToIgnoreCase(pSecond) : 0;
+    return lResult != 0 ? lResult : pFirst.compareTo(pSecond);
+  }
+
+  private static long hashValues( long pHash, List<String> pValues ) {
+    long lHash = pHash;
+    if (pValues instanceof PrimitiveValueList) {
+      // Primitive values are hashed from their backing array so that they do not need to be formatted.
+      PrimitiveValueList lValues = (PrimitiveValueList) pValues;
+      for (int i = 0; i < lValues.size(); i++) {
+        lHash = lValues.hash(i, lHash);
+      }
+      lHash = mix(lHash, lValues.size());
+    }
+    else if (pValues != null) {
+      for (int i = 0; i < pValues.size(); i++) {
+        lHash = hash(lHash, pValues.get(i), false);
+      }
+      lHash = mix(lHash, pValues.size());
+    }
+    else {
+      lHash = mix(lHash, -1);
+    }
+    return lHash;
+  }
+
+  /**
+   * Method adds the passed string to the passed FNV-1a hash. The length is added as well so that the borders between
+   * strings are part of the hash.
+   */
+  static long hash( long pHash, String pValue, boolean pLowerCase ) {
+    long lHash = pHash;
+    if (pValue != null) {
+      for (int i = 0; i < pValue.length(); i++) {
+        char c = pValue.charAt(i);
+        lHash = mix(lHash, pLowerCase ? Character.toLowerCase(c) : c);
+      }
+      lHash = mix(lHash, pValue.length());
+    }
+    else {
+      lHash = mix(lHash, -1);
+    }
+    return lHash;
+  }
+
+  static long mix( long pHash, int pValue ) {
+    return (pHash ^ pValue) * FNV_PRIME;
+  }
+
+  private static long mix( long pHash, long pValue ) {
+    return (pHash ^ pValue) * FNV_PRIME;
+  }
+
+  /**
+   * Final avalanche step (from MurmurHash3) so that also the lower bits depend on all input characters.
+   */
+  private static long avalanche( long pHash ) {
+    long lHash = pHash;
+    lHash ^= lHash >>> 33;
+    lHash *= 0xff51afd7ed558ccdL;
+    lHash ^= lHash >>> 33;
+    lHash *= 0xc4ceb9fe1a85ec53L;
+    lHash ^= lHash >>> 33;
+    return lHash;
+  }
+
+  private static void appendValues( List<String> pValues, StringBuilder pBuffer ) {
+    // Null is represented by characters that are always escaped inside encoded names and values.
+    if (pValues != null) {
+      char lSeparator = '=';
+      for (int i = 0; i < pValues.size(); i++) {
+        pBuffer.append(lSeparator);
+        String lValue = pValues.get(i);
+        if (lValue != null) {
+          URLEncoding.appendQueryComponent(lValue, pBuffer);
+        }
+        else {
+          pBuffer.append('%');
+        }
+        lSeparator = ',';
+      }
+    }
+    else {
+      pBuffer.append('!');
+    }
+  }
+
+  private static String toLowerCase( String pValue ) {
+    char[] lChars = pValue.toCharArray();
+    for (int i = 0; i < lChars.length; i++) {
+      lChars[i] = Character.toLowerCase(lChars[i]);
+    }
+    return new String(lChars);
+  }
+
+  /**
+   * Method creates a new builder that is initialized with all values of this request. This way variants of an existing
+   * request e.g. with additional headers can be created. Headers, query parameters and cookies are shared with this
+   * request and are only copied if they get modified.
+   * 
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public Builder toBuilder( ) {
+    return new Builder(this);
+  }
+
+  /**
+   * Method creates a copy of this request with the passed header. An already existing header with the same name is
+   * replaced. In opposite to {@link #toBuilder()} only the arrays of the header fields are copied. All other values
+   * are shared with this request. If the header is excluded from the fingerprint (see
+   * {@link #getFingerprintExcludedHeaders()}) then also fingerprint and canonical key are taken over. This makes the
+   * method suitable for decorators that have to add headers like <code>traceparent</code> to every request.
+   * 
+   * @param pHeaderName Name of the header. The parameter must not be null.
+   * @param pHeaderValue Value of the header. The parameter may be null.
+   * @return {@link RESTRequest} Copy of this request with the passed header. The method never returns null.
+   */
+  public RESTRequest withHeader( String pHeaderName, String pHeaderValue ) {
+    if (pHeaderName != null) {
+      String lName = HeaderNames.intern(pHeaderName);
+      List<String> lValues = pHeaderValue != null ? Collections.singletonList(pHeaderValue) : null;
+      return new RESTRequest(this, headerFields.with(lName, lValues), lName);
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pHeaderName' must not be null.");
+    }
+  }
+
+  /**
+   * Class represents the invariant parts of all requests of one service operation: service class, http method, content
+   * type, path pattern as well as constant headers, query parameters and cookies. Templates are created using
+   * {@link Builder#buildTemplate()}. The path pattern is parsed only once when the template is created. Requests are
+   * then created by just binding the values of the path placeholders. Constant headers, query parameters and cookies
+   * are shared with all builders and requests that are created from the template and are only copied if they get
+   * modified.
+   * <p/>
+   * Templates are immutable and can be used concurrently. They are intended to be kept e.g. in static fields of
+   * generated clients.
+   * 
+   * <pre>
+   * private static final RESTRequest.Template GET_PRODUCT =
+   *     RESTRequest.builder(ProductService.class, HttpMethod.GET, ContentType.JSON)
+   *         .setPath("/products/{id}").setHeader("Accept-Language", "de").buildTemplate();
+   * 
+   * RESTRequest lRequest = GET_PRODUCT.builder(lProductID).setQueryParameter("details", true).build();
+   * </pre>
+   */
+  public static final class Template {
+    private final Class<?> serviceClass;
+
+    private final HttpMethod httpMethod;
+
+    private final ContentType contentType;
+
+    /**
+     * Path pattern as it was passed to the builder.
+     */
+    private final String pathPattern;
+
+    /**
+     * Literal parts of the path pattern. Between two literals the value of the placeholder with the same index has to
+     * be inserted. There is always one literal more than placeholders.
+     */
+    private final String[] pathLiterals;
+
+    /**
+     * Names of all placeholders of the path pattern in the order of their appearance.
+     */
+    private final String[] placeholderNames;
+
+    /**
+     * Length of all literals of the path pattern.
+     */
+    private final int literalLength;
+
+    private final CompactMap<List<String>> headerFields;
+
+    private final CompactMap<List<String>> queryParameters;
+
+    private final CompactMap<String> cookies;
+
+    private final String[] fingerprintExcludedHeaders;
+
+    /**
+     * Initialize object.
+     * 
+     * @param pBuilder Builder containing the invariant parts of the request. The parameter must not be null.
+     */
+    private Template( Builder pBuilder ) {
+      serviceClass = pBuilder.serviceClass;
+      httpMethod = pBuilder.httpMethod;
+      contentType = pBuilder.contentType;
+      pathPattern = pBuilder.path;
+      headerFields = pBuilder.headerFields.build();
+      queryParameters = pBuilder.queryParameters.build();
+      cookies = pBuilder.cookies.build();
+      fingerprintExcludedHeaders = pBuilder.fingerprintExcludedHeaders;
+
+      // Split path pattern into literals and placeholders.
+      List<String> lLiterals = new ArrayList<>();
+      List<String> lPlaceholders = new ArrayList<>();
+      int lLiteralStart = 0;
+      int lOpen;
+      while ((lOpen = pathPattern.indexOf('{', lLiteralStart)) >= 0) {
+        int lClose = pathPattern.indexOf('}', lOpen);
+        if (lClose > lOpen + 1) {
+          lLiterals.add(pathPattern.substring(lLiteralStart, lOpen));
+          lPlaceholders.add(pathPattern.substring(lOpen + 1, lClose));
+          lLiteralStart = lClose + 1;
+        }
+        else {
+          throw new IllegalArgumentException("Path pattern '" + pathPattern + "' contains an invalid placeholder.");
+        }
+      }
+      lLiterals.add(pathPattern.substring(lLiteralStart));
+      pathLiterals = lLiterals.toArray(new String[lLiterals.size()]);
+      placeholderNames = lPlaceholders.toArray(new String[lPlaceholders.size()]);
+      literalLength = pathPattern.length() - lPlaceholders.stream().mapToInt(lName -> lName.length() + 2).sum();
+    }
+
+    /**
+     * Method returns the class object representing the service that should be called.
+     * 
+     * @return {@link Class} Class object representing the REST service. The method never returns null.
+     */
+    public Class<?> getServiceClass( ) {
+      return serviceClass;
+    }
+
+    /**
+     * Method returns the http method that should be used for the REST call.
+     * 
+     * @return {@link HttpMethod} Http method that should be used. The method never returns null.
+     */
+    public HttpMethod getHttpMethod( ) {
+      return httpMethod;
+    }
+
+    /**
+     * Method returns the content type that should be used for request and response.
+     * 
+     * @return {@link ContentType} Content type that should be used. The method never returns null.
+     */
+    public ContentType getContentType( ) {
+      return contentType;
+    }
+
+    /**
+     * Method returns the path pattern of this template e.g. <code>/products/{id}</code>.
+     * 
+     * @return {@link String} Path pattern. The method never returns null.
+     */
+    public String getPathPattern( ) {
+      return pathPattern;
+    }
+
+    /**
+     * Method returns the names of all placeholders of the path pattern in the order in which they appear in the path.
+     * 
+     * @return {@link List} Names of all placeholders. The method never returns null.
+     */
+    public List<String> getPlaceholderNames( ) {
+      return List.of(placeholderNames);
+    }
+
+    /**
+     * Method creates a new request builder based on this template. The builder already contains all constant parts of
+     * the template and may be used to add the variable parts like further headers, query parameters or the body.
+     * 
+     * @param pPathParameters Values for the placeholders of the path pattern in the order in which they appear in the
+     * path. Values will be converted into a {@link String} using {@link String#toString()} and inserted as they are.
+     * The amount of values must match the amount of placeholders and values must not be null.
+     * @return {@link Builder} Builder for the request. The method never returns null.
+     */
+    public Builder builder( Object... pPathParameters ) {
+      return new Builder(this, this.bindPath(pPathParameters));
+    }
+
+    /**
+     * Method creates a new request based on this template.
+     * 
+     * @param pPathParameters Values for the placeholders of the path pattern in the order in which they appear in the
+     * path. Values will be converted into a {@link String} using {@link String#toString()} and inserted as they are.
+     * The amount of values must match the amount of placeholders and values must not be null.
+     * @return {@link RESTRequest} Created request. The method never returns null.
+     */
+    public RESTRequest request( Object... pPathParameters ) {
+      return this.builder(pPathParameters).build();
+    }
+
+    private String bindPath( Object[] pPathParameters ) {
+      int lParameterCount = pPathParameters != null ? pPathParameters.length : 0;
+      if (lParameterCount != placeholderNames.length) {
+        throw new IllegalArgumentException("Path pattern '" + pathPattern + "' requires " + placeholderNames.length
+            + " path parameters but " + lParameterCount + " were passed.");
+      }
+
+      String lPath;
+      if (lParameterCount == 0) {
+        lPath = pathPattern;
+      }
+      else if (lParameterCount == 1) {
+        lPath = pathLiterals[0] + this.toPathValue(pPathParameters, 0) + pathLiterals[1];
+      }
+      else {
+        String[] lValues = new String[lParameterCount];
+        int lLength = literalLength;
+        for (int i = 0; i < lParameterCount; i++) {
+          lValues[i] = this.toPathValue(pPathParameters, i);
+          lLength += lValues[i].length();
+        }
+        StringBuilder lBuffer = new StringBuilder(lLength);
+        lBuffer.append(pathLiterals[0]);
+        for (int i = 0; i < lParameterCount; i++) {
+          lBuffer.append(lValues[i]);
+          lBuffer.append(pathLiterals[i + 1]);
+        }
+        lPath = lBuffer.toString();
+      }
+      return lPath;
+    }
+
+    private String toPathValue( Object[] pPathParameters, int pIndex ) {
+      Object lValue = pPathParameters[pIndex];
+      if (lValue != null) {
+        return lValue.toString();
+      }
+      else {
+        throw new IllegalArgumentException(
+            "Value for path parameter '" + placeholderNames[pIndex] + "' must not be null.");
+      }
+    }
+  }
+
   public static class Builder {
     /**
      * @see RESTRequest#serviceClass
      */
-    private final Class<?> serviceClass;
+    private Class<?> serviceClass;
 
     /**
      * @see RESTRequest#httpMethod
      */
-    private final HttpMethod httpMethod;
+    private HttpMethod httpMethod;
 
     /**
      * @see RESTRequest#path
      */
     private String path = "/";
 
+    /**
+     * @see RESTRequest#pathTemplate
+     */
+    private String pathTemplate;
+
     /**
      * @see RESTRequest#headerFields
      */
-    private final Map<String, List<String>> headerFields = new HashMap<>();
+    private final CompactMap.Builder<List<String>> headerFields;
 
     /**
      * @see RESTRequest#queryParameters
      */
-    private final Map<String, List<String>> queryParameters = new HashMap<>();
+    private final CompactMap.Builder<List<String>> queryParameters;
 
     /**
      * @see RESTRequest#cookies
      */
-    private final Map<String, String> cookies = new HashMap<>();
+    private final CompactMap.Builder<String> cookies;
 
     /**
      * @see RESTRequest#body
@@ -274,7 +1100,17 @@ public class RESTRequest {
     /**
      * @see RESTRequest#contentType
      */
-    private final ContentType contentType;
+    private ContentType contentType;
+
+    /**
+     * @see RESTRequest#fingerprintExcludedHeaders
+     */
+    private String[] fingerprintExcludedHeaders = DEFAULT_EXCLUDED_HEADER_NAMES;
+
+    /**
+     * Flag indicates that the builder is reused after {@link #build()} so that its arrays must not be handed over.
+     */
+    private boolean reusable;
 
     /**
      * Initialize object.
@@ -294,6 +1130,9 @@ public class RESTRequest {
         serviceClass = pServiceClass;
         httpMethod = pHttpMethod;
         contentType = pContentType;
+        headerFields = new CompactMap.Builder<>(true);
+        queryParameters = new CompactMap.Builder<>();
+        cookies = new CompactMap.Builder<>();
       }
       // Parameters must not be null.
       else {
@@ -303,7 +1142,44 @@ public class RESTRequest {
     }
 
     /**
-     * Method sets the resource path that should be called.
+     * Initialize object based on the passed template.
+     * 
+     * @param pTemplate Template that should be used. The parameter must not be null.
+     * @param pPath Path that was derived from the path pattern of the template. The parameter must not be null.
+     */
+    private Builder( Template pTemplate, String pPath ) {
+      serviceClass = pTemplate.serviceClass;
+      httpMethod = pTemplate.httpMethod;
+      contentType = pTemplate.contentType;
+      path = pPath;
+      pathTemplate = pTemplate.pathPattern;
+      headerFields = new CompactMap.Builder<>(pTemplate.headerFields);
+      queryParameters = new CompactMap.Builder<>(pTemplate.queryParameters);
+      cookies = new CompactMap.Builder<>(pTemplate.cookies);
+      fingerprintExcludedHeaders = pTemplate.fingerprintExcludedHeaders;
+    }
+
+    /**
+     * Initialize object based on the passed request.
+     * 
+     * @param pRequest Request whose values should be taken over. The parameter must not be null.
+     */
+    private Builder( RESTRequest pRequest ) {
+      serviceClass = pRequest.serviceClass;
+      httpMethod = pRequest.httpMethod;
+      contentType = pRequest.contentType;
+      path = pRequest.path;
+      pathTemplate = pRequest.pathTemplate;
+      headerFields = new CompactMap.Builder<>(pRequest.headerFields);
+      queryParameters = new CompactMap.Builder<>(pRequest.queryParameters);
+      cookies = new CompactMap.Builder<>(pRequest.cookies);
+      body = pRequest.body;
+      fingerprintExcludedHeaders = pRequest.fingerprintExcludedHeaders;
+    }
+
+    /**
+     * Method sets the resource path that should be called. A path template that was taken over from a {@link Template}
+     * is no longer used afterwards (see {@link RESTRequest#getPathTemplate()}).
      * 
      * @param pPath Resource path that should be called. The parameter must not be null.
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
@@ -311,6 +1187,7 @@ public class RESTRequest {
     public Builder setPath( String pPath ) {
       if (pPath != null) {
         path = pPath;
+        pathTemplate = null;
         return this;
       }
       else {
@@ -324,22 +1201,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, boolean... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (boolean lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -376,7 +1250,7 @@ public class RESTRequest {
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -390,22 +1264,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, short... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (short lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -419,22 +1290,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, int... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (int lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -448,22 +1316,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, long... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (long lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -477,22 +1342,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, float... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (float lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -506,22 +1368,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, double... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (double lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -535,22 +1394,19 @@ public class RESTRequest {
      * 
      * @param pHeaderName Name of the header. The parameter must not be null.
      * @param pHeaderValues Header values that should be set. The parameter may be null. All passed values will be
-     * converted into a {@link String}.
+     * converted into a {@link String} when they are read (see {@link PrimitiveValueList}).
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
     public Builder setHeader( String pHeaderName, char... pHeaderValues ) {
       if (pHeaderName != null) {
         List<String> lValues;
         if (pHeaderValues != null && pHeaderValues.length > 0) {
-          lValues = new ArrayList<>(pHeaderValues.length);
-          for (char lNextValue : pHeaderValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
+          lValues = PrimitiveValueList.of(pHeaderValues);
         }
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -602,7 +1458,7 @@ public class RESTRequest {
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -634,7 +1490,7 @@ public class RESTRequest {
         else {
           lValues = null;
         }
-        headerFields.put(pHeaderName, lValues);
+        headerFields.put(HeaderNames.intern(pHeaderName), lValues);
         return this;
       }
       else {
@@ -674,11 +1530,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, boolean... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (boolean lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -699,11 +1551,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, byte... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (byte lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -724,11 +1572,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, short... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (short lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -749,11 +1593,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, int... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (int lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -774,11 +1614,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, long... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (long lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -799,11 +1635,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, float... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (float lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -824,11 +1656,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, double... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (double lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -849,11 +1677,7 @@ public class RESTRequest {
     public Builder setQueryParameter( String pQueryParamName, char... pQueryParamValues ) {
       if (pQueryParamName != null) {
         if (pQueryParamValues != null && pQueryParamValues.length > 0) {
-          List<String> lValues = new ArrayList<>(pQueryParamValues.length);
-          for (char lNextValue : pQueryParamValues) {
-            lValues.add(String.valueOf(lNextValue));
-          }
-          queryParameters.put(pQueryParamName, lValues);
+          queryParameters.put(pQueryParamName, PrimitiveValueList.of(pQueryParamValues));
         }
         return this;
       }
@@ -1261,6 +2085,9 @@ public class RESTRequest {
      * Method sets the body of the request. Depending of the defined {@link #contentType} this body object will be
      * serialized by the REST request executor {@link RESTRequestExecutor} to the matching format.
      * 
+     * Large payloads should be passed as {@link StreamingBody}. They are not serialized but streamed by the executor
+     * without loading them into memory.
+     * 
      * @param pBody Object that should be sent as body. The parameter may be null.
      * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
      */
@@ -1269,6 +2096,64 @@ public class RESTRequest {
       return this;
     }
 
+    /**
+     * Method sets the names of the headers that should not be part of the fingerprint and the canonical key of the
+     * request (see {@link RESTRequest#getFingerprint()}). Typically these are headers that differ on every request even
+     * though the response does not depend on them. By default {@link RESTRequest#DEFAULT_FINGERPRINT_EXCLUDED_HEADERS}
+     * are excluded. The headers are still sent as part of the request.
+     * 
+     * @param pHeaderNames Names of the headers that should be excluded. Names are case-insensitive. The parameter must
+     * not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setFingerprintExcludedHeaders( String... pHeaderNames ) {
+      if (pHeaderNames != null) {
+        String[] lHeaderNames = new String[pHeaderNames.length];
+        for (int i = 0; i < pHeaderNames.length; i++) {
+          if (pHeaderNames[i] != null) {
+            lHeaderNames[i] = pHeaderNames[i].toLowerCase(Locale.ROOT);
+          }
+          else {
+            throw new IllegalArgumentException(HEADER_NAME_NULL_ERROR);
+          }
+        }
+        fingerprintExcludedHeaders = lHeaderNames;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pHeaderNames' must not be null.");
+      }
+    }
+
+    /**
+     * Method resets the builder so that it can be used for a new request. All values that were set before are removed.
+     * Internal arrays are kept if they are not shared with a request that was already built.
+     * 
+     * @param pServiceClass Service class of the new request. The parameter must not be null.
+     * @param pHttpMethod Http method of the new request. The parameter must not be null.
+     * @param pContentType Content type of the new request. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder reset( Class<?> pServiceClass, HttpMethod pHttpMethod, ContentType pContentType ) {
+      if (pServiceClass != null && pHttpMethod != null && pContentType != null) {
+        serviceClass = pServiceClass;
+        httpMethod = pHttpMethod;
+        contentType = pContentType;
+        path = "/";
+        pathTemplate = null;
+        headerFields.clear();
+        queryParameters.clear();
+        cookies.clear();
+        body = null;
+        fingerprintExcludedHeaders = DEFAULT_EXCLUDED_HEADER_NAMES;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException(
+            "Parameters 'pServiceClass', 'pHttpMethod' and 'pContentType' must not be null.");
+      }
+    }
+
     /**
      * Method build the {@link RESTRequest} object based on the set values.
      * 
@@ -1278,8 +2163,29 @@ public class RESTRequest {
       return new RESTRequest(this);
     }
 
+    /**
+     * Method builds a {@link Template} based on the set values. The path is interpreted as path pattern which may
+     * contain placeholders like <code>{id}</code>. A body that might have been set is not part of the template.
+     * 
+     * @return {@link Template} Created template. The method never returns null.
+     */
+    public Template buildTemplate( ) {
+      return new Template(this);
+    }
+
     private List<String> getQueryParamSet( String pQueryParamName ) {
-      return queryParameters.computeIfAbsent(pQueryParamName, k -> new ArrayList<>(1));
+      // Existing values might already be shared with a request that was built before. So we always extend a copy.
+      List<String> lExistingValues = queryParameters.get(pQueryParamName);
+      List<String> lValues;
+      if (lExistingValues != null) {
+        lValues = new ArrayList<>(lExistingValues.size() + 1);
+        lValues.addAll(lExistingValues);
+      }
+      else {
+        lValues = new ArrayList<>(1);
+      }
+      queryParameters.put(pQueryParamName, lValues);
+      return lValues;
     }
   }
 }
@@ -6,6 +6,9 @@
 package com.anaptecs.jeaf.rest.executor.api;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Interface defines an abstraction for synchronous calls to an REST resource. Idea of this interface is to provide a
@@ -14,8 +17,11 @@ import java.util.Collection;
  * 
  * Responsibilities of implementations:
  * <ul>
- * <li>Ensure http compatibility of query parameters (they need to be URL encoded)</li>
+ * <li>Ensure http compatibility of query parameters (they need to be URL encoded). Path and query parameters are
+ * already available in encoded form via {@link RESTRequest#getEncodedPathAndQuery()}.</li>
  * <li>Conversion of body to defined content-type. Support for JSON is mandatory, XML is optional.</li>
+ * <li>Bodies of type {@link StreamingBody} must not be converted. Their content has to be streamed as it is without
+ * loading it into memory.</li>
  * <li>Proper handling of passed cookies</li>
  * <li>Problem-Handling: For technical problems as well as in case that the REST resource returns a problem. It is
  * expected that a runtime exception will be thrown that represents the occurred problem e.g. using Zalando Problem
@@ -70,4 +76,96 @@ public interface RESTRequestExecutor {
   <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
       @SuppressWarnings("rawtypes")
       Class<? extends Collection> pCollectionClass, ObjectType pObjectType );
+
+  /**
+   * Method executes a HTTP request that is expected to return a collection of objects as result. In opposite to
+   * {@link #executeCollectionResultRequest(RESTRequest, int, Class, ObjectType)} the result is not materialized as a
+   * whole. Instead elements are deserialized from the response one after the other as they are consumed from the
+   * returned stream. This way also very large results can be processed with constant memory consumption.
+   * <p/>
+   * The returned stream holds the underlying http connection until it is closed. So callers have to close the stream
+   * e.g. using try-with-resources. If elements should rather be processed with an iterator then
+   * {@link Stream#iterator()} can be used.
+   * <p/>
+   * The default implementation is only a fallback that does not stream at all: It calls
+   * {@link #executeCollectionResultRequest(RESTRequest, int, Class, ObjectType)} and thus buffers the whole result in
+   * memory before the first element is returned. Implementations are expected to override this method with a real
+   * streaming implementation that reads the response body incrementally.
+   * 
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call. This status code is required in
+   * order to be able to distinguish between successful and failed requests. In case of failed requests an runtime
+   * exception is expected to be thrown.
+   * @param pObjectType Type of the objects that will be returned by the stream. The parameter must not be null.
+   * @return {@link Stream} Stream of objects as it was defined by <code>pObjectType</code>. The method never returns
+   * null.
+   */
+  default <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Collection<T> lResult =
+        this.<Collection<T>> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, List.class, pObjectType);
+    return lResult != null ? lResult.stream() : Stream.empty();
+  }
+
+  /**
+   * Method executes a HTTP request and returns the complete response including status code and header fields. This way
+   * callers like caches are able to evaluate headers such as <code>Cache-Control</code> or <code>ETag</code>.
+   * <p/>
+   * If the passed request is a conditional request (e.g. contains header <code>If-None-Match</code>) then status code
+   * {@link RESTResponse#NOT_MODIFIED} has to be treated as successful as well. In this case the returned response has
+   * no result.
+   * <p/>
+   * The default implementation delegates to the matching <code>execute...Request</code> method and returns a response
+   * with the expected status code but without any header fields. Implementations that have access to the http
+   * response are expected to override this method.
+   *
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call.
+   * @param pCollectionClass Class object of collection class that should be returned e.g. List. The parameter may be
+   * null if the request returns a single object or no result at all.
+   * @param pObjectType Type of the returned object or of the objects inside the collection. The parameter may be null
+   * if the request returns no result.
+   * @return {@link RESTResponse} Response of the request. The method never returns null.
+   */
+  default <T> RESTResponse<T> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    T lResult;
+    if (pObjectType == null) {
+      this.executeNoResultRequest(pRequest, pSuccessfulStatusCode);
+      lResult = null;
+    }
+    else if (pCollectionClass == null) {
+      lResult = this.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    }
+    else {
+      lResult = this.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    return RESTResponse.of(pSuccessfulStatusCode, Map.of(), lResult);
+  }
+
+  /**
+   * Method executes a batch of independent requests. Failures of single requests do not stop the batch. Instead they
+   * are reported through the {@link BatchResult} of the failed item.
+   * <p/>
+   * Implementations that are able to execute requests concurrently should override this method and execute up to
+   * <code>pMaxParallelism</code> requests at the same time, e.g. using
+   * {@link RESTRequestExecutorAsync#executeBatch(List, int)}. The default implementation executes all requests one
+   * after the other on the calling thread.
+   * 
+   * @param pItems Requests that should be executed together with their expected status code and result type. The
+   * parameter must not be null.
+   * @param pMaxParallelism Maximum amount of requests that may be executed at the same time. The value must be greater
+   * than 0.
+   * @return {@link List} Results of all items in the same order as the passed items. The returned list is immutable.
+   * The method never returns null.
+   */
+  default <T> List<BatchResult<T>> executeBatch( List<BatchItem<T>> pItems, int pMaxParallelism ) {
+    if (pMaxParallelism > 0) {
+      return BatchExecution.executeSequentially(this, pItems);
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pMaxParallelism' must be greater than 0.");
+    }
+  }
 }
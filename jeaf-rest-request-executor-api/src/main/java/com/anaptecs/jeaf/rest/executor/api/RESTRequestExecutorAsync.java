@@ -0,0 +1,117 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Interface defines an abstraction for asynchronous calls to an REST resource based on {@link CompletableFuture}. It is
+ * the counterpart of {@link RESTRequestExecutor} for code that wants to execute many requests concurrently without
+ * blocking a thread per request and without depending on a reactive library.
+ * 
+ * Responsibilities of implementations are the same as the ones of {@link RESTRequestExecutor}. Problems are not thrown
+ * but reported by completing the returned future exceptionally.
+ * 
+ * Existing executors can be adapted using {@link #fromBlocking(RESTRequestExecutor, Executor)} and
+ * {@link #toBlocking(RESTRequestExecutorAsync)}.
+ * 
+ * @author JEAF Development Team
+ */
+public interface RESTRequestExecutorAsync {
+  /**
+   * Method creates an asynchronous executor that executes all requests using the passed blocking executor. Every
+   * request occupies a thread of the passed thread pool while it is executed. So the thread pool should provide
+   * virtual threads or has to be large enough for the expected amount of concurrent requests.
+   * 
+   * @param pExecutor Blocking executor that should be adapted. The parameter must not be null.
+   * @param pThreadPool Thread pool that is used to execute the blocking calls. The parameter must not be null.
+   * @return {@link RESTRequestExecutorAsync} Asynchronous executor. The method never returns null.
+   */
+  static RESTRequestExecutorAsync fromBlocking( RESTRequestExecutor pExecutor, Executor pThreadPool ) {
+    return new AsyncRESTRequestExecutorAdapter(pExecutor, pThreadPool);
+  }
+
+  /**
+   * Method creates a blocking executor that executes all requests using the passed asynchronous executor. The calling
+   * thread waits until the future of the request is completed. Exceptions that completed the future are thrown as they
+   * are if they are runtime exceptions.
+   * 
+   * @param pExecutor Asynchronous executor that should be adapted. The parameter must not be null.
+   * @return {@link RESTRequestExecutor} Blocking executor. The method never returns null.
+   */
+  static RESTRequestExecutor toBlocking( RESTRequestExecutorAsync pExecutor ) {
+    return new BlockingRESTRequestExecutorAdapter(pExecutor);
+  }
+
+  /**
+   * Method executes an asynchronous HTTP REST request that is expected to return no response (aka return type void).
+   * The REST resource that should be called can be resolved using the service class that is defined in the passed
+   * request. {@link RESTRequest#getServiceClass()}.
+   * 
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call. This status code is required in
+   * order to be able to distinguish between successful and failed requests. In case of failed requests the returned
+   * future is expected to be completed exceptionally.
+   * @return {@link CompletableFuture} Future that is completed when the request was executed. The method never returns
+   * null.
+   */
+  CompletableFuture<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode );
+
+  /**
+   * Method executes an asynchronous HTTP REST request that is expected to return a single non collection object as
+   * result.
+   * 
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call. This status code is required in
+   * order to be able to distinguish between successful and failed requests. In case of failed requests the returned
+   * future is expected to be completed exceptionally.
+   * @param pObjectType Type of the object that will be returned by the call. The parameter must not be null.
+   * @return {@link CompletableFuture} Future with the single object as it was defined by <code>pObjectType</code>. The
+   * method never returns null.
+   */
+  <T> CompletableFuture<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType );
+
+  /**
+   * Method executes an asynchronous HTTP request that is expected to return a collection of objects as result.
+   * 
+   * @param pRequest HTTP request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode HTTP status code that represents a successful call. This status code is required in
+   * order to be able to distinguish between successful and failed requests. In case of failed requests the returned
+   * future is expected to be completed exceptionally.
+   * @param pCollectionClass Class object of collection class that should be returned e.g. List. The parameter must not
+   * be null.
+   * @param pObjectType Type of the objects that will be inside the collection. The parameter must not be null.
+   * @return {@link CompletableFuture} Future with the collection of objects as it was defined by
+   * <code>pCollectionClass</code> and <code>pObjectType</code>. The method never returns null.
+   */
+  <T> CompletableFuture<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType );
+
+  /**
+   * Method executes a batch of independent requests. At most <code>pMaxParallelism</code> requests are in progress at
+   * the same time. As soon as one request completes the next one is started. So requests to the same service are
+   * pipelined over the connections (or HTTP/2 streams) of the executor without blocking a thread while waiting.
+   * <p/>
+   * Failures of single requests do not fail the returned future. Instead they are reported through the
+   * {@link BatchResult} of the failed item.
+   * 
+   * @param pItems Requests that should be executed together with their expected status code and result type. The
+   * parameter must not be null.
+   * @param pMaxParallelism Maximum amount of requests that are executed at the same time. The value must be greater
+   * than 0.
+   * @return {@link CompletableFuture} Future with the results of all items in the same order as the passed items. The
+   * returned list is immutable. The method never returns null.
+   */
+  default <T> CompletableFuture<List<BatchResult<T>>> executeBatch( List<BatchItem<T>> pItems,
+      int pMaxParallelism ) {
+    return BatchExecution.execute(this, pItems, pMaxParallelism);
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+/**
+ * Interface defines the instrumentation SPI of REST request executors. Listeners are notified when the execution of a
+ * request starts and when it ends either successfully or with an error. All information about a call is provided
+ * through its {@link RequestEvent}.
+ * <p/>
+ * Listeners are called on the thread that executes the request. Their implementations therefore have to be
+ * thread-safe, must not block and should be as cheap as possible. Runtime exceptions that are thrown by a listener are
+ * ignored so that they never influence the execution of a request.
+ *
+ * @author JEAF Development Team
+ */
+public interface RESTRequestListener {
+  /**
+   * Method is called before a request is executed.
+   *
+   * @param pEvent Event describing the call. Only the request and the start time are set. The parameter is never null.
+   */
+  default void onStart( RequestEvent pEvent ) {
+    // Nothing to do by default.
+  }
+
+  /**
+   * Method is called after a request was executed successfully.
+   *
+   * @param pEvent Event describing the call. The parameter is never null.
+   */
+  default void onEnd( RequestEvent pEvent ) {
+    // Nothing to do by default.
+  }
+
+  /**
+   * Method is called if the execution of a request failed.
+   *
+   * @param pEvent Event describing the call. Values that could not be determined before the error occurred are
+   * {@link RequestEvent#UNKNOWN}. The parameter is never null.
+   * @param pError Error that occurred. The parameter is never null.
+   */
+  default void onError( RequestEvent pEvent, Throwable pError ) {
+    // Nothing to do by default.
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class represents the response of a REST request together with its status code and header fields. It is used by
+ * callers that need more than the deserialized result, e.g. to honor caching headers.
+ *
+ * @author JEAF Development Team
+ */
+public final class RESTResponse<T> {
+  /**
+   * Status code that is returned for conditional requests if the resource was not modified.
+   */
+  public static final int NOT_MODIFIED = 304;
+
+  private final int statusCode;
+
+  private final Map<String, List<String>> headerFields;
+
+  private final T result;
+
+  /**
+   * Method creates a new response.
+   *
+   * @param pStatusCode Status code of the response.
+   * @param pHeaderFields Header fields of the response. The map is not copied. The parameter must not be null.
+   * @param pResult Deserialized result of the response. The parameter may be null.
+   * @return {@link RESTResponse} Created response. The method never returns null.
+   */
+  public static <T> RESTResponse<T> of( int pStatusCode, Map<String, List<String>> pHeaderFields, T pResult ) {
+    if (pHeaderFields != null) {
+      return new RESTResponse<>(pStatusCode, pHeaderFields, pResult);
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pHeaderFields' must not be null.");
+    }
+  }
+
+  private RESTResponse( int pStatusCode, Map<String, List<String>> pHeaderFields, T pResult ) {
+    statusCode = pStatusCode;
+    headerFields = Collections.unmodifiableMap(pHeaderFields);
+    result = pResult;
+  }
+
+  /**
+   * Method returns the status code of the response.
+   *
+   * @return int Status code of the response.
+   */
+  public int getStatusCode( ) {
+    return statusCode;
+  }
+
+  /**
+   * Method checks if the response is the answer to a conditional request for a resource that was not modified.
+   *
+   * @return boolean Method returns true if the status code is {@link #NOT_MODIFIED}.
+   */
+  public boolean isNotModified( ) {
+    return statusCode == NOT_MODIFIED;
+  }
+
+  /**
+   * Method returns all header fields of the response.
+   *
+   * @return {@link Map} Header fields of the response. The returned map is immutable. The method never returns null.
+   */
+  public Map<String, List<String>> getHeaderFields( ) {
+    return headerFields;
+  }
+
+  /**
+   * Method returns the first value of the header with the passed name. Header names are case-insensitive.
+   *
+   * @param pHeaderName Name of the header. The parameter must not be null.
+   * @return {@link String} First value of the header or null if the response does not contain such a header.
+   */
+  public String getHeader( String pHeaderName ) {
+    List<String> lValues = headerFields.get(pHeaderName);
+    if (lValues == null) {
+      for (Map.Entry<String, List<String>> lEntry : headerFields.entrySet()) {
+        if (lEntry.getKey().equalsIgnoreCase(pHeaderName)) {
+          lValues = lEntry.getValue();
+          break;
+        }
+      }
+    }
+    return lValues != null && lValues.isEmpty() == false ? lValues.get(0) : null;
+  }
+
+  /**
+   * Method returns the deserialized result of the response.
+   *
+   * @return T Result of the response. The method returns null if the request has no result or if the resource was not
+   * modified.
+   */
+  public T getResult( ) {
+    return result;
+  }
+}
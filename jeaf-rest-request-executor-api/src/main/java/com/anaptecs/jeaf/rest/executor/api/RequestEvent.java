@@ -0,0 +1,346 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.List;
+
+/**
+ * Class describes one execution of a {@link RESTRequest} for {@link RESTRequestListener}s. Events are created by
+ * executors or decorators using {@link #start(RESTRequest, List)} and completed using {@link #end()} or
+ * {@link #fail(Throwable)}. In between the executor sets all values that it is able to determine.
+ * <p/>
+ * The duration of a call is split up into the following phases:
+ * <ul>
+ * <li>connect: establishing a new connection to the server</li>
+ * <li>send: creating the http request including serialization of its body</li>
+ * <li>wait: sending the request and waiting for the status code and header fields of the response</li>
+ * <li>deserialize: reading the response body and converting it into the result</li>
+ * </ul>
+ * Values that an executor can not determine are {@link #UNKNOWN}. If an executor can not measure the connect phase on
+ * its own then the time for establishing the connection is part of the wait phase.
+ * <p/>
+ * Events belong to exactly one call. They are not thread-safe but may be handed over between threads together with the
+ * call, e.g. through a {@link java.util.concurrent.CompletableFuture}.
+ *
+ * @author JEAF Development Team
+ */
+public final class RequestEvent {
+  /**
+   * Constant is used for all values that are not known.
+   */
+  public static final long UNKNOWN = -1;
+
+  private final RESTRequest request;
+
+  private final List<RESTRequestListener> listeners;
+
+  private final long startNanos;
+
+  private long endNanos;
+
+  /**
+   * Flag indicates if the call is completed. It is required as {@link System#nanoTime()} may also return negative
+   * values.
+   */
+  private boolean completed;
+
+  private int statusCode = (int) UNKNOWN;
+
+  private long bytesSent = UNKNOWN;
+
+  private long bytesReceived = UNKNOWN;
+
+  private long connectNanos = UNKNOWN;
+
+  private long sendNanos = UNKNOWN;
+
+  private long waitNanos = UNKNOWN;
+
+  private long deserializeNanos = UNKNOWN;
+
+  private Throwable error;
+
+  /**
+   * Method creates a new event for the passed request and notifies all listeners about the start of the call.
+   *
+   * @param pRequest Request that is executed. The parameter must not be null.
+   * @param pListeners Listeners that should be notified. The list must not be modified afterwards. The parameter must
+   * not be null.
+   * @return {@link RequestEvent} Created event. The method never returns null.
+   */
+  public static RequestEvent start( RESTRequest pRequest, List<RESTRequestListener> pListeners ) {
+    if (pRequest != null && pListeners != null) {
+      RequestEvent lEvent = new RequestEvent(pRequest, pListeners);
+      for (RESTRequestListener lListener : pListeners) {
+        try {
+          lListener.onStart(lEvent);
+        }
+        catch (RuntimeException e) {
+          // Listeners must not influence the execution of requests.
+        }
+      }
+      return lEvent;
+    }
+    else {
+      throw new IllegalArgumentException("Parameters 'pRequest' and 'pListeners' must not be null.");
+    }
+  }
+
+  private RequestEvent( RESTRequest pRequest, List<RESTRequestListener> pListeners ) {
+    request = pRequest;
+    listeners = pListeners;
+    startNanos = System.nanoTime();
+  }
+
+  /**
+   * Method completes the event after the request was executed successfully and notifies all listeners. Calls after the
+   * event was already completed are ignored.
+   */
+  public void end( ) {
+    if (completed == false) {
+      endNanos = System.nanoTime();
+      completed = true;
+      for (RESTRequestListener lListener : listeners) {
+        try {
+          lListener.onEnd(this);
+        }
+        catch (RuntimeException e) {
+          // Listeners must not influence the execution of requests.
+        }
+      }
+    }
+  }
+
+  /**
+   * Method completes the event after the execution of the request failed and notifies all listeners. Calls after the
+   * event was already completed are ignored.
+   *
+   * @param pError Error that occurred. The parameter must not be null.
+   */
+  public void fail( Throwable pError ) {
+    if (pError == null) {
+      throw new IllegalArgumentException("Parameter 'pError' must not be null.");
+    }
+    if (completed == false) {
+      endNanos = System.nanoTime();
+      completed = true;
+      error = pError;
+      for (RESTRequestListener lListener : listeners) {
+        try {
+          lListener.onError(this, pError);
+        }
+        catch (RuntimeException e) {
+          // Listeners must not influence the execution of requests.
+        }
+      }
+    }
+  }
+
+  /**
+   * Method returns the request that is executed.
+   *
+   * @return {@link RESTRequest} Executed request. The method never returns null.
+   */
+  public RESTRequest getRequest( ) {
+    return request;
+  }
+
+  /**
+   * Method returns the service class of the executed request.
+   *
+   * @return {@link Class} Service class of the request. The method never returns null.
+   */
+  public Class<?> getServiceClass( ) {
+    return request.getServiceClass();
+  }
+
+  /**
+   * Method returns the http method of the executed request.
+   *
+   * @return {@link HttpMethod} Http method of the request. The method never returns null.
+   */
+  public HttpMethod getHttpMethod( ) {
+    return request.getHttpMethod();
+  }
+
+  /**
+   * Method returns the path template of the executed request (see {@link RESTRequest#getPathTemplate()}).
+   *
+   * @return {@link String} Path template of the request. The method never returns null.
+   */
+  public String getPathTemplate( ) {
+    return request.getPathTemplate();
+  }
+
+  /**
+   * Method returns the time when the call started as it was returned by {@link System#nanoTime()}.
+   *
+   * @return long Start time of the call in nanoseconds.
+   */
+  public long getStartNanos( ) {
+    return startNanos;
+  }
+
+  /**
+   * Method returns the total duration of the call.
+   *
+   * @return long Duration of the call in nanoseconds or {@link #UNKNOWN} if the call is not yet completed.
+   */
+  public long getDurationNanos( ) {
+    return completed ? endNanos - startNanos : UNKNOWN;
+  }
+
+  /**
+   * Method checks if the call is already completed.
+   *
+   * @return boolean Method returns true if {@link #end()} or {@link #fail(Throwable)} was already called.
+   */
+  public boolean isCompleted( ) {
+    return completed;
+  }
+
+  /**
+   * Method returns the error with which the call failed.
+   *
+   * @return {@link Throwable} Error of the call. The method returns null if the call did not fail (yet).
+   */
+  public Throwable getError( ) {
+    return error;
+  }
+
+  /**
+   * Method returns the status code of the response.
+   *
+   * @return int Http status code or {@link #UNKNOWN} if no response was received.
+   */
+  public int getStatusCode( ) {
+    return statusCode;
+  }
+
+  /**
+   * Method sets the status code of the response.
+   *
+   * @param pStatusCode Http status code of the response.
+   */
+  public void setStatusCode( int pStatusCode ) {
+    statusCode = pStatusCode;
+  }
+
+  /**
+   * Method returns the size of the request body.
+   *
+   * @return long Amount of bytes that were sent or {@link #UNKNOWN}.
+   */
+  public long getBytesSent( ) {
+    return bytesSent;
+  }
+
+  /**
+   * Method sets the size of the request body.
+   *
+   * @param pBytesSent Amount of bytes that were sent.
+   */
+  public void setBytesSent( long pBytesSent ) {
+    bytesSent = pBytesSent;
+  }
+
+  /**
+   * Method returns the size of the response body.
+   *
+   * @return long Amount of bytes that were received or {@link #UNKNOWN}.
+   */
+  public long getBytesReceived( ) {
+    return bytesReceived;
+  }
+
+  /**
+   * Method sets the size of the response body.
+   *
+   * @param pBytesReceived Amount of bytes that were received.
+   */
+  public void setBytesReceived( long pBytesReceived ) {
+    bytesReceived = pBytesReceived;
+  }
+
+  /**
+   * Method returns the time that was required to establish a new connection.
+   *
+   * @return long Duration in nanoseconds or {@link #UNKNOWN}.
+   */
+  public long getConnectNanos( ) {
+    return connectNanos;
+  }
+
+  /**
+   * Method sets the time that was required to establish a new connection.
+   *
+   * @param pConnectNanos Duration in nanoseconds.
+   */
+  public void setConnectNanos( long pConnectNanos ) {
+    connectNanos = pConnectNanos;
+  }
+
+  /**
+   * Method returns the time that was required to create the http request including serialization of its body.
+   *
+   * @return long Duration in nanoseconds or {@link #UNKNOWN}.
+   */
+  public long getSendNanos( ) {
+    return sendNanos;
+  }
+
+  /**
+   * Method sets the time that was required to create the http request including serialization of its body.
+   *
+   * @param pSendNanos Duration in nanoseconds.
+   */
+  public void setSendNanos( long pSendNanos ) {
+    sendNanos = pSendNanos;
+  }
+
+  /**
+   * Method returns the time between sending the request and receiving the status code and header fields of the
+   * response.
+   *
+   * @return long Duration in nanoseconds or {@link #UNKNOWN}.
+   */
+  public long getWaitNanos( ) {
+    return waitNanos;
+  }
+
+  /**
+   * Method sets the time between sending the request and receiving the status code and header fields of the response.
+   *
+   * @param pWaitNanos Duration in nanoseconds.
+   */
+  public void setWaitNanos( long pWaitNanos ) {
+    waitNanos = pWaitNanos;
+  }
+
+  /**
+   * Method returns the time that was required to read and deserialize the response body.
+   *
+   * @return long Duration in nanoseconds or {@link #UNKNOWN}.
+   */
+  public long getDeserializeNanos( ) {
+    return deserializeNanos;
+  }
+
+  /**
+   * Method sets the time that was required to read and deserialize the response body.
+   *
+   * @param pDeserializeNanos Duration in nanoseconds.
+   */
+  public void setDeserializeNanos( long pDeserializeNanos ) {
+    deserializeNanos = pDeserializeNanos;
+  }
+
+  @Override
+  public String toString( ) {
+    return request.getHttpMethod() + " " + request.getPathTemplate() + " status=" + statusCode + " duration="
+        + this.getDurationNanos() + "ns";
+  }
+}
@@ -0,0 +1,146 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Class reports how the consumption of a stream as it is returned by
+ * {@link RESTRequestExecutor#executeStreamResultRequest(RESTRequest, int, ObjectType)} ended. A stream that is closed
+ * does not tell whether all its elements could be read. So executors, listeners and decorators that only react on
+ * {@link Stream#close()} would report streams that failed during iteration as successful calls.
+ * <p/>
+ * The stream returned by {@link #observe(Stream, boolean, Callback)} calls its callback exactly once:
+ * <ul>
+ * <li>as soon as reading an element fails with the thrown exception,</li>
+ * <li>as soon as all elements were read if this was requested or</li>
+ * <li>when the stream is closed before.</li>
+ * </ul>
+ * Callers still have to close the returned stream as the callback might otherwise never be called.
+ *
+ * @author JEAF Development Team
+ */
+public final class StreamTermination {
+  /**
+   * Interface is implemented by all callbacks that want to be informed about the end of a stream.
+   */
+  @FunctionalInterface
+  public interface Callback {
+    /**
+     * Method is called once when the consumption of the stream ended.
+     *
+     * @param pError Exception that occurred while an element was read. The parameter is null if all elements were read
+     * or the stream was closed without failure.
+     */
+    void terminated( Throwable pError );
+  }
+
+  /**
+   * Constructor is private as class only provides static methods.
+   */
+  private StreamTermination( ) {
+  }
+
+  /**
+   * Method returns a stream with the elements of the passed stream that informs the passed callback how its
+   * consumption ended. Closing the returned stream also closes the passed stream.
+   *
+   * @param pStream Stream that should be observed. The stream must not have been consumed yet. The parameter must not
+   * be null.
+   * @param pOnExhaustion Parameter defines if the callback is already called when all elements were read. Otherwise it
+   * is called when the stream is closed.
+   * @param pCallback Callback that is called once the consumption of the stream ended. The parameter must not be null.
+   * @return {@link Stream} Observed stream. The method never returns null.
+   */
+  public static <T> Stream<T> observe( Stream<T> pStream, boolean pOnExhaustion, Callback pCallback ) {
+    if (pStream != null && pCallback != null) {
+      ObservedSpliterator<T> lSpliterator = new ObservedSpliterator<>(pStream.spliterator(), pOnExhaustion, pCallback);
+      return StreamSupport.stream(lSpliterator, pStream.isParallel()).onClose(pStream::close)
+          .onClose(( ) -> lSpliterator.terminate(null));
+    }
+    else {
+      throw new IllegalArgumentException("Parameters 'pStream' and 'pCallback' must not be null.");
+    }
+  }
+
+  /**
+   * Spliterator detects failures and the end of the wrapped spliterator. It does not support splitting so that
+   * exhaustion can be detected reliably.
+   */
+  private static final class ObservedSpliterator<T> implements Spliterator<T> {
+    private final Spliterator<T> delegate;
+
+    private final boolean onExhaustion;
+
+    private final Callback callback;
+
+    private final AtomicBoolean terminated = new AtomicBoolean();
+
+    ObservedSpliterator( Spliterator<T> pDelegate, boolean pOnExhaustion, Callback pCallback ) {
+      delegate = pDelegate;
+      onExhaustion = pOnExhaustion;
+      callback = pCallback;
+    }
+
+    @Override
+    public boolean tryAdvance( Consumer<? super T> pAction ) {
+      boolean lAdvanced;
+      try {
+        lAdvanced = delegate.tryAdvance(pAction);
+      }
+      catch (RuntimeException | Error e) {
+        this.terminate(e);
+        throw e;
+      }
+      if (lAdvanced == false && onExhaustion) {
+        this.terminate(null);
+      }
+      return lAdvanced;
+    }
+
+    @Override
+    public void forEachRemaining( Consumer<? super T> pAction ) {
+      try {
+        delegate.forEachRemaining(pAction);
+      }
+      catch (RuntimeException | Error e) {
+        this.terminate(e);
+        throw e;
+      }
+      if (onExhaustion) {
+        this.terminate(null);
+      }
+    }
+
+    @Override
+    public Spliterator<T> trySplit( ) {
+      return null;
+    }
+
+    @Override
+    public long estimateSize( ) {
+      return delegate.estimateSize();
+    }
+
+    @Override
+    public int characteristics( ) {
+      return delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Method calls the callback unless it was already called before.
+     */
+    void terminate( Throwable pError ) {
+      if (terminated.compareAndSet(false, true)) {
+        callback.terminated(pError);
+      }
+    }
+  }
+}
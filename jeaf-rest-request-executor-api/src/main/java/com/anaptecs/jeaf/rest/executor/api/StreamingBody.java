@@ -0,0 +1,308 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * Class can be used as body of a {@link RESTRequest} in order to send large amounts of data without loading them into
+ * memory. In opposite to all other bodies a streaming body is not converted according to the content type of the
+ * request. Instead executors send the provided bytes as they are.
+ * <p/>
+ * The concrete kind of streaming body defines how the data can be accessed by the executor:
+ * <ul>
+ * <li>{@link InputStreamBody}: Data is read from an {@link InputStream} that is created by a supplier.</li>
+ * <li>{@link ChannelBody}: Data is read from a {@link ReadableByteChannel}.</li>
+ * <li>{@link FileBody}: Data is read from a file. Using {@link FileBody#transferTo(WritableByteChannel)} the file can
+ * be sent without copying it into user space memory.</li>
+ * <li>{@link PublisherBody}: Data is provided by a {@link Flow.Publisher} e.g. for non blocking http clients.</li>
+ * </ul>
+ *
+ * @author JEAF Development Team
+ */
+public abstract class StreamingBody {
+  /**
+   * Constant is used to express that the length of the content is not known in advance. In this case executors have
+   * to use chunked transfer encoding.
+   */
+  public static final long UNKNOWN_LENGTH = -1;
+
+  /**
+   * Length of the content in bytes or {@link #UNKNOWN_LENGTH}.
+   */
+  private final long contentLength;
+
+  /**
+   * Method creates a streaming body whose content is read from input streams that are created by the passed supplier.
+   * As a new stream can be created for every attempt such bodies can be sent more than once e.g. in case of retries.
+   *
+   * @param pStreamSupplier Supplier that creates the input stream with the content of the body. Executors are
+   * responsible to close the stream. The parameter must not be null.
+   * @param pContentLength Length of the content in bytes or {@link #UNKNOWN_LENGTH}.
+   * @return {@link StreamingBody} Created body. The method never returns null.
+   */
+  public static StreamingBody fromInputStream( Supplier<? extends InputStream> pStreamSupplier,
+      long pContentLength ) {
+    return new InputStreamBody(pStreamSupplier, pContentLength);
+  }
+
+  /**
+   * Method creates a streaming body whose content is read from the passed channel. As channels can only be read once
+   * such bodies can not be sent more than once.
+   *
+   * @param pChannel Channel from which the content of the body is read. Executors are responsible to close the channel.
+   * The parameter must not be null.
+   * @param pContentLength Length of the content in bytes or {@link #UNKNOWN_LENGTH}.
+   * @return {@link StreamingBody} Created body. The method never returns null.
+   */
+  public static StreamingBody fromChannel( ReadableByteChannel pChannel, long pContentLength ) {
+    return new ChannelBody(pChannel, pContentLength);
+  }
+
+  /**
+   * Method creates a streaming body whose content is read from the passed file. The length of the file is determined
+   * when the body is created.
+   *
+   * @param pFile File containing the content of the body. The parameter must not be null.
+   * @return {@link StreamingBody} Created body. The method never returns null.
+   * @throws UncheckedIOException if the size of the file could not be determined.
+   */
+  public static StreamingBody fromFile( Path pFile ) {
+    try {
+      return new FileBody(pFile, Files.size(pFile));
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Unable to determine size of file " + pFile, e);
+    }
+  }
+
+  /**
+   * Method creates a streaming body whose content is provided by the passed publisher.
+   *
+   * @param pPublisher Publisher providing the content of the body. The parameter must not be null.
+   * @param pContentLength Length of the content in bytes or {@link #UNKNOWN_LENGTH}.
+   * @return {@link StreamingBody} Created body. The method never returns null.
+   */
+  public static StreamingBody fromPublisher( Flow.Publisher<ByteBuffer> pPublisher, long pContentLength ) {
+    return new PublisherBody(pPublisher, pContentLength);
+  }
+
+  /**
+   * Constructor is private to block unexpected subclasses.
+   *
+   * @param pSource Source of the content. The parameter must not be null.
+   * @param pContentLength Length of the content in bytes or {@link #UNKNOWN_LENGTH}.
+   */
+  private StreamingBody( Object pSource, long pContentLength ) {
+    if (pSource == null) {
+      throw new IllegalArgumentException("Source of streaming body must not be null.");
+    }
+    if (pContentLength < UNKNOWN_LENGTH) {
+      throw new IllegalArgumentException("Parameter 'pContentLength' must not be negative.");
+    }
+    contentLength = pContentLength;
+  }
+
+  /**
+   * Method returns the length of the content in bytes.
+   *
+   * @return long Length of the content or {@link #UNKNOWN_LENGTH} if it is not known in advance.
+   */
+  public long getContentLength( ) {
+    return contentLength;
+  }
+
+  /**
+   * Method checks if the length of the content is known in advance.
+   *
+   * @return boolean Method returns true if the length of the content is known and false otherwise.
+   */
+  public boolean isContentLengthKnown( ) {
+    return contentLength != UNKNOWN_LENGTH;
+  }
+
+  /**
+   * Method checks if the body can be sent more than once. This is relevant e.g. for retries of failed requests.
+   *
+   * @return boolean Method returns true if the content can be read more than once.
+   */
+  public abstract boolean isRepeatable( );
+
+  /**
+   * Streaming body whose content is read from an {@link InputStream}.
+   */
+  public static final class InputStreamBody extends StreamingBody {
+    private final Supplier<? extends InputStream> streamSupplier;
+
+    private InputStreamBody( Supplier<? extends InputStream> pStreamSupplier, long pContentLength ) {
+      super(pStreamSupplier, pContentLength);
+      streamSupplier = pStreamSupplier;
+    }
+
+    /**
+     * Method opens a new input stream with the content of the body. Callers are responsible to close the stream.
+     *
+     * @return {@link InputStream} Stream with the content of the body. The method never returns null.
+     */
+    public InputStream openStream( ) {
+      return streamSupplier.get();
+    }
+
+    @Override
+    public boolean isRepeatable( ) {
+      return true;
+    }
+  }
+
+  /**
+   * Streaming body whose content is read from a {@link ReadableByteChannel}.
+   */
+  public static final class ChannelBody extends StreamingBody {
+    private final ReadableByteChannel channel;
+
+    private ChannelBody( ReadableByteChannel pChannel, long pContentLength ) {
+      super(pChannel, pContentLength);
+      channel = pChannel;
+    }
+
+    /**
+     * Method returns the channel from which the content of the body is read.
+     *
+     * @return {@link ReadableByteChannel} Channel with the content of the body. The method never returns null.
+     */
+    public ReadableByteChannel getChannel( ) {
+      return channel;
+    }
+
+    @Override
+    public boolean isRepeatable( ) {
+      return false;
+    }
+  }
+
+  /**
+   * Streaming body whose content is read from a file.
+   */
+  public static final class FileBody extends StreamingBody {
+    /**
+     * Size of the buffer that is used if the content of the file can not be transferred directly.
+     */
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final Path file;
+
+    private FileBody( Path pFile, long pContentLength ) {
+      super(pFile, pContentLength);
+      file = pFile;
+    }
+
+    /**
+     * Method returns the file containing the content of the body.
+     *
+     * @return {@link Path} File with the content of the body. The method never returns null.
+     */
+    public Path getFile( ) {
+      return file;
+    }
+
+    /**
+     * Method transfers the content of the file to the passed channel using {@link FileChannel#transferTo(long, long,
+     * WritableByteChannel)}. Depending on the operating system and the target channel (e.g. a socket) this avoids
+     * copying the content into user space memory. If no bytes could be transferred that way then the method falls back
+     * to reading and writing the content through a buffer.
+     *
+     * @param pTarget Channel to which the content of the file should be written. The channel will not be closed. The
+     * parameter must not be null.
+     * @return long Amount of bytes that were transferred.
+     * @throws EOFException in case that the file was truncated during the transfer.
+     * @throws IOException in case that the file could not be read or the target channel could not be written e.g.
+     * because it is a non blocking channel that does not accept any more data.
+     */
+    public long transferTo( WritableByteChannel pTarget ) throws IOException {
+      try (FileChannel lChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+        long lSize = lChannel.size();
+        long lPosition = 0;
+        while (lPosition < lSize) {
+          long lTransferred = lChannel.transferTo(lPosition, lSize - lPosition, pTarget);
+          if (lTransferred == 0) {
+            lTransferred = this.copy(lChannel, lPosition, pTarget);
+          }
+          lPosition += lTransferred;
+        }
+        return lPosition;
+      }
+    }
+
+    /**
+     * Method copies the next block of the file to the passed channel through a buffer. It is used if
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)} did not make any progress.
+     *
+     * @param pChannel Channel of the file. The parameter must not be null.
+     * @param pPosition Position in the file from which on the content should be copied.
+     * @param pTarget Channel to which the content should be written. The parameter must not be null.
+     * @return long Amount of bytes that were copied. The method always returns a value greater than 0.
+     * @throws IOException in case that the file was truncated or the target channel does not accept any data.
+     */
+    private long copy( FileChannel pChannel, long pPosition, WritableByteChannel pTarget ) throws IOException {
+      ByteBuffer lBuffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+      int lRead = pChannel.read(lBuffer, pPosition);
+      if (lRead <= 0) {
+        throw new EOFException("File " + file + " was truncated to " + pPosition + " bytes during transfer.");
+      }
+      lBuffer.flip();
+      while (lBuffer.hasRemaining()) {
+        if (pTarget.write(lBuffer) == 0) {
+          throw new IOException("Target channel does not accept any data. Transfer of file " + file
+              + " stopped after " + (pPosition + lBuffer.position()) + " bytes.");
+        }
+      }
+      return lRead;
+    }
+
+    @Override
+    public boolean isRepeatable( ) {
+      return true;
+    }
+  }
+
+  /**
+   * Streaming body whose content is provided by a {@link Flow.Publisher}.
+   */
+  public static final class PublisherBody extends StreamingBody {
+    private final Flow.Publisher<ByteBuffer> publisher;
+
+    private PublisherBody( Flow.Publisher<ByteBuffer> pPublisher, long pContentLength ) {
+      super(pPublisher, pContentLength);
+      publisher = pPublisher;
+    }
+
+    /**
+     * Method returns the publisher that provides the content of the body.
+     *
+     * @return {@link Flow.Publisher} Publisher providing the content of the body. The method never returns null.
+     */
+    public Flow.Publisher<ByteBuffer> getPublisher( ) {
+      return publisher;
+    }
+
+    @Override
+    public boolean isRepeatable( ) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api;
+
+import java.net.URLEncoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Class provides URL encoding of resource paths and query parameters using UTF-8. In opposite to {@link URLEncoder}
+ * strings that do not require any encoding are appended as they are and no intermediate byte arrays or strings are
+ * created for the ones that need to be encoded.
+ *
+ * @author JEAF Development Team
+ */
+final class URLEncoding {
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * Characters that do not need to be encoded inside query parameters. The set is the same as the one of
+   * {@link URLEncoder} so that results are identical to <code>URLEncoder.encode(value, UTF_8)</code>.
+   */
+  private static final boolean[] QUERY_SAFE = new boolean[128];
+
+  /**
+   * Characters that do not need to be encoded inside a path. These are all <code>pchar</code> as defined by RFC 3986
+   * plus '/'.
+   */
+  private static final boolean[] PATH_SAFE = new boolean[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      QUERY_SAFE[c] = true;
+      PATH_SAFE[c] = true;
+    }
+    for (char c = 'A'; c <= 'Z'; c++) {
+      QUERY_SAFE[c] = true;
+      PATH_SAFE[c] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      QUERY_SAFE[c] = true;
+      PATH_SAFE[c] = true;
+    }
+    for (char c : "-_.*".toCharArray()) {
+      QUERY_SAFE[c] = true;
+    }
+    for (char c : "-._~!$&'()*+,;=:@/".toCharArray()) {
+      PATH_SAFE[c] = true;
+    }
+  }
+
+  /**
+   * Constructor is private as class only provides static methods.
+   */
+  private URLEncoding( ) {
+  }
+
+  /**
+   * Method appends the passed query parameter name or value in its encoded form to the passed buffer. Spaces are
+   * encoded as '+'.
+   *
+   * @param pValue Value that should be encoded. The parameter must not be null.
+   * @param pBuffer Buffer to which the encoded value will be appended. The parameter must not be null.
+   */
+  static void appendQueryComponent( String pValue, StringBuilder pBuffer ) {
+    int lLength = pValue.length();
+    int lFirstUnsafe = firstUnsafe(pValue, QUERY_SAFE);
+    if (lFirstUnsafe == lLength) {
+      pBuffer.append(pValue);
+    }
+    else {
+      pBuffer.append(pValue, 0, lFirstUnsafe);
+      int i = lFirstUnsafe;
+      while (i < lLength) {
+        char c = pValue.charAt(i);
+        if (c < 128 && QUERY_SAFE[c]) {
+          pBuffer.append(c);
+        }
+        else if (c == ' ') {
+          pBuffer.append('+');
+        }
+        else {
+          i = appendEncoded(pValue, i, pBuffer);
+        }
+        i++;
+      }
+    }
+  }
+
+  /**
+   * Method appends the passed resource path in its encoded form to the passed buffer. Characters that are allowed in a
+   * path as well as already existing escape sequences (e.g. "%20") are kept as they are.
+   *
+   * @param pPath Path that should be encoded. The parameter must not be null.
+   * @param pBuffer Buffer to which the encoded path will be appended. The parameter must not be null.
+   */
+  static void appendPath( String pPath, StringBuilder pBuffer ) {
+    int lLength = pPath.length();
+    int lFirstUnsafe = firstUnsafe(pPath, PATH_SAFE);
+    if (lFirstUnsafe == lLength) {
+      pBuffer.append(pPath);
+    }
+    else {
+      pBuffer.append(pPath, 0, lFirstUnsafe);
+      int i = lFirstUnsafe;
+      while (i < lLength) {
+        char c = pPath.charAt(i);
+        if (c < 128 && PATH_SAFE[c] || c == '%' && isEscapeSequence(pPath, i)) {
+          pBuffer.append(c);
+        }
+        else {
+          i = appendEncoded(pPath, i, pBuffer);
+        }
+        i++;
+      }
+    }
+  }
+
+  /**
+   * Method writes the passed string which must only consist of ASCII characters to the passed byte buffer.
+   *
+   * @param pASCII String that should be written. The parameter must not be null.
+   * @param pTarget Byte buffer to which the string will be written. The parameter must not be null.
+   */
+  static void writeASCII( String pASCII, ByteBuffer pTarget ) {
+    int lLength = pASCII.length();
+    if (pTarget.remaining() >= lLength) {
+      for (int i = 0; i < lLength; i++) {
+        pTarget.put((byte) pASCII.charAt(i));
+      }
+    }
+    else {
+      throw new BufferOverflowException();
+    }
+  }
+
+  private static int firstUnsafe( String pValue, boolean[] pSafeCharacters ) {
+    int lLength = pValue.length();
+    for (int i = 0; i < lLength; i++) {
+      char c = pValue.charAt(i);
+      if (c >= 128 || pSafeCharacters[c] == false) {
+        return i;
+      }
+    }
+    return lLength;
+  }
+
+  private static boolean isEscapeSequence( String pValue, int pPosition ) {
+    return pPosition + 2 < pValue.length() && Character.digit(pValue.charAt(pPosition + 1), 16) >= 0
+        && Character.digit(pValue.charAt(pPosition + 2), 16) >= 0;
+  }
+
+  /**
+   * Method appends the UTF-8 bytes of the character at the passed position as escape sequences.
+   *
+   * @return int Position of the last character that was consumed. This differs from the passed position in case of
+   * surrogate pairs.
+   */
+  private static int appendEncoded( String pValue, int pPosition, StringBuilder pBuffer ) {
+    int lPosition = pPosition;
+    int lCodePoint = pValue.charAt(lPosition);
+    if (Character.isHighSurrogate((char) lCodePoint) && lPosition + 1 < pValue.length()
+        && Character.isLowSurrogate(pValue.charAt(lPosition + 1))) {
+      lCodePoint = Character.toCodePoint((char) lCodePoint, pValue.charAt(lPosition + 1));
+      lPosition++;
+    }
+    else if (Character.isSurrogate((char) lCodePoint)) {
+      // Malformed input is replaced with '?' the same way as String.getBytes(...) does it.
+      lCodePoint = '?';
+    }
+
+    if (lCodePoint < 0x80) {
+      appendByte(lCodePoint, pBuffer);
+    }
+    else if (lCodePoint < 0x800) {
+      appendByte(0xC0 | (lCodePoint >> 6), pBuffer);
+      appendByte(0x80 | (lCodePoint & 0x3F), pBuffer);
+    }
+    else if (lCodePoint < 0x10000) {
+      appendByte(0xE0 | (lCodePoint >> 12), pBuffer);
+      appendByte(0x80 | ((lCodePoint >> 6) & 0x3F), pBuffer);
+      appendByte(0x80 | (lCodePoint & 0x3F), pBuffer);
+    }
+    else {
+      appendByte(0xF0 | (lCodePoint >> 18), pBuffer);
+      appendByte(0x80 | ((lCodePoint >> 12) & 0x3F), pBuffer);
+      appendByte(0x80 | ((lCodePoint >> 6) & 0x3F), pBuffer);
+      appendByte(0x80 | (lCodePoint & 0x3F), pBuffer);
+    }
+    return lPosition;
+  }
+
+  private static void appendByte( int pByte, StringBuilder pBuffer ) {
+    pBuffer.append('%');
+    pBuffer.append(HEX_DIGITS[(pByte >> 4) & 0xF]);
+    pBuffer.append(HEX_DIGITS[pByte & 0xF]);
+  }
+}
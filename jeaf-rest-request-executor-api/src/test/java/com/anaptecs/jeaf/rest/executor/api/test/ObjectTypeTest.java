@@ -1,6 +1,7 @@
 package com.anaptecs.jeaf.rest.executor.api.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.util.List;
 
@@ -39,6 +40,29 @@ public class ObjectTypeTest {
         lTypeReferenceObjectType.getTypeReference().getType().getTypeName());
   }
 
+  @Test
+  void testEquality( ) {
+    assertEquals(ObjectType.createObjectType(String.class), ObjectType.createObjectType(String.class));
+    assertEquals(ObjectType.createObjectType(String.class).hashCode(),
+        ObjectType.createObjectType(String.class).hashCode());
+    assertNotEquals(ObjectType.createObjectType(String.class), ObjectType.createObjectType(Integer.class));
+
+    assertEquals(ObjectType.createGenericsObjectType(Response.class, String.class),
+        ObjectType.createGenericsObjectType(Response.class, String.class));
+    assertNotEquals(ObjectType.createGenericsObjectType(Response.class, String.class),
+        ObjectType.createGenericsObjectType(Response.class, Integer.class));
+
+    ObjectType lType = ObjectType.createTypeReferenceObjectType(new TypeReference<Response<BusinessObject>>() {
+    });
+    ObjectType lSameType = ObjectType.createTypeReferenceObjectType(new TypeReference<Response<BusinessObject>>() {
+    });
+    assertEquals(lType, lSameType);
+    assertEquals(lType.hashCode(), lSameType.hashCode());
+    assertNotEquals(lType, ObjectType.createTypeReferenceObjectType(new TypeReference<Response<String>>() {
+    }));
+    assertNotEquals(lType, ObjectType.createObjectType(Response.class));
+  }
+
 }
 
 class Response<T> {
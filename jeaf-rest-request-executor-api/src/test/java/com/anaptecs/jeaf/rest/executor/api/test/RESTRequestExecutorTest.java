@@ -0,0 +1,286 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.BatchItem;
+import com.anaptecs.jeaf.rest.executor.api.BatchResult;
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+import com.anaptecs.jeaf.rest.executor.api.StreamTermination;
+import org.junit.jupiter.api.Test;
+
+public class RESTRequestExecutorTest {
+  @Test
+  void testStreamResultFallback( ) {
+    List<Object> lRequests = new ArrayList<>();
+    List<String> lResult = new ArrayList<>(List.of("a", "b", "c"));
+    RESTRequestExecutor lExecutor = new RESTRequestExecutor() {
+      @Override
+      public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          ObjectType pObjectType ) {
+        throw new UnsupportedOperationException();
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          @SuppressWarnings("rawtypes")
+          Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+        lRequests.add(pRequest);
+        lRequests.add(pCollectionClass);
+        return pRequest.getPath().equals("/empty") ? null : (T) lResult;
+      }
+    };
+
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/all").build();
+    ObjectType lObjectType = ObjectType.createObjectType(String.class);
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, lObjectType)) {
+      assertEquals("a,b,c", lStream.collect(Collectors.joining(",")));
+    }
+    assertSame(lRequest, lRequests.get(0));
+    assertSame(List.class, lRequests.get(1));
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/empty").build();
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, lObjectType)) {
+      assertEquals(0, lStream.count());
+    }
+  }
+
+  @Test
+  void testAsyncAdapters( ) throws InterruptedException, ExecutionException {
+    IllegalStateException lException = new IllegalStateException("Failed");
+    RESTRequestExecutor lBlocking = new RESTRequestExecutor() {
+      @Override
+      public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+        throw lException;
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          ObjectType pObjectType ) {
+        return (T) (pRequest.getPath() + " on " + Thread.currentThread().getName());
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          @SuppressWarnings("rawtypes")
+          Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+        return (T) List.of(pRequest.getPath());
+      }
+    };
+
+    ExecutorService lThreadPool = Executors.newSingleThreadExecutor(pRunnable -> new Thread(pRunnable, "worker"));
+    try {
+      RESTRequestExecutorAsync lAsync = RESTRequestExecutorAsync.fromBlocking(lBlocking, lThreadPool);
+      RESTRequest lRequest =
+          RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/async").build();
+      ObjectType lObjectType = ObjectType.createObjectType(String.class);
+      CompletableFuture<String> lSingle = lAsync.executeSingleObjectResultRequest(lRequest, 200, lObjectType);
+      CompletableFuture<List<String>> lCollection =
+          lAsync.executeCollectionResultRequest(lRequest, 200, List.class, lObjectType);
+      assertEquals("/async on worker", lSingle.get());
+      assertEquals(List.of("/async"), lCollection.get());
+      try {
+        lAsync.executeNoResultRequest(lRequest, 204).get();
+        fail();
+      }
+      catch (ExecutionException e) {
+        assertSame(lException, e.getCause());
+      }
+
+      // Exceptions are thrown as they are by blocking adapter.
+      RESTRequestExecutor lBlockingAgain = RESTRequestExecutorAsync.toBlocking(lAsync);
+      assertEquals("/async on worker", lBlockingAgain.executeSingleObjectResultRequest(lRequest, 200, lObjectType));
+      assertEquals(List.of("/async"),
+          lBlockingAgain.executeCollectionResultRequest(lRequest, 200, List.class, lObjectType));
+      try {
+        lBlockingAgain.executeNoResultRequest(lRequest, 204);
+        fail();
+      }
+      catch (IllegalStateException e) {
+        assertSame(lException, e);
+      }
+    }
+    finally {
+      lThreadPool.shutdown();
+    }
+  }
+
+  @Test
+  void testBatch( ) {
+    AtomicInteger lRunning = new AtomicInteger();
+    AtomicInteger lMaxRunning = new AtomicInteger();
+    RESTRequestExecutor lBlocking = new RESTRequestExecutor() {
+      @Override
+      public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+        throw new IllegalStateException(pRequest.getPath());
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          ObjectType pObjectType ) {
+        lMaxRunning.accumulateAndGet(lRunning.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(1);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        lRunning.decrementAndGet();
+        return (T) pRequest.getPath();
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+          @SuppressWarnings("rawtypes")
+          Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+        return (T) List.of(pRequest.getPath());
+      }
+    };
+    ObjectType lObjectType = ObjectType.createObjectType(String.class);
+    List<BatchItem<Object>> lItems = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      RESTRequest lRequest =
+          RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/" + i).build();
+      if (i % 10 == 0) {
+        lItems.add(BatchItem.noResult(lRequest, 204));
+      }
+      else if (i % 10 == 1) {
+        lItems.add(BatchItem.collection(lRequest, 200, List.class, lObjectType));
+      }
+      else {
+        lItems.add(BatchItem.singleObject(lRequest, 200, lObjectType));
+      }
+    }
+
+    // Default implementation executes requests sequentially.
+    List<BatchResult<Object>> lResults = lBlocking.executeBatch(lItems, 10);
+    this.checkBatchResults(lItems, lResults);
+    assertEquals(1, lMaxRunning.get());
+
+    ExecutorService lThreadPool = Executors.newFixedThreadPool(8);
+    try {
+      RESTRequestExecutorAsync lAsync = RESTRequestExecutorAsync.fromBlocking(lBlocking, lThreadPool);
+      lResults = lAsync.executeBatch(lItems, 3).join();
+      this.checkBatchResults(lItems, lResults);
+      assertTrue(lMaxRunning.get() <= 3, "Max running: " + lMaxRunning.get());
+      assertTrue(lAsync.<Object> executeBatch(List.of(), 3).join().isEmpty());
+
+      // Requests that complete immediately must not cause deep recursion.
+      List<BatchItem<Object>> lManyItems = new ArrayList<>();
+      for (int i = 0; i < 50000; i++) {
+        lManyItems.add(lItems.get(1));
+      }
+      RESTRequestExecutorAsync lDirect = RESTRequestExecutorAsync.fromBlocking(lBlocking, Runnable::run);
+      assertEquals(50000, lDirect.executeBatch(lManyItems, 4).join().size());
+
+      try {
+        lAsync.executeBatch(lItems, 0);
+        fail();
+      }
+      catch (IllegalArgumentException e) {
+        assertEquals("Parameter 'pMaxParallelism' must be greater than 0.", e.getMessage());
+      }
+    }
+    finally {
+      lThreadPool.shutdown();
+    }
+  }
+
+  private void checkBatchResults( List<BatchItem<Object>> pItems, List<BatchResult<Object>> pResults ) {
+    assertEquals(pItems.size(), pResults.size());
+    for (int i = 0; i < pItems.size(); i++) {
+      BatchResult<Object> lResult = pResults.get(i);
+      assertSame(pItems.get(i), lResult.getItem());
+      if (i % 10 == 0) {
+        assertFalse(lResult.isSuccessful());
+        assertEquals("/" + i, lResult.getFailure().getMessage());
+        assertNull(lResult.getResult());
+      }
+      else if (i % 10 == 1) {
+        assertTrue(lResult.isSuccessful());
+        assertEquals(List.of("/" + i), lResult.getResult());
+      }
+      else {
+        assertEquals("/" + i, lResult.getResult());
+        assertNull(lResult.getFailure());
+      }
+    }
+  }
+
+  @Test
+  void testStreamTermination( ) {
+    List<String> lCalls = new ArrayList<>();
+    StreamTermination.Callback lCallback = pError -> lCalls.add(pError != null ? pError.getMessage() : "ok");
+
+    // Callback is called once all elements were read or when the stream is closed.
+    try (Stream<String> lStream = StreamTermination.observe(Stream.of("a", "b").onClose(( ) -> lCalls.add("closed")),
+        true, lCallback)) {
+      assertEquals(2, lStream.count());
+      assertEquals(List.of("ok"), lCalls);
+    }
+    assertEquals(List.of("ok", "closed"), lCalls);
+    lCalls.clear();
+    try (Stream<String> lStream = StreamTermination.observe(Stream.of("a", "b"), false, lCallback)) {
+      assertEquals(List.of("a", "b"), lStream.collect(Collectors.toList()));
+      assertEquals(List.of(), lCalls);
+    }
+    assertEquals(List.of("ok"), lCalls);
+    lCalls.clear();
+    try (Stream<String> lStream = StreamTermination.observe(Stream.of("a", "b"), true, lCallback)) {
+      assertEquals("a", lStream.findFirst().get());
+      assertEquals(List.of(), lCalls);
+    }
+    assertEquals(List.of("ok"), lCalls);
+
+    // Failures are reported as soon as they occur.
+    lCalls.clear();
+    try (Stream<String> lStream = StreamTermination.observe(Stream.of("a", "b").map(pElement -> {
+      if (pElement.equals("b")) {
+        throw new IllegalStateException("Failed");
+      }
+      return pElement;
+    }), false, lCallback)) {
+      lStream.forEach(pElement -> lCalls.add(pElement));
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals(List.of("a", "Failed"), lCalls);
+    }
+    assertEquals(List.of("a", "Failed"), lCalls);
+  }
+}
@@ -6,21 +6,32 @@
 package com.anaptecs.jeaf.rest.executor.api.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.net.URLEncoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
 import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.PrimitiveValueList;
 import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
 import com.anaptecs.jeaf.rest.executor.api.RESTRequest.Builder;
 import org.junit.jupiter.api.Test;
@@ -959,6 +970,538 @@ public class RESTRequestTest {
     }
   }
 
+  @Test
+  void testBuilderReuse( ) {
+    Builder lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    lBuilder.setHeader("Header1", "A");
+    lBuilder.setQueryParameter("query1", "Hello");
+    lBuilder.addQueryParam("query2", "World");
+    lBuilder.setCookie("cookie1", "C");
+    RESTRequest lFirst = lBuilder.build();
+
+    // Changes to the builder must not be visible in requests that were already built.
+    lBuilder.setHeader("Header1", "B");
+    lBuilder.setHeader("Header2", "X");
+    lBuilder.setQueryParameter("query1", "Bye");
+    lBuilder.addQueryParam("query2", "!");
+    lBuilder.setCookie("cookie2", "D");
+    RESTRequest lSecond = lBuilder.build();
+
+    assertEquals(1, lFirst.getHeaderFields().size());
+    assertEquals(List.of("A"), lFirst.getHeaderFields().get("Header1"));
+    assertEquals(List.of("Hello"), lFirst.getQueryParameters().get("query1"));
+    assertEquals(List.of("World"), lFirst.getQueryParameters().get("query2"));
+    assertEquals(1, lFirst.getCookies().size());
+
+    assertEquals(2, lSecond.getHeaderFields().size());
+    assertEquals(List.of("B"), lSecond.getHeaderFields().get("Header1"));
+    assertEquals(List.of("Bye"), lSecond.getQueryParameters().get("query1"));
+    assertEquals(List.of("World", "!"), lSecond.getQueryParameters().get("query2"));
+    assertEquals(2, lSecond.getCookies().size());
+
+    // Returned maps must not be modifiable.
+    try {
+      lSecond.getHeaderFields().put("Header3", List.of("Y"));
+      fail();
+    }
+    catch (UnsupportedOperationException e) {
+      assertEquals(2, lSecond.getHeaderFields().size());
+    }
+  }
+
+  @Test
+  void testReusableBuilder( ) throws InterruptedException {
+    Builder lBuilder = RESTRequest.reusableBuilder(String.class, HttpMethod.GET, ContentType.JSON);
+    RESTRequest lFirst = lBuilder.setPath("/products").setHeader("Header1", "A").setQueryParameter("query1", "Hello")
+        .setCookie("cookie1", "C").setFingerprintExcludedHeaders("Header2").setBody("Body").build();
+
+    // Builder is reused and reset. Requests that were already built are not affected.
+    Builder lReused = RESTRequest.reusableBuilder(Integer.class, HttpMethod.POST, ContentType.XML);
+    assertSame(lBuilder, lReused);
+    RESTRequest lSecond = lReused.setHeader("Header2", "B").build();
+    assertEquals(Integer.class, lSecond.getServiceClass());
+    assertEquals(HttpMethod.POST, lSecond.getHttpMethod());
+    assertEquals(ContentType.XML, lSecond.getContentType());
+    assertEquals("/", lSecond.getPath());
+    assertEquals(Map.of("Header2", List.of("B")), lSecond.getHeaderFields());
+    assertTrue(lSecond.getQueryParameters().isEmpty());
+    assertTrue(lSecond.getCookies().isEmpty());
+    assertEquals(null, lSecond.getBody());
+    assertEquals(RESTRequest.DEFAULT_FINGERPRINT_EXCLUDED_HEADERS, lSecond.getFingerprintExcludedHeaders());
+
+    assertEquals(String.class, lFirst.getServiceClass());
+    assertEquals("/products", lFirst.getPath());
+    assertEquals(Map.of("Header1", List.of("A")), lFirst.getHeaderFields());
+    assertEquals(List.of("Hello"), lFirst.getQueryParameters().get("query1"));
+    assertEquals("C", lFirst.getCookies().get("cookie1"));
+    assertEquals("Body", lFirst.getBody());
+    assertEquals(Set.of("header2"), lFirst.getFingerprintExcludedHeaders());
+
+    // Overwriting values of the reused builder must not change requests either.
+    lReused = RESTRequest.reusableBuilder(String.class, HttpMethod.GET, ContentType.JSON);
+    lReused.setHeader("Header1", "X").setHeader("Header2", "Y").setQueryParameter("query1", "Bye").build();
+    assertEquals(Map.of("Header1", List.of("A")), lFirst.getHeaderFields());
+    assertEquals(Map.of("Header2", List.of("B")), lSecond.getHeaderFields());
+    assertEquals("/products?query1=Hello", lFirst.getEncodedPathAndQuery());
+
+    // Every thread has its own builder.
+    Builder[] lOtherBuilder = new Builder[1];
+    Thread lThread = new Thread(( ) -> lOtherBuilder[0] =
+        RESTRequest.reusableBuilder(String.class, HttpMethod.GET, ContentType.JSON));
+    lThread.start();
+    lThread.join();
+    assertNotNull(lOtherBuilder[0]);
+    assertNotSame(lBuilder, lOtherBuilder[0]);
+
+    // Ordinary builders can be reset too.
+    Builder lOrdinary = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setHeader("Header1", "A");
+    RESTRequest lBuilt = lOrdinary.build();
+    RESTRequest lAfterReset = lOrdinary.reset(Long.class, HttpMethod.PUT, ContentType.JSON).setCookie("c", "1").build();
+    assertEquals(Map.of("Header1", List.of("A")), lBuilt.getHeaderFields());
+    assertTrue(lAfterReset.getHeaderFields().isEmpty());
+    assertEquals(Map.of("c", "1"), lAfterReset.getCookies());
+    try {
+      lOrdinary.reset(null, HttpMethod.GET, ContentType.JSON);
+      fail("Null must not be accepted.");
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameters 'pServiceClass', 'pHttpMethod' and 'pContentType' must not be null.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testToBuilder( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.PUT, ContentType.JSON).setPath("/products/4711")
+        .setHeader("Header1", "A").setQueryParameter("query1", "Hello").setCookie("cookie1", "C").setBody("Body")
+        .build();
+    RESTRequest lCopy = lRequest.toBuilder().setHeader("If-None-Match", "\"1\"").setQueryParameter("query1", "Bye")
+        .build();
+
+    assertEquals(String.class, lCopy.getServiceClass());
+    assertEquals(HttpMethod.PUT, lCopy.getHttpMethod());
+    assertEquals(ContentType.JSON, lCopy.getContentType());
+    assertEquals("/products/4711", lCopy.getPath());
+    assertEquals("Body", lCopy.getBody());
+    assertEquals(List.of("A"), lCopy.getHeaderFields().get("Header1"));
+    assertEquals(List.of("\"1\""), lCopy.getHeaderFields().get("If-None-Match"));
+    assertEquals(List.of("Bye"), lCopy.getQueryParameters().get("query1"));
+    assertEquals("C", lCopy.getCookies().get("cookie1"));
+
+    // Original request must not be affected.
+    assertEquals(1, lRequest.getHeaderFields().size());
+    assertEquals(List.of("Hello"), lRequest.getQueryParameters().get("query1"));
+    assertEquals("/products/4711?query1=Hello", lRequest.getEncodedPathAndQuery());
+  }
+
+  @Test
+  void testFingerprint( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .setQueryParameter("q", "a b").setQueryParameter("size", 10).setHeader("Accept-Language", "de")
+        .setHeader("traceparent", "1").setCookie("session", "4711").build();
+    RESTRequest lSame = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .setCookie("session", "4711").setHeader("X-Request-ID", "2").setHeader("accept-language", "de")
+        .setQueryParameter("size", "10").setQueryParameter("q", "a b").build();
+    assertEquals(lRequest.getFingerprint(), lSame.getFingerprint());
+    assertEquals("GET java.lang.String JSON %2Fproducts?q=a+b&size=10 accept-language=de cookie:session=4711",
+        lRequest.getCanonicalKey());
+    assertEquals(lRequest.getCanonicalKey(), lSame.getCanonicalKey());
+    assertSame(lRequest.getCanonicalKey(), lRequest.getCanonicalKey());
+    assertEquals(lRequest, lSame);
+    assertEquals(lRequest.hashCode(), lSame.hashCode());
+    assertEquals(RESTRequest.DEFAULT_FINGERPRINT_EXCLUDED_HEADERS, lRequest.getFingerprintExcludedHeaders());
+
+    // Every relevant part of the request changes the fingerprint.
+    List<RESTRequest> lOthers = List.of(lRequest.toBuilder().setPath("/products/").build(),
+        lRequest.toBuilder().setQueryParameter("q", "a", "b").build(),
+        lRequest.toBuilder().setQueryParameter("size", 11).build(),
+        lRequest.toBuilder().setHeader("Accept-Language", "en").build(),
+        lRequest.toBuilder().setHeader("Accept", "text/plain").build(),
+        lRequest.toBuilder().setCookie("session", "4712").build(),
+        lRequest.toBuilder().setBody("Body").build(),
+        RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("/products").build(),
+        RESTRequest.builder(String.class, HttpMethod.DELETE, ContentType.JSON).setPath("/products").build());
+    for (RESTRequest lOther : lOthers) {
+      assertNotEquals(lRequest, lOther);
+    }
+    for (int i = 0; i < lOthers.size() - 3; i++) {
+      assertNotEquals(lRequest.getFingerprint(), lOthers.get(i).getFingerprint());
+    }
+    // Body is not part of the fingerprint but of equality.
+    assertEquals(lRequest.getFingerprint(), lOthers.get(6).getFingerprint());
+
+    // Primitive values are hashed without formatting them but result in the same fingerprint as their strings.
+    RESTRequest lPrimitives = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setQueryParameter("l", -4711L, Long.MIN_VALUE, 0L, Long.MAX_VALUE).setQueryParameter("b", true, false)
+        .setQueryParameter("c", 'x').setQueryParameter("d", 1.5).setHeader("X-Size", (byte) -1, 10, 999).build();
+    RESTRequest lStrings = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setHeader("x-size", "-1", "10", "999").setQueryParameter("d", "1.5").setQueryParameter("c", "x")
+        .setQueryParameter("b", "true", "false")
+        .setQueryParameter("l", "-4711", String.valueOf(Long.MIN_VALUE), "0", String.valueOf(Long.MAX_VALUE)).build();
+    assertEquals(lStrings.getFingerprint(), lPrimitives.getFingerprint());
+    assertEquals(lStrings.getCanonicalKey(), lPrimitives.getCanonicalKey());
+    assertEquals(lStrings, lPrimitives);
+    assertNotEquals(lPrimitives.getFingerprint(),
+        lPrimitives.toBuilder().setQueryParameter("l", -4711L, Long.MIN_VALUE, 1L, Long.MAX_VALUE).build()
+            .getFingerprint());
+
+    // Names and values must not be mixed up.
+    RESTRequest lFirst = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setQueryParameter("ab", "c").build();
+    RESTRequest lSecond = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setQueryParameter("a", "bc").build();
+    assertNotEquals(lFirst.getFingerprint(), lSecond.getFingerprint());
+    assertNotEquals(lFirst, lSecond);
+
+    // Excluded headers can be configured and are taken over by templates and copies.
+    RESTRequest.Template lTemplate = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setPath("/products/{id}").setFingerprintExcludedHeaders("X-Tenant").buildTemplate();
+    RESTRequest lTenant1 = lTemplate.builder(1).setHeader("x-tenant", "A").setHeader("traceparent", "1").build();
+    RESTRequest lTenant2 = lTenant1.toBuilder().setHeader("x-tenant", "B").build();
+    assertEquals(Set.of("x-tenant"), lTenant2.getFingerprintExcludedHeaders());
+    assertEquals(lTenant1.getFingerprint(), lTenant2.getFingerprint());
+    assertEquals(lTenant1, lTenant2);
+    assertNotEquals(lTenant1, lTenant1.toBuilder().setHeader("traceparent", "2").build());
+    assertEquals("GET java.lang.String JSON %2Fproducts%2F1 traceparent=1", lTenant1.getCanonicalKey());
+    try {
+      lTemplate.builder(1).setFingerprintExcludedHeaders((String[]) null);
+      fail("Null must not be accepted.");
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pHeaderNames' must not be null.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testCaseInsensitiveHeaders( ) {
+    Builder lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    lBuilder.setHeader("content-type", "text/plain").setHeader("X-Custom", "A").setHeader("Content-Type", "text/xml");
+    lBuilder.setHeader("x-custom", "B");
+    RESTRequest lRequest = lBuilder.build();
+
+    // Names are case-insensitive and the first spelling is kept.
+    assertEquals(2, lRequest.getHeaderFields().size());
+    assertEquals(Set.of("content-type", "X-Custom"), lRequest.getHeaderFields().keySet());
+    assertEquals("text/xml", lRequest.getHeader(HeaderNames.CONTENT_TYPE));
+    assertEquals("text/xml", lRequest.getHeader("CONTENT-TYPE"));
+    assertEquals("B", lRequest.getHeader("x-CUSTOM"));
+    assertEquals(List.of("B"), lRequest.getHeaderFields().get("X-CUSTOM"));
+    assertTrue(lRequest.getHeaderFields().containsKey("Content-type"));
+    assertNull(lRequest.getHeader("X-Other"));
+    assertNull(lRequest.getHeader(null));
+
+    // Well-known names share the same instance.
+    String lName = new String("authorization");
+    RESTRequest lAuthorized = lRequest.toBuilder().setHeader(lName, "Bearer 4711").setHeader("Empty", List.of())
+        .setHeader("Number", 42).build();
+    String lStoredName = null;
+    for (String lHeaderName : lAuthorized.getHeaderFields().keySet()) {
+      if (lHeaderName.equals("authorization")) {
+        lStoredName = lHeaderName;
+      }
+    }
+    assertNotSame(lName, lStoredName);
+    assertSame(HeaderNames.CONTENT_TYPE, RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setHeader(new String("Content-Type"), "a").build().getHeaderFields().keySet().iterator().next());
+    assertEquals("Bearer 4711", lAuthorized.getHeader(HeaderNames.AUTHORIZATION));
+    assertNull(lAuthorized.getHeader("empty"));
+    assertEquals("42", lAuthorized.getHeader("number"));
+    assertSame(lAuthorized.getHeader("number"), lAuthorized.getHeader("NUMBER"));
+
+    // Larger maps use a hash index which must be case-insensitive as well.
+    lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    for (int i = 0; i < 20; i++) {
+      lBuilder.setHeader("Header-" + i, i);
+    }
+    lBuilder.setHeader("HEADER-7", "overwritten");
+    lRequest = lBuilder.build();
+    assertEquals(20, lRequest.getHeaderFields().size());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(i == 7 ? "overwritten" : String.valueOf(i), lRequest.getHeader("header-" + i));
+    }
+
+    // Query parameters and cookies are still case-sensitive.
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setQueryParameter("q", "a")
+        .setQueryParameter("Q", "b").setCookie("c", "1").setCookie("C", "2").build();
+    assertEquals(2, lRequest.getQueryParameters().size());
+    assertEquals(2, lRequest.getCookies().size());
+  }
+
+  @Test
+  void testWithHeader( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/items")
+        .setQueryParameter("q", "a").setHeader("Accept-Language", "de").build();
+    String lEncoded = lRequest.getEncodedPathAndQuery();
+
+    // Headers that are excluded from the fingerprint keep fingerprint and canonical key.
+    RESTRequest lTraced = lRequest.withHeader("Traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", lTraced.getHeader(HeaderNames.TRACEPARENT));
+    assertNull(lRequest.getHeader(HeaderNames.TRACEPARENT));
+    assertEquals("de", lTraced.getHeader("accept-language"));
+    assertEquals(lRequest.getFingerprint(), lTraced.getFingerprint());
+    assertEquals(lRequest.getCanonicalKey(), lTraced.getCanonicalKey());
+    assertSame(lEncoded, lTraced.getEncodedPathAndQuery());
+    assertEquals("/items", lTraced.getPathTemplate());
+
+    // Existing headers are replaced and other headers change the fingerprint.
+    RESTRequest lReplaced = lTraced.withHeader(HeaderNames.TRACEPARENT, "other");
+    assertEquals("other", lReplaced.getHeader(HeaderNames.TRACEPARENT));
+    assertEquals(2, lReplaced.getHeaderFields().size());
+    RESTRequest lFrench = lReplaced.withHeader("accept-language", "fr");
+    assertEquals("fr", lFrench.getHeader(HeaderNames.ACCEPT_LANGUAGE));
+    assertNotEquals(lRequest.getFingerprint(), lFrench.getFingerprint());
+    assertEquals(lRequest.toBuilder().setHeader("Accept-Language", "fr").build().getFingerprint(),
+        lFrench.getFingerprint());
+    assertNull(lFrench.withHeader("accept-language", null).getHeader("accept-language"));
+    try {
+      lRequest.withHeader(null, "value");
+      fail("Null must not be accepted.");
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pHeaderName' must not be null.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testIdempotent( ) {
+    assertTrue(HttpMethod.GET.isSafe());
+    assertTrue(HttpMethod.HEAD.isSafe());
+    assertFalse(HttpMethod.PUT.isSafe());
+    assertTrue(HttpMethod.PUT.isIdempotent());
+    assertTrue(HttpMethod.DELETE.isIdempotent());
+    assertFalse(HttpMethod.POST.isIdempotent());
+    assertFalse(HttpMethod.PATCH.isIdempotent());
+
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/orders").build();
+    assertFalse(lPost.isIdempotent());
+    assertTrue(lPost.withHeader("idempotency-key", "4711").isIdempotent());
+    assertTrue(lPost.toBuilder().setHeader(HeaderNames.IDEMPOTENCY_KEY, "4711").build().isIdempotent());
+    assertTrue(RESTRequest.builder(String.class, HttpMethod.DELETE, ContentType.JSON).setPath("/orders/1").build()
+        .isIdempotent());
+  }
+
+  @Test
+  void testManyParameters( ) {
+    Builder lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    for (int i = 0; i < 50; i++) {
+      lBuilder.setHeader("Header-" + i, i);
+      lBuilder.setQueryParameter("q" + i, i);
+    }
+    lBuilder.setHeader("Header-7", "overwritten");
+    RESTRequest lRequest = lBuilder.build();
+
+    Map<String, List<String>> lHeaders = lRequest.getHeaderFields();
+    Map<String, List<String>> lQueryParameters = lRequest.getQueryParameters();
+    assertEquals(50, lHeaders.size());
+    assertEquals(50, lQueryParameters.size());
+    for (int i = 0; i < 50; i++) {
+      if (i != 7) {
+        assertEquals(String.valueOf(i), lHeaders.get("Header-" + i).get(0));
+      }
+      assertEquals(String.valueOf(i), lQueryParameters.get("q" + i).get(0));
+    }
+    assertEquals("overwritten", lHeaders.get("Header-7").get(0));
+    assertFalse(lHeaders.containsKey("Header-50"));
+    assertEquals(null, lQueryParameters.get("q50"));
+
+    // Iteration order is the order in which parameters were added.
+    int lPosition = 0;
+    for (String lNext : lQueryParameters.keySet()) {
+      assertEquals("q" + lPosition, lNext);
+      lPosition++;
+    }
+    assertEquals(lQueryParameters, new HashMap<>(lQueryParameters));
+  }
+
+  @Deprecated
+  @Test
+  void testLegacyViews( ) {
+    Builder lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    lBuilder.setHeader("Accept-Language", "de", "en");
+    lBuilder.setHeader("X-Empty", (String) null);
+    lBuilder.setHeader("X-Single", "single");
+    lBuilder.setQueryParameter("query1", "Hello", "World", "Hello");
+    RESTRequest lRequest = lBuilder.build();
+
+    Map<String, String> lHeaders = lRequest.getHeaders();
+    assertEquals(3, lHeaders.size());
+    assertEquals("de, en", lHeaders.get("Accept-Language"));
+    assertEquals(null, lHeaders.get("X-Empty"));
+    assertTrue(lHeaders.containsKey("X-Empty"));
+    assertEquals("single", lHeaders.get("X-Single"));
+
+    Map<String, Set<String>> lQueryParams = lRequest.getQueryParams();
+    assertEquals(Set.of("Hello", "World"), lQueryParams.get("query1"));
+
+    // Views are only created once per request.
+    assertSame(lHeaders, lRequest.getHeaders());
+    assertSame(lQueryParams, lRequest.getQueryParams());
+  }
+
+  @Test
+  void testEncodedPathAndQuery( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).build();
+    assertEquals("/", lRequest.getEncodedPathAndQuery());
+
+    Builder lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    lBuilder.setPath("/products/4711/sub path/a%2Fb/100%");
+    lBuilder.setQueryParameter("filter", "a b", "x&y=z");
+    lBuilder.setQueryParameter("size", 10);
+    lBuilder.setQueryParameter("name", "Grüße \uD83D\uDE00~*");
+    lRequest = lBuilder.build();
+
+    String lExpected = "/products/4711/sub%20path/a%2Fb/100%25?filter=a+b&filter=x%26y%3Dz&size=10&name="
+        + URLEncoder.encode("Grüße \uD83D\uDE00~*", StandardCharsets.UTF_8);
+    assertEquals("name=Gr%C3%BC%C3%9Fe+%F0%9F%98%80%7E*", lExpected.substring(lExpected.indexOf("name=")));
+    assertEquals(lExpected, lRequest.getEncodedPathAndQuery());
+    assertSame(lRequest.getEncodedPathAndQuery(), lRequest.getEncodedPathAndQuery());
+
+    StringBuilder lBuffer = new StringBuilder("http://localhost:8080");
+    assertSame(lBuffer, lRequest.appendEncodedPathAndQuery(lBuffer));
+    assertEquals("http://localhost:8080" + lExpected, lBuffer.toString());
+
+    // Encoded form must also be available directly from a fresh request.
+    lBuffer = new StringBuilder();
+    lBuilder.build().appendEncodedPathAndQuery(lBuffer);
+    assertEquals(lExpected, lBuffer.toString());
+
+    ByteBuffer lBytes = ByteBuffer.allocate(256);
+    lRequest.writeEncodedPathAndQuery(lBytes);
+    assertEquals(lExpected, new String(lBytes.array(), 0, lBytes.position(), StandardCharsets.US_ASCII));
+
+    lBytes = ByteBuffer.allocate(10);
+    try {
+      lRequest.writeEncodedPathAndQuery(lBytes);
+      fail();
+    }
+    catch (BufferOverflowException e) {
+      assertEquals(0, lBytes.position());
+    }
+  }
+
+  @Test
+  void testTemplate( ) {
+    RESTRequest.Template lTemplate = RESTRequest.builder(Integer.class, HttpMethod.PUT, ContentType.JSON)
+        .setPath("/products/{id}/variants/{variant}").setHeader("Accept-Language", "de")
+        .setQueryParameter("api-version", 2).setCookie("session", "4711").buildTemplate();
+    assertEquals(Integer.class, lTemplate.getServiceClass());
+    assertEquals(HttpMethod.PUT, lTemplate.getHttpMethod());
+    assertEquals(ContentType.JSON, lTemplate.getContentType());
+    assertEquals("/products/{id}/variants/{variant}", lTemplate.getPathPattern());
+    assertEquals(List.of("id", "variant"), lTemplate.getPlaceholderNames());
+
+    RESTRequest lRequest = lTemplate.builder(4711, "blue").setHeader("X-Trace", "abc").setBody("Body").build();
+    assertEquals(Integer.class, lRequest.getServiceClass());
+    assertEquals(HttpMethod.PUT, lRequest.getHttpMethod());
+    assertEquals(ContentType.JSON, lRequest.getContentType());
+    assertEquals("/products/4711/variants/blue", lRequest.getPath());
+    assertEquals("/products/{id}/variants/{variant}", lRequest.getPathTemplate());
+    assertEquals("/products/{id}/variants/{variant}", lRequest.toBuilder().build().getPathTemplate());
+    assertEquals("/other", lRequest.toBuilder().setPath("/other").build().getPathTemplate());
+    assertEquals(2, lRequest.getHeaderFields().size());
+    assertEquals(List.of("de"), lRequest.getHeaderFields().get("Accept-Language"));
+    assertEquals(List.of("abc"), lRequest.getHeaderFields().get("X-Trace"));
+    assertEquals(List.of("2"), lRequest.getQueryParameters().get("api-version"));
+    assertEquals("4711", lRequest.getCookies().get("session"));
+    assertEquals("Body", lRequest.getBody());
+
+    // Changes of one request must neither affect the template nor other requests.
+    lRequest = lTemplate.request(1, 2);
+    assertEquals("/products/1/variants/2", lRequest.getPath());
+    assertEquals(1, lRequest.getHeaderFields().size());
+    assertEquals(null, lRequest.getBody());
+
+    // Templates without or with only one placeholder
+    lTemplate = RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .buildTemplate();
+    assertEquals("/products", lTemplate.request().getPath());
+    assertEquals(0, lTemplate.getPlaceholderNames().size());
+    lTemplate = RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("{id}").buildTemplate();
+    assertEquals("4711", lTemplate.request("4711").getPath());
+
+    // Test error handling
+    try {
+      lTemplate.request("1", "2");
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Path pattern '{id}' requires 1 path parameters but 2 were passed.", e.getMessage());
+    }
+    try {
+      lTemplate.request((Object) null);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Value for path parameter 'id' must not be null.", e.getMessage());
+    }
+    try {
+      RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).setPath("/products/{}").buildTemplate();
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Path pattern '/products/{}' contains an invalid placeholder.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testPrimitiveValues( ) {
+    long[] lIDs = new long[] { 4711, -12, Long.MAX_VALUE, Long.MIN_VALUE, 0 };
+    Builder lBuilder = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON);
+    lBuilder.setQueryParameter("id", lIDs);
+    lBuilder.setQueryParameter("page", 3);
+    lBuilder.setQueryParameter("ratio", 0.5, -1.25E-10);
+    lBuilder.setQueryParameter("flag", true);
+    lBuilder.setQueryParameter("char", '&');
+    lBuilder.setHeader("X-Count", (short) -17, (short) 42);
+    RESTRequest lRequest = lBuilder.build();
+
+    // Changes to the passed array must not affect the request.
+    lIDs[0] = 1;
+
+    List<String> lValues = lRequest.getQueryParameters().get("id");
+    assertTrue(lValues instanceof PrimitiveValueList);
+    assertEquals(List.of("4711", "-12", "9223372036854775807", "-9223372036854775808", "0"), lValues);
+    assertSame(lValues.get(0), lValues.get(0));
+
+    PrimitiveValueList lPrimitives = (PrimitiveValueList) lValues;
+    StringBuilder lBuffer = new StringBuilder();
+    lPrimitives.appendTo(1, lBuffer);
+    assertEquals("-12", lBuffer.toString());
+
+    ByteBuffer lBytes = ByteBuffer.allocate(100);
+    for (int i = 0; i < lPrimitives.size(); i++) {
+      lPrimitives.writeTo(i, lBytes);
+      lBytes.put((byte) ' ');
+    }
+    assertEquals("4711 -12 9223372036854775807 -9223372036854775808 0 ",
+        new String(lBytes.array(), 0, lBytes.position(), StandardCharsets.US_ASCII));
+
+    lBytes = ByteBuffer.allocate(2);
+    try {
+      lPrimitives.writeTo(0, lBytes);
+      fail();
+    }
+    catch (BufferOverflowException e) {
+      assertEquals(0, lBytes.position());
+    }
+
+    PrimitiveValueList lDoubles = (PrimitiveValueList) lRequest.getQueryParameters().get("ratio");
+    lBytes = ByteBuffer.allocate(100);
+    lDoubles.writeTo(1, lBytes);
+    assertEquals("-1.25E-10", new String(lBytes.array(), 0, lBytes.position(), StandardCharsets.US_ASCII));
+
+    assertEquals(List.of("-17", "42"), lRequest.getHeaderFields().get("X-Count"));
+    assertEquals("/?id=4711&id=-12&id=9223372036854775807&id=-9223372036854775808&id=0&page=3&ratio=0.5"
+        + "&ratio=-1.25E-10&flag=true&char=%26", lRequest.getEncodedPathAndQuery());
+
+    try {
+      lValues.add("Hello");
+      fail();
+    }
+    catch (UnsupportedOperationException e) {
+      assertEquals(5, lValues.size());
+    }
+  }
+
   @Test
   void testContentType( ) {
     assertEquals("application/json", ContentType.JSON.getMimeType());
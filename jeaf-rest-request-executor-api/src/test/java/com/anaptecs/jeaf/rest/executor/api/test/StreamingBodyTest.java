@@ -0,0 +1,152 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.api.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.SubmissionPublisher;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.StreamingBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StreamingBodyTest {
+  @Test
+  void testInputStreamBody( ) throws IOException {
+    byte[] lContent = "Hello World!".getBytes();
+    StreamingBody lBody = StreamingBody.fromInputStream(( ) -> new ByteArrayInputStream(lContent), lContent.length);
+    assertEquals(12, lBody.getContentLength());
+    assertTrue(lBody.isContentLengthKnown());
+    assertTrue(lBody.isRepeatable());
+
+    RESTRequest lRequest =
+        RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setBody(lBody).build();
+    assertTrue(lRequest.hasStreamingBody());
+    assertSame(lBody, lRequest.getStreamingBody());
+    assertSame(lBody, lRequest.getBody());
+    assertTrue(lRequest.isRepeatable());
+
+    // Every call creates a new stream.
+    StreamingBody.InputStreamBody lStreamBody = (StreamingBody.InputStreamBody) lRequest.getStreamingBody();
+    for (int i = 0; i < 2; i++) {
+      try (InputStream lStream = lStreamBody.openStream()) {
+        assertArrayEquals(lContent, lStream.readAllBytes());
+      }
+    }
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setBody("Hello").build();
+    assertFalse(lRequest.hasStreamingBody());
+    assertNull(lRequest.getStreamingBody());
+  }
+
+  @Test
+  void testFileBody( @TempDir Path pDirectory ) throws IOException {
+    byte[] lContent = new byte[100000];
+    for (int i = 0; i < lContent.length; i++) {
+      lContent[i] = (byte) i;
+    }
+    Path lFile = pDirectory.resolve("export.bin");
+    Files.write(lFile, lContent);
+
+    StreamingBody.FileBody lBody = (StreamingBody.FileBody) StreamingBody.fromFile(lFile);
+    assertEquals(lContent.length, lBody.getContentLength());
+    assertEquals(lFile, lBody.getFile());
+    assertTrue(lBody.isRepeatable());
+
+    ByteArrayOutputStream lTarget = new ByteArrayOutputStream();
+    assertEquals(lContent.length, lBody.transferTo(Channels.newChannel(lTarget)));
+    assertArrayEquals(lContent, lTarget.toByteArray());
+
+    // Target that does not accept any data must not block the transfer forever.
+    WritableByteChannel lFullTarget = new WritableByteChannel() {
+      @Override
+      public int write( ByteBuffer pSource ) {
+        return 0;
+      }
+
+      @Override
+      public boolean isOpen( ) {
+        return true;
+      }
+
+      @Override
+      public void close( ) {
+      }
+    };
+    try {
+      lBody.transferTo(lFullTarget);
+      fail();
+    }
+    catch (IOException e) {
+      assertTrue(e.getMessage().startsWith("Target channel does not accept any data."), e.getMessage());
+    }
+
+    try {
+      StreamingBody.fromFile(pDirectory.resolve("unknown.bin"));
+      fail();
+    }
+    catch (UncheckedIOException e) {
+      assertTrue(e.getMessage().startsWith("Unable to determine size of file"));
+    }
+  }
+
+  @Test
+  void testChannelAndPublisherBody( ) {
+    ReadableByteChannel lChannel = Channels.newChannel(new ByteArrayInputStream(new byte[10]));
+    StreamingBody.ChannelBody lChannelBody =
+        (StreamingBody.ChannelBody) StreamingBody.fromChannel(lChannel, StreamingBody.UNKNOWN_LENGTH);
+    assertSame(lChannel, lChannelBody.getChannel());
+    assertFalse(lChannelBody.isContentLengthKnown());
+    assertFalse(lChannelBody.isRepeatable());
+    RESTRequest lRequest =
+        RESTRequest.builder(String.class, HttpMethod.PUT, ContentType.JSON).setBody(lChannelBody).build();
+    assertFalse(lRequest.isRepeatable());
+    assertTrue(lRequest.toBuilder().setBody("Hello").build().isRepeatable());
+
+    try (SubmissionPublisher<ByteBuffer> lPublisher = new SubmissionPublisher<>()) {
+      StreamingBody.PublisherBody lPublisherBody =
+          (StreamingBody.PublisherBody) StreamingBody.fromPublisher(lPublisher, 4711);
+      assertSame(lPublisher, lPublisherBody.getPublisher());
+      assertEquals(4711, lPublisherBody.getContentLength());
+      assertFalse(lPublisherBody.isRepeatable());
+    }
+
+    try {
+      StreamingBody.fromChannel(null, 0);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Source of streaming body must not be null.", e.getMessage());
+    }
+    try {
+      StreamingBody.fromChannel(lChannel, -2);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pContentLength' must not be negative.", e.getMessage());
+    }
+  }
+}
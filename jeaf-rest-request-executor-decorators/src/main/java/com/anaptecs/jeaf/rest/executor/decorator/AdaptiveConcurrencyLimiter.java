@@ -0,0 +1,633 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Class implements adaptive concurrency limits per service class. In opposite to a fixed limit (see
+ * {@link VirtualThreadRESTRequestExecutor}) the limit is derived continuously from the observed round trip times. If a
+ * downstream service gets saturated its latency increases and the limit is reduced before threads pile up. If latency
+ * goes back to normal the limit grows again. The following algorithms are supported:
+ * <ul>
+ * <li>{@link Algorithm#AIMD}: The limit is increased by 1 for every successful call and multiplied with the backoff
+ * ratio if a call is dropped or exceeds the latency threshold.</li>
+ * <li>{@link Algorithm#GRADIENT}: The limit is adjusted by the gradient between the minimal round trip time and the
+ * current one (similar to TCP Vegas). A small queue of <code>sqrt(limit)</code> is allowed so that the limit can grow
+ * if the downstream has spare capacity.</li>
+ * </ul>
+ * Calls that exceed the limit are rejected immediately with a {@link RejectedExecutionException} unless a queue is
+ * configured. Queued calls wait at most for the configured queue timeout. Waiting is implemented using
+ * {@link CompletableFuture}s so that the limiter can be used by blocking as well as by reactive executors.
+ * <p/>
+ * Limiters are thread-safe and intended to be shared by {@link ConcurrencyLimitingRESTRequestExecutor} and
+ * {@link com.anaptecs.jeaf.rest.executor.decorator.reactive.ConcurrencyLimitingRESTRequestExecutorReactive}.
+ *
+ * @author JEAF Development Team
+ */
+public class AdaptiveConcurrencyLimiter {
+  /**
+   * Enumeration defines the algorithms that can be used to adjust the limit.
+   */
+  public enum Algorithm {
+    /**
+     * Additive increase, multiplicative decrease.
+     */
+    AIMD,
+
+    /**
+     * Gradient between minimal and current round trip time.
+     */
+    GRADIENT;
+  }
+
+  /**
+   * Smoothing factor that is used by {@link Algorithm#GRADIENT} to avoid that the limit oscillates.
+   */
+  private static final double SMOOTHING = 0.2;
+
+  private final Algorithm algorithm;
+
+  private final int initialLimit;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final int maxQueueSize;
+
+  private final long queueTimeoutNanos;
+
+  private final long latencyThresholdNanos;
+
+  private final double backoffRatio;
+
+  private final double rttTolerance;
+
+  private final Predicate<Throwable> dropPredicate;
+
+  /**
+   * Limits of all service classes that were already called.
+   */
+  private final Map<Class<?>, ServiceLimit> limits = new ConcurrentHashMap<>();
+
+  /**
+   * Method creates new builder.
+   *
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the limiter. The parameter must not be null.
+   */
+  protected AdaptiveConcurrencyLimiter( Builder pBuilder ) {
+    algorithm = pBuilder.algorithm;
+    initialLimit = pBuilder.initialLimit;
+    minLimit = pBuilder.minLimit;
+    maxLimit = pBuilder.maxLimit;
+    maxQueueSize = pBuilder.maxQueueSize;
+    queueTimeoutNanos = pBuilder.queueTimeout.toNanos();
+    latencyThresholdNanos = pBuilder.latencyThreshold.toNanos();
+    backoffRatio = pBuilder.backoffRatio;
+    rttTolerance = pBuilder.rttTolerance;
+    dropPredicate = pBuilder.dropPredicate;
+  }
+
+  /**
+   * Method returns the algorithm that is used to adjust the limits.
+   *
+   * @return {@link Algorithm} Algorithm of the limiter. The method never returns null.
+   */
+  public Algorithm getAlgorithm( ) {
+    return algorithm;
+  }
+
+  /**
+   * Method returns the limit of the passed service class.
+   *
+   * @param pServiceClass Service class whose limit should be returned. The parameter must not be null.
+   * @return {@link ServiceLimit} Limit of the service class. The method never returns null.
+   */
+  public ServiceLimit getServiceLimit( Class<?> pServiceClass ) {
+    return limits.computeIfAbsent(pServiceClass, ServiceLimit::new);
+  }
+
+  /**
+   * Method tries to acquire a permit for a call of the passed service class without waiting.
+   *
+   * @param pServiceClass Service class that should be called. The parameter must not be null.
+   * @return {@link Permit} Acquired permit. The method returns null if the limit of the service class is reached.
+   */
+  public Permit tryAcquire( Class<?> pServiceClass ) {
+    return this.getServiceLimit(pServiceClass).tryAcquire();
+  }
+
+  /**
+   * Method acquires a permit for a call of the passed service class. If the limit is reached then the call is queued
+   * if the queue is not yet full. Otherwise the returned future is already completed with a
+   * {@link RejectedExecutionException}. The same exception is used if a queued call is not granted a permit within the
+   * queue timeout.
+   * <p/>
+   * Callers that are no longer interested in a permit have to pass the returned future to {@link #cancel(
+   * CompletableFuture)}.
+   *
+   * @param pServiceClass Service class that should be called. The parameter must not be null.
+   * @return {@link CompletableFuture} Future that is completed with the permit. The method never returns null.
+   */
+  public CompletableFuture<Permit> acquire( Class<?> pServiceClass ) {
+    return this.getServiceLimit(pServiceClass).acquire();
+  }
+
+  /**
+   * Method cancels the passed waiting call. If a permit was already granted then it is returned without affecting the
+   * limit.
+   *
+   * @param pWaiting Future as it was returned by {@link #acquire(Class)}. The parameter must not be null.
+   */
+  public void cancel( CompletableFuture<Permit> pWaiting ) {
+    if (pWaiting.cancel(false) == false && pWaiting.isCompletedExceptionally() == false) {
+      pWaiting.join().cancel();
+    }
+  }
+
+  /**
+   * Method checks if the passed error indicates that the called service is overloaded.
+   *
+   * @param pError Error with which a call failed. The parameter must not be null.
+   * @return boolean Method returns true if the call is treated as dropped.
+   */
+  protected boolean isDropped( Throwable pError ) {
+    return dropPredicate.test(pError);
+  }
+
+  /**
+   * Default predicate to detect dropped calls. Timeouts and rejections anywhere in the chain of causes are treated as
+   * dropped.
+   */
+  private static boolean isTimeout( Throwable pError ) {
+    for (Throwable lCause = pError; lCause != null; lCause = lCause.getCause()) {
+      if (lCause instanceof TimeoutException || lCause instanceof SocketTimeoutException
+          || lCause instanceof HttpTimeoutException || lCause instanceof RejectedExecutionException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Class represents the adaptive limit of one service class.
+   */
+  public final class ServiceLimit {
+    private final Class<?> serviceClass;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final Queue<CompletableFuture<Permit>> waiting = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Current limit. It is read on every call without locking.
+     */
+    private volatile int limit;
+
+    /**
+     * Exact value of the limit. It is only accessed while holding the monitor of this object.
+     */
+    private double estimatedLimit;
+
+    /**
+     * Minimal observed round trip time. It is only accessed while holding the monitor of this object.
+     */
+    private long minRttNanos = Long.MAX_VALUE;
+
+    /**
+     * Time of the last decrease by {@link Algorithm#AIMD}. It is only accessed while holding the monitor.
+     */
+    private long lastDecreaseNanos = System.nanoTime();
+
+    ServiceLimit( Class<?> pServiceClass ) {
+      serviceClass = pServiceClass;
+      limit = initialLimit;
+      estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Method returns the service class to which the limit belongs.
+     *
+     * @return {@link Class} Service class. The method never returns null.
+     */
+    public Class<?> getServiceClass( ) {
+      return serviceClass;
+    }
+
+    /**
+     * Method returns the current limit.
+     *
+     * @return int Maximum amount of concurrent calls.
+     */
+    public int getLimit( ) {
+      return limit;
+    }
+
+    /**
+     * Method returns the amount of currently running calls.
+     *
+     * @return int Amount of running calls.
+     */
+    public int getInFlight( ) {
+      return inFlight.get();
+    }
+
+    /**
+     * Method returns the amount of calls that are waiting for a permit.
+     *
+     * @return int Amount of queued calls.
+     */
+    public int getQueueSize( ) {
+      return queueSize.get();
+    }
+
+    /**
+     * Method returns the amount of calls that were rejected.
+     *
+     * @return long Amount of rejected calls.
+     */
+    public long getRejectedCount( ) {
+      return rejected.sum();
+    }
+
+    Permit tryAcquire( ) {
+      // Calls must not overtake queued ones.
+      if (queueSize.get() == 0) {
+        return this.tryAcquirePermit();
+      }
+      else {
+        return null;
+      }
+    }
+
+    private Permit tryAcquirePermit( ) {
+      int lInFlight;
+      do {
+        lInFlight = inFlight.get();
+        if (lInFlight >= limit) {
+          return null;
+        }
+      }
+      while (inFlight.compareAndSet(lInFlight, lInFlight + 1) == false);
+      return new Permit(this, lInFlight + 1);
+    }
+
+    CompletableFuture<Permit> acquire( ) {
+      Permit lPermit = this.tryAcquire();
+      CompletableFuture<Permit> lFuture;
+      if (lPermit != null) {
+        lFuture = CompletableFuture.completedFuture(lPermit);
+      }
+      else if (this.enqueue()) {
+        lFuture = new CompletableFuture<>();
+        waiting.add(lFuture);
+        lFuture.whenComplete(( pGranted, pError ) -> {
+          if (pError != null && waiting.remove(lFuture)) {
+            queueSize.decrementAndGet();
+          }
+        });
+        CompletableFuture.delayedExecutor(queueTimeoutNanos, TimeUnit.NANOSECONDS)
+            .execute(( ) -> {
+              if (lFuture.completeExceptionally(this.createRejection())) {
+                rejected.increment();
+              }
+            });
+        // A permit may have been released while the call was added to the queue.
+        this.grantPermits();
+      }
+      else {
+        rejected.increment();
+        lFuture = CompletableFuture.failedFuture(this.createRejection());
+      }
+      return lFuture;
+    }
+
+    private boolean enqueue( ) {
+      int lQueueSize;
+      do {
+        lQueueSize = queueSize.get();
+        if (lQueueSize >= maxQueueSize) {
+          return false;
+        }
+      }
+      while (queueSize.compareAndSet(lQueueSize, lQueueSize + 1) == false);
+      return true;
+    }
+
+    private RejectedExecutionException createRejection( ) {
+      return new RejectedExecutionException(
+          "Concurrency limit of " + limit + " reached for service class '" + serviceClass.getName() + "'.");
+    }
+
+    /**
+     * Method passes free permits to queued calls.
+     */
+    private void grantPermits( ) {
+      while (waiting.isEmpty() == false) {
+        Permit lPermit = this.tryAcquirePermit();
+        if (lPermit == null) {
+          break;
+        }
+        CompletableFuture<Permit> lWaiting = waiting.poll();
+        if (lWaiting != null) {
+          queueSize.decrementAndGet();
+        }
+        if (lWaiting == null || lWaiting.complete(lPermit) == false) {
+          inFlight.decrementAndGet();
+        }
+      }
+    }
+
+    void release( Permit pPermit, long pRttNanos, Throwable pError, boolean pSample ) {
+      if (pSample) {
+        boolean lDropped = pError != null;
+        if (lDropped == false || isDropped(pError)) {
+          this.update(pPermit, pRttNanos, lDropped);
+        }
+      }
+      inFlight.decrementAndGet();
+      this.grantPermits();
+    }
+
+    /**
+     * Method adjusts the limit based on the passed sample.
+     *
+     * @param pPermit Permit of the call. The parameter must not be null.
+     * @param pRttNanos Round trip time of the call.
+     * @param pDropped Flag indicates if the call was dropped.
+     */
+    private synchronized void update( Permit pPermit, long pRttNanos, boolean pDropped ) {
+      double lLimit = estimatedLimit;
+      // Without enough load the round trip times do not say anything about the capacity of the service.
+      boolean lApplicationLimited = pPermit.inFlight * 2 < lLimit;
+      switch (algorithm) {
+        case AIMD:
+          if (pDropped || pRttNanos > latencyThresholdNanos) {
+            // Calls that were started before the last decrease do not reflect it yet. Otherwise a single slow period
+            // would let the limit collapse.
+            if (pPermit.startNanos - lastDecreaseNanos > 0) {
+              lLimit = lLimit * backoffRatio;
+              lastDecreaseNanos = System.nanoTime();
+            }
+          }
+          else if (lApplicationLimited == false) {
+            lLimit = lLimit + 1;
+          }
+          break;
+
+        default:
+          minRttNanos = Math.min(minRttNanos, Math.max(pRttNanos, 1));
+          double lGradient;
+          if (pDropped) {
+            lGradient = 0.5;
+          }
+          else {
+            lGradient = Math.max(0.5, Math.min(1, rttTolerance * minRttNanos / Math.max(pRttNanos, 1)));
+          }
+          double lNewLimit = lLimit * lGradient + Math.sqrt(lLimit);
+          if (lApplicationLimited == false || lNewLimit < lLimit) {
+            lLimit = lLimit * (1 - SMOOTHING) + lNewLimit * SMOOTHING;
+          }
+      }
+      estimatedLimit = Math.max(minLimit, Math.min(maxLimit, lLimit));
+      limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public String toString( ) {
+      return serviceClass.getName() + " limit=" + limit + " inFlight=" + inFlight.get() + " queued=" + queueSize.get();
+    }
+  }
+
+  /**
+   * Class represents the permission to execute one call. Every permit has to be finished exactly once using
+   * {@link #end()}, {@link #fail(Throwable)} or {@link #cancel()}. Further calls are ignored.
+   */
+  public static final class Permit {
+    private final ServiceLimit serviceLimit;
+
+    private final int inFlight;
+
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Permit( ServiceLimit pServiceLimit, int pInFlight ) {
+      serviceLimit = pServiceLimit;
+      inFlight = pInFlight;
+    }
+
+    /**
+     * Method finishes the permit after the call succeeded. Its round trip time is used to adjust the limit.
+     */
+    public void end( ) {
+      if (released.compareAndSet(false, true)) {
+        serviceLimit.release(this, System.nanoTime() - startNanos, null, true);
+      }
+    }
+
+    /**
+     * Method finishes the permit after the call failed. The limit is only reduced if the error indicates an overload.
+     *
+     * @param pError Error with which the call failed. The parameter must not be null.
+     */
+    public void fail( Throwable pError ) {
+      if (released.compareAndSet(false, true)) {
+        serviceLimit.release(this, System.nanoTime() - startNanos, pError, true);
+      }
+    }
+
+    /**
+     * Method returns the permit without affecting the limit, e.g. because the call was cancelled.
+     */
+    public void cancel( ) {
+      if (released.compareAndSet(false, true)) {
+        serviceLimit.release(this, 0, null, false);
+      }
+    }
+  }
+
+  /**
+   * Class is used to create {@link AdaptiveConcurrencyLimiter} objects.
+   */
+  public static class Builder {
+    private Algorithm algorithm = Algorithm.GRADIENT;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 1;
+
+    private int maxLimit = 200;
+
+    private int maxQueueSize = 0;
+
+    private Duration queueTimeout = Duration.ofSeconds(1);
+
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+
+    private double backoffRatio = 0.9;
+
+    private double rttTolerance = 2;
+
+    private Predicate<Throwable> dropPredicate = AdaptiveConcurrencyLimiter::isTimeout;
+
+    /**
+     * Initialize object.
+     */
+    protected Builder( ) {
+    }
+
+    /**
+     * Method sets the algorithm that is used to adjust the limits. Default is {@link Algorithm#GRADIENT}.
+     *
+     * @param pAlgorithm Algorithm that should be used. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setAlgorithm( Algorithm pAlgorithm ) {
+      if (pAlgorithm != null) {
+        algorithm = pAlgorithm;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pAlgorithm' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the range of the limits. Defaults are an initial limit of 20 within a range from 1 to 200.
+     *
+     * @param pInitialLimit Limit with which every service class starts.
+     * @param pMinLimit Lower bound of the limit. The value must be greater than 0.
+     * @param pMaxLimit Upper bound of the limit.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setLimits( int pInitialLimit, int pMinLimit, int pMaxLimit ) {
+      if (pMinLimit > 0 && pMinLimit <= pInitialLimit && pInitialLimit <= pMaxLimit) {
+        initialLimit = pInitialLimit;
+        minLimit = pMinLimit;
+        maxLimit = pMaxLimit;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException(
+            "Parameters must fulfill 0 < 'pMinLimit' <= 'pInitialLimit' <= 'pMaxLimit'.");
+      }
+    }
+
+    /**
+     * Method sets the maximum amount of calls per service class that wait for a permit if the limit is reached. By
+     * default calls are rejected immediately.
+     *
+     * @param pMaxQueueSize Maximum amount of waiting calls. The value must not be negative.
+     * @param pQueueTimeout Maximum time that calls wait for a permit. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setQueue( int pMaxQueueSize, Duration pQueueTimeout ) {
+      if (pMaxQueueSize >= 0 && pQueueTimeout != null) {
+        maxQueueSize = pMaxQueueSize;
+        queueTimeout = pQueueTimeout;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException(
+            "Parameter 'pMaxQueueSize' must not be negative and 'pQueueTimeout' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the parameters of {@link Algorithm#AIMD}. Defaults are a threshold of 1 second and a backoff ratio of
+     * 0.9.
+     *
+     * @param pLatencyThreshold Calls that take longer are treated like dropped calls. The parameter must not be null.
+     * @param pBackoffRatio Factor with which the limit is multiplied for dropped calls. The value must be between 0.5
+     * and 1 (exclusive).
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setAIMD( Duration pLatencyThreshold, double pBackoffRatio ) {
+      if (pLatencyThreshold != null && pBackoffRatio >= 0.5 && pBackoffRatio < 1) {
+        latencyThreshold = pLatencyThreshold;
+        backoffRatio = pBackoffRatio;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException(
+            "Parameter 'pLatencyThreshold' must not be null and 'pBackoffRatio' must be in [0.5, 1).");
+      }
+    }
+
+    /**
+     * Method sets the tolerance of {@link Algorithm#GRADIENT}. The limit is only reduced if the round trip time exceeds
+     * the minimal round trip time by this factor. Default is 2.
+     *
+     * @param pRttTolerance Tolerated factor. The value must be at least 1.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setRttTolerance( double pRttTolerance ) {
+      if (pRttTolerance >= 1) {
+        rttTolerance = pRttTolerance;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pRttTolerance' must be at least 1.");
+      }
+    }
+
+    /**
+     * Method sets the predicate that decides if a failed call indicates an overload of the called service. Only such
+     * calls reduce the limit, all other failed calls are ignored. By default timeouts and rejections are treated as
+     * overload.
+     *
+     * @param pDropPredicate Predicate to detect overload. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setDropPredicate( Predicate<Throwable> pDropPredicate ) {
+      if (pDropPredicate != null) {
+        dropPredicate = pDropPredicate;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pDropPredicate' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link AdaptiveConcurrencyLimiter} object based on the set values.
+     *
+     * @return {@link AdaptiveConcurrencyLimiter} Created object. The method never returns null.
+     */
+    public AdaptiveConcurrencyLimiter build( ) {
+      return new AdaptiveConcurrencyLimiter(this);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.decorator.ResponseCache.CachedResponse;
+
+/**
+ * Class implements a decorator that caches the deserialized results of GET requests in a {@link ResponseCache}.
+ * Results are cached per {@link RequestKey} which also covers the expected result type. Stale results are revalidated
+ * with conditional requests.
+ * <p/>
+ * Caching headers of responses are only available if the delegate implements
+ * {@link RESTRequestExecutor#executeResponseRequest(RESTRequest, int, Class, ObjectType)}. For delegates that rely on
+ * the default implementation results are cached for the default time to live of the cache.
+ * <p/>
+ * Only GET requests without body that return a single object or a collection are cached. All other requests are passed
+ * to the delegate as they are. Cached results are shared between callers and must therefore be treated as read-only.
+ *
+ * @author JEAF Development Team
+ */
+public class CachingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Cache that is used to store results.
+   */
+  private final ResponseCache cache;
+
+  /**
+   * Method creates a new builder for a caching executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pCache Cache that should be used to store results. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate, ResponseCache pCache ) {
+    return new Builder(pDelegate, pCache);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected CachingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    cache = pBuilder.cache;
+  }
+
+  /**
+   * Method returns the cache that is used by this executor.
+   *
+   * @return {@link ResponseCache} Cache of this executor. The method never returns null.
+   */
+  public ResponseCache getCache( ) {
+    return cache;
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    if (isCacheable(pRequest)) {
+      return this.executeCached(pRequest, pSuccessfulStatusCode, null, pObjectType);
+    }
+    else {
+      return this.getDelegate().executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    }
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    if (isCacheable(pRequest)) {
+      return this.executeCached(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    else {
+      return this.getDelegate().executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, pCollectionClass,
+          pObjectType);
+    }
+  }
+
+  /**
+   * Requests without result and streams are never cached. They are passed to the delegate directly.
+   */
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    return pCall.get();
+  }
+
+  private static boolean isCacheable( RESTRequest pRequest ) {
+    return pRequest.getHttpMethod() == HttpMethod.GET && pRequest.getBody() == null;
+  }
+
+  private <T> T executeCached( RESTRequest pRequest, int pSuccessfulStatusCode, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    RequestKey lKey = RequestKey.of(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    CachedResponse lCached = cache.lookup(lKey);
+    T lResult;
+    if (lCached != null && lCached.isRevalidationRequired() == false) {
+      lResult = lCached.getResult();
+    }
+    else {
+      RESTRequest lRequest = lCached != null ? lCached.toConditionalRequest(pRequest) : pRequest;
+      RESTResponse<T> lResponse =
+          this.getDelegate().executeResponseRequest(lRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+      lResult = cache.store(lKey, lCached, lResponse);
+    }
+    return lResult;
+  }
+
+  /**
+   * Class implements a builder for {@link CachingRESTRequestExecutor}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final ResponseCache cache;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pCache Cache that should be used to store results. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate, ResponseCache pCache ) {
+      if (pDelegate != null && pCache != null) {
+        delegate = pDelegate;
+        cache = pCache;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pCache' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new caching executor based on the configuration of this builder.
+     *
+     * @return {@link CachingRESTRequestExecutor} Created executor. The method never returns null.
+     */
+    public CachingRESTRequestExecutor build( ) {
+      return new CachingRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,625 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Class implements circuit breakers per service class (see
+ * {@link com.anaptecs.jeaf.rest.executor.api.RESTRequest#getServiceClass()}). The outcome of all calls is recorded in
+ * a sliding window. If the failure rate within the window reaches the configured threshold then the circuit is opened
+ * and all calls fail immediately with a {@link CircuitBreakerOpenException}. After the open duration a limited amount
+ * of probe calls is permitted (half-open). If all of them succeed the circuit is closed again, otherwise it is opened
+ * for another period.
+ * <p/>
+ * The sliding window is either count based (last n calls) or time based (calls within the last period, recorded in 10
+ * buckets). Both are ring buffers that are updated without locks. In closed state checking the permission and
+ * recording the outcome of a call requires a volatile read of the state and two to three atomic operations on the
+ * window. Objects are only created when the state of a circuit changes.
+ * <p/>
+ * Circuit breakers are thread-safe and intended to be shared by {@link CircuitBreakingRESTRequestExecutor} and
+ * {@link com.anaptecs.jeaf.rest.executor.decorator.reactive.CircuitBreakingRESTRequestExecutorReactive}.
+ *
+ * @author JEAF Development Team
+ */
+public class CircuitBreaker {
+  /**
+   * Enumeration defines the states of a circuit.
+   */
+  public enum State {
+    /**
+     * All calls are permitted.
+     */
+    CLOSED,
+
+    /**
+     * All calls are rejected.
+     */
+    OPEN,
+
+    /**
+     * A limited amount of probe calls is permitted.
+     */
+    HALF_OPEN;
+  }
+
+  /**
+   * Amount of buckets of time based sliding windows.
+   */
+  private static final int BUCKETS = 10;
+
+  /**
+   * Outcome of a call is stored in an aggregate as <code>failures &lt;&lt; 32 | calls</code>.
+   */
+  private static final int FAILURES_SHIFT = 32;
+
+  private static final long CALLS_MASK = 0xFFFFFFFFL;
+
+  private final double failureRateThreshold;
+
+  private final int minimumNumberOfCalls;
+
+  private final long openDurationNanos;
+
+  private final int permittedProbes;
+
+  private final int windowSize;
+
+  private final long windowNanos;
+
+  private final Predicate<Throwable> failurePredicate;
+
+  /**
+   * Circuits of all service classes that were already called.
+   */
+  private final Map<Class<?>, Circuit> circuits = new ConcurrentHashMap<>();
+
+  /**
+   * Method creates new builder.
+   *
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the circuit breaker. The parameter must not be null.
+   */
+  protected CircuitBreaker( Builder pBuilder ) {
+    failureRateThreshold = pBuilder.failureRateThreshold;
+    minimumNumberOfCalls = pBuilder.minimumNumberOfCalls;
+    openDurationNanos = pBuilder.openDuration.toNanos();
+    permittedProbes = pBuilder.permittedProbes;
+    windowSize = pBuilder.windowSize;
+    windowNanos = pBuilder.window != null ? pBuilder.window.toNanos() : 0;
+    failurePredicate = pBuilder.failurePredicate;
+  }
+
+  /**
+   * Method returns the circuit of the passed service class.
+   *
+   * @param pServiceClass Service class whose circuit should be returned. The parameter must not be null.
+   * @return {@link Circuit} Circuit of the service class. The method never returns null.
+   */
+  public Circuit getCircuit( Class<?> pServiceClass ) {
+    return circuits.computeIfAbsent(pServiceClass, Circuit::new);
+  }
+
+  /**
+   * Method checks if a call of the passed service class is permitted.
+   *
+   * @param pServiceClass Service class that should be called. The parameter must not be null.
+   * @return {@link Permission} Permission for the call. The outcome of the call has to be reported to it. The method
+   * never returns null.
+   * @throws CircuitBreakerOpenException if the circuit of the service class is open.
+   */
+  public Permission acquirePermission( Class<?> pServiceClass ) {
+    return this.getCircuit(pServiceClass).acquirePermission();
+  }
+
+  /**
+   * Class represents the circuit of one service class.
+   */
+  public final class Circuit {
+    private final Class<?> serviceClass;
+
+    private final SlidingWindow window;
+
+    /**
+     * Current state of the circuit. A new permission object is created on every change of the state so that outcomes
+     * of calls that were started in a previous state can be detected.
+     */
+    private final AtomicReference<Permission> current;
+
+    Circuit( Class<?> pServiceClass ) {
+      serviceClass = pServiceClass;
+      window = windowNanos > 0 ? new TimeBasedWindow(windowNanos) : new CountBasedWindow(windowSize);
+      current = new AtomicReference<>(new Permission(this, State.CLOSED, 0));
+    }
+
+    /**
+     * Method returns the service class to which the circuit belongs.
+     *
+     * @return {@link Class} Service class. The method never returns null.
+     */
+    public Class<?> getServiceClass( ) {
+      return serviceClass;
+    }
+
+    /**
+     * Method returns the current state of the circuit. An open circuit whose open duration expired is switched to half
+     * open with the next call.
+     *
+     * @return {@link State} State of the circuit. The method never returns null.
+     */
+    public State getState( ) {
+      return current.get().state;
+    }
+
+    /**
+     * Method returns the amount of calls in the sliding window.
+     *
+     * @return int Amount of recorded calls.
+     */
+    public int getNumberOfCalls( ) {
+      return (int) (window.snapshot() & CALLS_MASK);
+    }
+
+    /**
+     * Method returns the failure rate in the sliding window.
+     *
+     * @return double Failure rate in percent. If no call is recorded then 0 is returned.
+     */
+    public double getFailureRate( ) {
+      long lAggregate = window.snapshot();
+      long lCalls = lAggregate & CALLS_MASK;
+      return lCalls > 0 ? (lAggregate >>> FAILURES_SHIFT) * 100.0 / lCalls : 0;
+    }
+
+    /**
+     * Method opens the circuit manually. It will be switched to half open after the open duration.
+     */
+    public void open( ) {
+      current.set(new Permission(this, State.OPEN, System.nanoTime() + openDurationNanos));
+    }
+
+    /**
+     * Method closes the circuit manually and clears its sliding window.
+     */
+    public void close( ) {
+      window.reset();
+      current.set(new Permission(this, State.CLOSED, 0));
+    }
+
+    Permission acquirePermission( ) {
+      Permission lPermission = current.get();
+      switch (lPermission.state) {
+        case CLOSED:
+          return lPermission;
+
+        case OPEN:
+          if (System.nanoTime() - lPermission.openUntilNanos >= 0) {
+            current.compareAndSet(lPermission, new Permission(this, State.HALF_OPEN, 0));
+            return this.acquirePermission();
+          }
+          throw new CircuitBreakerOpenException(serviceClass);
+
+        default:
+          int lProbes;
+          do {
+            lProbes = lPermission.probes.get();
+            if (lProbes >= permittedProbes) {
+              throw new CircuitBreakerOpenException(serviceClass);
+            }
+          }
+          while (lPermission.probes.compareAndSet(lProbes, lProbes + 1) == false);
+          return lPermission;
+      }
+    }
+
+    void onSuccess( Permission pPermission ) {
+      if (pPermission.state == State.CLOSED) {
+        if (current.get() == pPermission) {
+          window.record(false);
+        }
+      }
+      else if (pPermission.successes.incrementAndGet() >= permittedProbes && current.get() == pPermission) {
+        // Calls of the new closed state must only be recorded in an empty window.
+        window.reset();
+        current.compareAndSet(pPermission, new Permission(this, State.CLOSED, 0));
+      }
+    }
+
+    void onFailure( Permission pPermission ) {
+      if (pPermission.state == State.CLOSED) {
+        if (current.get() == pPermission) {
+          long lAggregate = window.record(true);
+          long lCalls = lAggregate & CALLS_MASK;
+          long lFailures = lAggregate >>> FAILURES_SHIFT;
+          if (lCalls >= minimumNumberOfCalls && lFailures * 100.0 >= failureRateThreshold * lCalls) {
+            this.trip(pPermission);
+          }
+        }
+      }
+      else {
+        this.trip(pPermission);
+      }
+    }
+
+    /**
+     * Method opens the circuit unless its state was already changed by another thread.
+     */
+    private void trip( Permission pExpected ) {
+      current.compareAndSet(pExpected, new Permission(this, State.OPEN, System.nanoTime() + openDurationNanos));
+    }
+
+    @Override
+    public String toString( ) {
+      return serviceClass.getName() + " " + this.getState() + " calls=" + this.getNumberOfCalls() + " failureRate="
+          + this.getFailureRate() + "%";
+    }
+  }
+
+  /**
+   * Class represents the permission to execute a call. The outcome of the call has to be reported using
+   * {@link #onSuccess()}, {@link #onError(Throwable)} or {@link #release()}.
+   * <p/>
+   * In closed state all calls share the same permission object so that no objects have to be created per call.
+   */
+  public final class Permission {
+    private final Circuit circuit;
+
+    private final State state;
+
+    private final long openUntilNanos;
+
+    /**
+     * Amount of probe calls that were permitted. Only used in half open state.
+     */
+    private final AtomicInteger probes;
+
+    /**
+     * Amount of probe calls that succeeded. Only used in half open state.
+     */
+    private final AtomicInteger successes;
+
+    Permission( Circuit pCircuit, State pState, long pOpenUntilNanos ) {
+      circuit = pCircuit;
+      state = pState;
+      openUntilNanos = pOpenUntilNanos;
+      probes = pState == State.HALF_OPEN ? new AtomicInteger() : null;
+      successes = pState == State.HALF_OPEN ? new AtomicInteger() : null;
+    }
+
+    /**
+     * Method reports that the call succeeded.
+     */
+    public void onSuccess( ) {
+      circuit.onSuccess(this);
+    }
+
+    /**
+     * Method reports that the call failed. Errors that are not treated as failure by the circuit breaker are reported
+     * as success.
+     *
+     * @param pError Error with which the call failed. The parameter must not be null.
+     */
+    public void onError( Throwable pError ) {
+      if (failurePredicate.test(pError)) {
+        circuit.onFailure(this);
+      }
+      else {
+        circuit.onSuccess(this);
+      }
+    }
+
+    /**
+     * Method reports that the call was cancelled before its outcome was known. A probe call in half open state can then
+     * be made by another caller.
+     */
+    public void release( ) {
+      if (state == State.HALF_OPEN) {
+        probes.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Class is the base class for sliding windows. Windows return their content as aggregate of failures and calls.
+   */
+  private abstract static class SlidingWindow {
+    /**
+     * Method records the outcome of a call.
+     *
+     * @param pFailure Flag indicates if the call failed.
+     * @return long Aggregate of the window including the recorded call.
+     */
+    abstract long record( boolean pFailure );
+
+    abstract long snapshot( );
+
+    /**
+     * Method clears the window. Calls that are recorded concurrently may get lost.
+     */
+    abstract void reset( );
+  }
+
+  /**
+   * Class implements a sliding window over the last n calls. The outcome of every call is stored in a ring buffer and
+   * the aggregate is updated with the difference to the overwritten outcome.
+   */
+  private static final class CountBasedWindow extends SlidingWindow {
+    private static final int SUCCESS = 1;
+
+    private static final int FAILURE = 2;
+
+    private final AtomicIntegerArray outcomes;
+
+    private final AtomicLong position = new AtomicLong();
+
+    private final AtomicLong aggregate = new AtomicLong();
+
+    CountBasedWindow( int pSize ) {
+      outcomes = new AtomicIntegerArray(pSize);
+    }
+
+    @Override
+    long record( boolean pFailure ) {
+      int lIndex = (int) Math.floorMod(position.getAndIncrement(), (long) outcomes.length());
+      int lPrevious = outcomes.getAndSet(lIndex, pFailure ? FAILURE : SUCCESS);
+      long lFailures = (pFailure ? 1 : 0) - (lPrevious == FAILURE ? 1 : 0);
+      long lCalls = lPrevious == 0 ? 1 : 0;
+      return aggregate.addAndGet((lFailures << FAILURES_SHIFT) + lCalls);
+    }
+
+    @Override
+    long snapshot( ) {
+      return aggregate.get();
+    }
+
+    @Override
+    void reset( ) {
+      for (int i = 0; i < outcomes.length(); i++) {
+        outcomes.set(i, 0);
+      }
+      aggregate.set(0);
+    }
+  }
+
+  /**
+   * Class implements a sliding window over a period of time. The period is split into buckets that are reused in a
+   * ring buffer. Every bucket stores its epoch as well as the amount of failures and calls in a single long so that it
+   * can be updated and reset with one compare and set operation.
+   */
+  private static final class TimeBasedWindow extends SlidingWindow {
+    private static final int EPOCH_SHIFT = 40;
+
+    private static final long EPOCH_MASK = 0xFFFFFFL;
+
+    private static final int BUCKET_FAILURES_SHIFT = 20;
+
+    private static final long COUNT_MASK = 0xFFFFFL;
+
+    private final long bucketNanos;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    TimeBasedWindow( long pWindowNanos ) {
+      bucketNanos = Math.max(1, pWindowNanos / BUCKETS);
+    }
+
+    @Override
+    long record( boolean pFailure ) {
+      long lTick = Math.floorDiv(System.nanoTime(), bucketNanos);
+      long lEpoch = lTick & EPOCH_MASK;
+      int lIndex = (int) Math.floorMod(lTick, (long) BUCKETS);
+      long lBucket;
+      long lNew;
+      do {
+        lBucket = buckets.get(lIndex);
+        if (lBucket >>> EPOCH_SHIFT != lEpoch) {
+          lNew = lEpoch << EPOCH_SHIFT;
+        }
+        else if ((lBucket & COUNT_MASK) == COUNT_MASK) {
+          // Bucket is full. Further calls are not recorded.
+          break;
+        }
+        else {
+          lNew = lBucket;
+        }
+        lNew = lNew + 1 + (pFailure ? 1L << BUCKET_FAILURES_SHIFT : 0);
+      }
+      while (buckets.compareAndSet(lIndex, lBucket, lNew) == false);
+      return this.aggregate(lEpoch);
+    }
+
+    @Override
+    long snapshot( ) {
+      return this.aggregate(Math.floorDiv(System.nanoTime(), bucketNanos) & EPOCH_MASK);
+    }
+
+    private long aggregate( long pEpoch ) {
+      long lFailures = 0;
+      long lCalls = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        long lBucket = buckets.get(i);
+        if (((pEpoch - (lBucket >>> EPOCH_SHIFT)) & EPOCH_MASK) < BUCKETS) {
+          lFailures += (lBucket >>> BUCKET_FAILURES_SHIFT) & COUNT_MASK;
+          lCalls += lBucket & COUNT_MASK;
+        }
+      }
+      return (lFailures << FAILURES_SHIFT) + lCalls;
+    }
+
+    @Override
+    void reset( ) {
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets.set(i, 0);
+      }
+    }
+  }
+
+  /**
+   * Class is used to create {@link CircuitBreaker} objects.
+   */
+  public static class Builder {
+    private double failureRateThreshold = 50;
+
+    private int minimumNumberOfCalls = 10;
+
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    private int permittedProbes = 3;
+
+    private int windowSize = 100;
+
+    private Duration window;
+
+    private Predicate<Throwable> failurePredicate = pError -> true;
+
+    /**
+     * Initialize object.
+     */
+    protected Builder( ) {
+    }
+
+    /**
+     * Method sets the failure rate at which circuits are opened. Default is 50%.
+     *
+     * @param pFailureRateThreshold Failure rate in percent. The value must be greater than 0 and at most 100.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setFailureRateThreshold( double pFailureRateThreshold ) {
+      if (pFailureRateThreshold > 0 && pFailureRateThreshold <= 100) {
+        failureRateThreshold = pFailureRateThreshold;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pFailureRateThreshold' must be in (0, 100].");
+      }
+    }
+
+    /**
+     * Method sets the amount of calls that have to be recorded in the sliding window before the failure rate is
+     * evaluated. Default is 10.
+     *
+     * @param pMinimumNumberOfCalls Minimum amount of calls. The value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setMinimumNumberOfCalls( int pMinimumNumberOfCalls ) {
+      if (pMinimumNumberOfCalls > 0) {
+        minimumNumberOfCalls = pMinimumNumberOfCalls;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pMinimumNumberOfCalls' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method sets how long circuits stay open before probe calls are permitted. Default is 30 seconds.
+     *
+     * @param pOpenDuration Duration of the open state. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setOpenDuration( Duration pOpenDuration ) {
+      if (pOpenDuration != null) {
+        openDuration = pOpenDuration;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pOpenDuration' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the amount of probe calls in half open state. If all of them succeed the circuit is closed. Default
+     * is 3.
+     *
+     * @param pPermittedProbes Amount of probe calls. The value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setPermittedProbes( int pPermittedProbes ) {
+      if (pPermittedProbes > 0) {
+        permittedProbes = pPermittedProbes;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pPermittedProbes' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method configures a sliding window over the last calls. This is the default with a size of 100 calls.
+     *
+     * @param pWindowSize Amount of calls in the window. The value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setCountBasedWindow( int pWindowSize ) {
+      if (pWindowSize > 0) {
+        windowSize = pWindowSize;
+        window = null;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pWindowSize' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method configures a sliding window over the calls of the passed period.
+     *
+     * @param pWindow Period of the window. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setTimeBasedWindow( Duration pWindow ) {
+      if (pWindow != null && pWindow.isNegative() == false && pWindow.isZero() == false) {
+        window = pWindow;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pWindow' must be a positive duration.");
+      }
+    }
+
+    /**
+     * Method sets the predicate that decides if an error is recorded as failure. Other errors are recorded as success.
+     * By default all errors are failures.
+     *
+     * @param pFailurePredicate Predicate to detect failures. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setFailurePredicate( Predicate<Throwable> pFailurePredicate ) {
+      if (pFailurePredicate != null) {
+        failurePredicate = pFailurePredicate;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pFailurePredicate' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link CircuitBreaker} object based on the set values.
+     *
+     * @return {@link CircuitBreaker} Created object. The method never returns null.
+     */
+    public CircuitBreaker build( ) {
+      return new CircuitBreaker(this);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Exception is thrown by {@link CircuitBreaker} if a call is not permitted because the circuit of its service class is
+ * open.
+ *
+ * @author JEAF Development Team
+ */
+public class CircuitBreakerOpenException extends RejectedExecutionException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Service class whose circuit is open.
+   */
+  private final Class<?> serviceClass;
+
+  /**
+   * Initialize object.
+   *
+   * @param pServiceClass Service class whose circuit is open. The parameter must not be null.
+   */
+  public CircuitBreakerOpenException( Class<?> pServiceClass ) {
+    super("Circuit breaker is open for service class '" + pServiceClass.getName() + "'.");
+    serviceClass = pServiceClass;
+  }
+
+  /**
+   * Method returns the service class whose circuit is open.
+   *
+   * @return {@link Class} Service class of the rejected call. The method never returns null.
+   */
+  public Class<?> getServiceClass( ) {
+    return serviceClass;
+  }
+}
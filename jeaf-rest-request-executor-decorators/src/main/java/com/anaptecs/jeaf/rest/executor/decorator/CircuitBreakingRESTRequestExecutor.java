@@ -0,0 +1,112 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreaker.Permission;
+
+/**
+ * Class implements a decorator that protects the delegate with a {@link CircuitBreaker} per service class (see
+ * {@link RESTRequest#getServiceClass()}):
+ *
+ * <pre>
+ * CircuitBreaker lCircuitBreaker = CircuitBreaker.builder().build();
+ * RESTRequestExecutor lExecutor = CircuitBreakingRESTRequestExecutor.builder(lDelegate, lCircuitBreaker).build();
+ * </pre>
+ *
+ * Calls to a service class whose circuit is open fail immediately with a {@link CircuitBreakerOpenException} without
+ * calling the delegate. Calls that return stream results are recorded as successful as soon as the stream was
+ * returned by the delegate.
+ *
+ * @author JEAF Development Team
+ */
+public class CircuitBreakingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Circuit breaker that decides which calls are permitted.
+   */
+  private final CircuitBreaker circuitBreaker;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pCircuitBreaker Circuit breaker that should be used. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate, CircuitBreaker pCircuitBreaker ) {
+    return new Builder(pDelegate, pCircuitBreaker);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected CircuitBreakingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    circuitBreaker = pBuilder.circuitBreaker;
+  }
+
+  /**
+   * Method returns the circuit breaker of the decorator.
+   *
+   * @return {@link CircuitBreaker} Circuit breaker that is used. The method never returns null.
+   */
+  public CircuitBreaker getCircuitBreaker( ) {
+    return circuitBreaker;
+  }
+
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    Permission lPermission = circuitBreaker.acquirePermission(pRequest.getServiceClass());
+    try {
+      T lResult = pCall.get();
+      lPermission.onSuccess();
+      return lResult;
+    }
+    catch (RuntimeException | Error e) {
+      lPermission.onError(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Class is used to create {@link CircuitBreakingRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pCircuitBreaker Circuit breaker that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate, CircuitBreaker pCircuitBreaker ) {
+      if (pDelegate != null && pCircuitBreaker != null) {
+        delegate = pDelegate;
+        circuitBreaker = pCircuitBreaker;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pCircuitBreaker' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link CircuitBreakingRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link CircuitBreakingRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public CircuitBreakingRESTRequestExecutor build( ) {
+      return new CircuitBreakingRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+
+/**
+ * Class implements a decorator that coalesces identical GET requests that are executed concurrently (single-flight).
+ * The first thread that executes a request becomes the leader and calls the delegate. All threads that execute an
+ * identical request while the leader's call is still in flight wait for it and share its result or exception. Requests
+ * are identical if their {@link RequestKey}s are equal.
+ * <p/>
+ * Only GET requests without body that return a single object or a collection are coalesced. All other requests are
+ * passed to the delegate as they are. Please be aware that coalesced callers receive the same result object. Results
+ * must therefore be treated as read-only.
+ *
+ * @author JEAF Development Team
+ */
+public class CoalescingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Calls that are currently in flight. Entries are removed as soon as the leader's call is completed.
+   */
+  private final ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Amount of requests that shared the result of another request.
+   */
+  private final LongAdder coalescedRequests = new LongAdder();
+
+  /**
+   * Method creates a new builder for a coalescing executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate ) {
+    return new Builder(pDelegate);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected CoalescingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+  }
+
+  /**
+   * Method returns the amount of requests that did not call the delegate but shared the result of an identical request
+   * that was already in flight.
+   *
+   * @return long Amount of coalesced requests.
+   */
+  public long getCoalescedRequests( ) {
+    return coalescedRequests.sum();
+  }
+
+  /**
+   * Method returns the amount of calls that are currently in flight and can be joined by identical requests.
+   *
+   * @return int Amount of calls in flight.
+   */
+  public int getInFlightRequests( ) {
+    return inFlight.size();
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Supplier<T> lCall =
+        ( ) -> this.getDelegate().<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    if (isCoalescable(pRequest)) {
+      return this.coalesce(RequestKey.of(pRequest, pSuccessfulStatusCode, null, pObjectType), lCall);
+    }
+    else {
+      return lCall.get();
+    }
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    Supplier<T> lCall = ( ) -> this.getDelegate().<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType);
+    if (isCoalescable(pRequest)) {
+      RequestKey lKey = RequestKey.of(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+      return this.coalesce(lKey, lCall);
+    }
+    else {
+      return lCall.get();
+    }
+  }
+
+  /**
+   * Requests without result and streams are never coalesced. They are passed to the delegate directly.
+   */
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    return pCall.get();
+  }
+
+  /**
+   * Method checks if the passed request may be coalesced with other requests.
+   *
+   * @param pRequest Request that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the passed request is a GET request without body.
+   */
+  private static boolean isCoalescable( RESTRequest pRequest ) {
+    return pRequest.getHttpMethod() == HttpMethod.GET && pRequest.getBody() == null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T coalesce( RequestKey pKey, Supplier<T> pCall ) {
+    CompletableFuture<Object> lCall = new CompletableFuture<>();
+    CompletableFuture<Object> lInFlight = inFlight.putIfAbsent(pKey, lCall);
+
+    // Current thread is the leader and has to execute the request.
+    if (lInFlight == null) {
+      try {
+        T lResult = pCall.get();
+        lCall.complete(lResult);
+        return lResult;
+      }
+      catch (RuntimeException | Error e) {
+        lCall.completeExceptionally(e);
+        throw e;
+      }
+      finally {
+        inFlight.remove(pKey, lCall);
+      }
+    }
+    // Identical request is already in flight.
+    else {
+      coalescedRequests.increment();
+      return (T) await(lInFlight);
+    }
+  }
+
+  /**
+   * Method waits for the call of the leader. Runtime exceptions and errors of the leader are thrown as they are.
+   * Interrupting the waiting thread does not affect the leader.
+   */
+  private static Object await( CompletableFuture<Object> pCall ) {
+    try {
+      return pCall.get();
+    }
+    catch (ExecutionException e) {
+      Throwable lCause = e.getCause();
+      if (lCause instanceof RuntimeException) {
+        throw (RuntimeException) lCause;
+      }
+      else if (lCause instanceof Error) {
+        throw (Error) lCause;
+      }
+      else {
+        throw new CompletionException(lCause);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Thread was interrupted while waiting for response.");
+    }
+  }
+
+  /**
+   * Class implements a builder for {@link CoalescingRESTRequestExecutor}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate ) {
+      if (pDelegate != null) {
+        delegate = pDelegate;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pDelegate' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new coalescing executor based on the configuration of this builder.
+     *
+     * @return {@link CoalescingRESTRequestExecutor} Created executor. The method never returns null.
+     */
+    public CoalescingRESTRequestExecutor build( ) {
+      return new CoalescingRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.StreamTermination;
+import com.anaptecs.jeaf.rest.executor.decorator.AdaptiveConcurrencyLimiter.Permit;
+
+/**
+ * Class implements a decorator that limits the amount of concurrent calls per service class (see
+ * {@link RESTRequest#getServiceClass()}) using an {@link AdaptiveConcurrencyLimiter}:
+ *
+ * <pre>
+ * AdaptiveConcurrencyLimiter lLimiter = AdaptiveConcurrencyLimiter.builder().build();
+ * RESTRequestExecutor lExecutor = ConcurrencyLimitingRESTRequestExecutor.builder(lDelegate, lLimiter).build();
+ * </pre>
+ *
+ * Calls that exceed the limit fail fast with a {@link java.util.concurrent.RejectedExecutionException} instead of
+ * waiting for a saturated downstream service. If the limiter has a queue then callers block until they get a permit
+ * or the queue timeout expires. Calls of {@link #executeStreamResultRequest(RESTRequest, int, ObjectType)} hold their
+ * permit until the returned stream is consumed, fails or is closed.
+ *
+ * @author JEAF Development Team
+ */
+public class ConcurrencyLimitingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Limiter that provides the permits for all calls.
+   */
+  private final AdaptiveConcurrencyLimiter limiter;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pLimiter Limiter that should be used. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate, AdaptiveConcurrencyLimiter pLimiter ) {
+    return new Builder(pDelegate, pLimiter);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected ConcurrencyLimitingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    limiter = pBuilder.limiter;
+  }
+
+  /**
+   * Method returns the limiter of the decorator.
+   *
+   * @return {@link AdaptiveConcurrencyLimiter} Limiter that is used. The method never returns null.
+   */
+  public AdaptiveConcurrencyLimiter getLimiter( ) {
+    return limiter;
+  }
+
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    Permit lPermit = this.acquirePermit(pRequest);
+    try {
+      T lResult = pCall.get();
+      lPermit.end();
+      return lResult;
+    }
+    catch (RuntimeException | Error e) {
+      lPermit.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method executes the request. The permit for the request is held until all elements of the returned stream were
+   * read, reading an element failed or the stream is closed. Closing the stream is mandatory. A stream that is neither
+   * consumed completely nor closed keeps its permit forever and thus reduces the usable limit.
+   */
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Permit lPermit = this.acquirePermit(pRequest);
+    try {
+      Stream<T> lStream = this.getDelegate().executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+      return StreamTermination.observe(lStream, true, pError -> {
+        if (pError == null) {
+          lPermit.end();
+        }
+        else {
+          lPermit.fail(pError);
+        }
+      });
+    }
+    catch (RuntimeException | Error e) {
+      lPermit.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method acquires a permit for the passed request.
+   *
+   * @param pRequest Request for which a permit is required. The parameter must not be null.
+   * @return {@link Permit} Acquired permit. It has to be finished after the request was executed. The method never
+   * returns null.
+   */
+  private Permit acquirePermit( RESTRequest pRequest ) {
+    Permit lPermit = limiter.tryAcquire(pRequest.getServiceClass());
+    if (lPermit == null) {
+      CompletableFuture<Permit> lWaiting = limiter.acquire(pRequest.getServiceClass());
+      try {
+        lPermit = lWaiting.get();
+      }
+      catch (ExecutionException e) {
+        Throwable lCause = e.getCause();
+        if (lCause instanceof RuntimeException) {
+          throw (RuntimeException) lCause;
+        }
+        else {
+          throw new CompletionException(lCause);
+        }
+      }
+      catch (InterruptedException e) {
+        limiter.cancel(lWaiting);
+        Thread.currentThread().interrupt();
+        throw new CancellationException("Thread was interrupted while waiting for permit for "
+            + pRequest.getHttpMethod() + " " + pRequest.getPath());
+      }
+    }
+    return lPermit;
+  }
+
+  /**
+   * Class is used to create {@link ConcurrencyLimitingRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pLimiter Limiter that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate, AdaptiveConcurrencyLimiter pLimiter ) {
+      if (pDelegate != null && pLimiter != null) {
+        delegate = pDelegate;
+        limiter = pLimiter;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pLimiter' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link ConcurrencyLimitingRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link ConcurrencyLimitingRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public ConcurrencyLimitingRESTRequestExecutor build( ) {
+      return new ConcurrencyLimitingRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,359 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+
+/**
+ * Class defines when requests are hedged. A hedged request is a duplicate of a request that is sent if the original
+ * request did not respond within the hedging delay. The first response wins and the other request is cancelled. This
+ * way a few slow replicas of a service do not dominate the tail latency of its callers.
+ * <p/>
+ * The hedging delay is the configured percentile of the latencies of the last calls per service class (see
+ * {@link RESTRequest#getServiceClass()}). It is recalculated after every {@link Builder#setMinimumNumberOfCalls(int)}
+ * successful calls. Until then requests of the service class are not hedged.
+ * <p/>
+ * Hedged requests are limited by a budget per service class. Every call adds the configured percentage of a hedged
+ * request to the budget and every hedged request consumes one. The budget starts empty so hedging never adds more than
+ * the configured percentage of load to a service.
+ * <p/>
+ * By default only requests with a safe http method like GET and HEAD and requests that are explicitly marked as
+ * idempotent using header {@link HeaderNames#IDEMPOTENCY_KEY} are hedged. Requests whose body can not be sent twice
+ * (see {@link RESTRequest#isRepeatable()}) are never hedged.
+ * <p/>
+ * Hedging policies are thread-safe and intended to be shared by {@link HedgingRESTRequestExecutor} and
+ * {@link com.anaptecs.jeaf.rest.executor.decorator.reactive.HedgingRESTRequestExecutorReactive}.
+ *
+ * @author JEAF Development Team
+ */
+public class HedgingPolicy {
+  /**
+   * Delay that is returned if requests should not be hedged.
+   */
+  public static final long NO_HEDGING = -1;
+
+  /**
+   * Amount of latencies after which the statistics of a service class are cleared so that the delay follows changes
+   * of the latency.
+   */
+  private static final long MAX_SAMPLES = 10000;
+
+  /**
+   * Budget is counted in units of 1/100 percent of a hedged request.
+   */
+  private static final long HEDGE_COST = 10000;
+
+  /**
+   * Maximum amount of hedged requests that can be saved up in the budget.
+   */
+  private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+  private final double percentile;
+
+  private final int minimumNumberOfCalls;
+
+  private final long minDelayNanos;
+
+  private final long budgetDeposit;
+
+  private final Predicate<RESTRequest> hedgePredicate;
+
+  /**
+   * Statistics of all service classes that were already called.
+   */
+  private final Map<Class<?>, Service> services = new ConcurrentHashMap<>();
+
+  /**
+   * Method creates new builder.
+   *
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the policy. The parameter must not be null.
+   */
+  protected HedgingPolicy( Builder pBuilder ) {
+    percentile = pBuilder.percentile;
+    minimumNumberOfCalls = pBuilder.minimumNumberOfCalls;
+    minDelayNanos = pBuilder.minDelay.toNanos();
+    budgetDeposit = Math.round(pBuilder.budgetPercent * 100);
+    hedgePredicate = pBuilder.hedgePredicate;
+  }
+
+  /**
+   * Method checks if the passed request may be hedged. Requests that are not repeatable are never hedged, independent
+   * of the configured hedge predicate.
+   *
+   * @param pRequest Request that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the request may be hedged and false otherwise.
+   */
+  public boolean isHedgeable( RESTRequest pRequest ) {
+    return pRequest.isRepeatable() && hedgePredicate.test(pRequest);
+  }
+
+  /**
+   * Method returns the hedging statistics of the passed service class.
+   *
+   * @param pServiceClass Service class whose statistics should be returned. The parameter must not be null.
+   * @return {@link Service} Statistics of the service class. The method never returns null.
+   */
+  public Service getService( Class<?> pServiceClass ) {
+    return services.computeIfAbsent(pServiceClass, Service::new);
+  }
+
+  /**
+   * Class contains the latencies and the hedging budget of one service class.
+   */
+  public final class Service {
+    private final Class<?> serviceClass;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private final AtomicLong recorded = new AtomicLong();
+
+    private final AtomicLong budget = new AtomicLong();
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder hedges = new LongAdder();
+
+    private final LongAdder hedgeWins = new LongAdder();
+
+    private volatile long delayNanos = NO_HEDGING;
+
+    Service( Class<?> pServiceClass ) {
+      serviceClass = pServiceClass;
+    }
+
+    /**
+     * Method returns the service class to which the statistics belong.
+     *
+     * @return {@link Class} Service class. The method never returns null.
+     */
+    public Class<?> getServiceClass( ) {
+      return serviceClass;
+    }
+
+    /**
+     * Method returns after which time a request of the service class is hedged.
+     *
+     * @return long Hedging delay in nanoseconds or {@link HedgingPolicy#NO_HEDGING} if not enough calls were recorded
+     * yet.
+     */
+    public long getDelayNanos( ) {
+      return delayNanos;
+    }
+
+    /**
+     * Method returns the amount of calls of the service class.
+     *
+     * @return long Amount of calls.
+     */
+    public long getCalls( ) {
+      return calls.sum();
+    }
+
+    /**
+     * Method returns the amount of hedged requests that were sent.
+     *
+     * @return long Amount of hedged requests.
+     */
+    public long getHedges( ) {
+      return hedges.sum();
+    }
+
+    /**
+     * Method returns the amount of hedged requests that responded before the original request.
+     *
+     * @return long Amount of hedged requests that won.
+     */
+    public long getHedgeWins( ) {
+      return hedgeWins.sum();
+    }
+
+    /**
+     * Method reports that a call of the service class is started. Every call adds to the hedging budget.
+     */
+    public void onCall( ) {
+      calls.increment();
+      if (budget.get() < MAX_BUDGET) {
+        budget.updateAndGet(pBudget -> Math.min(pBudget + budgetDeposit, MAX_BUDGET));
+      }
+    }
+
+    /**
+     * Method tries to take a hedged request from the budget.
+     *
+     * @return boolean Method returns true if the request may be hedged and false if the budget is exhausted.
+     */
+    public boolean tryHedge( ) {
+      long lBudget;
+      do {
+        lBudget = budget.get();
+        if (lBudget < HEDGE_COST) {
+          return false;
+        }
+      }
+      while (budget.compareAndSet(lBudget, lBudget - HEDGE_COST) == false);
+      hedges.increment();
+      return true;
+    }
+
+    /**
+     * Method reports that a hedged request responded before the original request.
+     */
+    public void onHedgeWon( ) {
+      hedgeWins.increment();
+    }
+
+    /**
+     * Method reports that a call of the service class succeeded.
+     *
+     * @param pLatencyNanos Latency of the call as seen by the caller in nanoseconds.
+     */
+    public void onSuccess( long pLatencyNanos ) {
+      latencies.record(pLatencyNanos);
+      if (recorded.incrementAndGet() % minimumNumberOfCalls == 0) {
+        delayNanos = Math.max(minDelayNanos, latencies.getValueAtPercentile(percentile));
+        if (latencies.getCount() >= MAX_SAMPLES) {
+          latencies.reset();
+        }
+      }
+    }
+
+    @Override
+    public String toString( ) {
+      return serviceClass.getName() + " delay=" + delayNanos + "ns calls=" + this.getCalls() + " hedges="
+          + this.getHedges() + " hedgeWins=" + this.getHedgeWins();
+    }
+  }
+
+  /**
+   * Class is used to create {@link HedgingPolicy} objects.
+   */
+  public static class Builder {
+    private double percentile = 95;
+
+    private int minimumNumberOfCalls = 100;
+
+    private Duration minDelay = Duration.ofMillis(1);
+
+    private double budgetPercent = 5;
+
+    private Predicate<RESTRequest> hedgePredicate =
+        pRequest -> pRequest.getHttpMethod().isSafe() || pRequest.getHeader(HeaderNames.IDEMPOTENCY_KEY) != null;
+
+    /**
+     * Initialize object.
+     */
+    protected Builder( ) {
+    }
+
+    /**
+     * Method sets the percentile of the latencies after which requests are hedged. Default is the 95th percentile.
+     *
+     * @param pPercentile Percentile of the latencies. The value must be greater than 0 and at most 100.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setPercentile( double pPercentile ) {
+      if (pPercentile > 0 && pPercentile <= 100) {
+        percentile = pPercentile;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pPercentile' must be in (0, 100].");
+      }
+    }
+
+    /**
+     * Method sets after how many successful calls of a service class its hedging delay is recalculated. Default is
+     * 100.
+     *
+     * @param pMinimumNumberOfCalls Amount of calls. The value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setMinimumNumberOfCalls( int pMinimumNumberOfCalls ) {
+      if (pMinimumNumberOfCalls > 0) {
+        minimumNumberOfCalls = pMinimumNumberOfCalls;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pMinimumNumberOfCalls' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method sets the minimum hedging delay. Default is 1 millisecond.
+     *
+     * @param pMinDelay Minimum delay. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setMinDelay( Duration pMinDelay ) {
+      if (pMinDelay != null && pMinDelay.isNegative() == false) {
+        minDelay = pMinDelay;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pMinDelay' must not be null or negative.");
+      }
+    }
+
+    /**
+     * Method sets the maximum amount of hedged requests relative to all calls of a service class. Default is 5%.
+     *
+     * @param pBudgetPercent Maximum additional load in percent. The value must be greater than 0 and at most 100.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setBudget( double pBudgetPercent ) {
+      if (pBudgetPercent > 0 && pBudgetPercent <= 100) {
+        budgetPercent = pBudgetPercent;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pBudgetPercent' must be in (0, 100].");
+      }
+    }
+
+    /**
+     * Method sets the predicate that decides which requests may be hedged. By default requests with a safe http
+     * method and requests with header {@link HeaderNames#IDEMPOTENCY_KEY} are hedged.
+     *
+     * @param pHedgePredicate Predicate to detect requests that may be hedged. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setHedgePredicate( Predicate<RESTRequest> pHedgePredicate ) {
+      if (pHedgePredicate != null) {
+        hedgePredicate = pHedgePredicate;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pHedgePredicate' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link HedgingPolicy} object based on the set values.
+     *
+     * @return {@link HedgingPolicy} Created object. The method never returns null.
+     */
+    public HedgingPolicy build( ) {
+      return new HedgingPolicy(this);
+    }
+  }
+}
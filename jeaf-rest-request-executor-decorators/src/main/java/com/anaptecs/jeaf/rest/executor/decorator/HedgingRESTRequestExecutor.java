@@ -0,0 +1,231 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+
+/**
+ * Class implements a decorator that hedges slow requests according to a {@link HedgingPolicy}:
+ *
+ * <pre>
+ * HedgingPolicy lPolicy = HedgingPolicy.builder().setPercentile(95).setBudget(5).build();
+ * RESTRequestExecutor lExecutor = HedgingRESTRequestExecutor.builder(lDelegate, lPolicy).build();
+ * </pre>
+ *
+ * Requests that may be hedged are executed on an executor service while the caller waits for the response. If the
+ * request does not respond within the hedging delay of its service class and the budget permits, the same request is
+ * sent a second time. The first successful response is returned and the thread of the other request is interrupted.
+ * Errors of the hedged request are ignored as the original request is still running.
+ * <p/>
+ * Calls of {@link #executeStreamResultRequest(RESTRequest, int, ObjectType)} are never hedged as the stream of the
+ * losing request could not be closed reliably. Requests with a body that can not be sent twice are not hedged either
+ * (see {@link HedgingPolicy#isHedgeable(RESTRequest)}).
+ *
+ * @author JEAF Development Team
+ */
+public class HedgingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Policy that decides which requests are hedged.
+   */
+  private final HedgingPolicy hedgingPolicy;
+
+  /**
+   * Executor service that is used to execute requests that may be hedged.
+   */
+  private final ExecutorService executorService;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pHedgingPolicy Hedging policy that should be used. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate, HedgingPolicy pHedgingPolicy ) {
+    return new Builder(pDelegate, pHedgingPolicy);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected HedgingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    hedgingPolicy = pBuilder.hedgingPolicy;
+    executorService = pBuilder.executorService != null ? pBuilder.executorService
+        : VirtualThreads.newExecutor("jeaf-rest-hedging-");
+  }
+
+  /**
+   * Method returns the hedging policy of the decorator.
+   *
+   * @return {@link HedgingPolicy} Hedging policy that is used. The method never returns null.
+   */
+  public HedgingPolicy getHedgingPolicy( ) {
+    return hedgingPolicy;
+  }
+
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    T lResult;
+    if (hedgingPolicy.isHedgeable(pRequest)) {
+      HedgingPolicy.Service lService = hedgingPolicy.getService(pRequest.getServiceClass());
+      lService.onCall();
+      long lStart = System.nanoTime();
+      long lDelay = lService.getDelayNanos();
+      if (lDelay != HedgingPolicy.NO_HEDGING) {
+        lResult = this.executeHedged(pRequest, pCall, lService, lDelay);
+      }
+      else {
+        lResult = pCall.get();
+      }
+      lService.onSuccess(System.nanoTime() - lStart);
+    }
+    else {
+      lResult = pCall.get();
+    }
+    return lResult;
+  }
+
+  /**
+   * Method executes the request. Stream results are never hedged.
+   */
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.getDelegate().executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+  }
+
+  private <T> T executeHedged( RESTRequest pRequest, Supplier<T> pCall, HedgingPolicy.Service pService,
+      long pDelay ) {
+    // The first request that finishes claims the result before the caller is woken up. This way a hedge win is always
+    // counted before the call returns.
+    CompletableFuture<T> lResult = new CompletableFuture<>();
+    AtomicBoolean lDecided = new AtomicBoolean();
+    Future<?> lOriginal = executorService.submit(( ) -> {
+      try {
+        T lValue = pCall.get();
+        if (lDecided.compareAndSet(false, true)) {
+          lResult.complete(lValue);
+        }
+      }
+      catch (RuntimeException | Error e) {
+        if (lDecided.compareAndSet(false, true)) {
+          lResult.completeExceptionally(e);
+        }
+      }
+    });
+    Future<?> lHedged = null;
+    try {
+      try {
+        return lResult.get(pDelay, TimeUnit.NANOSECONDS);
+      }
+      catch (TimeoutException e) {
+        if (pService.tryHedge()) {
+          lHedged = executorService.submit(( ) -> {
+            try {
+              T lValue = pCall.get();
+              if (lDecided.compareAndSet(false, true)) {
+                pService.onHedgeWon();
+                lResult.complete(lValue);
+              }
+            }
+            catch (RuntimeException | Error ignored) {
+              // Outcome of the call is decided by the original request.
+            }
+          });
+        }
+        return lResult.get();
+      }
+    }
+    catch (ExecutionException e) {
+      Throwable lCause = e.getCause();
+      if (lCause instanceof RuntimeException) {
+        throw (RuntimeException) lCause;
+      }
+      else if (lCause instanceof Error) {
+        throw (Error) lCause;
+      }
+      else {
+        throw new CompletionException(lCause);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Thread was interrupted while waiting for request " + pRequest.getHttpMethod()
+          + " " + pRequest.getPath());
+    }
+    finally {
+      lOriginal.cancel(true);
+      if (lHedged != null) {
+        lHedged.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Class is used to create {@link HedgingRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final HedgingPolicy hedgingPolicy;
+
+    private ExecutorService executorService;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pHedgingPolicy Hedging policy that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate, HedgingPolicy pHedgingPolicy ) {
+      if (pDelegate != null && pHedgingPolicy != null) {
+        delegate = pDelegate;
+        hedgingPolicy = pHedgingPolicy;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pHedgingPolicy' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the executor service that should be used to execute requests that may be hedged. If no executor
+     * service is set then one from {@link VirtualThreads#newExecutor(String)} will be used.
+     *
+     * @param pExecutorService Executor service that should be used. The parameter may be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setExecutorService( ExecutorService pExecutorService ) {
+      executorService = pExecutorService;
+      return this;
+    }
+
+    /**
+     * Method builds the {@link HedgingRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link HedgingRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public HedgingRESTRequestExecutor build( ) {
+      return new HedgingRESTRequestExecutor(this);
+    }
+  }
+}
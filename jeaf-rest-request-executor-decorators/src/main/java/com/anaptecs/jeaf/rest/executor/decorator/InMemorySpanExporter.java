@@ -0,0 +1,41 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Class implements a {@link SpanExporter} that keeps all spans in memory. It is intended for tests and for debugging.
+ *
+ * @author JEAF Development Team
+ */
+public class InMemorySpanExporter implements SpanExporter {
+  private final Queue<SpanData> spans = new ConcurrentLinkedQueue<>();
+
+  @Override
+  public void export( SpanData pSpan ) {
+    spans.add(pSpan);
+  }
+
+  /**
+   * Method returns all spans that were exported so far in the order in which they were finished.
+   *
+   * @return {@link List} Exported spans. The returned list is a copy. The method never returns null.
+   */
+  public List<SpanData> getFinishedSpans( ) {
+    return new ArrayList<>(spans);
+  }
+
+  /**
+   * Method removes all exported spans.
+   */
+  public void reset( ) {
+    spans.clear();
+  }
+}
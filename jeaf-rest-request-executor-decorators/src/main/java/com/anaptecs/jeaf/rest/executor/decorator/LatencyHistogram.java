@@ -0,0 +1,197 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class implements a lock-free histogram for latencies in nanoseconds. Like HdrHistogram it uses buckets whose size
+ * grows logarithmically with the value. Every power of two is split up into 32 linear sub buckets so that the relative
+ * error of all values that are read from the histogram is less than about 3%.
+ * <p/>
+ * Recording a value only increments one counter of an {@link AtomicLongArray} and never allocates memory. This way the
+ * histogram can be used on every call in production. Values that are read from the histogram are calculated from the
+ * current counters. In case of concurrent updates they might therefore not reflect exactly the same set of values.
+ * <p/>
+ * Values that exceed {@link #MAX_TRACKABLE_VALUE} (about 73 minutes) are recorded as {@link #MAX_TRACKABLE_VALUE}.
+ *
+ * @author JEAF Development Team
+ */
+public final class LatencyHistogram {
+  /**
+   * Largest value in nanoseconds that can be tracked exactly by the histogram.
+   */
+  public static final long MAX_TRACKABLE_VALUE = (1L << 42) - 1;
+
+  /**
+   * Amount of bits that are used for the linear sub buckets of each power of two.
+   */
+  private static final int SUB_BUCKET_BITS = 5;
+
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * Counters of all buckets. Values below 2 * {@link #SUB_BUCKET_COUNT} are counted exactly.
+   */
+  private final AtomicLongArray counts = new AtomicLongArray(index(MAX_TRACKABLE_VALUE) + 1);
+
+  private final LongAdder totalCount = new LongAdder();
+
+  private final LongAdder totalValue = new LongAdder();
+
+  private final AtomicLong maxValue = new AtomicLong();
+
+  /**
+   * Method records the passed value.
+   *
+   * @param pValueNanos Value in nanoseconds. Negative values are ignored.
+   */
+  public void record( long pValueNanos ) {
+    if (pValueNanos >= 0) {
+      long lValue = Math.min(pValueNanos, MAX_TRACKABLE_VALUE);
+      counts.incrementAndGet(index(lValue));
+      totalCount.increment();
+      totalValue.add(lValue);
+      // Maximum is only updated by CAS if it really changes which is rarely the case.
+      if (lValue > maxValue.get()) {
+        maxValue.accumulateAndGet(lValue, Math::max);
+      }
+    }
+  }
+
+  /**
+   * Method returns the amount of recorded values.
+   *
+   * @return long Amount of recorded values.
+   */
+  public long getCount( ) {
+    return totalCount.sum();
+  }
+
+  /**
+   * Method returns the largest recorded value.
+   *
+   * @return long Largest value in nanoseconds or 0 if no value was recorded.
+   */
+  public long getMax( ) {
+    return maxValue.get();
+  }
+
+  /**
+   * Method returns the arithmetic mean of all recorded values.
+   *
+   * @return double Mean value in nanoseconds or 0 if no value was recorded.
+   */
+  public double getMean( ) {
+    long lCount = totalCount.sum();
+    return lCount > 0 ? (double) totalValue.sum() / lCount : 0;
+  }
+
+  /**
+   * Method returns the value at the passed percentile, e.g. 99 for the 99th percentile. The returned value is the
+   * largest value of the bucket that contains the percentile but never exceeds {@link #getMax()}.
+   *
+   * @param pPercentile Percentile whose value should be returned. The value must be between 0 and 100.
+   * @return long Value at the percentile in nanoseconds or 0 if no value was recorded.
+   */
+  public long getValueAtPercentile( double pPercentile ) {
+    if (pPercentile < 0 || pPercentile > 100) {
+      throw new IllegalArgumentException("Parameter 'pPercentile' must be between 0 and 100.");
+    }
+    // Total is calculated from the buckets so that it is consistent with the values that are iterated below.
+    int lLength = counts.length();
+    long lTotal = 0;
+    for (int i = 0; i < lLength; i++) {
+      lTotal += counts.get(i);
+    }
+    long lResult = 0;
+    if (lTotal > 0) {
+      long lRank = Math.max(1, (long) Math.ceil(pPercentile / 100 * lTotal));
+      long lSeen = 0;
+      for (int i = 0; i < lLength; i++) {
+        lSeen += counts.get(i);
+        if (lSeen >= lRank) {
+          lResult = Math.min(highestEquivalentValue(i), maxValue.get());
+          break;
+        }
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns the value at the passed percentile in the passed time unit.
+   *
+   * @param pPercentile Percentile whose value should be returned. The value must be between 0 and 100.
+   * @param pUnit Time unit of the returned value. The parameter must not be null.
+   * @return double Value at the percentile in the passed time unit.
+   */
+  public double getValueAtPercentile( double pPercentile, TimeUnit pUnit ) {
+    return (double) this.getValueAtPercentile(pPercentile) / pUnit.toNanos(1);
+  }
+
+  /**
+   * Method removes all recorded values. Values that are recorded concurrently might get lost or only be partially
+   * removed.
+   */
+  public void reset( ) {
+    for (int i = 0; i < counts.length(); i++) {
+      counts.set(i, 0);
+    }
+    totalCount.reset();
+    totalValue.reset();
+    maxValue.set(0);
+  }
+
+  /**
+   * Method returns the index of the bucket for the passed value.
+   *
+   * @param pValue Value whose bucket index should be returned. The value must be between 0 and
+   * {@link #MAX_TRACKABLE_VALUE}.
+   * @return int Index of the bucket.
+   */
+  static int index( long pValue ) {
+    int lIndex;
+    if (pValue < SUB_BUCKET_COUNT) {
+      lIndex = (int) pValue;
+    }
+    else {
+      // Position of the highest bit decides about the bucket, the following bits about the sub bucket.
+      int lExponent = 63 - Long.numberOfLeadingZeros(pValue);
+      int lShift = lExponent - SUB_BUCKET_BITS;
+      lIndex = (lShift << SUB_BUCKET_BITS) + (int) (pValue >>> lShift);
+    }
+    return lIndex;
+  }
+
+  /**
+   * Method returns the largest value that belongs to the bucket with the passed index.
+   *
+   * @param pIndex Index of the bucket.
+   * @return long Largest value of the bucket.
+   */
+  static long highestEquivalentValue( int pIndex ) {
+    long lResult;
+    if (pIndex < 2 * SUB_BUCKET_COUNT) {
+      lResult = pIndex;
+    }
+    else {
+      int lShift = (pIndex >>> SUB_BUCKET_BITS) - 1;
+      long lSubBucket = (pIndex & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+      lResult = ((lSubBucket + 1) << lShift) - 1;
+    }
+    return lResult;
+  }
+
+  @Override
+  public String toString( ) {
+    return "count=" + this.getCount() + " p50=" + this.getValueAtPercentile(50) + "ns p99="
+        + this.getValueAtPercentile(99) + "ns max=" + this.getMax() + "ns";
+  }
+}
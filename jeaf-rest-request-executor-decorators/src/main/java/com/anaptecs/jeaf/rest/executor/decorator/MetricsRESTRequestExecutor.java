@@ -0,0 +1,224 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestListener;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.api.StreamTermination;
+
+/**
+ * Class implements a decorator that reports all calls of the decorated {@link RESTRequestExecutor} to
+ * {@link RESTRequestListener}s. This way any executor can be instrumented, e.g. using {@link RequestMetrics}:
+ *
+ * <pre>
+ * RequestMetrics lMetrics = new RequestMetrics();
+ * RESTRequestExecutor lExecutor = MetricsRESTRequestExecutor.builder(lDelegate).addListener(lMetrics).build();
+ * </pre>
+ *
+ * The decorator only knows the total duration of a call. In case of success the status code is the expected one or
+ * the one of the returned {@link RESTResponse}. Phase durations and transferred bytes are only available if the
+ * listeners are registered directly at an executor that supports it.
+ * <p/>
+ * Calls of {@link #executeStreamResultRequest(RESTRequest, int, ObjectType)} are completed when the returned stream is
+ * closed. If reading an element of the stream fails then the call is reported as failed right away.
+ *
+ * @author JEAF Development Team
+ */
+public class MetricsRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Listeners that are notified about all calls.
+   */
+  private final List<RESTRequestListener> listeners;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate ) {
+    return new Builder(pDelegate);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected MetricsRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    listeners = List.copyOf(pBuilder.listeners);
+  }
+
+  /**
+   * Method returns all listeners of the decorator.
+   *
+   * @return {@link List} Listeners of the decorator. The returned list is immutable. The method never returns null.
+   */
+  public List<RESTRequestListener> getListeners( ) {
+    return listeners;
+  }
+
+  @Override
+  public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    this.observe(pRequest, pSuccessfulStatusCode, ( ) -> {
+      this.getDelegate().executeNoResultRequest(pRequest, pSuccessfulStatusCode);
+      return null;
+    });
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.observe(pRequest, pSuccessfulStatusCode,
+        ( ) -> this.getDelegate().<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.observe(pRequest, pSuccessfulStatusCode, ( ) -> this.getDelegate().<T> executeCollectionResultRequest(
+        pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> RESTResponse<T> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    if (listeners.isEmpty()) {
+      return this.getDelegate().executeResponseRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    RequestEvent lEvent = RequestEvent.start(pRequest, listeners);
+    try {
+      RESTResponse<T> lResponse =
+          this.getDelegate().executeResponseRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+      lEvent.setStatusCode(lResponse.getStatusCode());
+      lEvent.end();
+      return lResponse;
+    }
+    catch (RuntimeException | Error e) {
+      lEvent.fail(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    if (listeners.isEmpty()) {
+      return this.getDelegate().executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    }
+    RequestEvent lEvent = RequestEvent.start(pRequest, listeners);
+    try {
+      Stream<T> lStream = this.getDelegate().executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+      return StreamTermination.observe(lStream, false, pError -> {
+        if (pError == null) {
+          lEvent.setStatusCode(pSuccessfulStatusCode);
+          lEvent.end();
+        }
+        else {
+          lEvent.fail(pError);
+        }
+      });
+    }
+    catch (RuntimeException | Error e) {
+      lEvent.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method is used for all calls whose expected status code is not known.
+   */
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    return this.observe(pRequest, (int) RequestEvent.UNKNOWN, pCall);
+  }
+
+  /**
+   * Method executes the passed call and reports it to all listeners.
+   *
+   * @param pRequest Request that is executed by the passed call. The parameter must not be null.
+   * @param pSuccessfulStatusCode Status code of the response if the call succeeds.
+   * @param pCall Call to the delegate that executes the request. The parameter must not be null.
+   * @return T Result of the call. The method may return null.
+   */
+  private <T> T observe( RESTRequest pRequest, int pSuccessfulStatusCode, Supplier<T> pCall ) {
+    if (listeners.isEmpty()) {
+      return pCall.get();
+    }
+    RequestEvent lEvent = RequestEvent.start(pRequest, listeners);
+    try {
+      T lResult = pCall.get();
+      lEvent.setStatusCode(pSuccessfulStatusCode);
+      lEvent.end();
+      return lResult;
+    }
+    catch (RuntimeException | Error e) {
+      lEvent.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Class is used to create {@link MetricsRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final List<RESTRequestListener> listeners = new ArrayList<>();
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate ) {
+      if (pDelegate != null) {
+        delegate = pDelegate;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pDelegate' must not be null.");
+      }
+    }
+
+    /**
+     * Method adds the passed listener. Listeners are notified in the order in which they were added.
+     *
+     * @param pListener Listener that should be notified about all calls. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder addListener( RESTRequestListener pListener ) {
+      if (pListener != null) {
+        listeners.add(pListener);
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pListener' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link MetricsRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link MetricsRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public MetricsRESTRequestExecutor build( ) {
+      return new MetricsRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+
+/**
+ * Class is the base class for all decorators that add behavior to an existing {@link RESTRequestExecutor}. All calls
+ * are routed through {@link #execute(RESTRequest, Supplier)} so that subclasses only have to implement their behavior
+ * once for all kinds of requests.
+ *
+ * @author JEAF Development Team
+ */
+public abstract class RESTRequestExecutorDecorator implements RESTRequestExecutor {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutor delegate;
+
+  /**
+   * Initialize object.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   */
+  protected RESTRequestExecutorDecorator( RESTRequestExecutor pDelegate ) {
+    if (pDelegate != null) {
+      delegate = pDelegate;
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pDelegate' must not be null.");
+    }
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutor} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutor getDelegate( ) {
+    return delegate;
+  }
+
+  @Override
+  public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    this.execute(pRequest, ( ) -> {
+      delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode);
+      return null;
+    });
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.execute(pRequest,
+        ( ) -> delegate.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.execute(pRequest, ( ) -> delegate.<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> RESTResponse<T> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.execute(pRequest, ( ) -> delegate.<T> executeResponseRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  /**
+   * Method executes the request through {@link #execute(RESTRequest, Supplier)}. Please be aware that only the call of
+   * the delegate is covered by the decorator but not the consumption of the returned stream. Subclasses that need to
+   * cover the whole lifetime of the stream have to override this method.
+   */
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.execute(pRequest,
+        ( ) -> delegate.<T> executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  /**
+   * Method executes the passed call to the delegate and adds the behavior of the decorator.
+   *
+   * @param pRequest Request that is executed by the passed call. The parameter must not be null.
+   * @param pCall Call to the delegate that executes the request. The parameter must not be null.
+   * @return T Result of the call. The method may return null.
+   */
+  protected abstract <T> T execute( RESTRequest pRequest, Supplier<T> pCall );
+}
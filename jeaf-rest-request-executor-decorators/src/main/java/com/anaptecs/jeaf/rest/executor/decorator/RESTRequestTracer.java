@@ -0,0 +1,369 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestListener;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+
+/**
+ * Class creates client spans for REST calls and propagates the W3C trace context to the called services. It is used by
+ * {@link TracingRESTRequestExecutor} and
+ * {@link com.anaptecs.jeaf.rest.executor.decorator.reactive.TracingRESTRequestExecutorReactive}. Finished spans are
+ * passed to a {@link SpanExporter}.
+ * <p/>
+ * The parent of a span is the trace context that is already contained in the header fields of a request. If there is
+ * none then the context of the configured supplier is used, by default {@link TraceContext#current()}. Without parent
+ * a new trace is started. The context of the span is added to the request using {@link RESTRequest#withHeader(String,
+ * String)} so that the header fields of the request are not copied into a new map.
+ * <p/>
+ * A decorator only sees the total duration of a call. If the tracer is also registered as {@link RESTRequestListener}
+ * at the decorated executor then the durations for serialization, network and deserialization as well as the size of
+ * the bodies are added to the span as well.
+ *
+ * @author JEAF Development Team
+ */
+public class RESTRequestTracer implements RESTRequestListener {
+  /**
+   * Attribute contains the http method of the request.
+   */
+  public static final String HTTP_REQUEST_METHOD = "http.request.method";
+
+  /**
+   * Attribute contains the path template of the request (see {@link RESTRequest#getPathTemplate()}).
+   */
+  public static final String URL_TEMPLATE = "url.template";
+
+  /**
+   * Attribute contains the status code of the response if it is known.
+   */
+  public static final String HTTP_RESPONSE_STATUS_CODE = "http.response.status_code";
+
+  /**
+   * Attribute contains the class name of the error if a call failed.
+   */
+  public static final String ERROR_TYPE = "error.type";
+
+  /**
+   * Attribute contains the name of the service class of the request.
+   */
+  public static final String SERVICE_CLASS = "jeaf.rest.service_class";
+
+  /**
+   * Attribute contains the size of the request body in bytes.
+   */
+  public static final String HTTP_REQUEST_BODY_SIZE = "http.request.body.size";
+
+  /**
+   * Attribute contains the size of the response body in bytes.
+   */
+  public static final String HTTP_RESPONSE_BODY_SIZE = "http.response.body.size";
+
+  /**
+   * Attribute contains the time in nanoseconds that was required to create and serialize the request.
+   */
+  public static final String SERIALIZE_DURATION = "jeaf.rest.serialize.duration_ns";
+
+  /**
+   * Attribute contains the time in nanoseconds between sending the request and receiving the response headers.
+   */
+  public static final String NETWORK_DURATION = "jeaf.rest.network.duration_ns";
+
+  /**
+   * Attribute contains the time in nanoseconds that was required to read and deserialize the response body.
+   */
+  public static final String DESERIALIZE_DURATION = "jeaf.rest.deserialize.duration_ns";
+
+  /**
+   * Exporter to which all finished spans are passed.
+   */
+  private final SpanExporter exporter;
+
+  /**
+   * Supplier for the parent context of requests without <code>traceparent</code> header.
+   */
+  private final Supplier<TraceContext> parentContextSupplier;
+
+  /**
+   * Ratio of new traces that are sampled.
+   */
+  private final double samplingRatio;
+
+  /**
+   * Recorded spans that are not yet finished. The <code>traceparent</code> header of their request is used as key so
+   * that events of the executor can be assigned to them.
+   */
+  private final Map<String, Span> activeSpans = new ConcurrentHashMap<>();
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pExporter Exporter to which all finished spans are passed. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( SpanExporter pExporter ) {
+    return new Builder(pExporter);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the tracer. The parameter must not be null.
+   */
+  protected RESTRequestTracer( Builder pBuilder ) {
+    exporter = pBuilder.exporter;
+    parentContextSupplier = pBuilder.parentContextSupplier;
+    samplingRatio = pBuilder.samplingRatio;
+  }
+
+  /**
+   * Method starts a new span for the passed request. The span has to be finished. Sampled spans are kept by the tracer
+   * until they are finished so that events of the executor can be assigned to them.
+   *
+   * @param pRequest Request that should be traced. The parameter must not be null.
+   * @param pParent Parent context of the span. If null is passed then the parent is resolved as described for this
+   * class.
+   * @return {@link Span} Started span. The method never returns null.
+   */
+  public Span startSpan( RESTRequest pRequest, TraceContext pParent ) {
+    TraceContext lParent = pParent;
+    if (lParent == null) {
+      lParent = TraceContext.parse(pRequest.getHeader(HeaderNames.TRACEPARENT),
+          pRequest.getHeader(HeaderNames.TRACESTATE));
+    }
+    if (lParent == null) {
+      lParent = parentContextSupplier.get();
+    }
+    TraceContext lContext;
+    if (lParent != null) {
+      lContext = lParent.createChild();
+    }
+    else {
+      lContext = TraceContext.newRoot(samplingRatio >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRatio);
+    }
+
+    RESTRequest lRequest = pRequest.withHeader(HeaderNames.TRACEPARENT, lContext.getTraceparent());
+    if (lContext.getTraceState() != null) {
+      lRequest = lRequest.withHeader(HeaderNames.TRACESTATE, lContext.getTraceState());
+    }
+    Span lSpan = new Span(lRequest, lContext, lParent != null ? lParent.getSpanId() : null);
+    if (lContext.isSampled()) {
+      activeSpans.put(lContext.getTraceparent(), lSpan);
+    }
+    return lSpan;
+  }
+
+  @Override
+  public void onEnd( RequestEvent pEvent ) {
+    this.recordEvent(pEvent);
+  }
+
+  @Override
+  public void onError( RequestEvent pEvent, Throwable pError ) {
+    this.recordEvent(pEvent);
+  }
+
+  private void recordEvent( RequestEvent pEvent ) {
+    String lTraceparent = pEvent.getRequest().getHeader(HeaderNames.TRACEPARENT);
+    Span lSpan = lTraceparent != null ? activeSpans.get(lTraceparent) : null;
+    if (lSpan != null) {
+      lSpan.event = pEvent;
+    }
+  }
+
+  /**
+   * Class represents a span that was started by the tracer. Spans have to be finished by calling either
+   * {@link #end(int)} or {@link #fail(Throwable)}. Only the first of these calls has an effect.
+   */
+  public final class Span {
+    private final RESTRequest request;
+
+    private final TraceContext context;
+
+    private final String parentSpanId;
+
+    private final long startEpochNanos;
+
+    private final long startNanos;
+
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    /**
+     * Event of the executor that executed the request. It is only available if the tracer is registered as listener.
+     */
+    private volatile RequestEvent event;
+
+    Span( RESTRequest pRequest, TraceContext pContext, String pParentSpanId ) {
+      request = pRequest;
+      context = pContext;
+      parentSpanId = pParentSpanId;
+      Instant lNow = Instant.now();
+      startEpochNanos = lNow.getEpochSecond() * 1_000_000_000L + lNow.getNano();
+      startNanos = System.nanoTime();
+    }
+
+    /**
+     * Method returns the request that has to be executed for this span. It contains the trace context of the span.
+     *
+     * @return {@link RESTRequest} Request with trace context. The method never returns null.
+     */
+    public RESTRequest getRequest( ) {
+      return request;
+    }
+
+    /**
+     * Method returns the context of this span.
+     *
+     * @return {@link TraceContext} Context of the span. The method never returns null.
+     */
+    public TraceContext getContext( ) {
+      return context;
+    }
+
+    /**
+     * Method finishes the span after the call succeeded.
+     *
+     * @param pStatusCode Status code of the response or {@link RequestEvent#UNKNOWN}.
+     */
+    public void end( int pStatusCode ) {
+      this.finish(pStatusCode, null);
+    }
+
+    /**
+     * Method finishes the span after the call failed.
+     *
+     * @param pError Error of the call. The parameter must not be null.
+     */
+    public void fail( Throwable pError ) {
+      this.finish((int) RequestEvent.UNKNOWN, pError);
+    }
+
+    private void finish( int pStatusCode, Throwable pError ) {
+      if (finished.compareAndSet(false, true) && context.isSampled()) {
+        long lDuration = System.nanoTime() - startNanos;
+        activeSpans.remove(context.getTraceparent(), this);
+        Map<String, Object> lAttributes = new LinkedHashMap<>();
+        lAttributes.put(HTTP_REQUEST_METHOD, request.getHttpMethod().name());
+        lAttributes.put(URL_TEMPLATE, request.getPathTemplate());
+        lAttributes.put(SERVICE_CLASS, request.getServiceClass().getName());
+        RequestEvent lEvent = event;
+        int lStatusCode = pStatusCode;
+        if (lEvent != null) {
+          if (lStatusCode == RequestEvent.UNKNOWN) {
+            lStatusCode = lEvent.getStatusCode();
+          }
+          putIfKnown(lAttributes, HTTP_REQUEST_BODY_SIZE, lEvent.getBytesSent());
+          putIfKnown(lAttributes, HTTP_RESPONSE_BODY_SIZE, lEvent.getBytesReceived());
+          putIfKnown(lAttributes, SERIALIZE_DURATION, lEvent.getSendNanos());
+          long lNetwork = lEvent.getWaitNanos();
+          if (lNetwork != RequestEvent.UNKNOWN && lEvent.getConnectNanos() != RequestEvent.UNKNOWN) {
+            lNetwork += lEvent.getConnectNanos();
+          }
+          putIfKnown(lAttributes, NETWORK_DURATION, lNetwork);
+          putIfKnown(lAttributes, DESERIALIZE_DURATION, lEvent.getDeserializeNanos());
+        }
+        if (lStatusCode != RequestEvent.UNKNOWN) {
+          lAttributes.put(HTTP_RESPONSE_STATUS_CODE, lStatusCode);
+        }
+        if (pError != null) {
+          lAttributes.put(ERROR_TYPE, pError.getClass().getName());
+        }
+        String lName = request.getHttpMethod().name() + ' ' + request.getPathTemplate();
+        try {
+          exporter.export(new SpanData(lName, context, parentSpanId, startEpochNanos, lDuration, lAttributes, pError));
+        }
+        catch (RuntimeException e) {
+          // Tracing must not influence the execution of requests.
+        }
+      }
+    }
+
+    private void putIfKnown( Map<String, Object> pAttributes, String pName, long pValue ) {
+      if (pValue != RequestEvent.UNKNOWN) {
+        pAttributes.put(pName, pValue);
+      }
+    }
+  }
+
+  /**
+   * Class is used to create {@link RESTRequestTracer} objects.
+   */
+  public static class Builder {
+    private final SpanExporter exporter;
+
+    private Supplier<TraceContext> parentContextSupplier = TraceContext::current;
+
+    private double samplingRatio = 1;
+
+    /**
+     * Initialize object.
+     *
+     * @param pExporter Exporter to which all finished spans are passed. The parameter must not be null.
+     */
+    protected Builder( SpanExporter pExporter ) {
+      if (pExporter != null) {
+        exporter = pExporter;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pExporter' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the supplier that provides the parent context for requests that do not already contain one. By
+     * default {@link TraceContext#current()} is used. Applications using OpenTelemetry can pass the current span
+     * context of OpenTelemetry here.
+     *
+     * @param pParentContextSupplier Supplier for the parent context. The supplier may return null. The parameter must
+     * not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setParentContextSupplier( Supplier<TraceContext> pParentContextSupplier ) {
+      if (pParentContextSupplier != null) {
+        parentContextSupplier = pParentContextSupplier;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pParentContextSupplier' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the ratio of new traces that are sampled. Spans with a parent follow the sampling decision of their
+     * parent. By default all traces are sampled.
+     *
+     * @param pSamplingRatio Ratio of sampled traces. The value must be between 0 and 1.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setSamplingRatio( double pSamplingRatio ) {
+      if (pSamplingRatio >= 0 && pSamplingRatio <= 1) {
+        samplingRatio = pSamplingRatio;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pSamplingRatio' must be between 0 and 1.");
+      }
+    }
+
+    /**
+     * Method builds the {@link RESTRequestTracer} object based on the set values.
+     *
+     * @return {@link RESTRequestTracer} Created object. The method never returns null.
+     */
+    public RESTRequestTracer build( ) {
+      return new RESTRequestTracer(this);
+    }
+  }
+}
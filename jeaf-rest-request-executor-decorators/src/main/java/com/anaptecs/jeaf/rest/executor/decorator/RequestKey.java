@@ -0,0 +1,138 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+
+/**
+ * Class represents a stable key for a request together with its expected result. Two keys are equal if their requests
+ * have the same canonical key (see {@link RESTRequest#getCanonicalKey()}) and if they expect the same kind of result.
+ * The body of a request is not part of the key.
+ * <p/>
+ * Headers that differ on every request even though the response does not depend on them (e.g. tracing information) are
+ * not part of the key. They can be configured when the request is built
+ * ({@link RESTRequest.Builder#setFingerprintExcludedHeaders(String...)}).
+ *
+ * @author JEAF Development Team
+ */
+public final class RequestKey {
+  private final RESTRequest request;
+
+  private final int successfulStatusCode;
+
+  @SuppressWarnings("rawtypes")
+  private final Class<? extends Collection> collectionClass;
+
+  private final ObjectType objectType;
+
+  /**
+   * Hash code is derived from the precalculated fingerprint of the request so creating a key is cheap.
+   */
+  private final int hashCode;
+
+  /**
+   * Method creates the key for the passed request and its expected result.
+   *
+   * @param pRequest Request for which the key should be created. The parameter must not be null.
+   * @param pSuccessfulStatusCode Status code that represents a successful call of the request.
+   * @param pCollectionClass Collection class of the expected result. The parameter may be null if the request returns
+   * a single object.
+   * @param pObjectType Type of the expected result. The parameter may be null if the request returns no result.
+   * @return {@link RequestKey} Key for the passed request. The method never returns null.
+   */
+  public static RequestKey of( RESTRequest pRequest, int pSuccessfulStatusCode, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    if (pRequest != null) {
+      return new RequestKey(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pRequest' must not be null.");
+    }
+  }
+
+  private RequestKey( RESTRequest pRequest, int pSuccessfulStatusCode, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    request = pRequest;
+    successfulStatusCode = pSuccessfulStatusCode;
+    collectionClass = pCollectionClass;
+    objectType = pObjectType;
+
+    int lHashCode = pRequest.hashCode();
+    lHashCode = 31 * lHashCode + successfulStatusCode;
+    lHashCode = 31 * lHashCode + Objects.hashCode(objectType);
+    hashCode = lHashCode;
+  }
+
+  /**
+   * Method returns the service class of the request.
+   *
+   * @return {@link Class} Service class of the request. The method never returns null.
+   */
+  public Class<?> getServiceClass( ) {
+    return request.getServiceClass();
+  }
+
+  /**
+   * Method returns the http method of the request.
+   *
+   * @return {@link HttpMethod} Http method of the request. The method never returns null.
+   */
+  public HttpMethod getHttpMethod( ) {
+    return request.getHttpMethod();
+  }
+
+  /**
+   * Method returns the encoded path including all query parameters of the request.
+   *
+   * @return {@link String} Encoded path and query of the request. The method never returns null.
+   */
+  public String getPathAndQuery( ) {
+    return request.getEncodedPathAndQuery();
+  }
+
+  /**
+   * Method returns the fingerprint of the request (see {@link RESTRequest#getFingerprint()}).
+   *
+   * @return long Fingerprint of the request.
+   */
+  public long getFingerprint( ) {
+    return request.getFingerprint();
+  }
+
+  @Override
+  public boolean equals( Object pObject ) {
+    boolean lEquals;
+    if (pObject == this) {
+      lEquals = true;
+    }
+    else if (pObject instanceof RequestKey) {
+      RequestKey lOther = (RequestKey) pObject;
+      lEquals = hashCode == lOther.hashCode && request.getFingerprint() == lOther.request.getFingerprint()
+          && successfulStatusCode == lOther.successfulStatusCode && collectionClass == lOther.collectionClass
+          && Objects.equals(objectType, lOther.objectType)
+          && request.getCanonicalKey().equals(lOther.request.getCanonicalKey());
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+
+  @Override
+  public int hashCode( ) {
+    return hashCode;
+  }
+
+  @Override
+  public String toString( ) {
+    return request.getHttpMethod() + " " + request.getServiceClass().getName() + " " + this.getPathAndQuery();
+  }
+}
@@ -0,0 +1,383 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestListener;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+
+/**
+ * Class collects metrics about REST calls per endpoint. An endpoint is identified by service class, http method and
+ * path template (see {@link RequestEvent#getPathTemplate()}). For every endpoint latencies of the whole call and of its
+ * phases are recorded in {@link LatencyHistogram}s. Besides that calls, errors, status classes and transferred bytes
+ * are counted.
+ * <p/>
+ * Metrics are collected by registering the object as {@link RESTRequestListener}, either at an executor that supports
+ * listeners or through {@link MetricsRESTRequestExecutor}. The same object should not be registered at an executor and
+ * at a decorator of the same executor as calls would then be counted twice.
+ * <p/>
+ * Recording is lock-free. To protect the application from requests that are not created from templates and thus have
+ * an unbounded amount of paths the amount of endpoints is limited. Calls of further endpoints are recorded for path
+ * template {@link #OTHER_PATHS}.
+ *
+ * @author JEAF Development Team
+ */
+public class RequestMetrics implements RESTRequestListener {
+  /**
+   * Default value for the maximum amount of endpoints.
+   */
+  public static final int DEFAULT_MAX_ENDPOINTS = 1000;
+
+  /**
+   * Path template that is used for all calls after the maximum amount of endpoints was reached.
+   */
+  public static final String OTHER_PATHS = "*";
+
+  /**
+   * Maximum amount of endpoints for which metrics are collected separately.
+   */
+  private final int maxEndpoints;
+
+  /**
+   * Metrics of all endpoints.
+   */
+  private final Map<EndpointKey, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+  /**
+   * Initialize object with {@link #DEFAULT_MAX_ENDPOINTS}.
+   */
+  public RequestMetrics( ) {
+    this(DEFAULT_MAX_ENDPOINTS);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pMaxEndpoints Maximum amount of endpoints for which metrics are collected separately. The value must be
+   * greater than 0.
+   */
+  public RequestMetrics( int pMaxEndpoints ) {
+    if (pMaxEndpoints > 0) {
+      maxEndpoints = pMaxEndpoints;
+    }
+    else {
+      throw new IllegalArgumentException("Parameter 'pMaxEndpoints' must be greater than 0.");
+    }
+  }
+
+  @Override
+  public void onStart( RequestEvent pEvent ) {
+    this.getEndpoint(pEvent).inFlight.increment();
+  }
+
+  @Override
+  public void onEnd( RequestEvent pEvent ) {
+    this.getEndpoint(pEvent).record(pEvent, false);
+  }
+
+  @Override
+  public void onError( RequestEvent pEvent, Throwable pError ) {
+    this.getEndpoint(pEvent).record(pEvent, true);
+  }
+
+  /**
+   * Method returns the metrics of all endpoints that were called so far.
+   *
+   * @return {@link Collection} Metrics of all endpoints. The returned collection is a copy. The method never returns
+   * null.
+   */
+  public Collection<Endpoint> getEndpoints( ) {
+    return Collections.unmodifiableList(new ArrayList<>(endpoints.values()));
+  }
+
+  /**
+   * Method returns the metrics of the passed endpoint.
+   *
+   * @param pServiceClass Service class of the endpoint. The parameter must not be null.
+   * @param pHttpMethod Http method of the endpoint. The parameter must not be null.
+   * @param pPathTemplate Path template of the endpoint. The parameter must not be null.
+   * @return {@link Endpoint} Metrics of the endpoint. The method returns null if the endpoint was not called yet.
+   */
+  public Endpoint getEndpoint( Class<?> pServiceClass, HttpMethod pHttpMethod, String pPathTemplate ) {
+    if (pServiceClass != null && pHttpMethod != null && pPathTemplate != null) {
+      return endpoints.get(new EndpointKey(pServiceClass, pHttpMethod, pPathTemplate));
+    }
+    else {
+      throw new IllegalArgumentException(
+          "Parameters 'pServiceClass', 'pHttpMethod' and 'pPathTemplate' must not be null.");
+    }
+  }
+
+  /**
+   * Method removes the metrics of all endpoints.
+   */
+  public void reset( ) {
+    endpoints.clear();
+  }
+
+  private Endpoint getEndpoint( RequestEvent pEvent ) {
+    EndpointKey lKey = new EndpointKey(pEvent.getServiceClass(), pEvent.getHttpMethod(), pEvent.getPathTemplate());
+    Endpoint lEndpoint = endpoints.get(lKey);
+    if (lEndpoint == null) {
+      if (endpoints.size() >= maxEndpoints) {
+        lKey = new EndpointKey(lKey.serviceClass, lKey.httpMethod, OTHER_PATHS);
+      }
+      lEndpoint = endpoints.computeIfAbsent(lKey, Endpoint::new);
+    }
+    return lEndpoint;
+  }
+
+  /**
+   * Class identifies an endpoint.
+   */
+  private static final class EndpointKey {
+    private final Class<?> serviceClass;
+
+    private final HttpMethod httpMethod;
+
+    private final String pathTemplate;
+
+    private final int hashCode;
+
+    EndpointKey( Class<?> pServiceClass, HttpMethod pHttpMethod, String pPathTemplate ) {
+      serviceClass = pServiceClass;
+      httpMethod = pHttpMethod;
+      pathTemplate = pPathTemplate;
+      hashCode = (31 * serviceClass.hashCode() + httpMethod.hashCode()) * 31 + pathTemplate.hashCode();
+    }
+
+    @Override
+    public int hashCode( ) {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lEquals;
+      if (this == pObject) {
+        lEquals = true;
+      }
+      else if (pObject instanceof EndpointKey) {
+        EndpointKey lOther = (EndpointKey) pObject;
+        lEquals = hashCode == lOther.hashCode && serviceClass == lOther.serviceClass
+            && httpMethod == lOther.httpMethod && Objects.equals(pathTemplate, lOther.pathTemplate);
+      }
+      else {
+        lEquals = false;
+      }
+      return lEquals;
+    }
+  }
+
+  /**
+   * Class contains the metrics of one endpoint. All values are updated concurrently while they are read.
+   */
+  public static final class Endpoint {
+    private final Class<?> serviceClass;
+
+    private final HttpMethod httpMethod;
+
+    private final String pathTemplate;
+
+    private final LatencyHistogram duration = new LatencyHistogram();
+
+    private final LatencyHistogram connectDuration = new LatencyHistogram();
+
+    private final LatencyHistogram sendDuration = new LatencyHistogram();
+
+    private final LatencyHistogram waitDuration = new LatencyHistogram();
+
+    private final LatencyHistogram deserializeDuration = new LatencyHistogram();
+
+    private final LongAdder inFlight = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder bytesSent = new LongAdder();
+
+    private final LongAdder bytesReceived = new LongAdder();
+
+    /**
+     * Amount of responses per status class. Index 0 is used for calls without status code.
+     */
+    private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+
+    private Endpoint( EndpointKey pKey ) {
+      serviceClass = pKey.serviceClass;
+      httpMethod = pKey.httpMethod;
+      pathTemplate = pKey.pathTemplate;
+    }
+
+    private void record( RequestEvent pEvent, boolean pFailed ) {
+      inFlight.decrement();
+      if (pFailed) {
+        errors.increment();
+      }
+      duration.record(pEvent.getDurationNanos());
+      connectDuration.record(pEvent.getConnectNanos());
+      sendDuration.record(pEvent.getSendNanos());
+      waitDuration.record(pEvent.getWaitNanos());
+      deserializeDuration.record(pEvent.getDeserializeNanos());
+      if (pEvent.getBytesSent() > 0) {
+        bytesSent.add(pEvent.getBytesSent());
+      }
+      if (pEvent.getBytesReceived() > 0) {
+        bytesReceived.add(pEvent.getBytesReceived());
+      }
+      int lStatusClass = pEvent.getStatusCode() / 100;
+      statusClasses.incrementAndGet(lStatusClass > 0 && lStatusClass < 6 ? lStatusClass : 0);
+    }
+
+    /**
+     * Method returns the service class of the endpoint.
+     *
+     * @return {@link Class} Service class of the endpoint. The method never returns null.
+     */
+    public Class<?> getServiceClass( ) {
+      return serviceClass;
+    }
+
+    /**
+     * Method returns the http method of the endpoint.
+     *
+     * @return {@link HttpMethod} Http method of the endpoint. The method never returns null.
+     */
+    public HttpMethod getHttpMethod( ) {
+      return httpMethod;
+    }
+
+    /**
+     * Method returns the path template of the endpoint.
+     *
+     * @return {@link String} Path template of the endpoint or {@link RequestMetrics#OTHER_PATHS}. The method never
+     * returns null.
+     */
+    public String getPathTemplate( ) {
+      return pathTemplate;
+    }
+
+    /**
+     * Method returns the amount of completed calls including failed ones.
+     *
+     * @return long Amount of completed calls.
+     */
+    public long getCallCount( ) {
+      return duration.getCount();
+    }
+
+    /**
+     * Method returns the amount of failed calls.
+     *
+     * @return long Amount of failed calls.
+     */
+    public long getErrorCount( ) {
+      return errors.sum();
+    }
+
+    /**
+     * Method returns the amount of calls that are currently executed.
+     *
+     * @return long Amount of running calls.
+     */
+    public long getInFlight( ) {
+      return inFlight.sum();
+    }
+
+    /**
+     * Method returns the amount of responses with a status code of the passed class.
+     *
+     * @param pStatusClass Status class, e.g. 2 for all 2xx status codes. 0 returns the amount of calls without status
+     * code.
+     * @return long Amount of responses.
+     */
+    public long getStatusClassCount( int pStatusClass ) {
+      if (pStatusClass >= 0 && pStatusClass < 6) {
+        return statusClasses.get(pStatusClass);
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pStatusClass' must be between 0 and 5.");
+      }
+    }
+
+    /**
+     * Method returns the total amount of bytes of all request bodies whose size was known.
+     *
+     * @return long Amount of bytes sent.
+     */
+    public long getBytesSent( ) {
+      return bytesSent.sum();
+    }
+
+    /**
+     * Method returns the total amount of bytes of all response bodies whose size was known.
+     *
+     * @return long Amount of bytes received.
+     */
+    public long getBytesReceived( ) {
+      return bytesReceived.sum();
+    }
+
+    /**
+     * Method returns the histogram with the total duration of all calls.
+     *
+     * @return {@link LatencyHistogram} Histogram of the call durations. The method never returns null.
+     */
+    public LatencyHistogram getDuration( ) {
+      return duration;
+    }
+
+    /**
+     * Method returns the histogram with the duration of the connect phase of all calls where it was known.
+     *
+     * @return {@link LatencyHistogram} Histogram of the connect phase. The method never returns null.
+     */
+    public LatencyHistogram getConnectDuration( ) {
+      return connectDuration;
+    }
+
+    /**
+     * Method returns the histogram with the duration of the send phase of all calls where it was known.
+     *
+     * @return {@link LatencyHistogram} Histogram of the send phase. The method never returns null.
+     */
+    public LatencyHistogram getSendDuration( ) {
+      return sendDuration;
+    }
+
+    /**
+     * Method returns the histogram with the duration of the wait phase of all calls where it was known.
+     *
+     * @return {@link LatencyHistogram} Histogram of the wait phase. The method never returns null.
+     */
+    public LatencyHistogram getWaitDuration( ) {
+      return waitDuration;
+    }
+
+    /**
+     * Method returns the histogram with the duration of the deserialize phase of all calls where it was known.
+     *
+     * @return {@link LatencyHistogram} Histogram of the deserialize phase. The method never returns null.
+     */
+    public LatencyHistogram getDeserializeDuration( ) {
+      return deserializeDuration;
+    }
+
+    @Override
+    public String toString( ) {
+      return httpMethod + " " + serviceClass.getName() + " " + pathTemplate + " errors=" + this.getErrorCount() + " "
+          + duration;
+    }
+  }
+}
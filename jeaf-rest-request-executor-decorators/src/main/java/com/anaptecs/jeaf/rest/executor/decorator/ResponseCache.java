@@ -0,0 +1,489 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+
+/**
+ * Class implements a size-bounded cache for deserialized results of REST requests. It is used by the caching
+ * decorators and can be shared between several executors.
+ * <p/>
+ * The freshness of a result is derived from the headers <code>Cache-Control</code> (<code>no-store</code>,
+ * <code>no-cache</code>, <code>max-age</code>), <code>Expires</code>, <code>Date</code> and <code>Age</code> of the
+ * response. Responses without explicit freshness information are fresh for the configured default time to live. Stale
+ * results that have a validator (<code>ETag</code> or <code>Last-Modified</code>) are revalidated using a conditional
+ * request. Responses with <code>Vary: *</code> are never cached. Other values of <code>Vary</code> need no special
+ * treatment as all headers of a request except the excluded ones are already part of its {@link RequestKey}.
+ * <p/>
+ * If the cache is full then the least recently used entry is evicted. Hits, misses, revalidations and evictions are
+ * counted so that the size of the cache can be tuned.
+ *
+ * @author JEAF Development Team
+ */
+public final class ResponseCache {
+
+  private static final String MAX_AGE_DIRECTIVE = "max-age=";
+
+  /**
+   * Lifetime of responses that must not be cached.
+   */
+  private static final long NOT_STORABLE = -1;
+
+  /**
+   * Lifetime of responses without explicit freshness information.
+   */
+  private static final long UNDEFINED = -2;
+
+  private final int maximumSize;
+
+  private final long defaultTimeToLive;
+
+  private final Clock clock;
+
+  /**
+   * Cached entries in access order. All accesses have to be synchronized on the map itself.
+   */
+  private final LinkedHashMap<RequestKey, CachedResponse> entries;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder revalidations = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Method creates a new builder for a cache.
+   *
+   * @param pMaximumSize Maximum amount of entries in the cache. The value must be greater than 0.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( int pMaximumSize ) {
+    return new Builder(pMaximumSize);
+  }
+
+  private ResponseCache( Builder pBuilder ) {
+    maximumSize = pBuilder.maximumSize;
+    defaultTimeToLive = pBuilder.defaultTimeToLive.toMillis();
+    clock = pBuilder.clock;
+    entries = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<RequestKey, CachedResponse> pEldest ) {
+        boolean lRemove = this.size() > maximumSize;
+        if (lRemove) {
+          evictions.increment();
+        }
+        return lRemove;
+      }
+    };
+  }
+
+  /**
+   * Method looks up the cached response for the passed key. If the cached response is stale but can be revalidated then
+   * it is returned as well. In this case {@link CachedResponse#isRevalidationRequired()} returns true and the response
+   * has to be revalidated using {@link CachedResponse#toConditionalRequest(RESTRequest)}.
+   *
+   * @param pKey Key of the request. The parameter must not be null.
+   * @return {@link CachedResponse} Cached response or null if there is no usable response in the cache.
+   */
+  public CachedResponse lookup( RequestKey pKey ) {
+    CachedResponse lCached;
+    synchronized (entries) {
+      lCached = entries.get(pKey);
+    }
+    CachedResponse lResult;
+    if (lCached == null) {
+      misses.increment();
+      lResult = null;
+    }
+    else if (lCached.expiresAt > clock.millis()) {
+      hits.increment();
+      lResult = lCached;
+    }
+    else if (lCached.hasValidator()) {
+      revalidations.increment();
+      lResult = new CachedResponse(lCached, true);
+    }
+    else {
+      synchronized (entries) {
+        entries.remove(pKey, lCached);
+      }
+      misses.increment();
+      lResult = null;
+    }
+    return lResult;
+  }
+
+  /**
+   * Method stores the passed response if its headers allow it and returns the result that should be passed to the
+   * caller. If the response is the answer to a revalidation and the resource was not modified then the cached result
+   * is returned.
+   *
+   * @param pKey Key of the request. The parameter must not be null.
+   * @param pCached Cached response that was revalidated. The parameter may be null if the request was not a
+   * revalidation.
+   * @param pResponse Response that was received. The parameter must not be null.
+   * @return T Result that should be returned to the caller. The method may return null.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T store( RequestKey pKey, CachedResponse pCached, RESTResponse<T> pResponse ) {
+    long lNow = clock.millis();
+    long lLifetime = this.getLifetime(pResponse, lNow);
+    T lResult;
+    CachedResponse lNewEntry;
+    if (pResponse.isNotModified()) {
+      // Without cached response there is nothing that could be refreshed.
+      if (pCached == null) {
+        return null;
+      }
+      lResult = (T) pCached.result;
+      if (lLifetime == UNDEFINED) {
+        lLifetime = pCached.lifetime;
+      }
+      String lETag = pResponse.getHeader(HeaderNames.ETAG);
+      String lLastModified = pResponse.getHeader(HeaderNames.LAST_MODIFIED);
+      lNewEntry = new CachedResponse(lResult, lETag != null ? lETag : pCached.eTag,
+          lLastModified != null ? lLastModified : pCached.lastModified, lLifetime, lNow);
+    }
+    else {
+      lResult = pResponse.getResult();
+      if (lLifetime == UNDEFINED) {
+        lLifetime = defaultTimeToLive;
+      }
+      lNewEntry = new CachedResponse(lResult, pResponse.getHeader(HeaderNames.ETAG),
+          pResponse.getHeader(HeaderNames.LAST_MODIFIED), lLifetime, lNow);
+    }
+
+    synchronized (entries) {
+      if (lLifetime > 0 || (lLifetime == 0 && lNewEntry.hasValidator())) {
+        entries.put(pKey, lNewEntry);
+      }
+      else {
+        entries.remove(pKey);
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method calculates how long the passed response is fresh.
+   *
+   * @return long Lifetime in milliseconds, {@link #NOT_STORABLE} or {@link #UNDEFINED}.
+   */
+  private long getLifetime( RESTResponse<?> pResponse, long pNow ) {
+    String lVary = pResponse.getHeader(HeaderNames.VARY);
+    if (lVary != null && lVary.trim().equals("*")) {
+      return NOT_STORABLE;
+    }
+
+    long lLifetime = UNDEFINED;
+    boolean lNoCache = false;
+    String lCacheControl = joinHeaderValues(pResponse, HeaderNames.CACHE_CONTROL);
+    if (lCacheControl != null) {
+      for (String lDirective : lCacheControl.split(",")) {
+        String lName = lDirective.trim().toLowerCase(Locale.ROOT);
+        if (lName.equals("no-store")) {
+          return NOT_STORABLE;
+        }
+        else if (lName.equals("no-cache")) {
+          lNoCache = true;
+        }
+        else if (lName.startsWith(MAX_AGE_DIRECTIVE)) {
+          lLifetime = parseSeconds(lName.substring(MAX_AGE_DIRECTIVE.length())) * 1000;
+        }
+      }
+    }
+
+    if (lNoCache) {
+      lLifetime = 0;
+    }
+    else if (lLifetime == UNDEFINED) {
+      String lExpires = pResponse.getHeader(HeaderNames.EXPIRES);
+      if (lExpires != null) {
+        long lExpiresAt = parseDate(lExpires, 0);
+        long lDate = parseDate(pResponse.getHeader(HeaderNames.DATE), pNow);
+        lLifetime = Math.max(0, lExpiresAt - lDate);
+      }
+    }
+
+    // Time the response already spent in other caches is subtracted.
+    if (lLifetime > 0) {
+      lLifetime = Math.max(0, lLifetime - parseSeconds(pResponse.getHeader(HeaderNames.AGE)) * 1000);
+    }
+    return lLifetime;
+  }
+
+  private static String joinHeaderValues( RESTResponse<?> pResponse, String pHeaderName ) {
+    String lJoined = null;
+    for (Map.Entry<String, List<String>> lEntry : pResponse.getHeaderFields().entrySet()) {
+      if (lEntry.getKey().equalsIgnoreCase(pHeaderName)) {
+        String lValues = String.join(",", lEntry.getValue());
+        lJoined = lJoined == null ? lValues : lJoined + "," + lValues;
+      }
+    }
+    return lJoined;
+  }
+
+  /**
+   * Method parses the passed delta seconds. Invalid values are treated as 0.
+   */
+  private static long parseSeconds( String pValue ) {
+    long lSeconds;
+    if (pValue != null) {
+      try {
+        lSeconds = Math.max(0, Long.parseLong(pValue.trim().replace("\"", "")));
+      }
+      catch (NumberFormatException e) {
+        lSeconds = 0;
+      }
+    }
+    else {
+      lSeconds = 0;
+    }
+    return lSeconds;
+  }
+
+  /**
+   * Method parses the passed http date. If the value is missing or invalid then the passed default is returned.
+   */
+  private static long parseDate( String pValue, long pDefault ) {
+    long lDate;
+    if (pValue != null) {
+      try {
+        lDate = ZonedDateTime.parse(pValue.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+      }
+      catch (DateTimeParseException e) {
+        lDate = pDefault;
+      }
+    }
+    else {
+      lDate = pDefault;
+    }
+    return lDate;
+  }
+
+  /**
+   * Method removes all entries from the cache. Counters are not reset.
+   */
+  public void clear( ) {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Method returns the current amount of entries in the cache.
+   *
+   * @return int Amount of cached entries.
+   */
+  public int getSize( ) {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Method returns the maximum amount of entries in the cache.
+   *
+   * @return int Maximum amount of cached entries.
+   */
+  public int getMaximumSize( ) {
+    return maximumSize;
+  }
+
+  /**
+   * Method returns the amount of lookups that were answered with a fresh result from the cache.
+   *
+   * @return long Amount of cache hits.
+   */
+  public long getHitCount( ) {
+    return hits.sum();
+  }
+
+  /**
+   * Method returns the amount of lookups that did not find a usable result in the cache.
+   *
+   * @return long Amount of cache misses.
+   */
+  public long getMissCount( ) {
+    return misses.sum();
+  }
+
+  /**
+   * Method returns the amount of lookups that found a stale result that had to be revalidated.
+   *
+   * @return long Amount of revalidations.
+   */
+  public long getRevalidationCount( ) {
+    return revalidations.sum();
+  }
+
+  /**
+   * Method returns the amount of entries that were evicted because the cache was full.
+   *
+   * @return long Amount of evictions.
+   */
+  public long getEvictionCount( ) {
+    return evictions.sum();
+  }
+
+  /**
+   * Class represents a cached result together with the information that is required to check its freshness and to
+   * revalidate it. Objects are immutable.
+   */
+  public static final class CachedResponse {
+    private final Object result;
+
+    private final String eTag;
+
+    private final String lastModified;
+
+    /**
+     * Time in milliseconds for which the result is fresh.
+     */
+    private final long lifetime;
+
+    private final long expiresAt;
+
+    private final boolean revalidationRequired;
+
+    private CachedResponse( Object pResult, String pETag, String pLastModified, long pLifetime, long pNow ) {
+      result = pResult;
+      eTag = pETag;
+      lastModified = pLastModified;
+      lifetime = pLifetime;
+      expiresAt = pNow + pLifetime;
+      revalidationRequired = false;
+    }
+
+    private CachedResponse( CachedResponse pCached, boolean pRevalidationRequired ) {
+      result = pCached.result;
+      eTag = pCached.eTag;
+      lastModified = pCached.lastModified;
+      lifetime = pCached.lifetime;
+      expiresAt = pCached.expiresAt;
+      revalidationRequired = pRevalidationRequired;
+    }
+
+    /**
+     * Method returns the cached result.
+     *
+     * @return T Cached result. The method may return null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getResult( ) {
+      return (T) result;
+    }
+
+    /**
+     * Method checks if the cached result is stale and has to be revalidated before it may be used.
+     *
+     * @return boolean Method returns true if the result has to be revalidated.
+     */
+    public boolean isRevalidationRequired( ) {
+      return revalidationRequired;
+    }
+
+    /**
+     * Method creates a conditional request that can be used to revalidate the cached result.
+     *
+     * @param pRequest Request whose result is cached. The parameter must not be null.
+     * @return {@link RESTRequest} Conditional variant of the passed request. The method never returns null.
+     */
+    public RESTRequest toConditionalRequest( RESTRequest pRequest ) {
+      RESTRequest.Builder lBuilder = pRequest.toBuilder();
+      if (eTag != null) {
+        lBuilder.setHeader(HeaderNames.IF_NONE_MATCH, eTag);
+      }
+      if (lastModified != null) {
+        lBuilder.setHeader(HeaderNames.IF_MODIFIED_SINCE, lastModified);
+      }
+      return lBuilder.build();
+    }
+
+    private boolean hasValidator( ) {
+      return eTag != null || lastModified != null;
+    }
+  }
+
+  /**
+   * Class implements a builder for {@link ResponseCache}.
+   */
+  public static final class Builder {
+    private final int maximumSize;
+
+    private Duration defaultTimeToLive = Duration.ZERO;
+
+    private Clock clock = Clock.systemUTC();
+
+    private Builder( int pMaximumSize ) {
+      if (pMaximumSize > 0) {
+        maximumSize = pMaximumSize;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pMaximumSize' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method sets for how long results of responses without explicit freshness information are fresh. By default such
+     * results are only cached if they can be revalidated.
+     *
+     * @param pDefaultTimeToLive Default time to live. The parameter must not be null.
+     * @return {@link Builder} Instance of this builder. The method never returns null.
+     */
+    public Builder setDefaultTimeToLive( Duration pDefaultTimeToLive ) {
+      if (pDefaultTimeToLive != null && pDefaultTimeToLive.isNegative() == false) {
+        defaultTimeToLive = pDefaultTimeToLive;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pDefaultTimeToLive' must not be null or negative.");
+      }
+    }
+
+    /**
+     * Method sets the clock that is used to check the freshness of cached results.
+     *
+     * @param pClock Clock that should be used. The parameter must not be null.
+     * @return {@link Builder} Instance of this builder. The method never returns null.
+     */
+    public Builder setClock( Clock pClock ) {
+      if (pClock != null) {
+        clock = pClock;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pClock' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new cache based on the configuration of this builder.
+     *
+     * @return {@link ResponseCache} Created cache. The method never returns null.
+     */
+    public ResponseCache build( ) {
+      return new ResponseCache(this);
+    }
+  }
+}
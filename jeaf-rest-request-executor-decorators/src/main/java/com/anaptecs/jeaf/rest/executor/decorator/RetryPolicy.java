@@ -0,0 +1,482 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+
+/**
+ * Class defines which failed requests are retried and when. Only requests that may be sent more than once are retried.
+ * By default these are requests with an idempotent http method and requests with header
+ * {@link HeaderNames#IDEMPOTENCY_KEY} (see {@link RESTRequest#isIdempotent()}). Requests whose body can not be sent
+ * twice (see {@link RESTRequest#isRepeatable()}) are never retried.
+ * <p/>
+ * A failed call is retried if its exception or one of its causes is of a retryable type or carries a retryable http
+ * status code. By default the status code is read from a public method <code>int getStatusCode()</code> of the
+ * exception as it is provided e.g. by <code>HttpStatusException</code>.
+ * <p/>
+ * Retries are delayed using decorrelated jitter: every delay is a random value between the base delay and three times
+ * the previous delay but never more than the maximum delay. This way retries of many callers are spread over time.
+ * <p/>
+ * To prevent retry storms retries are limited by a token bucket per service class (see
+ * {@link RESTRequest#getServiceClass()}). Every call adds the configured percentage of a retry to the bucket and
+ * every retry consumes one. The bucket is initially filled so that occasional failures of services with little traffic
+ * can be retried.
+ * <p/>
+ * Retry policies are thread-safe and intended to be shared by {@link RetryingRESTRequestExecutor} and
+ * {@link com.anaptecs.jeaf.rest.executor.decorator.reactive.RetryingRESTRequestExecutorReactive}.
+ *
+ * @author JEAF Development Team
+ */
+public class RetryPolicy {
+  /**
+   * Status code that is returned by status code resolvers if an exception does not contain a status code.
+   */
+  public static final int NO_STATUS_CODE = 0;
+
+  /**
+   * Budget is counted in units of 1/100 percent of a retry.
+   */
+  private static final long RETRY_COST = 10000;
+
+  /**
+   * Maximum depth up to which causes of an exception are checked.
+   */
+  private static final int MAX_CAUSE_DEPTH = 10;
+
+  /**
+   * Accessors for method <code>int getStatusCode()</code> of exception classes. If an exception class does not have
+   * such a public method then null is stored.
+   */
+  private static final ClassValue<MethodHandle> STATUS_CODE_ACCESSORS = new ClassValue<MethodHandle>() {
+    @Override
+    protected MethodHandle computeValue( Class<?> pType ) {
+      try {
+        return MethodHandles.publicLookup().findVirtual(pType, "getStatusCode", MethodType.methodType(int.class))
+            .asType(MethodType.methodType(int.class, Throwable.class));
+      }
+      catch (ReflectiveOperationException | IllegalArgumentException e) {
+        return null;
+      }
+    }
+  };
+
+  private final int maxAttempts;
+
+  private final long baseDelayNanos;
+
+  private final long maxDelayNanos;
+
+  private final int[] retryableStatusCodes;
+
+  private final List<Class<? extends Throwable>> retryableExceptions;
+
+  private final ToIntFunction<Throwable> statusCodeResolver;
+
+  private final Predicate<RESTRequest> retryPredicate;
+
+  private final long budgetDeposit;
+
+  private final long maxBudget;
+
+  /**
+   * Retry budgets of all service classes that were already called.
+   */
+  private final Map<Class<?>, Service> services = new ConcurrentHashMap<>();
+
+  /**
+   * Method creates new builder.
+   *
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the policy. The parameter must not be null.
+   */
+  protected RetryPolicy( Builder pBuilder ) {
+    maxAttempts = pBuilder.maxAttempts;
+    baseDelayNanos = pBuilder.baseDelay.toNanos();
+    maxDelayNanos = pBuilder.maxDelay.toNanos();
+    retryableStatusCodes = pBuilder.retryableStatusCodes.clone();
+    Arrays.sort(retryableStatusCodes);
+    retryableExceptions = List.copyOf(pBuilder.retryableExceptions);
+    statusCodeResolver = pBuilder.statusCodeResolver;
+    retryPredicate = pBuilder.retryPredicate;
+    budgetDeposit = Math.round(pBuilder.budgetPercent * 100);
+    maxBudget = pBuilder.maxRetries * RETRY_COST;
+  }
+
+  /**
+   * Method returns the status code that is contained in the passed exception. This is the default status code resolver
+   * of all policies. It calls public method <code>int getStatusCode()</code> of the exception if it exists.
+   *
+   * @param pError Exception whose status code should be returned. The parameter must not be null.
+   * @return int Status code of the exception or {@link #NO_STATUS_CODE}.
+   */
+  public static int getStatusCode( Throwable pError ) {
+    MethodHandle lAccessor = STATUS_CODE_ACCESSORS.get(pError.getClass());
+    if (lAccessor != null) {
+      try {
+        return (int) lAccessor.invokeExact(pError);
+      }
+      catch (Throwable e) {
+        return NO_STATUS_CODE;
+      }
+    }
+    else {
+      return NO_STATUS_CODE;
+    }
+  }
+
+  /**
+   * Method returns the maximum amount of attempts of a call including the first one.
+   *
+   * @return int Maximum amount of attempts.
+   */
+  public int getMaxAttempts( ) {
+    return maxAttempts;
+  }
+
+  /**
+   * Method checks if the passed request may be retried. Requests that are not repeatable are never retried,
+   * independent of the configured retry predicate.
+   *
+   * @param pRequest Request that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the request may be retried and false otherwise.
+   */
+  public boolean isRetryable( RESTRequest pRequest ) {
+    return pRequest.isRepeatable() && retryPredicate.test(pRequest);
+  }
+
+  /**
+   * Method checks if a call that failed with the passed exception should be retried. This is the case if the exception
+   * or one of its causes is of a retryable type or contains a retryable status code.
+   *
+   * @param pError Exception with which the call failed. The parameter must not be null.
+   * @return boolean Method returns true if the call should be retried and false otherwise.
+   */
+  public boolean isRetryable( Throwable pError ) {
+    Throwable lCurrent = pError;
+    for (int i = 0; i < MAX_CAUSE_DEPTH && lCurrent != null; i++) {
+      for (Class<? extends Throwable> lType : retryableExceptions) {
+        if (lType.isInstance(lCurrent)) {
+          return true;
+        }
+      }
+      int lStatusCode = statusCodeResolver.applyAsInt(lCurrent);
+      if (lStatusCode != NO_STATUS_CODE && Arrays.binarySearch(retryableStatusCodes, lStatusCode) >= 0) {
+        return true;
+      }
+      lCurrent = lCurrent.getCause();
+    }
+    return false;
+  }
+
+  /**
+   * Method returns the delay before the next retry using decorrelated jitter.
+   *
+   * @param pPreviousDelayNanos Delay before the previous retry in nanoseconds or 0 for the first retry.
+   * @return long Delay before the next retry in nanoseconds.
+   */
+  public long nextDelayNanos( long pPreviousDelayNanos ) {
+    long lUpper = Math.min(maxDelayNanos, Math.max(baseDelayNanos, pPreviousDelayNanos) * 3);
+    long lDelay;
+    if (lUpper > baseDelayNanos) {
+      lDelay = ThreadLocalRandom.current().nextLong(baseDelayNanos, lUpper + 1);
+    }
+    else {
+      lDelay = lUpper;
+    }
+    return lDelay;
+  }
+
+  /**
+   * Method returns the retry budget of the passed service class.
+   *
+   * @param pServiceClass Service class whose budget should be returned. The parameter must not be null.
+   * @return {@link Service} Retry budget of the service class. The method never returns null.
+   */
+  public Service getService( Class<?> pServiceClass ) {
+    return services.computeIfAbsent(pServiceClass, Service::new);
+  }
+
+  /**
+   * Class contains the retry budget of one service class.
+   */
+  public final class Service {
+    private final Class<?> serviceClass;
+
+    private final AtomicLong budget = new AtomicLong(maxBudget);
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder rejectedRetries = new LongAdder();
+
+    Service( Class<?> pServiceClass ) {
+      serviceClass = pServiceClass;
+    }
+
+    /**
+     * Method returns the service class to which the budget belongs.
+     *
+     * @return {@link Class} Service class. The method never returns null.
+     */
+    public Class<?> getServiceClass( ) {
+      return serviceClass;
+    }
+
+    /**
+     * Method returns the amount of calls of the service class.
+     *
+     * @return long Amount of calls without retries.
+     */
+    public long getCalls( ) {
+      return calls.sum();
+    }
+
+    /**
+     * Method returns the amount of retries of the service class.
+     *
+     * @return long Amount of retries.
+     */
+    public long getRetries( ) {
+      return retries.sum();
+    }
+
+    /**
+     * Method returns the amount of retries that were not executed as the budget was exhausted.
+     *
+     * @return long Amount of rejected retries.
+     */
+    public long getRejectedRetries( ) {
+      return rejectedRetries.sum();
+    }
+
+    /**
+     * Method reports that a call of the service class is started. Every call adds to the retry budget.
+     */
+    public void onCall( ) {
+      calls.increment();
+      if (budget.get() < maxBudget) {
+        budget.updateAndGet(pBudget -> Math.min(pBudget + budgetDeposit, maxBudget));
+      }
+    }
+
+    /**
+     * Method tries to take a retry from the budget.
+     *
+     * @return boolean Method returns true if the call may be retried and false if the budget is exhausted.
+     */
+    public boolean tryRetry( ) {
+      long lBudget;
+      do {
+        lBudget = budget.get();
+        if (lBudget < RETRY_COST) {
+          rejectedRetries.increment();
+          return false;
+        }
+      }
+      while (budget.compareAndSet(lBudget, lBudget - RETRY_COST) == false);
+      retries.increment();
+      return true;
+    }
+
+    @Override
+    public String toString( ) {
+      return serviceClass.getName() + " calls=" + this.getCalls() + " retries=" + this.getRetries()
+          + " rejectedRetries=" + this.getRejectedRetries();
+    }
+  }
+
+  /**
+   * Class is used to create {@link RetryPolicy} objects.
+   */
+  public static class Builder {
+    private int maxAttempts = 3;
+
+    private Duration baseDelay = Duration.ofMillis(50);
+
+    private Duration maxDelay = Duration.ofSeconds(2);
+
+    private int[] retryableStatusCodes = { 429, 502, 503, 504 };
+
+    private List<Class<? extends Throwable>> retryableExceptions =
+        List.of(IOException.class, UncheckedIOException.class, TimeoutException.class);
+
+    private ToIntFunction<Throwable> statusCodeResolver = RetryPolicy::getStatusCode;
+
+    private Predicate<RESTRequest> retryPredicate = RESTRequest::isIdempotent;
+
+    private double budgetPercent = 20;
+
+    private int maxRetries = 10;
+
+    /**
+     * Initialize object.
+     */
+    protected Builder( ) {
+    }
+
+    /**
+     * Method sets the maximum amount of attempts of a call including the first one. Default is 3.
+     *
+     * @param pMaxAttempts Maximum amount of attempts. The value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setMaxAttempts( int pMaxAttempts ) {
+      if (pMaxAttempts > 0) {
+        maxAttempts = pMaxAttempts;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pMaxAttempts' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method sets the range of the delays between retries. Default is 50 milliseconds to 2 seconds.
+     *
+     * @param pBaseDelay Minimum delay between retries. The parameter must not be null.
+     * @param pMaxDelay Maximum delay between retries. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setDelays( Duration pBaseDelay, Duration pMaxDelay ) {
+      if (pBaseDelay != null && pMaxDelay != null && pBaseDelay.isNegative() == false
+          && pMaxDelay.compareTo(pBaseDelay) >= 0) {
+        baseDelay = pBaseDelay;
+        maxDelay = pMaxDelay;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters must fulfill 0 <= 'pBaseDelay' <= 'pMaxDelay'.");
+      }
+    }
+
+    /**
+     * Method sets the http status codes on which calls are retried. Default is 429, 502, 503 and 504.
+     *
+     * @param pStatusCodes Retryable status codes. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setRetryableStatusCodes( int... pStatusCodes ) {
+      if (pStatusCodes != null) {
+        retryableStatusCodes = pStatusCodes.clone();
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pStatusCodes' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the exception types on which calls are retried. Subclasses of these types and exceptions that have
+     * such a cause are retried as well. Default is {@link IOException}, {@link UncheckedIOException} and
+     * {@link TimeoutException}.
+     *
+     * @param pExceptionTypes Retryable exception types. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    @SafeVarargs
+    public final Builder setRetryableExceptions( Class<? extends Throwable>... pExceptionTypes ) {
+      if (pExceptionTypes != null) {
+        retryableExceptions = List.of(pExceptionTypes);
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pExceptionTypes' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the function that extracts the http status code from exceptions. By default
+     * {@link RetryPolicy#getStatusCode(Throwable)} is used.
+     *
+     * @param pStatusCodeResolver Function that returns the status code of an exception or
+     * {@link RetryPolicy#NO_STATUS_CODE}. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setStatusCodeResolver( ToIntFunction<Throwable> pStatusCodeResolver ) {
+      if (pStatusCodeResolver != null) {
+        statusCodeResolver = pStatusCodeResolver;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pStatusCodeResolver' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the predicate that decides which requests may be retried. By default only idempotent requests (see
+     * {@link RESTRequest#isIdempotent()}) are retried.
+     *
+     * @param pRetryPredicate Predicate to detect requests that may be retried. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setRetryPredicate( Predicate<RESTRequest> pRetryPredicate ) {
+      if (pRetryPredicate != null) {
+        retryPredicate = pRetryPredicate;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pRetryPredicate' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the retry budget per service class. Default is 20% of the calls with up to 10 retries that can be
+     * saved up.
+     *
+     * @param pBudgetPercent Maximum amount of retries relative to the calls in percent. The value must be greater than
+     * 0 and at most 100.
+     * @param pMaxRetries Maximum amount of retries that can be saved up. The value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setBudget( double pBudgetPercent, int pMaxRetries ) {
+      if (pBudgetPercent > 0 && pBudgetPercent <= 100 && pMaxRetries > 0) {
+        budgetPercent = pBudgetPercent;
+        maxRetries = pMaxRetries;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException(
+            "Parameters must fulfill 0 < 'pBudgetPercent' <= 100 and 'pMaxRetries' > 0.");
+      }
+    }
+
+    /**
+     * Method builds the {@link RetryPolicy} object based on the set values.
+     *
+     * @return {@link RetryPolicy} Created object. The method never returns null.
+     */
+    public RetryPolicy build( ) {
+      return new RetryPolicy(this);
+    }
+  }
+}
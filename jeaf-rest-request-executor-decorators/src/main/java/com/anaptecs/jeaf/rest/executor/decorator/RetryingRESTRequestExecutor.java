@@ -0,0 +1,136 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+
+/**
+ * Class implements a decorator that retries failed requests according to a {@link RetryPolicy}:
+ *
+ * <pre>
+ * RetryPolicy lPolicy = RetryPolicy.builder().setMaxAttempts(3).build();
+ * RESTRequestExecutor lExecutor = RetryingRESTRequestExecutor.builder(lDelegate, lPolicy).build();
+ * </pre>
+ *
+ * The calling thread waits between the attempts. Callers that execute many concurrent requests should therefore use
+ * virtual threads (see {@link VirtualThreads}) or the reactive variant. If no attempt succeeds then the exception of
+ * the last attempt is thrown. Requests with a body that can not be sent twice are never retried (see
+ * {@link RetryPolicy#isRetryable(RESTRequest)}).
+ * <p/>
+ * The decorator should be placed outside of a {@link CircuitBreakingRESTRequestExecutor} so that every attempt is
+ * recorded by the circuit breaker and calls are not retried while the circuit is open.
+ *
+ * @author JEAF Development Team
+ */
+public class RetryingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Policy that decides which calls are retried.
+   */
+  private final RetryPolicy retryPolicy;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pRetryPolicy Retry policy that should be used. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate, RetryPolicy pRetryPolicy ) {
+    return new Builder(pDelegate, pRetryPolicy);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected RetryingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    retryPolicy = pBuilder.retryPolicy;
+  }
+
+  /**
+   * Method returns the retry policy of the decorator.
+   *
+   * @return {@link RetryPolicy} Retry policy that is used. The method never returns null.
+   */
+  public RetryPolicy getRetryPolicy( ) {
+    return retryPolicy;
+  }
+
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    if (retryPolicy.isRetryable(pRequest)) {
+      RetryPolicy.Service lService = retryPolicy.getService(pRequest.getServiceClass());
+      lService.onCall();
+      long lDelay = 0;
+      for (int lAttempt = 1;; lAttempt++) {
+        try {
+          return pCall.get();
+        }
+        catch (RuntimeException e) {
+          if (lAttempt >= retryPolicy.getMaxAttempts() || retryPolicy.isRetryable(e) == false
+              || lService.tryRetry() == false) {
+            throw e;
+          }
+          lDelay = retryPolicy.nextDelayNanos(lDelay);
+          try {
+            TimeUnit.NANOSECONDS.sleep(lDelay);
+          }
+          catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            CancellationException lCancellation = new CancellationException("Thread was interrupted while waiting "
+                + "for retry of request " + pRequest.getHttpMethod() + " " + pRequest.getPath());
+            lCancellation.initCause(e);
+            throw lCancellation;
+          }
+        }
+      }
+    }
+    else {
+      return pCall.get();
+    }
+  }
+
+  /**
+   * Class is used to create {@link RetryingRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pRetryPolicy Retry policy that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate, RetryPolicy pRetryPolicy ) {
+      if (pDelegate != null && pRetryPolicy != null) {
+        delegate = pDelegate;
+        retryPolicy = pRetryPolicy;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pRetryPolicy' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link RetryingRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link RetryingRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public RetryingRESTRequestExecutor build( ) {
+      return new RetryingRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Class represents a finished client span of a REST call as it is passed to {@link SpanExporter}s. Names and attributes
+ * follow the semantic conventions of OpenTelemetry for http clients. The name of a span consists of http method and
+ * path template, e.g. <code>GET /products/{id}</code>, so that it has a low cardinality. Attribute names are defined
+ * by the constants of {@link RESTRequestTracer}.
+ * <p/>
+ * Instances are immutable.
+ *
+ * @author JEAF Development Team
+ */
+public final class SpanData {
+  private final String name;
+
+  private final TraceContext context;
+
+  private final String parentSpanId;
+
+  private final long startEpochNanos;
+
+  private final long durationNanos;
+
+  private final Map<String, Object> attributes;
+
+  private final Throwable error;
+
+  /**
+   * Initialize object.
+   *
+   * @param pName Name of the span. The parameter must not be null.
+   * @param pContext Context of the span. The parameter must not be null.
+   * @param pParentSpanId Id of the parent span. The parameter may be null.
+   * @param pStartEpochNanos Start time of the span in nanoseconds since the epoch.
+   * @param pDurationNanos Duration of the span in nanoseconds.
+   * @param pAttributes Attributes of the span. The map is not copied. The parameter must not be null.
+   * @param pError Error with which the call failed. The parameter may be null.
+   */
+  SpanData( String pName, TraceContext pContext, String pParentSpanId, long pStartEpochNanos, long pDurationNanos,
+      Map<String, Object> pAttributes, Throwable pError ) {
+    name = pName;
+    context = pContext;
+    parentSpanId = pParentSpanId;
+    startEpochNanos = pStartEpochNanos;
+    durationNanos = pDurationNanos;
+    attributes = Collections.unmodifiableMap(pAttributes);
+    error = pError;
+  }
+
+  /**
+   * Method returns the name of the span.
+   *
+   * @return {@link String} Name of the span, e.g. <code>GET /products/{id}</code>. The method never returns null.
+   */
+  public String getName( ) {
+    return name;
+  }
+
+  /**
+   * Method returns the context of the span. It is the context that was propagated to the called service.
+   *
+   * @return {@link TraceContext} Context of the span. The method never returns null.
+   */
+  public TraceContext getContext( ) {
+    return context;
+  }
+
+  /**
+   * Method returns the id of the trace to which the span belongs.
+   *
+   * @return {@link String} Trace id. The method never returns null.
+   */
+  public String getTraceId( ) {
+    return context.getTraceId();
+  }
+
+  /**
+   * Method returns the id of the span.
+   *
+   * @return {@link String} Span id. The method never returns null.
+   */
+  public String getSpanId( ) {
+    return context.getSpanId();
+  }
+
+  /**
+   * Method returns the id of the parent span.
+   *
+   * @return {@link String} Id of the parent span. The method returns null if the span is the root of its trace.
+   */
+  public String getParentSpanId( ) {
+    return parentSpanId;
+  }
+
+  /**
+   * Method returns the start time of the span.
+   *
+   * @return long Start time in nanoseconds since the epoch.
+   */
+  public long getStartEpochNanos( ) {
+    return startEpochNanos;
+  }
+
+  /**
+   * Method returns the end time of the span.
+   *
+   * @return long End time in nanoseconds since the epoch.
+   */
+  public long getEndEpochNanos( ) {
+    return startEpochNanos + durationNanos;
+  }
+
+  /**
+   * Method returns the duration of the span.
+   *
+   * @return long Duration in nanoseconds.
+   */
+  public long getDurationNanos( ) {
+    return durationNanos;
+  }
+
+  /**
+   * Method returns all attributes of the span.
+   *
+   * @return {@link Map} Attributes of the span. The returned map is immutable. The method never returns null.
+   */
+  public Map<String, Object> getAttributes( ) {
+    return attributes;
+  }
+
+  /**
+   * Method returns the value of the passed attribute.
+   *
+   * @param pName Name of the attribute. The parameter must not be null.
+   * @return {@link Object} Value of the attribute. The method returns null if the span has no such attribute.
+   */
+  public Object getAttribute( String pName ) {
+    return attributes.get(pName);
+  }
+
+  /**
+   * Method checks if the call failed. Such spans have status <code>ERROR</code> in OpenTelemetry.
+   *
+   * @return boolean Method returns true if the call failed.
+   */
+  public boolean isError( ) {
+    return error != null;
+  }
+
+  /**
+   * Method returns the error with which the call failed.
+   *
+   * @return {@link Throwable} Error of the call. The method returns null if the call succeeded.
+   */
+  public Throwable getError( ) {
+    return error;
+  }
+
+  @Override
+  public String toString( ) {
+    return name + " " + context + " parent=" + parentSpanId + " duration=" + durationNanos + "ns " + attributes;
+  }
+}
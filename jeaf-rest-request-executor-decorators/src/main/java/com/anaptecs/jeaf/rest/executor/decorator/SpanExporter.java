@@ -0,0 +1,24 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+/**
+ * Interface is implemented by all classes that receive the spans that were recorded by {@link RESTRequestTracer}.
+ * Implementations typically hand over spans to a tracing system, e.g. by converting them into spans of OpenTelemetry.
+ * <p/>
+ * Spans are exported on the thread that completed the REST call. Implementations therefore have to be thread-safe and
+ * must not block. Runtime exceptions that are thrown by an exporter are ignored.
+ *
+ * @author JEAF Development Team
+ */
+public interface SpanExporter {
+  /**
+   * Method exports the passed span.
+   *
+   * @param pSpan Finished span. The parameter is never null.
+   */
+  void export( SpanData pSpan );
+}
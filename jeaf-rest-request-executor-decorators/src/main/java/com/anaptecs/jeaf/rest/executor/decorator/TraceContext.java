@@ -0,0 +1,261 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Class represents a W3C trace context as it is transported in the header fields <code>traceparent</code> and
+ * <code>tracestate</code> (see https://www.w3.org/TR/trace-context/). It identifies a span by the id of its trace and
+ * its own id. The representation is compatible with the span context of OpenTelemetry so that contexts can be passed
+ * in both directions using {@link #getTraceparent()} and {@link #parse(String, String)}.
+ * <p/>
+ * The context of the current operation can be bound to the current thread using {@link #makeCurrent()}. It is then
+ * used as parent for all spans of REST calls that are executed by the thread.
+ * <p/>
+ * Instances are immutable.
+ *
+ * @author JEAF Development Team
+ */
+public final class TraceContext {
+  /**
+   * Context that is bound to the current thread.
+   */
+  private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static final String VERSION = "00";
+
+  /**
+   * Length of a valid <code>traceparent</code> header with version 00.
+   */
+  private static final int TRACEPARENT_LENGTH = 55;
+
+  private final String traceId;
+
+  private final String spanId;
+
+  private final boolean sampled;
+
+  private final String traceState;
+
+  /**
+   * <code>traceparent</code> representation of the context. It is created once as it is needed for every request.
+   */
+  private final String traceparent;
+
+  private TraceContext( String pTraceId, String pSpanId, boolean pSampled, String pTraceState ) {
+    traceId = pTraceId;
+    spanId = pSpanId;
+    sampled = pSampled;
+    traceState = pTraceState;
+    traceparent = VERSION + '-' + traceId + '-' + spanId + (sampled ? "-01" : "-00");
+  }
+
+  /**
+   * Method creates a new context that starts a new trace.
+   *
+   * @param pSampled Flag defines if the trace is sampled and should thus be recorded.
+   * @return {@link TraceContext} Created context. The method never returns null.
+   */
+  public static TraceContext newRoot( boolean pSampled ) {
+    ThreadLocalRandom lRandom = ThreadLocalRandom.current();
+    return new TraceContext(randomId(lRandom, 2), randomId(lRandom, 1), pSampled, null);
+  }
+
+  /**
+   * Method parses the passed header values.
+   *
+   * @param pTraceparent Value of header field <code>traceparent</code>. The parameter may be null.
+   * @param pTraceState Value of header field <code>tracestate</code>. The parameter may be null.
+   * @return {@link TraceContext} Parsed context. The method returns null if the passed value is not a valid
+   * <code>traceparent</code>.
+   */
+  public static TraceContext parse( String pTraceparent, String pTraceState ) {
+    TraceContext lContext;
+    if (isValid(pTraceparent)) {
+      String lTraceId = pTraceparent.substring(3, 35);
+      String lSpanId = pTraceparent.substring(36, 52);
+      boolean lSampled = (Character.digit(pTraceparent.charAt(54), 16) & 1) == 1;
+      lContext = new TraceContext(lTraceId, lSpanId, lSampled, pTraceState);
+    }
+    else {
+      lContext = null;
+    }
+    return lContext;
+  }
+
+  private static boolean isValid( String pTraceparent ) {
+    boolean lValid = pTraceparent != null && pTraceparent.length() >= TRACEPARENT_LENGTH
+        && pTraceparent.charAt(2) == '-' && pTraceparent.charAt(35) == '-' && pTraceparent.charAt(52) == '-'
+        // Version ff is invalid and later versions may only append fields.
+        && pTraceparent.startsWith("ff") == false
+        && (pTraceparent.length() == TRACEPARENT_LENGTH || pTraceparent.charAt(TRACEPARENT_LENGTH) == '-');
+    if (lValid) {
+      lValid = isHex(pTraceparent, 0, 2) && isHex(pTraceparent, 3, 35) && isHex(pTraceparent, 36, 52)
+          && isHex(pTraceparent, 53, 55) && isZero(pTraceparent, 3, 35) == false
+          && isZero(pTraceparent, 36, 52) == false;
+    }
+    return lValid;
+  }
+
+  private static boolean isHex( String pValue, int pStart, int pEnd ) {
+    for (int i = pStart; i < pEnd; i++) {
+      char c = pValue.charAt(i);
+      if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isZero( String pValue, int pStart, int pEnd ) {
+    for (int i = pStart; i < pEnd; i++) {
+      if (pValue.charAt(i) != '0') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String randomId( ThreadLocalRandom pRandom, int pLongs ) {
+    char[] lChars = new char[pLongs * 16];
+    for (int i = 0; i < pLongs; i++) {
+      long lValue;
+      // Ids consisting of zeros only are invalid.
+      do {
+        lValue = pRandom.nextLong();
+      }
+      while (lValue == 0);
+      for (int j = 15; j >= 0; j--) {
+        lChars[i * 16 + j] = HEX_DIGITS[(int) (lValue & 0xF)];
+        lValue >>>= 4;
+      }
+    }
+    return new String(lChars);
+  }
+
+  /**
+   * Method returns the context that is bound to the current thread.
+   *
+   * @return {@link TraceContext} Context of the current thread. The method returns null if no context is bound.
+   */
+  public static TraceContext current( ) {
+    return CURRENT.get();
+  }
+
+  /**
+   * Method binds this context to the current thread until the returned scope is closed. Scopes have to be closed in the
+   * reverse order in which they were opened, ideally using try-with-resources.
+   *
+   * @return {@link Scope} Scope that restores the previous context when it is closed. The method never returns null.
+   */
+  public Scope makeCurrent( ) {
+    TraceContext lPrevious = CURRENT.get();
+    CURRENT.set(this);
+    return ( ) -> {
+      if (lPrevious != null) {
+        CURRENT.set(lPrevious);
+      }
+      else {
+        CURRENT.remove();
+      }
+    };
+  }
+
+  /**
+   * Method creates a context for a new span that is a child of this one. Trace id, sampling decision and trace state
+   * are taken over.
+   *
+   * @return {@link TraceContext} Context of the child span. The method never returns null.
+   */
+  public TraceContext createChild( ) {
+    return new TraceContext(traceId, randomId(ThreadLocalRandom.current(), 1), sampled, traceState);
+  }
+
+  /**
+   * Method returns the id of the trace.
+   *
+   * @return {@link String} Trace id as 32 lower case hex digits. The method never returns null.
+   */
+  public String getTraceId( ) {
+    return traceId;
+  }
+
+  /**
+   * Method returns the id of the span.
+   *
+   * @return {@link String} Span id as 16 lower case hex digits. The method never returns null.
+   */
+  public String getSpanId( ) {
+    return spanId;
+  }
+
+  /**
+   * Method checks if the trace is sampled.
+   *
+   * @return boolean Method returns true if spans of the trace should be recorded.
+   */
+  public boolean isSampled( ) {
+    return sampled;
+  }
+
+  /**
+   * Method returns the vendor specific trace state.
+   *
+   * @return {@link String} Value for header field <code>tracestate</code>. The method returns null if there is no
+   * trace state.
+   */
+  public String getTraceState( ) {
+    return traceState;
+  }
+
+  /**
+   * Method returns the context in the format of header field <code>traceparent</code>.
+   *
+   * @return {@link String} Value for header field <code>traceparent</code>. The method never returns null.
+   */
+  public String getTraceparent( ) {
+    return traceparent;
+  }
+
+  @Override
+  public boolean equals( Object pObject ) {
+    boolean lEquals;
+    if (pObject == this) {
+      lEquals = true;
+    }
+    else if (pObject instanceof TraceContext) {
+      lEquals = traceparent.equals(((TraceContext) pObject).traceparent);
+    }
+    else {
+      lEquals = false;
+    }
+    return lEquals;
+  }
+
+  @Override
+  public int hashCode( ) {
+    return traceparent.hashCode();
+  }
+
+  @Override
+  public String toString( ) {
+    return traceparent;
+  }
+
+  /**
+   * Interface represents the binding of a context to a thread (see {@link TraceContext#makeCurrent()}).
+   */
+  public interface Scope extends AutoCloseable {
+    /**
+     * Method restores the context that was bound to the thread before.
+     */
+    @Override
+    void close( );
+  }
+}
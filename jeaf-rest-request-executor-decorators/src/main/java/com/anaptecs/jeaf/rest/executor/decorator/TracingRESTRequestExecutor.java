@@ -0,0 +1,202 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.api.StreamTermination;
+import com.anaptecs.jeaf.rest.executor.decorator.RESTRequestTracer.Span;
+
+/**
+ * Class implements a decorator that creates a client span for every call of the decorated {@link RESTRequestExecutor}
+ * and propagates its trace context in the header fields of the request:
+ *
+ * <pre>
+ * RESTRequestTracer lTracer = RESTRequestTracer.builder(lExporter).build();
+ * RESTRequestExecutor lExecutor = TracingRESTRequestExecutor.builder(lDelegate, lTracer).build();
+ * </pre>
+ *
+ * The parent of the spans is the context that is bound to the current thread (see {@link TraceContext#makeCurrent()})
+ * unless the tracer is configured differently. Calls of {@link #executeStreamResultRequest(RESTRequest, int,
+ * ObjectType)} are finished when the returned stream is closed or when reading one of its elements fails.
+ *
+ * @author JEAF Development Team
+ */
+public class TracingRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Tracer that is used to create spans.
+   */
+  private final RESTRequestTracer tracer;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pTracer Tracer that should be used to create spans. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate, RESTRequestTracer pTracer ) {
+    return new Builder(pDelegate, pTracer);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected TracingRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    tracer = pBuilder.tracer;
+  }
+
+  /**
+   * Method returns the tracer of the decorator.
+   *
+   * @return {@link RESTRequestTracer} Tracer that is used to create spans. The method never returns null.
+   */
+  public RESTRequestTracer getTracer( ) {
+    return tracer;
+  }
+
+  @Override
+  public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    this.trace(pRequest, pSuccessfulStatusCode, pTracedRequest -> {
+      this.getDelegate().executeNoResultRequest(pTracedRequest, pSuccessfulStatusCode);
+      return null;
+    });
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.trace(pRequest, pSuccessfulStatusCode, pTracedRequest -> this.getDelegate()
+        .<T> executeSingleObjectResultRequest(pTracedRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.trace(pRequest, pSuccessfulStatusCode, pTracedRequest -> this.getDelegate()
+        .<T> executeCollectionResultRequest(pTracedRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> RESTResponse<T> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    Span lSpan = tracer.startSpan(pRequest, null);
+    try {
+      RESTResponse<T> lResponse = this.getDelegate().executeResponseRequest(lSpan.getRequest(), pSuccessfulStatusCode,
+          pCollectionClass, pObjectType);
+      lSpan.end(lResponse.getStatusCode());
+      return lResponse;
+    }
+    catch (RuntimeException | Error e) {
+      lSpan.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method executes the request within a new span. The returned stream has to be closed. Otherwise the span is neither
+   * exported nor released by the tracer unless reading an element of the stream fails.
+   */
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Span lSpan = tracer.startSpan(pRequest, null);
+    try {
+      Stream<T> lStream =
+          this.getDelegate().executeStreamResultRequest(lSpan.getRequest(), pSuccessfulStatusCode, pObjectType);
+      return StreamTermination.observe(lStream, false, pError -> {
+        if (pError == null) {
+          lSpan.end(pSuccessfulStatusCode);
+        }
+        else {
+          lSpan.fail(pError);
+        }
+      });
+    }
+    catch (RuntimeException | Error e) {
+      lSpan.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method is used for all calls whose request can not be replaced. Such calls are traced but their trace context is
+   * not propagated.
+   */
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    return this.trace(pRequest, (int) RequestEvent.UNKNOWN, pTracedRequest -> pCall.get());
+  }
+
+  /**
+   * Method executes the passed call within a new span.
+   *
+   * @param pRequest Request that should be executed. The parameter must not be null.
+   * @param pSuccessfulStatusCode Status code of the response if the call succeeds.
+   * @param pCall Call to the delegate. It receives the request that contains the trace context of the span. The
+   * parameter must not be null.
+   * @return T Result of the call. The method may return null.
+   */
+  private <T> T trace( RESTRequest pRequest, int pSuccessfulStatusCode, Function<RESTRequest, T> pCall ) {
+    Span lSpan = tracer.startSpan(pRequest, null);
+    try {
+      T lResult = pCall.apply(lSpan.getRequest());
+      lSpan.end(pSuccessfulStatusCode);
+      return lResult;
+    }
+    catch (RuntimeException | Error e) {
+      lSpan.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Class is used to create {@link TracingRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private final RESTRequestTracer tracer;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pTracer Tracer that should be used to create spans. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate, RESTRequestTracer pTracer ) {
+      if (pDelegate != null && pTracer != null) {
+        delegate = pDelegate;
+        tracer = pTracer;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pTracer' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link TracingRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link TracingRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public TracingRESTRequestExecutor build( ) {
+      return new TracingRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,363 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.BatchItem;
+import com.anaptecs.jeaf.rest.executor.api.BatchResult;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+
+/**
+ * Class implements a decorator that executes the blocking calls of the decorated {@link RESTRequestExecutor} on virtual
+ * threads and limits the amount of concurrent requests per service class (see {@link RESTRequest#getServiceClass()}).
+ * <p/>
+ * If the calling thread already is a virtual thread then the request is executed directly on it. Otherwise the request
+ * is handed over to a new virtual thread and the caller waits for its result. Applications that want to run thousands
+ * of concurrent synchronous calls should therefore call the executor from virtual threads (e.g. using
+ * {@link VirtualThreads#newExecutor(String)}).
+ * <p/>
+ * The concurrency limit protects the application as well as the called service if a downstream slows down. Callers
+ * that exceed the limit wait for a free permit up to the configured acquire timeout. If no permit gets available in
+ * time a {@link RejectedExecutionException} is thrown. Waiting does not pin virtual threads to their carrier thread.
+ * <p/>
+ * Virtual threads require Java 21 or later. On older Java versions platform threads from a cached thread pool are
+ * used instead.
+ *
+ * @author JEAF Development Team
+ */
+public class VirtualThreadRESTRequestExecutor extends RESTRequestExecutorDecorator {
+  /**
+   * Constant can be used as concurrency limit if the amount of concurrent requests should not be limited.
+   */
+  public static final int UNLIMITED = Integer.MAX_VALUE;
+
+  /**
+   * Executor service that is used to execute requests that are not called from a virtual thread.
+   */
+  private final ExecutorService executorService;
+
+  /**
+   * Concurrency limit for service classes without explicitly configured limit.
+   */
+  private final int defaultConcurrencyLimit;
+
+  /**
+   * Time that callers wait for a free permit.
+   */
+  private final long acquireTimeoutNanos;
+
+  /**
+   * Permits of all service classes. Service classes without limit do not have an entry.
+   */
+  private final Map<Class<?>, Semaphore> permits;
+
+  /**
+   * Explicitly configured concurrency limits.
+   */
+  private final Map<Class<?>, Integer> concurrencyLimits;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutor pDelegate ) {
+    return new Builder(pDelegate);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected VirtualThreadRESTRequestExecutor( Builder pBuilder ) {
+    super(pBuilder.delegate);
+    executorService = pBuilder.executorService != null ? pBuilder.executorService
+        : VirtualThreads.newExecutor("jeaf-rest-executor-");
+    defaultConcurrencyLimit = pBuilder.defaultConcurrencyLimit;
+    acquireTimeoutNanos = pBuilder.acquireTimeout.toNanos();
+    concurrencyLimits = Map.copyOf(pBuilder.concurrencyLimits);
+    permits = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Method returns the concurrency limit of the passed service class.
+   *
+   * @param pServiceClass Service class whose concurrency limit should be returned. The parameter must not be null.
+   * @return int Maximum amount of concurrent requests or {@link #UNLIMITED}.
+   */
+  public int getConcurrencyLimit( Class<?> pServiceClass ) {
+    return concurrencyLimits.getOrDefault(pServiceClass, defaultConcurrencyLimit);
+  }
+
+  /**
+   * Method returns the amount of requests of the passed service class that can currently be started without waiting.
+   *
+   * @param pServiceClass Service class whose available permits should be returned. The parameter must not be null.
+   * @return int Amount of available permits or {@link #UNLIMITED}.
+   */
+  public int getAvailablePermits( Class<?> pServiceClass ) {
+    Semaphore lPermits = this.getPermits(pServiceClass);
+    return lPermits != null ? lPermits.availablePermits() : UNLIMITED;
+  }
+
+  @Override
+  protected <T> T execute( RESTRequest pRequest, Supplier<T> pCall ) {
+    return this.executeWithPermit(pRequest, ( ) -> this.executeOnVirtualThread(pRequest, pCall));
+  }
+
+  /**
+   * Method executes the request on a virtual thread. The permit for the request is held until the returned stream is
+   * closed.
+   */
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Semaphore lPermits = this.acquirePermit(pRequest);
+    try {
+      Stream<T> lStream = this.executeOnVirtualThread(pRequest,
+          ( ) -> this.getDelegate().<T> executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+      return lPermits != null ? lStream.onClose(lPermits::release) : lStream;
+    }
+    catch (RuntimeException | Error e) {
+      if (lPermits != null) {
+        lPermits.release();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Method executes every request of the batch on its own virtual thread. At most <code>pMaxParallelism</code> requests
+   * are executed at the same time. Besides that the concurrency limits of the service classes apply. The calling
+   * thread waits until all requests are completed.
+   * <p/>
+   * Requests of the batch already run on a thread of the executor service. So they call the delegate directly instead
+   * of handing the call over to another thread of the executor service once more. Otherwise bounded executor services
+   * could run into a deadlock.
+   */
+  @Override
+  public <T> List<BatchResult<T>> executeBatch( List<BatchItem<T>> pItems, int pMaxParallelism ) {
+    RESTRequestExecutor lLimitedDelegate = new RESTRequestExecutorDecorator(this.getDelegate()) {
+      @Override
+      protected <R> R execute( RESTRequest pRequest, Supplier<R> pCall ) {
+        return VirtualThreadRESTRequestExecutor.this.executeWithPermit(pRequest, pCall);
+      }
+    };
+    return RESTRequestExecutorAsync.fromBlocking(lLimitedDelegate, executorService).executeBatch(pItems,
+        pMaxParallelism).join();
+  }
+
+  /**
+   * Method executes the passed call while holding a permit for the service class of the request.
+   */
+  private <T> T executeWithPermit( RESTRequest pRequest, Supplier<T> pCall ) {
+    Semaphore lPermits = this.acquirePermit(pRequest);
+    try {
+      return pCall.get();
+    }
+    finally {
+      if (lPermits != null) {
+        lPermits.release();
+      }
+    }
+  }
+
+  private <T> T executeOnVirtualThread( RESTRequest pRequest, Supplier<T> pCall ) {
+    if (VirtualThreads.isVirtual(Thread.currentThread())) {
+      return pCall.get();
+    }
+    else {
+      Future<T> lFuture = executorService.submit(pCall::get);
+      try {
+        return lFuture.get();
+      }
+      catch (ExecutionException e) {
+        Throwable lCause = e.getCause();
+        if (lCause instanceof RuntimeException) {
+          throw (RuntimeException) lCause;
+        }
+        else if (lCause instanceof Error) {
+          throw (Error) lCause;
+        }
+        else {
+          throw new CompletionException(lCause);
+        }
+      }
+      catch (InterruptedException e) {
+        lFuture.cancel(true);
+        Thread.currentThread().interrupt();
+        throw new CancellationException("Thread was interrupted while waiting for request " + describe(pRequest));
+      }
+    }
+  }
+
+  /**
+   * Method acquires a permit for the passed request.
+   *
+   * @param pRequest Request for which a permit is required. The parameter must not be null.
+   * @return {@link Semaphore} Semaphore from which the permit was acquired. It has to be released after the request
+   * was executed. The method returns null if the service class of the request is not limited.
+   */
+  private Semaphore acquirePermit( RESTRequest pRequest ) {
+    Semaphore lPermits = this.getPermits(pRequest.getServiceClass());
+    if (lPermits != null) {
+      boolean lAcquired;
+      try {
+        lAcquired = lPermits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CancellationException("Thread was interrupted while waiting for permit for " + describe(pRequest));
+      }
+      if (lAcquired == false) {
+        throw new RejectedExecutionException("Concurrency limit of " + this.getConcurrencyLimit(pRequest
+            .getServiceClass()) + " reached for service class '" + pRequest.getServiceClass().getName() + "'.");
+      }
+    }
+    return lPermits;
+  }
+
+  private Semaphore getPermits( Class<?> pServiceClass ) {
+    int lLimit = this.getConcurrencyLimit(pServiceClass);
+    if (lLimit != UNLIMITED) {
+      return permits.computeIfAbsent(pServiceClass, pKey -> new Semaphore(lLimit));
+    }
+    else {
+      return null;
+    }
+  }
+
+  private static String describe( RESTRequest pRequest ) {
+    return pRequest.getHttpMethod() + " " + pRequest.getPath();
+  }
+
+  /**
+   * Class is used to create {@link VirtualThreadRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private final RESTRequestExecutor delegate;
+
+    private ExecutorService executorService;
+
+    private int defaultConcurrencyLimit = UNLIMITED;
+
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+
+    private final Map<Class<?>, Integer> concurrencyLimits = new HashMap<>();
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutor pDelegate ) {
+      if (pDelegate != null) {
+        delegate = pDelegate;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pDelegate' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the executor service that should be used to execute requests. If no executor service is set then
+     * one from {@link VirtualThreads#newExecutor(String)} will be used.
+     *
+     * @param pExecutorService Executor service that should be used. The parameter may be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setExecutorService( ExecutorService pExecutorService ) {
+      executorService = pExecutorService;
+      return this;
+    }
+
+    /**
+     * Method sets the concurrency limit for all service classes without explicitly configured limit. By default the
+     * amount of concurrent requests is not limited.
+     *
+     * @param pConcurrencyLimit Maximum amount of concurrent requests per service class or {@link #UNLIMITED}. The
+     * value must be greater than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setDefaultConcurrencyLimit( int pConcurrencyLimit ) {
+      defaultConcurrencyLimit = checkLimit(pConcurrencyLimit);
+      return this;
+    }
+
+    /**
+     * Method sets the concurrency limit for the passed service class.
+     *
+     * @param pServiceClass Service class whose concurrency should be limited. The parameter must not be null.
+     * @param pConcurrencyLimit Maximum amount of concurrent requests or {@link #UNLIMITED}. The value must be greater
+     * than 0.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setConcurrencyLimit( Class<?> pServiceClass, int pConcurrencyLimit ) {
+      if (pServiceClass != null) {
+        concurrencyLimits.put(pServiceClass, checkLimit(pConcurrencyLimit));
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pServiceClass' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the time that callers wait for a free permit if the concurrency limit is reached. Default is 30
+     * seconds.
+     *
+     * @param pAcquireTimeout Maximum waiting time. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setAcquireTimeout( Duration pAcquireTimeout ) {
+      if (pAcquireTimeout != null) {
+        acquireTimeout = pAcquireTimeout;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pAcquireTimeout' must not be null.");
+      }
+    }
+
+    private static int checkLimit( int pConcurrencyLimit ) {
+      if (pConcurrencyLimit > 0) {
+        return pConcurrencyLimit;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pConcurrencyLimit' must be greater than 0.");
+      }
+    }
+
+    /**
+     * Method builds the {@link VirtualThreadRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link VirtualThreadRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public VirtualThreadRESTRequestExecutor build( ) {
+      return new VirtualThreadRESTRequestExecutor(this);
+    }
+  }
+}
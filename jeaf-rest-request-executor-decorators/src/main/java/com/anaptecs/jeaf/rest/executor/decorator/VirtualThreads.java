@@ -0,0 +1,110 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class provides access to virtual threads. As this library still supports Java 17 virtual threads are accessed via
+ * reflection. On older Java versions platform threads are used instead.
+ *
+ * @author JEAF Development Team
+ */
+public final class VirtualThreads {
+  /**
+   * Handle for <code>Executors.newVirtualThreadPerTaskExecutor()</code> or null if virtual threads are not available.
+   */
+  private static final MethodHandle NEW_EXECUTOR;
+
+  /**
+   * Handle for <code>Thread.isVirtual()</code> or null if virtual threads are not available.
+   */
+  private static final MethodHandle IS_VIRTUAL;
+
+  static {
+    MethodHandles.Lookup lLookup = MethodHandles.publicLookup();
+    MethodHandle lNewExecutor;
+    MethodHandle lIsVirtual;
+    try {
+      lNewExecutor = lLookup.findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+          MethodType.methodType(ExecutorService.class));
+      lIsVirtual = lLookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+    }
+    catch (ReflectiveOperationException e) {
+      lNewExecutor = null;
+      lIsVirtual = null;
+    }
+    NEW_EXECUTOR = lNewExecutor;
+    IS_VIRTUAL = lIsVirtual;
+  }
+
+  /**
+   * Constructor is private as class only provides static methods.
+   */
+  private VirtualThreads( ) {
+  }
+
+  /**
+   * Method checks if virtual threads are supported by the current Java runtime.
+   *
+   * @return boolean Method returns true if virtual threads are available.
+   */
+  public static boolean isAvailable( ) {
+    return NEW_EXECUTOR != null;
+  }
+
+  /**
+   * Method checks if the passed thread is a virtual thread.
+   *
+   * @param pThread Thread that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the passed thread is a virtual thread.
+   */
+  public static boolean isVirtual( Thread pThread ) {
+    if (IS_VIRTUAL != null) {
+      try {
+        return (boolean) IS_VIRTUAL.invokeExact(pThread);
+      }
+      catch (Throwable e) {
+        throw new IllegalStateException("Unable to check if thread is virtual.", e);
+      }
+    }
+    else {
+      return false;
+    }
+  }
+
+  /**
+   * Method creates an executor service that starts a new virtual thread for every task. If virtual threads are not
+   * available then an executor with a cached pool of daemon platform threads is returned.
+   *
+   * @param pThreadNamePrefix Prefix for the names of the platform threads that are created if virtual threads are not
+   * available. The parameter must not be null.
+   * @return {@link ExecutorService} Created executor service. The method never returns null.
+   */
+  public static ExecutorService newExecutor( String pThreadNamePrefix ) {
+    if (NEW_EXECUTOR != null) {
+      try {
+        return (ExecutorService) NEW_EXECUTOR.invokeExact();
+      }
+      catch (Throwable e) {
+        throw new IllegalStateException("Unable to create executor for virtual threads.", e);
+      }
+    }
+    else {
+      AtomicInteger lThreadNumber = new AtomicInteger();
+      return Executors.newCachedThreadPool(pRunnable -> {
+        Thread lThread = new Thread(pRunnable, pThreadNamePrefix + lThreadNumber.incrementAndGet());
+        lThread.setDaemon(true);
+        return lThread;
+      });
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.util.Collection;
+
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.RequestKey;
+import com.anaptecs.jeaf.rest.executor.decorator.ResponseCache;
+import com.anaptecs.jeaf.rest.executor.decorator.ResponseCache.CachedResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that caches the deserialized results of GET
+ * requests in a {@link ResponseCache}. Results are cached per {@link RequestKey} which also covers the expected result
+ * type. Stale results are revalidated with conditional requests. The cache is checked when the returned mono is
+ * subscribed.
+ * <p/>
+ * Caching headers of responses are only available if the delegate implements
+ * {@link RESTRequestExecutorReactive#executeResponseRequest(RESTRequest, int, Class, ObjectType)}. For delegates that
+ * rely on the default implementation results are cached for the default time to live of the cache.
+ * <p/>
+ * Only GET requests without body that return a single object or a collection are cached. All other requests are passed
+ * to the delegate as they are. Cached results are shared between subscribers and must therefore be treated as
+ * read-only.
+ *
+ * @author JEAF Development Team
+ */
+public class CachingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Cache that is used to store results.
+   */
+  private final ResponseCache cache;
+
+  /**
+   * Method creates a new builder for a caching executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pCache Cache that should be used to store results. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate, ResponseCache pCache ) {
+    return new Builder(pDelegate, pCache);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected CachingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+    cache = pBuilder.cache;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the cache that is used by this executor.
+   *
+   * @return {@link ResponseCache} Cache of this executor. The method never returns null.
+   */
+  public ResponseCache getCache( ) {
+    return cache;
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode);
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    if (isCacheable(pRequest)) {
+      return this.executeCached(pRequest, pSuccessfulStatusCode, null, pObjectType);
+    }
+    else {
+      return delegate.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    }
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    if (isCacheable(pRequest)) {
+      return this.executeCached(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+    else {
+      return delegate.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    }
+  }
+
+  /**
+   * Streams are never cached as their elements are not collected.
+   */
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return delegate.executeResponseRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+  }
+
+  private static boolean isCacheable( RESTRequest pRequest ) {
+    return pRequest.getHttpMethod() == HttpMethod.GET && pRequest.getBody() == null;
+  }
+
+  private <T> Mono<T> executeCached( RESTRequest pRequest, int pSuccessfulStatusCode, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    RequestKey lKey = RequestKey.of(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+    return Mono.defer(( ) -> {
+      CachedResponse lCached = cache.lookup(lKey);
+      Mono<T> lResult;
+      if (lCached != null && lCached.isRevalidationRequired() == false) {
+        lResult = Mono.justOrEmpty(lCached.<T> getResult());
+      }
+      else {
+        RESTRequest lRequest = lCached != null ? lCached.toConditionalRequest(pRequest) : pRequest;
+        Mono<RESTResponse<T>> lResponse =
+            delegate.executeResponseRequest(lRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+        lResult = lResponse.flatMap(pResponse -> Mono.justOrEmpty(cache.store(lKey, lCached, pResponse)));
+      }
+      return lResult;
+    });
+  }
+
+  /**
+   * Class implements a builder for {@link CachingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    private final ResponseCache cache;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pCache Cache that should be used to store results. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate, ResponseCache pCache ) {
+      if (pDelegate != null && pCache != null) {
+        delegate = pDelegate;
+        cache = pCache;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pCache' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new caching executor based on the configuration of this builder.
+     *
+     * @return {@link CachingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public CachingRESTRequestExecutorReactive build( ) {
+      return new CachingRESTRequestExecutorReactive(this);
+    }
+  }
+}
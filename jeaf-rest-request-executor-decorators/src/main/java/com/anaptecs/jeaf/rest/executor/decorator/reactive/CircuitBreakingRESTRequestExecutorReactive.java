@@ -0,0 +1,161 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreaker;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreaker.Permission;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that protects the delegate with a
+ * {@link CircuitBreaker} per service class. The permission is checked when the returned publisher is subscribed. If
+ * the circuit is open the publisher fails with a
+ * {@link com.anaptecs.jeaf.rest.executor.decorator.CircuitBreakerOpenException} without calling the delegate.
+ * <p/>
+ * Cancelled calls are not recorded in the circuit breaker.
+ *
+ * @author JEAF Development Team
+ */
+public class CircuitBreakingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Circuit breaker that decides which calls are permitted.
+   */
+  private final CircuitBreaker circuitBreaker;
+
+  /**
+   * Method creates a new builder for a circuit breaking executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pCircuitBreaker Circuit breaker that should be used. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate, CircuitBreaker pCircuitBreaker ) {
+    return new Builder(pDelegate, pCircuitBreaker);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected CircuitBreakingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+    circuitBreaker = pBuilder.circuitBreaker;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the circuit breaker of the decorator.
+   *
+   * @return {@link CircuitBreaker} Circuit breaker that is used. The method never returns null.
+   */
+  public CircuitBreaker getCircuitBreaker( ) {
+    return circuitBreaker;
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return this.protect(pRequest, ( ) -> delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.protect(pRequest,
+        ( ) -> delegate.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.protect(pRequest, ( ) -> delegate.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return Flux.defer(( ) -> {
+      Permission lPermission = circuitBreaker.acquirePermission(pRequest.getServiceClass());
+      Flux<T> lResult = delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+      return lResult.doOnComplete(lPermission::onSuccess).doOnError(lPermission::onError)
+          .doOnCancel(lPermission::release);
+    });
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.protect(pRequest, ( ) -> delegate.executeResponseRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  private <T> Mono<T> protect( RESTRequest pRequest, Supplier<Mono<T>> pCall ) {
+    return Mono.defer(( ) -> {
+      Permission lPermission = circuitBreaker.acquirePermission(pRequest.getServiceClass());
+      return pCall.get().doOnSuccess(pResult -> lPermission.onSuccess()).doOnError(lPermission::onError)
+          .doOnCancel(lPermission::release);
+    });
+  }
+
+  /**
+   * Class implements a builder for {@link CircuitBreakingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pCircuitBreaker Circuit breaker that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate, CircuitBreaker pCircuitBreaker ) {
+      if (pDelegate != null && pCircuitBreaker != null) {
+        delegate = pDelegate;
+        circuitBreaker = pCircuitBreaker;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pCircuitBreaker' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new circuit breaking executor based on the configuration of this builder.
+     *
+     * @return {@link CircuitBreakingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public CircuitBreakingRESTRequestExecutorReactive build( ) {
+      return new CircuitBreakingRESTRequestExecutorReactive(this);
+    }
+  }
+}
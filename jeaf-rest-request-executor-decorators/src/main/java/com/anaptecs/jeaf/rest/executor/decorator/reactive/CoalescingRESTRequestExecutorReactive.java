@@ -0,0 +1,205 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.RequestKey;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that coalesces identical GET requests that are
+ * in flight at the same time (single-flight). The first subscription to a request subscribes to the delegate. All
+ * subscriptions to identical requests that happen while this call is still in flight share its result or error.
+ * Requests are identical if their {@link RequestKey}s are equal.
+ * <p/>
+ * Only GET requests without body that return a single object or a collection are coalesced. All other requests are
+ * passed to the delegate as they are. Coalesced subscribers receive the same result object. Results must therefore be
+ * treated as read-only. Cancelling a subscription does not cancel the shared call as other subscribers might still
+ * wait for it.
+ *
+ * @author JEAF Development Team
+ */
+public class CoalescingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Shared calls that are currently in flight. Entries are removed as soon as the call terminates.
+   */
+  private final ConcurrentMap<RequestKey, Mono<Object>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Amount of requests that shared the result of another request.
+   */
+  private final LongAdder coalescedRequests = new LongAdder();
+
+  /**
+   * Method creates a new builder for a coalescing executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate ) {
+    return new Builder(pDelegate);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected CoalescingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the amount of requests that did not subscribe to the delegate but shared the result of an identical
+   * request that was already in flight.
+   *
+   * @return long Amount of coalesced requests.
+   */
+  public long getCoalescedRequests( ) {
+    return coalescedRequests.sum();
+  }
+
+  /**
+   * Method returns the amount of calls that are currently in flight and can be joined by identical requests.
+   *
+   * @return int Amount of calls in flight.
+   */
+  public int getInFlightRequests( ) {
+    return inFlight.size();
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode);
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    Supplier<Mono<T>> lCall =
+        ( ) -> delegate.<T> executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    if (isCoalescable(pRequest)) {
+      return this.coalesce(RequestKey.of(pRequest, pSuccessfulStatusCode, null, pObjectType), lCall);
+    }
+    else {
+      return lCall.get();
+    }
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    Supplier<Mono<T>> lCall = ( ) -> delegate.<T> executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType);
+    if (isCoalescable(pRequest)) {
+      RequestKey lKey = RequestKey.of(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+      return this.coalesce(lKey, lCall);
+    }
+    else {
+      return lCall.get();
+    }
+  }
+
+  /**
+   * Streams are never coalesced as every subscriber has to consume its own response.
+   */
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return delegate.executeResponseRequest(pRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType);
+  }
+
+  private static boolean isCoalescable( RESTRequest pRequest ) {
+    return pRequest.getHttpMethod() == HttpMethod.GET && pRequest.getBody() == null;
+  }
+
+  /**
+   * Method returns a mono that joins the call for the passed key if it is already in flight. Otherwise a new shared
+   * call is registered when the returned mono is subscribed.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> Mono<T> coalesce( RequestKey pKey, Supplier<Mono<T>> pCall ) {
+    return Mono.defer(( ) -> {
+      AtomicReference<Mono<Object>> lSelf = new AtomicReference<>();
+      Mono<Object> lCall = Mono.defer(pCall).cast(Object.class)
+          .doFinally(pSignal -> inFlight.remove(pKey, lSelf.get())).cache();
+      lSelf.set(lCall);
+      Mono<Object> lInFlight = inFlight.putIfAbsent(pKey, lCall);
+      if (lInFlight == null) {
+        return (Mono<T>) lCall;
+      }
+      else {
+        coalescedRequests.increment();
+        return (Mono<T>) lInFlight;
+      }
+    });
+  }
+
+  /**
+   * Class implements a builder for {@link CoalescingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate ) {
+      if (pDelegate != null) {
+        delegate = pDelegate;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pDelegate' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new coalescing executor based on the configuration of this builder.
+     *
+     * @return {@link CoalescingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public CoalescingRESTRequestExecutorReactive build( ) {
+      return new CoalescingRESTRequestExecutorReactive(this);
+    }
+  }
+}
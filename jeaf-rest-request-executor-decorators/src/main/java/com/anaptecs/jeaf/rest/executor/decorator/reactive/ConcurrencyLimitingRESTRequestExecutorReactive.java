@@ -0,0 +1,185 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.AdaptiveConcurrencyLimiter;
+import com.anaptecs.jeaf.rest.executor.decorator.AdaptiveConcurrencyLimiter.Permit;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that limits the amount of concurrent calls per
+ * service class using an {@link AdaptiveConcurrencyLimiter}. Permits are acquired when the returned publisher is
+ * subscribed and returned when it completes, fails or is cancelled.
+ * <p/>
+ * Calls that exceed the limit fail with a {@link java.util.concurrent.RejectedExecutionException}. If the limiter has
+ * a queue then waiting calls do not block any thread. They are resumed by the thread that returns a permit.
+ *
+ * @author JEAF Development Team
+ */
+public class ConcurrencyLimitingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Limiter that provides the permits for all calls.
+   */
+  private final AdaptiveConcurrencyLimiter limiter;
+
+  /**
+   * Method creates a new builder for a concurrency limiting executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pLimiter Limiter that should be used. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate, AdaptiveConcurrencyLimiter pLimiter ) {
+    return new Builder(pDelegate, pLimiter);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected ConcurrencyLimitingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+    limiter = pBuilder.limiter;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the limiter of the decorator.
+   *
+   * @return {@link AdaptiveConcurrencyLimiter} Limiter that is used. The method never returns null.
+   */
+  public AdaptiveConcurrencyLimiter getLimiter( ) {
+    return limiter;
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return this.limit(pRequest, ( ) -> delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.limit(pRequest,
+        ( ) -> delegate.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.limit(pRequest, ( ) -> delegate.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.acquirePermit(pRequest).flatMapMany(pPermit -> {
+      Flux<T> lResult = delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+      return lResult.doOnComplete(pPermit::end).doOnError(pPermit::fail).doOnCancel(pPermit::cancel);
+    });
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.limit(pRequest, ( ) -> delegate.executeResponseRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  private <T> Mono<T> limit( RESTRequest pRequest, Supplier<Mono<T>> pCall ) {
+    return this.acquirePermit(pRequest).flatMap(pPermit -> pCall.get()
+        .doOnSuccess(pResult -> pPermit.end()).doOnError(pPermit::fail).doOnCancel(pPermit::cancel));
+  }
+
+  /**
+   * Method returns a mono that acquires a permit for the passed request when it is subscribed.
+   */
+  private Mono<Permit> acquirePermit( RESTRequest pRequest ) {
+    return Mono.create(pSink -> {
+      Permit lPermit = limiter.tryAcquire(pRequest.getServiceClass());
+      if (lPermit != null) {
+        pSink.success(lPermit);
+      }
+      else {
+        CompletableFuture<Permit> lWaiting = limiter.acquire(pRequest.getServiceClass());
+        pSink.onCancel(( ) -> limiter.cancel(lWaiting));
+        lWaiting.whenComplete(( pPermit, pError ) -> {
+          if (pError != null) {
+            // Cancelled calls have no subscriber anymore.
+            if (pError instanceof CancellationException == false) {
+              pSink.error(pError);
+            }
+          }
+          else {
+            pSink.success(pPermit);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Class implements a builder for {@link ConcurrencyLimitingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pLimiter Limiter that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate, AdaptiveConcurrencyLimiter pLimiter ) {
+      if (pDelegate != null && pLimiter != null) {
+        delegate = pDelegate;
+        limiter = pLimiter;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pLimiter' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new concurrency limiting executor based on the configuration of this builder.
+     *
+     * @return {@link ConcurrencyLimitingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public ConcurrencyLimitingRESTRequestExecutorReactive build( ) {
+      return new ConcurrencyLimitingRESTRequestExecutorReactive(this);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.HedgingPolicy;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that hedges slow requests according to a
+ * {@link HedgingPolicy}. If a request does not respond within the hedging delay of its service class and the budget
+ * permits, the same request is subscribed a second time. The first response is returned and the subscription of the
+ * other request is cancelled. Errors of the hedged request are ignored as the original request is still running.
+ * <p/>
+ * The hedging delay is awaited on a timer of Reactor so no thread is blocked. Calls of
+ * {@link #executeStreamResultRequest(RESTRequest, int, ObjectType)} are never hedged. Requests with a body that can
+ * not be sent twice are not hedged either (see {@link HedgingPolicy#isHedgeable(RESTRequest)}).
+ *
+ * @author JEAF Development Team
+ */
+public class HedgingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Policy that decides which requests are hedged.
+   */
+  private final HedgingPolicy hedgingPolicy;
+
+  /**
+   * Method creates a new builder for a hedging executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pHedgingPolicy Hedging policy that should be used. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate, HedgingPolicy pHedgingPolicy ) {
+    return new Builder(pDelegate, pHedgingPolicy);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected HedgingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+    hedgingPolicy = pBuilder.hedgingPolicy;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the hedging policy of the decorator.
+   *
+   * @return {@link HedgingPolicy} Hedging policy that is used. The method never returns null.
+   */
+  public HedgingPolicy getHedgingPolicy( ) {
+    return hedgingPolicy;
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return this.hedge(pRequest, ( ) -> delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.hedge(pRequest,
+        ( ) -> delegate.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.hedge(pRequest, ( ) -> delegate.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.hedge(pRequest, ( ) -> delegate.executeResponseRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  private <T> Mono<T> hedge( RESTRequest pRequest, Supplier<Mono<T>> pCall ) {
+    if (hedgingPolicy.isHedgeable(pRequest)) {
+      return Mono.defer(( ) -> {
+        HedgingPolicy.Service lService = hedgingPolicy.getService(pRequest.getServiceClass());
+        lService.onCall();
+        long lStart = System.nanoTime();
+        long lDelay = lService.getDelayNanos();
+        Mono<T> lResult;
+        if (lDelay != HedgingPolicy.NO_HEDGING) {
+          // Hedged request never completes if it is not sent or fails. This way the original request decides. Results
+          // are tagged with their origin so that a hedge win is only counted if the hedged request actually won.
+          Mono<Outcome<T>> lOriginal = tag(pCall.get(), false);
+          Mono<Outcome<T>> lHedged = Mono.delay(Duration.ofNanos(lDelay))
+              .flatMap(pTick -> lService.tryHedge() ? tag(pCall.get(), true).onErrorResume(e -> Mono.never())
+                  : Mono.<Outcome<T>> never());
+          lResult = Mono.firstWithSignal(lOriginal, lHedged).flatMap(pOutcome -> {
+            if (pOutcome.hedged) {
+              lService.onHedgeWon();
+            }
+            return Mono.justOrEmpty(pOutcome.value);
+          });
+        }
+        else {
+          lResult = pCall.get();
+        }
+        return lResult.doOnSuccess(pValue -> lService.onSuccess(System.nanoTime() - lStart));
+      });
+    }
+    else {
+      return pCall.get();
+    }
+  }
+
+  private static <T> Mono<Outcome<T>> tag( Mono<T> pResult, boolean pHedged ) {
+    return pResult.map(pValue -> new Outcome<>(pValue, pHedged)).defaultIfEmpty(new Outcome<>(null, pHedged));
+  }
+
+  /**
+   * Class represents the result of the original or the hedged request.
+   */
+  private static final class Outcome<T> {
+    private final T value;
+
+    private final boolean hedged;
+
+    Outcome( T pValue, boolean pHedged ) {
+      value = pValue;
+      hedged = pHedged;
+    }
+  }
+
+  /**
+   * Class implements a builder for {@link HedgingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    private final HedgingPolicy hedgingPolicy;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pHedgingPolicy Hedging policy that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate, HedgingPolicy pHedgingPolicy ) {
+      if (pDelegate != null && pHedgingPolicy != null) {
+        delegate = pDelegate;
+        hedgingPolicy = pHedgingPolicy;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pHedgingPolicy' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new hedging executor based on the configuration of this builder.
+     *
+     * @return {@link HedgingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public HedgingRESTRequestExecutorReactive build( ) {
+      return new HedgingRESTRequestExecutorReactive(this);
+    }
+  }
+}
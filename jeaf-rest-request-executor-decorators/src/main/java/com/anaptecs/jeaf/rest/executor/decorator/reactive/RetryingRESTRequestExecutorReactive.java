@@ -0,0 +1,195 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.RetryPolicy;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that retries failed requests according to a
+ * {@link RetryPolicy}. Retries resubscribe to the publisher of the delegate. The delay between attempts is awaited on
+ * a timer of Reactor so no thread is blocked. If no attempt succeeds then the publisher fails with the exception of the
+ * last attempt.
+ * <p/>
+ * Calls of {@link #executeStreamResultRequest(RESTRequest, int, ObjectType)} are only retried if they fail before the
+ * first element was emitted as otherwise elements would be delivered twice. Requests with a body that can not be sent
+ * twice are never retried (see {@link RetryPolicy#isRetryable(RESTRequest)}).
+ *
+ * @author JEAF Development Team
+ */
+public class RetryingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Policy that decides which calls are retried.
+   */
+  private final RetryPolicy retryPolicy;
+
+  /**
+   * Method creates a new builder for a retrying executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pRetryPolicy Retry policy that should be used. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate, RetryPolicy pRetryPolicy ) {
+    return new Builder(pDelegate, pRetryPolicy);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected RetryingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+    retryPolicy = pBuilder.retryPolicy;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the retry policy of the decorator.
+   *
+   * @return {@link RetryPolicy} Retry policy that is used. The method never returns null.
+   */
+  public RetryPolicy getRetryPolicy( ) {
+    return retryPolicy;
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return this.retry(pRequest, ( ) -> delegate.executeNoResultRequest(pRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.retry(pRequest,
+        ( ) -> delegate.executeSingleObjectResultRequest(pRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.retry(pRequest, ( ) -> delegate.executeCollectionResultRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    if (retryPolicy.isRetryable(pRequest)) {
+      return Flux.defer(( ) -> {
+        AtomicBoolean lEmitted = new AtomicBoolean();
+        Flux<T> lResult = delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+        return lResult.doOnNext(pElement -> lEmitted.set(true))
+            .retryWhen(this.createRetry(pRequest, ( ) -> lEmitted.get() == false));
+      });
+    }
+    else {
+      return delegate.executeStreamResultRequest(pRequest, pSuccessfulStatusCode, pObjectType);
+    }
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.retry(pRequest, ( ) -> delegate.executeResponseRequest(pRequest, pSuccessfulStatusCode,
+        pCollectionClass, pObjectType));
+  }
+
+  private <T> Mono<T> retry( RESTRequest pRequest, Supplier<Mono<T>> pCall ) {
+    if (retryPolicy.isRetryable(pRequest)) {
+      return Mono.defer(( ) -> pCall.get().retryWhen(this.createRetry(pRequest, ( ) -> true)));
+    }
+    else {
+      return pCall.get();
+    }
+  }
+
+  /**
+   * Method creates the retry strategy for one call. It is created on subscription as it contains the delay of the
+   * previous retry.
+   *
+   * @param pRequest Request that is executed. The parameter must not be null.
+   * @param pRetryAllowed Additional condition that has to be fulfilled for a retry. The parameter must not be null.
+   * @return {@link Retry} Retry strategy. The method never returns null.
+   */
+  private Retry createRetry( RESTRequest pRequest, BooleanSupplier pRetryAllowed ) {
+    RetryPolicy.Service lService = retryPolicy.getService(pRequest.getServiceClass());
+    lService.onCall();
+    long[] lDelay = new long[1];
+    return Retry.from(pSignals -> pSignals.concatMap(pSignal -> {
+      Throwable lFailure = pSignal.failure();
+      if (pSignal.totalRetries() + 1 >= retryPolicy.getMaxAttempts() || pRetryAllowed.getAsBoolean() == false
+          || retryPolicy.isRetryable(lFailure) == false || lService.tryRetry() == false) {
+        return Mono.error(lFailure);
+      }
+      lDelay[0] = retryPolicy.nextDelayNanos(lDelay[0]);
+      return Mono.delay(Duration.ofNanos(lDelay[0]));
+    }));
+  }
+
+  /**
+   * Class implements a builder for {@link RetryingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pRetryPolicy Retry policy that should be used. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate, RetryPolicy pRetryPolicy ) {
+      if (pDelegate != null && pRetryPolicy != null) {
+        delegate = pDelegate;
+        retryPolicy = pRetryPolicy;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pRetryPolicy' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new retrying executor based on the configuration of this builder.
+     *
+     * @return {@link RetryingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public RetryingRESTRequestExecutorReactive build( ) {
+      return new RetryingRESTRequestExecutorReactive(this);
+    }
+  }
+}
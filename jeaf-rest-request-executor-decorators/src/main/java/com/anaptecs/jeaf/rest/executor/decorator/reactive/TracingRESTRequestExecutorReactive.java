@@ -0,0 +1,183 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+import com.anaptecs.jeaf.rest.executor.decorator.RESTRequestTracer;
+import com.anaptecs.jeaf.rest.executor.decorator.RESTRequestTracer.Span;
+import com.anaptecs.jeaf.rest.executor.decorator.TraceContext;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Class implements a decorator for {@link RESTRequestExecutorReactive} that creates a client span for every call and
+ * propagates its trace context in the header fields of the request. Spans are started when the returned publisher is
+ * subscribed and finished when it completes, fails or is cancelled.
+ * <p/>
+ * As reactive pipelines are not bound to a thread the parent context is taken from the Reactor context using
+ * {@link TraceContext} as key:
+ *
+ * <pre>
+ * lExecutor.executeSingleObjectResultRequest(lRequest, 200, lType)
+ *     .contextWrite(Context.of(TraceContext.class, lParent));
+ * </pre>
+ *
+ * If the Reactor context does not contain a trace context then the parent is resolved by the tracer.
+ *
+ * @author JEAF Development Team
+ */
+public class TracingRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  /**
+   * Executor to which all requests are delegated.
+   */
+  private final RESTRequestExecutorReactive delegate;
+
+  /**
+   * Tracer that is used to create spans.
+   */
+  private final RESTRequestTracer tracer;
+
+  /**
+   * Method creates a new builder for a tracing executor.
+   *
+   * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+   * @param pTracer Tracer that should be used to create spans. The parameter must not be null.
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( RESTRequestExecutorReactive pDelegate, RESTRequestTracer pTracer ) {
+    return new Builder(pDelegate, pTracer);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder that contains the configuration. The parameter must not be null.
+   */
+  protected TracingRESTRequestExecutorReactive( Builder pBuilder ) {
+    delegate = pBuilder.delegate;
+    tracer = pBuilder.tracer;
+  }
+
+  /**
+   * Method returns the executor to which all requests are delegated.
+   *
+   * @return {@link RESTRequestExecutorReactive} Decorated executor. The method never returns null.
+   */
+  public RESTRequestExecutorReactive getDelegate( ) {
+    return delegate;
+  }
+
+  /**
+   * Method returns the tracer of the decorator.
+   *
+   * @return {@link RESTRequestTracer} Tracer that is used to create spans. The method never returns null.
+   */
+  public RESTRequestTracer getTracer( ) {
+    return tracer;
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return this.trace(pRequest, pSuccessfulStatusCode,
+        pTracedRequest -> delegate.executeNoResultRequest(pTracedRequest, pSuccessfulStatusCode));
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.trace(pRequest, pSuccessfulStatusCode, pTracedRequest -> delegate
+        .executeSingleObjectResultRequest(pTracedRequest, pSuccessfulStatusCode, pObjectType));
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.trace(pRequest, pSuccessfulStatusCode, pTracedRequest -> delegate
+        .executeCollectionResultRequest(pTracedRequest, pSuccessfulStatusCode, pCollectionClass, pObjectType));
+  }
+
+  @Override
+  public <T> Flux<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return Flux.deferContextual(pContext -> {
+      Span lSpan = this.startSpan(pRequest, pContext);
+      Flux<T> lResult = delegate.executeStreamResultRequest(lSpan.getRequest(), pSuccessfulStatusCode, pObjectType);
+      return lResult.doOnComplete(( ) -> lSpan.end(pSuccessfulStatusCode)).doOnError(lSpan::fail)
+          .doOnCancel(( ) -> lSpan.end((int) RequestEvent.UNKNOWN));
+    });
+  }
+
+  @Override
+  public <T> Mono<RESTResponse<T>> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return Mono.deferContextual(pContext -> {
+      Span lSpan = this.startSpan(pRequest, pContext);
+      Mono<RESTResponse<T>> lResult = delegate.executeResponseRequest(lSpan.getRequest(), pSuccessfulStatusCode,
+          pCollectionClass, pObjectType);
+      return lResult
+          .doOnSuccess(pResponse -> lSpan.end(pResponse != null ? pResponse.getStatusCode() : pSuccessfulStatusCode))
+          .doOnError(lSpan::fail).doOnCancel(( ) -> lSpan.end((int) RequestEvent.UNKNOWN));
+    });
+  }
+
+  private <T> Mono<T> trace( RESTRequest pRequest, int pSuccessfulStatusCode, Function<RESTRequest, Mono<T>> pCall ) {
+    return Mono.deferContextual(pContext -> {
+      Span lSpan = this.startSpan(pRequest, pContext);
+      return pCall.apply(lSpan.getRequest()).doOnSuccess(pResult -> lSpan.end(pSuccessfulStatusCode))
+          .doOnError(lSpan::fail).doOnCancel(( ) -> lSpan.end((int) RequestEvent.UNKNOWN));
+    });
+  }
+
+  private Span startSpan( RESTRequest pRequest, ContextView pContext ) {
+    TraceContext lParent = pContext.getOrDefault(TraceContext.class, null);
+    return tracer.startSpan(pRequest, lParent);
+  }
+
+  /**
+   * Class implements a builder for {@link TracingRESTRequestExecutorReactive}.
+   */
+  public static class Builder {
+    private final RESTRequestExecutorReactive delegate;
+
+    private final RESTRequestTracer tracer;
+
+    /**
+     * Initialize object.
+     *
+     * @param pDelegate Executor to which all requests are delegated. The parameter must not be null.
+     * @param pTracer Tracer that should be used to create spans. The parameter must not be null.
+     */
+    protected Builder( RESTRequestExecutorReactive pDelegate, RESTRequestTracer pTracer ) {
+      if (pDelegate != null && pTracer != null) {
+        delegate = pDelegate;
+        tracer = pTracer;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pDelegate' and 'pTracer' must not be null.");
+      }
+    }
+
+    /**
+     * Method creates a new tracing executor based on the configuration of this builder.
+     *
+     * @return {@link TracingRESTRequestExecutorReactive} Created executor. The method never returns null.
+     */
+    public TracingRESTRequestExecutorReactive build( ) {
+      return new TracingRESTRequestExecutorReactive(this);
+    }
+  }
+}
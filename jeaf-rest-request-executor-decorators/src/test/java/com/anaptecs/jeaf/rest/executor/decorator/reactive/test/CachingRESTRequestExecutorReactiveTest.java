@@ -0,0 +1,70 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.ResponseCache;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.CachingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+public class CachingRESTRequestExecutorReactiveTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testCaching( ) {
+    AtomicInteger lVersion = new AtomicInteger();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(
+        pRequest -> Mono.just(pRequest.getPath() + " v" + lVersion.incrementAndGet()));
+    ResponseCache lCache = ResponseCache.builder(10).setDefaultTimeToLive(Duration.ofMinutes(1)).build();
+    CachingRESTRequestExecutorReactive lExecutor =
+        CachingRESTRequestExecutorReactive.builder(lDelegate, lCache).build();
+
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/config")
+        .build();
+    Mono<String> lMono = lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    assertEquals(0, lDelegate.getCalls());
+    String lFirst = lMono.block();
+    assertEquals("/config v1", lFirst);
+    assertSame(lFirst, lMono.block());
+    assertSame(lFirst, lExecutor.<String> executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE).block());
+    assertEquals(1, lDelegate.getCalls());
+    assertEquals(1, lCache.getMissCount());
+    assertEquals(2, lCache.getHitCount());
+
+    // Collections are cached separately from single objects.
+    List<String> lList = List.of("a", "b");
+    TestRESTRequestExecutorReactive lListDelegate = new TestRESTRequestExecutorReactive(pRequest -> Mono.just(lList));
+    lExecutor = CachingRESTRequestExecutorReactive.builder(lListDelegate, lCache).build();
+    assertSame(lList, lExecutor.executeCollectionResultRequest(lRequest, 200, List.class, STRING_TYPE).block());
+    assertSame(lList, lExecutor.executeCollectionResultRequest(lRequest, 200, List.class, STRING_TYPE).block());
+    assertEquals(1, lListDelegate.getCalls());
+    assertEquals(2, lCache.getSize());
+
+    // Empty results are cached as well and other methods are not cached at all.
+    TestRESTRequestExecutorReactive lEmptyDelegate = new TestRESTRequestExecutorReactive(pRequest -> Mono.empty());
+    lExecutor = CachingRESTRequestExecutorReactive.builder(lEmptyDelegate, lCache).build();
+    RESTRequest lEmpty = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/empty").build();
+    assertNull(lExecutor.executeSingleObjectResultRequest(lEmpty, 204, STRING_TYPE).block());
+    assertNull(lExecutor.executeSingleObjectResultRequest(lEmpty, 204, STRING_TYPE).block());
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/empty").build();
+    lExecutor.executeSingleObjectResultRequest(lPost, 204, STRING_TYPE).block();
+    lExecutor.executeSingleObjectResultRequest(lPost, 204, STRING_TYPE).block();
+    assertEquals(3, lEmptyDelegate.getCalls());
+  }
+}
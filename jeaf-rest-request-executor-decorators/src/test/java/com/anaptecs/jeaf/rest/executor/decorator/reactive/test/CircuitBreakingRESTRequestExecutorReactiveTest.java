@@ -0,0 +1,66 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreaker;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreakerOpenException;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.CircuitBreakingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+public class CircuitBreakingRESTRequestExecutorReactiveTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testCircuitBreaker( ) throws InterruptedException {
+    AtomicBoolean lFailing = new AtomicBoolean(true);
+    AtomicBoolean lHanging = new AtomicBoolean(false);
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> {
+      if (lFailing.get()) {
+        return Mono.error(new IllegalStateException("Service unavailable"));
+      }
+      return lHanging.get() ? Mono.never() : Mono.just(pRequest.getPath());
+    });
+    CircuitBreaker lCircuitBreaker = CircuitBreaker.builder().setMinimumNumberOfCalls(3)
+        .setOpenDuration(Duration.ofMillis(50)).setPermittedProbes(1).build();
+    CircuitBreakingRESTRequestExecutorReactive lExecutor =
+        CircuitBreakingRESTRequestExecutorReactive.builder(lDelegate, lCircuitBreaker).build();
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+    Mono<String> lCall = lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+
+    // Permission is checked on every subscription.
+    for (int i = 0; i < 3; i++) {
+      assertTrue(this.error(lCall) instanceof IllegalStateException);
+    }
+    assertTrue(this.error(lCall) instanceof CircuitBreakerOpenException);
+    assertEquals(3, lDelegate.getCalls());
+
+    // Cancelled probe does not block other probes.
+    Thread.sleep(60);
+    lFailing.set(false);
+    lHanging.set(true);
+    lCall.timeout(Duration.ofMillis(10)).onErrorResume(e -> Mono.empty()).block();
+    assertEquals(CircuitBreaker.State.HALF_OPEN, lCircuitBreaker.getCircuit(String.class).getState());
+    lHanging.set(false);
+    assertEquals("/a", lCall.block());
+    assertEquals(CircuitBreaker.State.CLOSED, lCircuitBreaker.getCircuit(String.class).getState());
+  }
+
+  private Throwable error( Mono<?> pMono ) {
+    return pMono.map(pResult -> (Throwable) null).onErrorResume(e -> Mono.just(e)).block();
+  }
+}
@@ -0,0 +1,100 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.CoalescingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class CoalescingRESTRequestExecutorReactiveTest {
+  private static final RESTRequest GET_CONFIG =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/config").build();
+
+  @Test
+  void testCoalescing( ) throws InterruptedException, ExecutionException {
+    Sinks.One<Object> lResponse = Sinks.one();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> lResponse.asMono());
+    CoalescingRESTRequestExecutorReactive lExecutor = CoalescingRESTRequestExecutorReactive.builder(lDelegate).build();
+
+    // Nothing happens until a subscriber is there.
+    Mono<String> lMono =
+        lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, ObjectType.createObjectType(String.class));
+    assertEquals(0, lDelegate.getCalls());
+    assertEquals(0, lExecutor.getInFlightRequests());
+
+    List<CompletableFuture<String>> lResults = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      lResults.add(lMono.toFuture());
+      lResults.add(lExecutor.<String> executeSingleObjectResultRequest(GET_CONFIG, 200,
+          ObjectType.createObjectType(String.class)).toFuture());
+    }
+    assertEquals(1, lDelegate.getCalls());
+    assertEquals(9, lExecutor.getCoalescedRequests());
+    assertEquals(1, lExecutor.getInFlightRequests());
+
+    String lValue = new String("value");
+    lResponse.tryEmitValue(lValue);
+    for (CompletableFuture<String> lResult : lResults) {
+      assertSame(lValue, lResult.get());
+    }
+    assertEquals(0, lExecutor.getInFlightRequests());
+
+    // Completed calls are not shared with later subscribers.
+    lMono.block();
+    assertEquals(2, lDelegate.getCalls());
+  }
+
+  @Test
+  void testErrorsAndOtherMethods( ) {
+    Sinks.One<Object> lResponse = Sinks.one();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> lResponse.asMono());
+    CoalescingRESTRequestExecutorReactive lExecutor = CoalescingRESTRequestExecutorReactive.builder(lDelegate).build();
+
+    List<CompletableFuture<List<String>>> lResults = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      lResults.add(lExecutor.<List<String>> executeCollectionResultRequest(GET_CONFIG, 200, List.class,
+          ObjectType.createObjectType(String.class)).toFuture());
+    }
+    lResponse.tryEmitError(new IllegalStateException("Failed"));
+    for (CompletableFuture<List<String>> lResult : lResults) {
+      ExecutionException lException = assertThrows(ExecutionException.class, lResult::get);
+      assertEquals("Failed", lException.getCause().getMessage());
+    }
+    assertEquals(1, lDelegate.getCalls());
+    assertEquals(0, lExecutor.getInFlightRequests());
+
+    // Requests with other result types or other methods are not coalesced.
+    TestRESTRequestExecutorReactive lOtherDelegate = new TestRESTRequestExecutorReactive(pRequest -> Mono.never());
+    CoalescingRESTRequestExecutorReactive lOtherExecutor =
+        CoalescingRESTRequestExecutorReactive.builder(lOtherDelegate).build();
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/config")
+        .build();
+    lOtherExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, ObjectType.createObjectType(String.class))
+        .subscribe();
+    lOtherExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, ObjectType.createObjectType(Integer.class))
+        .subscribe();
+    lOtherExecutor.executeSingleObjectResultRequest(lPost, 200, ObjectType.createObjectType(String.class)).subscribe();
+    lOtherExecutor.executeSingleObjectResultRequest(lPost, 200, ObjectType.createObjectType(String.class)).subscribe();
+    assertEquals(4, lOtherDelegate.getCalls());
+    assertEquals(0, lOtherExecutor.getCoalescedRequests());
+    assertEquals(2, lOtherExecutor.getInFlightRequests());
+  }
+}
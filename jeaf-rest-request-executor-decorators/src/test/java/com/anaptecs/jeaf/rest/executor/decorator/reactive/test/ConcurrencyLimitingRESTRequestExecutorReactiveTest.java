@@ -0,0 +1,81 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.AdaptiveConcurrencyLimiter;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.ConcurrencyLimitingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ConcurrencyLimitingRESTRequestExecutorReactiveTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testLimit( ) {
+    AtomicInteger lRunning = new AtomicInteger();
+    AtomicInteger lMaxRunning = new AtomicInteger();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> {
+      lMaxRunning.accumulateAndGet(lRunning.incrementAndGet(), Math::max);
+      return Mono.delay(Duration.ofMillis(10)).map(pTick -> (Object) pRequest.getPath())
+          .doOnTerminate(lRunning::decrementAndGet);
+    });
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+
+    // Queued calls wait without blocking a thread.
+    AdaptiveConcurrencyLimiter lLimiter =
+        AdaptiveConcurrencyLimiter.builder().setLimits(2, 2, 2).setQueue(20, Duration.ofSeconds(10)).build();
+    ConcurrencyLimitingRESTRequestExecutorReactive lExecutor =
+        ConcurrencyLimitingRESTRequestExecutorReactive.builder(lDelegate, lLimiter).build();
+    List<String> lResults = Flux.range(0, 20)
+        .flatMap(i -> lExecutor.<String> executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE)).collectList()
+        .block();
+    assertEquals(20, lResults.size());
+    assertEquals(2, lMaxRunning.get());
+    assertEquals(0, lLimiter.getServiceLimit(String.class).getInFlight());
+
+    // Without queue excess calls are rejected. Calls only complete when all excess calls were rejected.
+    AtomicReference<CompletableFuture<Object>> lGate = new AtomicReference<>(new CompletableFuture<>());
+    TestRESTRequestExecutorReactive lGated =
+        new TestRESTRequestExecutorReactive(pRequest -> Mono.fromFuture(lGate.get(), true));
+    lLimiter = AdaptiveConcurrencyLimiter.builder().setLimits(2, 2, 2).build();
+    ConcurrencyLimitingRESTRequestExecutorReactive lRejecting =
+        ConcurrencyLimitingRESTRequestExecutorReactive.builder(lGated, lLimiter).build();
+    AtomicInteger lRejected = new AtomicInteger();
+    long lSucceeded = Flux.range(0, 10)
+        .flatMap(i -> lRejecting.<String> executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE)
+            .onErrorResume(RejectedExecutionException.class, e -> {
+              if (lRejected.incrementAndGet() == 8) {
+                lGate.get().complete("/a");
+              }
+              return Mono.empty();
+            }))
+        .count().block();
+    assertEquals(2, lSucceeded);
+    assertEquals(8, lRejected.get());
+
+    // Cancelled calls return their permit.
+    lGate.set(new CompletableFuture<>());
+    lRejecting.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE).timeout(Duration.ofMillis(50))
+        .onErrorResume(e -> Mono.empty()).block();
+    assertEquals(0, lLimiter.getServiceLimit(String.class).getInFlight());
+    assertEquals(2, lLimiter.getServiceLimit(String.class).getLimit());
+  }
+}
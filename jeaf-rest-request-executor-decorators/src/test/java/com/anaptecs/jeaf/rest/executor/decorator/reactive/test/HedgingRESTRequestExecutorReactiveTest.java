@@ -0,0 +1,101 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.HedgingPolicy;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.HedgingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+public class HedgingRESTRequestExecutorReactiveTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testHedging( ) {
+    AtomicBoolean lNextSlow = new AtomicBoolean();
+    AtomicInteger lCancelled = new AtomicInteger();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> {
+      if (lNextSlow.getAndSet(false)) {
+        return Mono.delay(Duration.ofSeconds(5)).map(pTick -> (Object) "slow").doOnCancel(lCancelled::incrementAndGet);
+      }
+      return Mono.just("fast");
+    });
+    HedgingPolicy lPolicy = HedgingPolicy.builder().setMinimumNumberOfCalls(20).setMinDelay(Duration.ofMillis(20))
+        .setBudget(10).build();
+    HedgingRESTRequestExecutorReactive lExecutor =
+        HedgingRESTRequestExecutorReactive.builder(lDelegate, lPolicy).build();
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+    Mono<String> lCall = lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    for (int i = 0; i < 20; i++) {
+      assertEquals("fast", lCall.block());
+    }
+    HedgingPolicy.Service lService = lPolicy.getService(String.class);
+    assertEquals(0, lService.getHedges());
+
+    // Slow request is hedged after the delay and cancelled when the hedged request responds.
+    lNextSlow.set(true);
+    long lStart = System.nanoTime();
+    assertEquals("fast", lCall.block());
+    assertTrue(System.nanoTime() - lStart < TimeUnit.SECONDS.toNanos(2));
+    assertEquals(1, lCancelled.get());
+    assertEquals(1, lService.getHedges());
+    assertEquals(1, lService.getHedgeWins());
+    assertEquals(22, lDelegate.getCalls());
+
+    // Fast requests are not hedged.
+    assertEquals("fast", lCall.block());
+    assertEquals(23, lDelegate.getCalls());
+  }
+
+  @Test
+  void testHedgeWinsWithSimultaneousResponses( ) {
+    AtomicBoolean lRace = new AtomicBoolean();
+    AtomicBoolean lNextOriginal = new AtomicBoolean();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> {
+      if (lRace.get() == false) {
+        return Mono.just("fast");
+      }
+      // Original and hedged request respond at about the same time.
+      return lNextOriginal.getAndSet(false) ? Mono.delay(Duration.ofMillis(10)).map(pTick -> (Object) "original")
+          : Mono.delay(Duration.ofMillis(5)).map(pTick -> (Object) "hedged");
+    });
+    HedgingPolicy lPolicy = HedgingPolicy.builder().setMinimumNumberOfCalls(20).setMinDelay(Duration.ofMillis(5))
+        .setBudget(100).build();
+    HedgingRESTRequestExecutorReactive lExecutor =
+        HedgingRESTRequestExecutorReactive.builder(lDelegate, lPolicy).build();
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+    Mono<String> lCall = lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    for (int i = 0; i < 20; i++) {
+      assertEquals("fast", lCall.block());
+    }
+
+    // Only hedged requests whose result is returned are counted as hedge wins.
+    lRace.set(true);
+    int lHedgedResults = 0;
+    for (int i = 0; i < 50; i++) {
+      lNextOriginal.set(true);
+      if (lCall.block().equals("hedged")) {
+        lHedgedResults++;
+      }
+    }
+    HedgingPolicy.Service lService = lPolicy.getService(String.class);
+    assertTrue(lService.getHedges() > 0);
+    assertEquals(lHedgedResults, lService.getHedgeWins());
+  }
+}
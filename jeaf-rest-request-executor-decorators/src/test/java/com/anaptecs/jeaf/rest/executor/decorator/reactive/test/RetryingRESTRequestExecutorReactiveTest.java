@@ -0,0 +1,70 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.RetryPolicy;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.RetryingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class RetryingRESTRequestExecutorReactiveTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testRetry( ) {
+    AtomicInteger lFailures = new AtomicInteger();
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> {
+      if (lFailures.getAndDecrement() > 0) {
+        return Mono.error(new UncheckedIOException(new IOException("Connection reset")));
+      }
+      return Mono.just(pRequest.getPath());
+    });
+    RetryPolicy lPolicy = RetryPolicy.builder().setMaxAttempts(25)
+        .setDelays(Duration.ofMillis(20), Duration.ofMillis(50)).setBudget(100, 100).build();
+    RetryingRESTRequestExecutorReactive lExecutor =
+        RetryingRESTRequestExecutorReactive.builder(lDelegate, lPolicy).build();
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+    Mono<String> lCall = lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+
+    // Many calls wait for their retries concurrently without blocking threads.
+    lFailures.set(20);
+    long lStart = System.nanoTime();
+    List<String> lResults = Flux.range(0, 10).flatMap(i -> lCall).collectList().block();
+    assertEquals(10, lResults.size());
+    assertTrue(System.nanoTime() - lStart < Duration.ofSeconds(1).toNanos());
+    assertEquals(30, lDelegate.getCalls());
+    assertEquals(20, lPolicy.getService(String.class).getRetries());
+
+    // Exception of the last attempt is emitted.
+    lFailures.set(25);
+    Throwable lError = lCall.map(pResult -> (Throwable) new IllegalStateException()).onErrorResume(Mono::just).block();
+    assertTrue(lError instanceof UncheckedIOException);
+    assertEquals(55, lDelegate.getCalls());
+
+    // Non idempotent requests are not retried.
+    lFailures.set(1);
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/a").build();
+    lError = lExecutor.executeSingleObjectResultRequest(lPost, 200, STRING_TYPE)
+        .map(pResult -> (Throwable) new IllegalStateException()).onErrorResume(Mono::just).block();
+    assertTrue(lError instanceof UncheckedIOException);
+    assertEquals(56, lDelegate.getCalls());
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.reactive.RESTRequestExecutorReactive;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive executor that is used as delegate in tests of decorators. Results are created by the passed handler. Besides
+ * that the executor counts the subscriptions to its results.
+ */
+class TestRESTRequestExecutorReactive implements RESTRequestExecutorReactive {
+  private final Function<RESTRequest, Mono<Object>> handler;
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  TestRESTRequestExecutorReactive( Function<RESTRequest, Mono<Object>> pHandler ) {
+    handler = pHandler;
+  }
+
+  int getCalls( ) {
+    return calls.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Mono<T> handle( RESTRequest pRequest ) {
+    return Mono.defer(( ) -> {
+      calls.incrementAndGet();
+      return (Mono<T>) handler.apply(pRequest);
+    });
+  }
+
+  @Override
+  public Mono<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    return this.<Void> handle(pRequest);
+  }
+
+  @Override
+  public <T> Mono<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.handle(pRequest);
+  }
+
+  @Override
+  public <T> Mono<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.handle(pRequest);
+  }
+}
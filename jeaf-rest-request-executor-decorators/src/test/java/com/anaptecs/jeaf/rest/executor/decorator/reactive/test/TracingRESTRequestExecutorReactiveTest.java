@@ -0,0 +1,76 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.reactive.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.InMemorySpanExporter;
+import com.anaptecs.jeaf.rest.executor.decorator.RESTRequestTracer;
+import com.anaptecs.jeaf.rest.executor.decorator.SpanData;
+import com.anaptecs.jeaf.rest.executor.decorator.TraceContext;
+import com.anaptecs.jeaf.rest.executor.decorator.reactive.TracingRESTRequestExecutorReactive;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+public class TracingRESTRequestExecutorReactiveTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testTracing( ) {
+    TestRESTRequestExecutorReactive lDelegate = new TestRESTRequestExecutorReactive(pRequest -> {
+      if (pRequest.getPath().endsWith("/0")) {
+        return Mono.error(new IllegalStateException("Failed"));
+      }
+      return Mono.just(pRequest.getHeader(HeaderNames.TRACEPARENT));
+    });
+    InMemorySpanExporter lExporter = new InMemorySpanExporter();
+    TracingRESTRequestExecutorReactive lExecutor =
+        TracingRESTRequestExecutorReactive.builder(lDelegate, RESTRequestTracer.builder(lExporter).build()).build();
+    RESTRequest.Template lTemplate =
+        RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/orders/{id}").buildTemplate();
+
+    // Spans are started on subscription and use the parent from the Reactor context.
+    TraceContext lParent = TraceContext.newRoot(true);
+    Mono<String> lMono = lExecutor.executeSingleObjectResultRequest(lTemplate.request(1), 200, STRING_TYPE);
+    assertEquals(0, lExporter.getFinishedSpans().size());
+    String lTraceparent = lMono.contextWrite(Context.of(TraceContext.class, lParent)).block();
+    List<SpanData> lSpans = lExporter.getFinishedSpans();
+    assertEquals(1, lSpans.size());
+    assertEquals("GET /orders/{id}", lSpans.get(0).getName());
+    assertEquals(lSpans.get(0).getContext().getTraceparent(), lTraceparent);
+    assertEquals(lParent.getTraceId(), lSpans.get(0).getTraceId());
+    assertEquals(lParent.getSpanId(), lSpans.get(0).getParentSpanId());
+    assertEquals(200, lSpans.get(0).getAttribute(RESTRequestTracer.HTTP_RESPONSE_STATUS_CODE));
+
+    // Every subscription creates its own span.
+    lExporter.reset();
+    lMono.block();
+    try {
+      lExecutor.executeNoResultRequest(lTemplate.request(0), 204).block();
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Failed", e.getMessage());
+    }
+    lSpans = lExporter.getFinishedSpans();
+    assertEquals(2, lSpans.size());
+    assertNull(lSpans.get(0).getParentSpanId());
+    assertTrue(lSpans.get(1).isError());
+    assertEquals(3, lDelegate.getCalls());
+  }
+}
@@ -0,0 +1,232 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.decorator.CachingRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.RequestKey;
+import com.anaptecs.jeaf.rest.executor.decorator.ResponseCache;
+import org.junit.jupiter.api.Test;
+
+public class CachingRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest GET_CONFIG =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/config").build();
+
+  @Test
+  void testFreshnessAndRevalidation( ) {
+    TestClock lClock = new TestClock();
+    ResourceExecutor lDelegate = new ResourceExecutor("max-age=10");
+    ResponseCache lCache = ResponseCache.builder(100).setClock(lClock).build();
+    CachingRESTRequestExecutor lExecutor = CachingRESTRequestExecutor.builder(lDelegate, lCache).build();
+
+    String lFirst = lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    assertEquals("config v1", lFirst);
+    assertSame(lFirst, lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE));
+    assertEquals(1, lDelegate.calls);
+
+    // Stale result is revalidated and can be used further on as the resource was not modified.
+    lClock.advance(Duration.ofSeconds(11));
+    assertSame(lFirst, lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE));
+    assertEquals(2, lDelegate.calls);
+    assertEquals(1, lDelegate.notModified);
+    assertSame(lFirst, lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE));
+    assertEquals(2, lDelegate.calls);
+
+    // Modified resource replaces cached result.
+    lClock.advance(Duration.ofSeconds(11));
+    lDelegate.version++;
+    assertEquals("config v2", lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE));
+    assertEquals(3, lDelegate.calls);
+    assertEquals("config v2", lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE));
+    assertEquals(3, lDelegate.calls);
+
+    assertEquals(3, lCache.getHitCount());
+    assertEquals(1, lCache.getMissCount());
+    assertEquals(2, lCache.getRevalidationCount());
+    assertEquals(0, lCache.getEvictionCount());
+    assertEquals(1, lCache.getSize());
+  }
+
+  @Test
+  void testCacheControlDirectives( ) {
+    TestClock lClock = new TestClock();
+    ResponseCache lCache = ResponseCache.builder(100).setClock(lClock).build();
+
+    // Responses with "no-store" are never cached.
+    ResourceExecutor lDelegate = new ResourceExecutor("no-store");
+    CachingRESTRequestExecutor lExecutor = CachingRESTRequestExecutor.builder(lDelegate, lCache).build();
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    assertEquals(2, lDelegate.calls);
+    assertEquals(0, lCache.getSize());
+
+    // Responses with "no-cache" are revalidated every time.
+    lDelegate = new ResourceExecutor("no-cache, max-age=100");
+    lExecutor = CachingRESTRequestExecutor.builder(lDelegate, lCache).build();
+    String lFirst = lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    assertSame(lFirst, lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE));
+    assertEquals(2, lDelegate.calls);
+    assertEquals(1, lDelegate.notModified);
+
+    // Expires is relative to the date of the response. The age of the response is taken into account.
+    lCache.clear();
+    DateTimeFormatter lFormat = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    Instant lDate = lClock.instant().minusSeconds(3600);
+    lDelegate = new ResourceExecutor(null);
+    lDelegate.headers.put("Date", List.of(lFormat.format(lDate)));
+    lDelegate.headers.put("Expires", List.of(lFormat.format(lDate.plusSeconds(60))));
+    lDelegate.headers.put("Age", List.of("30"));
+    lExecutor = CachingRESTRequestExecutor.builder(lDelegate, lCache).build();
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    lClock.advance(Duration.ofSeconds(29));
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    assertEquals(1, lDelegate.calls);
+    lClock.advance(Duration.ofSeconds(2));
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    assertEquals(2, lDelegate.calls);
+    assertEquals(1, lDelegate.notModified);
+
+    // Vary: * must not be cached.
+    lCache.clear();
+    lDelegate = new ResourceExecutor("max-age=100");
+    lDelegate.headers.put("Vary", List.of("*"));
+    lExecutor = CachingRESTRequestExecutor.builder(lDelegate, lCache).build();
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    lExecutor.executeSingleObjectResultRequest(GET_CONFIG, 200, STRING_TYPE);
+    assertEquals(2, lDelegate.calls);
+  }
+
+  @Test
+  void testEvictionAndDefaultTimeToLive( ) {
+    // Delegate does not provide any headers so default time to live is used.
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> new String(pRequest.getPath()));
+    ResponseCache lCache = ResponseCache.builder(2).setDefaultTimeToLive(Duration.ofMinutes(1)).build();
+    CachingRESTRequestExecutor lExecutor = CachingRESTRequestExecutor.builder(lDelegate, lCache).build();
+
+    RESTRequest lFirst = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/1").build();
+    RESTRequest lSecond = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/2").build();
+    RESTRequest lThird = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/3").build();
+    String lResult = lExecutor.executeSingleObjectResultRequest(lFirst, 200, STRING_TYPE);
+    lExecutor.executeSingleObjectResultRequest(lSecond, 200, STRING_TYPE);
+    // Access to first request makes second one the least recently used.
+    assertSame(lResult, lExecutor.executeSingleObjectResultRequest(lFirst, 200, STRING_TYPE));
+    lExecutor.executeSingleObjectResultRequest(lThird, 200, STRING_TYPE);
+    assertEquals(2, lCache.getSize());
+    assertEquals(1, lCache.getEvictionCount());
+    assertSame(lResult, lExecutor.executeSingleObjectResultRequest(lFirst, 200, STRING_TYPE));
+    assertEquals(3, lDelegate.getCalls());
+    lExecutor.executeSingleObjectResultRequest(lSecond, 200, STRING_TYPE);
+    assertEquals(4, lDelegate.getCalls());
+
+    // Other result types, methods and requests without result are not served from the cache.
+    Object lList = lExecutor.executeCollectionResultRequest(lFirst, 200, List.class, STRING_TYPE);
+    assertNotSame(lResult, lList);
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/1").build();
+    lExecutor.executeSingleObjectResultRequest(lPost, 200, STRING_TYPE);
+    lExecutor.executeSingleObjectResultRequest(lPost, 200, STRING_TYPE);
+    lExecutor.executeNoResultRequest(lFirst, 200);
+    assertEquals(8, lDelegate.getCalls());
+    assertEquals(2, lCache.getHitCount());
+    assertEquals(5, lCache.getMissCount());
+  }
+
+  @Test
+  void testNotModifiedWithoutCachedResult( ) {
+    ResponseCache lCache = ResponseCache.builder(1).build();
+    RequestKey lKey = RequestKey.of(GET_CONFIG, 200, null, STRING_TYPE);
+    assertNull(lCache.store(lKey, null, RESTResponse.of(RESTResponse.NOT_MODIFIED, Map.of(), "ignored")));
+    assertEquals(0, lCache.getSize());
+  }
+
+  /**
+   * Executor that simulates a resource with caching headers and support for conditional requests based on ETags.
+   */
+  static class ResourceExecutor extends TestRESTRequestExecutor {
+    final Map<String, List<String>> headers = new HashMap<>();
+
+    int version = 1;
+
+    int calls;
+
+    int notModified;
+
+    ResourceExecutor( String pCacheControl ) {
+      super(pRequest -> null);
+      if (pCacheControl != null) {
+        headers.put("Cache-Control", List.of(pCacheControl));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> RESTResponse<T> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+        @SuppressWarnings("rawtypes")
+        Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+      calls++;
+      Map<String, List<String>> lHeaders = new HashMap<>(headers);
+      String lETag = "\"" + version + "\"";
+      lHeaders.put("ETag", List.of(lETag));
+      List<String> lIfNoneMatch = pRequest.getHeaderFields().get("If-None-Match");
+      RESTResponse<T> lResponse;
+      if (lIfNoneMatch != null && lIfNoneMatch.contains(lETag)) {
+        notModified++;
+        lResponse = RESTResponse.of(RESTResponse.NOT_MODIFIED, lHeaders, null);
+      }
+      else {
+        lResponse = RESTResponse.of(pSuccessfulStatusCode, lHeaders, (T) ("config v" + version));
+      }
+      return lResponse;
+    }
+  }
+
+  /**
+   * Clock that only moves forward when it is told to do so.
+   */
+  static class TestClock extends Clock {
+    private Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+    void advance( Duration pDuration ) {
+      now = now.plus(pDuration);
+    }
+
+    @Override
+    public ZoneId getZone( ) {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone( ZoneId pZone ) {
+      return this;
+    }
+
+    @Override
+    public Instant instant( ) {
+      return now;
+    }
+  }
+}
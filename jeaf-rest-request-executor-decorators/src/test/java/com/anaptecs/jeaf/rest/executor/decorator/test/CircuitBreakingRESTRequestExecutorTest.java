@@ -0,0 +1,205 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreaker;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreakerOpenException;
+import com.anaptecs.jeaf.rest.executor.decorator.CircuitBreakingRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreads;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakingRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest REQUEST =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+
+  @Test
+  void testOpenAndClose( ) throws InterruptedException {
+    AtomicBoolean lFailing = new AtomicBoolean(true);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (lFailing.get()) {
+        throw new IllegalStateException("Service unavailable");
+      }
+      return "OK";
+    });
+    CircuitBreaker lCircuitBreaker = CircuitBreaker.builder().setCountBasedWindow(10).setMinimumNumberOfCalls(4)
+        .setFailureRateThreshold(50).setOpenDuration(Duration.ofMillis(50)).setPermittedProbes(2).build();
+    CircuitBreakingRESTRequestExecutor lExecutor =
+        CircuitBreakingRESTRequestExecutor.builder(lDelegate, lCircuitBreaker).build();
+    CircuitBreaker.Circuit lCircuit = lCircuitBreaker.getCircuit(String.class);
+
+    // Failure rate is only evaluated after the minimum amount of calls.
+    for (int i = 0; i < 4; i++) {
+      this.call(lExecutor, IllegalStateException.class);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, lCircuit.getState());
+    assertEquals(4, lCircuit.getNumberOfCalls());
+    assertEquals(100.0, lCircuit.getFailureRate());
+
+    // Open circuit rejects calls without calling the delegate.
+    try {
+      lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE);
+      fail();
+    }
+    catch (CircuitBreakerOpenException e) {
+      assertEquals("Circuit breaker is open for service class 'java.lang.String'.", e.getMessage());
+      assertEquals(String.class, e.getServiceClass());
+    }
+    assertEquals(4, lDelegate.getCalls());
+
+    // Failing probe opens the circuit again.
+    Thread.sleep(60);
+    this.call(lExecutor, IllegalStateException.class);
+    assertEquals(CircuitBreaker.State.OPEN, lCircuit.getState());
+    this.call(lExecutor, CircuitBreakerOpenException.class);
+
+    // Only the permitted amount of probes is executed in half open state.
+    Thread.sleep(60);
+    lFailing.set(false);
+    CircuitBreaker.Permission lFirst = lCircuitBreaker.acquirePermission(String.class);
+    CircuitBreaker.Permission lSecond = lCircuitBreaker.acquirePermission(String.class);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, lCircuit.getState());
+    this.call(lExecutor, CircuitBreakerOpenException.class);
+    lSecond.release();
+    assertEquals("OK", lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+    assertEquals(CircuitBreaker.State.HALF_OPEN, lCircuit.getState());
+    lFirst.onSuccess();
+    assertEquals(CircuitBreaker.State.CLOSED, lCircuit.getState());
+    assertEquals(0, lCircuit.getNumberOfCalls());
+
+    // Failure rate below threshold keeps the circuit closed.
+    for (int i = 0; i < 10; i++) {
+      lFailing.set(i % 3 == 1);
+      this.call(lExecutor, lFailing.get() ? IllegalStateException.class : null);
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, lCircuit.getState());
+    assertEquals(10, lCircuit.getNumberOfCalls());
+    assertEquals(30.0, lCircuit.getFailureRate());
+
+    // Manual state changes.
+    lCircuit.open();
+    this.call(lExecutor, CircuitBreakerOpenException.class);
+    lCircuit.close();
+    lFailing.set(false);
+    this.call(lExecutor, null);
+    assertEquals(1, lCircuit.getNumberOfCalls());
+  }
+
+  @Test
+  void testTimeBasedWindow( ) throws InterruptedException {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      throw new IllegalStateException("Service unavailable");
+    });
+    CircuitBreaker lCircuitBreaker = CircuitBreaker.builder().setTimeBasedWindow(Duration.ofMillis(200))
+        .setMinimumNumberOfCalls(5).build();
+    CircuitBreakingRESTRequestExecutor lExecutor =
+        CircuitBreakingRESTRequestExecutor.builder(lDelegate, lCircuitBreaker).build();
+    CircuitBreaker.Circuit lCircuit = lCircuitBreaker.getCircuit(String.class);
+
+    for (int i = 0; i < 4; i++) {
+      this.call(lExecutor, IllegalStateException.class);
+    }
+    assertEquals(4, lCircuit.getNumberOfCalls());
+
+    // Calls expire with the window so that the minimum amount of calls is not reached.
+    Thread.sleep(300);
+    assertEquals(0, lCircuit.getNumberOfCalls());
+    this.call(lExecutor, IllegalStateException.class);
+    assertEquals(CircuitBreaker.State.CLOSED, lCircuit.getState());
+    for (int i = 0; i < 4; i++) {
+      this.call(lExecutor, IllegalStateException.class);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, lCircuit.getState());
+  }
+
+  @Test
+  void testFailurePredicate( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      throw new IllegalArgumentException("Bad request");
+    });
+    CircuitBreaker lCircuitBreaker = CircuitBreaker.builder().setMinimumNumberOfCalls(2)
+        .setFailurePredicate(pError -> pError instanceof IllegalArgumentException == false).build();
+    CircuitBreakingRESTRequestExecutor lExecutor =
+        CircuitBreakingRESTRequestExecutor.builder(lDelegate, lCircuitBreaker).build();
+    for (int i = 0; i < 5; i++) {
+      this.call(lExecutor, IllegalArgumentException.class);
+    }
+    CircuitBreaker.Circuit lCircuit = lCircuitBreaker.getCircuit(String.class);
+    assertEquals(CircuitBreaker.State.CLOSED, lCircuit.getState());
+    assertEquals(5, lCircuit.getNumberOfCalls());
+    assertEquals(0.0, lCircuit.getFailureRate());
+
+    try {
+      CircuitBreaker.builder().setFailureRateThreshold(0);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pFailureRateThreshold' must be in (0, 100].", e.getMessage());
+    }
+    try {
+      CircuitBreakingRESTRequestExecutor.builder(lDelegate, null);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameters 'pDelegate' and 'pCircuitBreaker' must not be null.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testConcurrentCalls( ) throws Exception {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> "OK");
+    CircuitBreaker lCircuitBreaker = CircuitBreaker.builder().setCountBasedWindow(1000).build();
+    CircuitBreakingRESTRequestExecutor lExecutor =
+        CircuitBreakingRESTRequestExecutor.builder(lDelegate, lCircuitBreaker).build();
+    ExecutorService lCallers = VirtualThreads.newExecutor("caller-");
+    List<Future<?>> lFutures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      lFutures.add(lCallers.submit(( ) -> {
+        for (int j = 0; j < 10000; j++) {
+          lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE);
+        }
+      }));
+    }
+    for (Future<?> lFuture : lFutures) {
+      lFuture.get();
+    }
+    lCallers.shutdown();
+    CircuitBreaker.Circuit lCircuit = lCircuitBreaker.getCircuit(String.class);
+    assertEquals(1000, lCircuit.getNumberOfCalls(), lCircuit.toString());
+    assertEquals(0.0, lCircuit.getFailureRate());
+    assertTrue(lDelegate.getMaxRunning() > 0);
+  }
+
+  private void call( CircuitBreakingRESTRequestExecutor pExecutor, Class<? extends Exception> pExpected ) {
+    try {
+      assertEquals("OK", pExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+      if (pExpected != null) {
+        fail("Expected " + pExpected.getName());
+      }
+    }
+    catch (RuntimeException e) {
+      if (pExpected == null || pExpected.isInstance(e) == false) {
+        throw e;
+      }
+    }
+  }
+}
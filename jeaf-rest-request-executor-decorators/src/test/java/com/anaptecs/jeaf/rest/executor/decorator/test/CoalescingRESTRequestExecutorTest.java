@@ -0,0 +1,146 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.CoalescingRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.RequestKey;
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreads;
+import org.junit.jupiter.api.Test;
+
+public class CoalescingRESTRequestExecutorTest {
+  @Test
+  void testRequestKey( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .setQueryParameter("q", "abc").setHeader("Accept-Language", "de").setHeader("traceparent", "1").build();
+    RESTRequest lSame = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products")
+        .setHeader("traceparent", "2").setHeader("accept-language", "de").setQueryParameter("q", "abc").build();
+    RESTRequest lOtherHeader = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+        .setPath("/products").setQueryParameter("q", "abc").setHeader("Accept-Language", "en").build();
+    ObjectType lStringType = ObjectType.createObjectType(String.class);
+
+    RequestKey lKey = RequestKey.of(lRequest, 200, null, lStringType);
+    RequestKey lSameKey = RequestKey.of(lSame, 200, null, ObjectType.createObjectType(String.class));
+    assertEquals(lKey, lSameKey);
+    assertEquals(lKey.hashCode(), lSameKey.hashCode());
+    assertEquals(lRequest.getFingerprint(), lKey.getFingerprint());
+    assertNotEquals(lKey, RequestKey.of(lOtherHeader, 200, null, lStringType));
+    assertNotEquals(lKey, RequestKey.of(lRequest, 200, null, ObjectType.createObjectType(Integer.class)));
+    assertNotEquals(lKey, RequestKey.of(lRequest, 200, List.class, lStringType));
+    assertNotEquals(lKey, RequestKey.of(lRequest, 204, null, lStringType));
+    RESTRequest lAllHeaders = lRequest.toBuilder().setFingerprintExcludedHeaders().build();
+    assertNotEquals(lKey, RequestKey.of(lAllHeaders, 200, null, lStringType));
+  }
+
+  @Test
+  void testCoalescing( ) throws InterruptedException, ExecutionException {
+    CountDownLatch lRelease = new CountDownLatch(1);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      VirtualThreadRESTRequestExecutorTest.await(lRelease);
+      return new String(pRequest.getPath());
+    });
+    CoalescingRESTRequestExecutor lExecutor = CoalescingRESTRequestExecutor.builder(lDelegate).build();
+
+    ExecutorService lCallers = VirtualThreads.newExecutor("caller-");
+    List<Future<String>> lResults = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      lResults.add(lCallers.submit(( ) -> {
+        RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+            .setPath("/config").build();
+        return lExecutor.executeSingleObjectResultRequest(lRequest, 200, ObjectType.createObjectType(String.class));
+      }));
+    }
+    while (lExecutor.getCoalescedRequests() < 9) {
+      VirtualThreadRESTRequestExecutorTest.sleep(1);
+    }
+    assertEquals(1, lExecutor.getInFlightRequests());
+    lRelease.countDown();
+
+    String lFirst = lResults.get(0).get();
+    for (Future<String> lResult : lResults) {
+      assertSame(lFirst, lResult.get());
+    }
+    lCallers.shutdown();
+    assertEquals(1, lDelegate.getCalls());
+    assertEquals(0, lExecutor.getInFlightRequests());
+
+    // Completed requests are not cached.
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/config")
+        .build();
+    assertEquals("/config", lExecutor.executeSingleObjectResultRequest(lRequest, 200,
+        ObjectType.createObjectType(String.class)));
+    assertEquals(2, lDelegate.getCalls());
+  }
+
+  @Test
+  void testExceptionsAndOtherMethods( ) throws InterruptedException {
+    CountDownLatch lRelease = new CountDownLatch(1);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      VirtualThreadRESTRequestExecutorTest.await(lRelease);
+      throw new IllegalStateException("Failed " + pRequest.getPath());
+    });
+    CoalescingRESTRequestExecutor lExecutor = CoalescingRESTRequestExecutor.builder(lDelegate).build();
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/fail")
+        .build();
+
+    ExecutorService lCallers = VirtualThreads.newExecutor("caller-");
+    List<Future<List<String>>> lResults = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      lResults.add(lCallers.submit(( ) -> lExecutor.<List<String>> executeCollectionResultRequest(lRequest, 200,
+          List.class, ObjectType.createObjectType(String.class))));
+    }
+    while (lExecutor.getCoalescedRequests() < 4) {
+      VirtualThreadRESTRequestExecutorTest.sleep(1);
+    }
+    lRelease.countDown();
+    for (Future<List<String>> lResult : lResults) {
+      try {
+        lResult.get();
+        fail("Exception expected.");
+      }
+      catch (ExecutionException e) {
+        assertEquals(IllegalStateException.class, e.getCause().getClass());
+        assertEquals("Failed /fail", e.getCause().getMessage());
+      }
+    }
+    lCallers.shutdown();
+    assertEquals(1, lDelegate.getCalls());
+
+    // POST requests are never coalesced.
+    TestRESTRequestExecutor lPostDelegate = new TestRESTRequestExecutor(pRequest -> {
+      VirtualThreadRESTRequestExecutorTest.sleep(20);
+      return "OK";
+    });
+    CoalescingRESTRequestExecutor lPostExecutor = CoalescingRESTRequestExecutor.builder(lPostDelegate).build();
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/orders")
+        .build();
+    lCallers = VirtualThreads.newExecutor("caller-");
+    for (int i = 0; i < 3; i++) {
+      lCallers.submit(( ) -> lPostExecutor.executeSingleObjectResultRequest(lPost, 200,
+          ObjectType.createObjectType(String.class)));
+    }
+    lCallers.shutdown();
+    lCallers.awaitTermination(10, TimeUnit.SECONDS);
+    assertEquals(3, lPostDelegate.getCalls());
+    assertEquals(0, lPostExecutor.getCoalescedRequests());
+  }
+}
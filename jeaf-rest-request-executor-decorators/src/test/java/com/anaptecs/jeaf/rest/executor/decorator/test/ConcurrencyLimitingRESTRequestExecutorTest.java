@@ -0,0 +1,274 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.AdaptiveConcurrencyLimiter;
+import com.anaptecs.jeaf.rest.executor.decorator.ConcurrencyLimitingRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreads;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitingRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest REQUEST =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/slow").build();
+
+  @Test
+  void testGradientWithSlowServer( ) throws Exception {
+    AdaptiveConcurrencyLimiter lLimiter = AdaptiveConcurrencyLimiter.builder().setLimits(40, 1, 100).build();
+    this.simulateOverload(lLimiter);
+  }
+
+  @Test
+  void testAIMDWithSlowServer( ) throws Exception {
+    AdaptiveConcurrencyLimiter lLimiter = AdaptiveConcurrencyLimiter.builder()
+        .setAlgorithm(AdaptiveConcurrencyLimiter.Algorithm.AIMD).setLimits(40, 1, 100)
+        .setAIMD(Duration.ofMillis(40), 0.9).build();
+    this.simulateOverload(lLimiter);
+  }
+
+  /**
+   * Method simulates a local server with 4 workers that needs 10ms per request. 32 clients call it concurrently for one
+   * second. Without limit requests would queue up in the server and latency would grow to 80ms.
+   */
+  private void simulateOverload( AdaptiveConcurrencyLimiter pLimiter ) throws Exception {
+    HttpServer lServer = HttpServer.create(new InetSocketAddress("localhost", 0), 100);
+    ExecutorService lWorkers = Executors.newFixedThreadPool(4);
+    lServer.setExecutor(lWorkers);
+    lServer.createContext("/slow", pExchange -> {
+      sleep(10);
+      byte[] lBody = "OK".getBytes(StandardCharsets.UTF_8);
+      pExchange.sendResponseHeaders(200, lBody.length);
+      pExchange.getResponseBody().write(lBody);
+      pExchange.close();
+    });
+    lServer.start();
+    HttpClient lClient = HttpClient.newHttpClient();
+    URI lURI = URI.create("http://localhost:" + lServer.getAddress().getPort() + "/slow");
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      try {
+        return lClient.send(HttpRequest.newBuilder(lURI).build(), HttpResponse.BodyHandlers.ofString()).body();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    });
+    ConcurrencyLimitingRESTRequestExecutor lExecutor =
+        ConcurrencyLimitingRESTRequestExecutor.builder(lDelegate, pLimiter).build();
+
+    // Traffic ramps up slowly so that the latency without load is known.
+    for (int i = 0; i < 10; i++) {
+      assertEquals("OK", lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+    }
+    AtomicInteger lSucceeded = new AtomicInteger();
+    AtomicInteger lRejected = new AtomicInteger();
+    ExecutorService lCallers = VirtualThreads.newExecutor("caller-");
+    List<Future<?>> lFutures = new ArrayList<>();
+    long lEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    try {
+      for (int i = 0; i < 32; i++) {
+        lFutures.add(lCallers.submit(( ) -> {
+          while (System.nanoTime() - lEnd < 0) {
+            try {
+              assertEquals("OK", lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+              lSucceeded.incrementAndGet();
+            }
+            catch (RejectedExecutionException e) {
+              lRejected.incrementAndGet();
+              sleep(5);
+            }
+          }
+        }));
+      }
+      for (Future<?> lFuture : lFutures) {
+        lFuture.get();
+      }
+    }
+    finally {
+      lCallers.shutdown();
+      lServer.stop(0);
+      lWorkers.shutdown();
+    }
+
+    // The limit adapted to the capacity of the server and excess calls were rejected fast. On a busy machine the
+    // overhead of every call hides part of the queueing delay so the limit only has to drop clearly below its initial
+    // value of 40.
+    AdaptiveConcurrencyLimiter.ServiceLimit lLimit = pLimiter.getServiceLimit(String.class);
+    assertTrue(lLimit.getLimit() < 30, lLimit.toString());
+    assertTrue(lSucceeded.get() > 50, "Succeeded: " + lSucceeded.get());
+    assertTrue(lRejected.get() > 0);
+    assertEquals(lRejected.get(), lLimit.getRejectedCount());
+    assertEquals(0, lLimit.getInFlight());
+    assertTrue(lDelegate.getMaxRunning() <= 40, "Max running: " + lDelegate.getMaxRunning());
+  }
+
+  @Test
+  void testQueue( ) throws InterruptedException, ExecutionException {
+    CountDownLatch lRelease = new CountDownLatch(1);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      try {
+        lRelease.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "done";
+    });
+    AdaptiveConcurrencyLimiter lLimiter =
+        AdaptiveConcurrencyLimiter.builder().setLimits(2, 2, 2).setQueue(1, Duration.ofSeconds(10)).build();
+    ConcurrencyLimitingRESTRequestExecutor lExecutor =
+        ConcurrencyLimitingRESTRequestExecutor.builder(lDelegate, lLimiter).build();
+    AdaptiveConcurrencyLimiter.ServiceLimit lLimit = lLimiter.getServiceLimit(String.class);
+
+    ExecutorService lCallers = VirtualThreads.newExecutor("caller-");
+    List<Future<String>> lResults = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      lResults.add(lCallers.submit(( ) -> lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE)));
+      while (lLimit.getInFlight() + lLimit.getQueueSize() <= i) {
+        sleep(1);
+      }
+    }
+    assertEquals(2, lLimit.getInFlight());
+    assertEquals(1, lLimit.getQueueSize());
+    try {
+      lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE);
+      fail();
+    }
+    catch (RejectedExecutionException e) {
+      assertEquals("Concurrency limit of 2 reached for service class 'java.lang.String'.", e.getMessage());
+    }
+    lRelease.countDown();
+    for (Future<String> lResult : lResults) {
+      assertEquals("done", lResult.get());
+    }
+    lCallers.shutdown();
+    assertEquals(3, lDelegate.getCalls());
+    assertEquals(2, lDelegate.getMaxRunning());
+    assertEquals(1, lLimit.getRejectedCount());
+    assertEquals(0, lLimit.getInFlight());
+
+    // Queued calls are rejected after the queue timeout.
+    lLimiter = AdaptiveConcurrencyLimiter.builder().setLimits(1, 1, 1).setQueue(1, Duration.ofMillis(20)).build();
+    AdaptiveConcurrencyLimiter.Permit lPermit = lLimiter.tryAcquire(String.class);
+    try {
+      lLimiter.acquire(String.class).get(1, TimeUnit.SECONDS);
+      fail();
+    }
+    catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof RejectedExecutionException);
+    }
+    catch (TimeoutException e) {
+      fail("Queue timeout expected.");
+    }
+    assertEquals(0, lLimiter.getServiceLimit(String.class).getQueueSize());
+    lPermit.end();
+    lPermit.end();
+    assertEquals(0, lLimiter.getServiceLimit(String.class).getInFlight());
+
+    try {
+      AdaptiveConcurrencyLimiter.builder().setLimits(10, 20, 30);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameters must fulfill 0 < 'pMinLimit' <= 'pInitialLimit' <= 'pMaxLimit'.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testStreams( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (pRequest.getPath().equals("/broken")) {
+        return TestRESTRequestExecutor.brokenList("a");
+      }
+      return List.of("a", "b");
+    });
+    AdaptiveConcurrencyLimiter lLimiter = AdaptiveConcurrencyLimiter.builder().setLimits(2, 2, 2).build();
+    ConcurrencyLimitingRESTRequestExecutor lExecutor =
+        ConcurrencyLimitingRESTRequestExecutor.builder(lDelegate, lLimiter).build();
+    AdaptiveConcurrencyLimiter.ServiceLimit lLimit = lLimiter.getServiceLimit(String.class);
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/list").build();
+
+    // Permit is released as soon as all elements were read.
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, STRING_TYPE)) {
+      Iterator<String> lElements = lStream.iterator();
+      assertEquals("a", lElements.next());
+      assertEquals(1, lLimit.getInFlight());
+      assertEquals("b", lElements.next());
+      assertFalse(lElements.hasNext());
+      assertEquals(0, lLimit.getInFlight());
+    }
+    assertEquals(0, lLimit.getInFlight());
+
+    // Permit is released when the stream is closed before.
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, STRING_TYPE)) {
+      assertEquals("a", lStream.findFirst().get());
+      assertEquals(1, lLimit.getInFlight());
+    }
+    assertEquals(0, lLimit.getInFlight());
+
+    // Permit is released as soon as reading an element failed.
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/broken").build();
+    Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, STRING_TYPE);
+    try {
+      lStream.count();
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Broken element", e.getMessage());
+      assertEquals(0, lLimit.getInFlight());
+    }
+    finally {
+      lStream.close();
+    }
+    assertEquals(2, lLimit.getLimit());
+  }
+
+  private static void sleep( long pMillis ) {
+    try {
+      Thread.sleep(pMillis);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
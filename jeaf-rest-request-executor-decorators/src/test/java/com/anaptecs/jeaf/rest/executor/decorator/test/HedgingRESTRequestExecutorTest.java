@@ -0,0 +1,125 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.StreamingBody;
+import com.anaptecs.jeaf.rest.executor.decorator.HedgingPolicy;
+import com.anaptecs.jeaf.rest.executor.decorator.HedgingRESTRequestExecutor;
+import org.junit.jupiter.api.Test;
+
+public class HedgingRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest REQUEST =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+
+  @Test
+  void testHedging( ) throws InterruptedException {
+    AtomicBoolean lNextSlow = new AtomicBoolean();
+    CountDownLatch lLoserInterrupted = new CountDownLatch(1);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (lNextSlow.getAndSet(false)) {
+        try {
+          Thread.sleep(5000);
+          return "slow";
+        }
+        catch (InterruptedException e) {
+          lLoserInterrupted.countDown();
+          throw new IllegalStateException(e);
+        }
+      }
+      return "fast";
+    });
+    HedgingPolicy lPolicy = HedgingPolicy.builder().setMinimumNumberOfCalls(20).setMinDelay(Duration.ofMillis(20))
+        .setBudget(10).build();
+    HedgingRESTRequestExecutor lExecutor = HedgingRESTRequestExecutor.builder(lDelegate, lPolicy).build();
+    HedgingPolicy.Service lService = lPolicy.getService(String.class);
+
+    // Requests are not hedged until the latency of the service class is known.
+    for (int i = 0; i < 20; i++) {
+      assertEquals(HedgingPolicy.NO_HEDGING, lService.getDelayNanos());
+      assertEquals("fast", lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+    }
+    assertEquals(0, lService.getHedges());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(20), lService.getDelayNanos());
+
+    // Slow request is hedged and the slow one is interrupted.
+    lNextSlow.set(true);
+    long lStart = System.nanoTime();
+    assertEquals("fast", lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+    assertTrue(System.nanoTime() - lStart < TimeUnit.SECONDS.toNanos(2));
+    assertTrue(lLoserInterrupted.await(2, TimeUnit.SECONDS));
+    assertEquals(1, lService.getHedges());
+    assertEquals(1, lService.getHedgeWins());
+
+    // Non idempotent requests are not hedged unless they are marked.
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/a").build();
+    assertFalse(lPolicy.isHedgeable(lPost));
+    assertTrue(lPolicy.isHedgeable(lPost.withHeader(HeaderNames.IDEMPOTENCY_KEY, "4711")));
+    assertTrue(lPolicy.isHedgeable(REQUEST));
+
+    // Bodies that can only be read once are never sent twice.
+    RESTRequest lUpload = RESTRequest.builder(String.class, HttpMethod.PUT, ContentType.JSON).setPath("/a")
+        .setBody(StreamingBody.fromChannel(Channels.newChannel(new ByteArrayInputStream(new byte[10])), 10)).build();
+    assertFalse(lUpload.isRepeatable());
+    assertFalse(lPolicy.isHedgeable(lUpload));
+    assertFalse(lPolicy.isHedgeable(lUpload.withHeader(HeaderNames.IDEMPOTENCY_KEY, "4711")));
+    lUpload = RESTRequest.builder(String.class, HttpMethod.PUT, ContentType.JSON).setPath("/a")
+        .setBody(StreamingBody.fromInputStream(( ) -> new ByteArrayInputStream(new byte[10]), 10)).build();
+    assertTrue(lPolicy.isHedgeable(lUpload.withHeader(HeaderNames.IDEMPOTENCY_KEY, "4711")));
+  }
+
+  @Test
+  void testBudget( ) {
+    HedgingPolicy lPolicy = HedgingPolicy.builder().setBudget(10).build();
+    HedgingPolicy.Service lService = lPolicy.getService(String.class);
+    assertFalse(lService.tryHedge());
+    for (int i = 0; i < 9; i++) {
+      lService.onCall();
+    }
+    assertFalse(lService.tryHedge());
+    lService.onCall();
+    assertTrue(lService.tryHedge());
+    assertFalse(lService.tryHedge());
+
+    // Budget is capped so that unused hedges do not cause bursts.
+    for (int i = 0; i < 1000; i++) {
+      lService.onCall();
+    }
+    int lHedges = 0;
+    while (lService.tryHedge()) {
+      lHedges++;
+    }
+    assertEquals(10, lHedges);
+    assertEquals(1010, lService.getCalls());
+    assertEquals(11, lService.getHedges());
+
+    try {
+      HedgingPolicy.builder().setBudget(0);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pBudgetPercent' must be in (0, 100].", e.getMessage());
+    }
+  }
+}
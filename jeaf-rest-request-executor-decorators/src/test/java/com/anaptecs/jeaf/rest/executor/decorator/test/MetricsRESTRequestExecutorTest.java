@@ -0,0 +1,208 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestListener;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.decorator.LatencyHistogram;
+import com.anaptecs.jeaf.rest.executor.decorator.MetricsRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.RequestMetrics;
+import org.junit.jupiter.api.Test;
+
+public class MetricsRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest.Template GET_PRODUCT =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products/{id}").buildTemplate();
+
+  @Test
+  void testMetrics( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (pRequest.getPath().endsWith("/0")) {
+        throw new IllegalStateException("Failed");
+      }
+      if (pRequest.getPath().endsWith("/broken")) {
+        return TestRESTRequestExecutor.brokenList("a");
+      }
+      return pRequest.getPath().endsWith("/list") ? List.of("a", "b") : pRequest.getPath();
+    });
+    RequestMetrics lMetrics = new RequestMetrics();
+    List<String> lCalls = new ArrayList<>();
+    RESTRequestExecutor lExecutor = MetricsRESTRequestExecutor.builder(lDelegate).addListener(lMetrics)
+        .addListener(new RESTRequestListener() {
+          @Override
+          public void onStart( RequestEvent pEvent ) {
+            lCalls.add("start " + pEvent.getRequest().getPath());
+          }
+
+          @Override
+          public void onEnd( RequestEvent pEvent ) {
+            lCalls.add("end " + pEvent.getStatusCode());
+          }
+
+          @Override
+          public void onError( RequestEvent pEvent, Throwable pError ) {
+            lCalls.add("error " + pError.getMessage());
+            throw new IllegalStateException("Listeners must not break calls.");
+          }
+        }).build();
+
+    for (int i = 1; i <= 10; i++) {
+      assertEquals("/products/" + i, lExecutor.executeSingleObjectResultRequest(GET_PRODUCT.request(i), 200,
+          STRING_TYPE));
+    }
+    try {
+      lExecutor.executeNoResultRequest(GET_PRODUCT.request(0), 204);
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Failed", e.getMessage());
+    }
+    assertEquals(List.of("start /products/1", "end 200"), lCalls.subList(0, 2));
+    assertEquals(List.of("start /products/0", "error Failed"), lCalls.subList(20, 22));
+
+    RequestMetrics.Endpoint lEndpoint = lMetrics.getEndpoint(String.class, HttpMethod.GET, "/products/{id}");
+    assertEquals(1, lMetrics.getEndpoints().size());
+    assertEquals(11, lEndpoint.getCallCount());
+    assertEquals(1, lEndpoint.getErrorCount());
+    assertEquals(0, lEndpoint.getInFlight());
+    assertEquals(10, lEndpoint.getStatusClassCount(2));
+    assertEquals(1, lEndpoint.getStatusClassCount(0));
+    assertEquals(11, lEndpoint.getDuration().getCount());
+    // Phases are not known to the decorator.
+    assertEquals(0, lEndpoint.getWaitDuration().getCount());
+    assertEquals(0, lEndpoint.getBytesReceived());
+
+    // Streams are completed when they are closed.
+    RESTRequest lListRequest =
+        RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products/list").build();
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lListRequest, 200, STRING_TYPE)) {
+      RequestMetrics.Endpoint lListEndpoint = lMetrics.getEndpoint(String.class, HttpMethod.GET, "/products/list");
+      assertEquals(1, lListEndpoint.getInFlight());
+      assertEquals(2, lStream.count());
+    }
+    assertEquals(1, lMetrics.getEndpoint(String.class, HttpMethod.GET, "/products/list").getCallCount());
+
+    // Streams that fail while they are consumed are counted as errors.
+    lCalls.clear();
+    RESTRequest lBrokenRequest =
+        RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products/broken").build();
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lBrokenRequest, 200, STRING_TYPE)) {
+      lStream.count();
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Broken element", e.getMessage());
+    }
+    assertEquals(List.of("start /products/broken", "error Broken element"), lCalls);
+    RequestMetrics.Endpoint lBrokenEndpoint = lMetrics.getEndpoint(String.class, HttpMethod.GET, "/products/broken");
+    assertEquals(1, lBrokenEndpoint.getCallCount());
+    assertEquals(1, lBrokenEndpoint.getErrorCount());
+    assertEquals(0, lBrokenEndpoint.getStatusClassCount(2));
+    assertEquals(0, lBrokenEndpoint.getInFlight());
+    assertNull(lMetrics.getEndpoint(String.class, HttpMethod.POST, "/products/list"));
+  }
+
+  @Test
+  void testEndpointLimit( ) {
+    RequestMetrics lMetrics = new RequestMetrics(2);
+    RESTRequestExecutor lExecutor = MetricsRESTRequestExecutor
+        .builder(new TestRESTRequestExecutor(RESTRequest::getPath)).addListener(lMetrics).build();
+    for (int i = 0; i < 5; i++) {
+      RESTRequest lRequest =
+          RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products/" + i).build();
+      lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    }
+    assertEquals(3, lMetrics.getEndpoints().size());
+    assertEquals(3, lMetrics.getEndpoint(String.class, HttpMethod.GET, RequestMetrics.OTHER_PATHS).getCallCount());
+    lMetrics.reset();
+    assertEquals(0, lMetrics.getEndpoints().size());
+
+    try {
+      new RequestMetrics(0);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pMaxEndpoints' must be greater than 0.", e.getMessage());
+    }
+    try {
+      MetricsRESTRequestExecutor.builder(lExecutor).addListener(null);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pListener' must not be null.", e.getMessage());
+    }
+  }
+
+  @Test
+  void testHistogram( ) throws InterruptedException, ExecutionException {
+    LatencyHistogram lHistogram = new LatencyHistogram();
+    assertEquals(0, lHistogram.getValueAtPercentile(99));
+    for (long i = 1; i <= 100_000; i++) {
+      lHistogram.record(i * 1000);
+    }
+    lHistogram.record(-1);
+    assertEquals(100_000, lHistogram.getCount());
+    assertEquals(100_000_000, lHistogram.getMax());
+    assertEquals(50_000_500, lHistogram.getMean(), 1);
+    assertWithinError(50_000_000, lHistogram.getValueAtPercentile(50));
+    assertWithinError(99_000_000, lHistogram.getValueAtPercentile(99));
+    assertWithinError(99_900_000, lHistogram.getValueAtPercentile(99.9));
+    assertEquals(100_000_000, lHistogram.getValueAtPercentile(100));
+    assertWithinError(99, (long) lHistogram.getValueAtPercentile(99, TimeUnit.MILLISECONDS));
+
+    // Small values are counted exactly.
+    lHistogram.reset();
+    for (int i = 0; i < 64; i++) {
+      lHistogram.record(i);
+    }
+    assertEquals(31, lHistogram.getValueAtPercentile(50));
+    assertEquals(63, lHistogram.getValueAtPercentile(100));
+    lHistogram.record(Long.MAX_VALUE);
+    assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, lHistogram.getMax());
+
+    // Concurrent recording must not lose any values.
+    LatencyHistogram lConcurrent = new LatencyHistogram();
+    ExecutorService lThreads = Executors.newFixedThreadPool(8);
+    List<Future<?>> lFutures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      lFutures.add(lThreads.submit(( ) -> {
+        for (int i = 0; i < 10_000; i++) {
+          lConcurrent.record(i);
+        }
+      }));
+    }
+    for (Future<?> lFuture : lFutures) {
+      lFuture.get();
+    }
+    lThreads.shutdown();
+    assertEquals(80_000, lConcurrent.getCount());
+    assertEquals(9_999, lConcurrent.getValueAtPercentile(100));
+  }
+
+  private static void assertWithinError( long pExpected, long pActual ) {
+    assertTrue(Math.abs(pActual - pExpected) <= pExpected / 32, "Expected " + pExpected + " but was " + pActual);
+  }
+}
@@ -0,0 +1,203 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.StreamingBody;
+import com.anaptecs.jeaf.rest.executor.decorator.RetryPolicy;
+import com.anaptecs.jeaf.rest.executor.decorator.RetryingRESTRequestExecutor;
+import org.junit.jupiter.api.Test;
+
+public class RetryingRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest REQUEST =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/a").build();
+
+  @Test
+  void testRetry( ) {
+    AtomicInteger lFailures = new AtomicInteger(2);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (lFailures.getAndDecrement() > 0) {
+        throw new UncheckedIOException(new IOException("Connection reset"));
+      }
+      return "OK";
+    });
+    RetryPolicy lPolicy = RetryPolicy.builder().setDelays(Duration.ofMillis(1), Duration.ofMillis(10)).build();
+    RetryingRESTRequestExecutor lExecutor = RetryingRESTRequestExecutor.builder(lDelegate, lPolicy).build();
+    assertEquals("OK", lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE));
+    assertEquals(3, lDelegate.getCalls());
+    RetryPolicy.Service lService = lPolicy.getService(String.class);
+    assertEquals(1, lService.getCalls());
+    assertEquals(2, lService.getRetries());
+
+    // Exception of the last attempt is thrown.
+    lFailures.set(5);
+    try {
+      lExecutor.executeSingleObjectResultRequest(REQUEST, 200, STRING_TYPE);
+      fail();
+    }
+    catch (UncheckedIOException e) {
+      assertEquals("Connection reset", e.getCause().getMessage());
+    }
+    assertEquals(6, lDelegate.getCalls());
+
+    // Non idempotent requests are only retried if they are marked.
+    lFailures.set(1);
+    RESTRequest lPost = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/a").build();
+    try {
+      lExecutor.executeSingleObjectResultRequest(lPost, 200, STRING_TYPE);
+      fail();
+    }
+    catch (UncheckedIOException e) {
+      assertEquals(7, lDelegate.getCalls());
+    }
+    lFailures.set(1);
+    assertEquals("OK", lExecutor.executeSingleObjectResultRequest(
+        lPost.withHeader(HeaderNames.IDEMPOTENCY_KEY, "4711"), 200, STRING_TYPE));
+    assertEquals(9, lDelegate.getCalls());
+
+    // Bodies that can only be read once are not retried as the body was already consumed by the first attempt.
+    lFailures.set(1);
+    RESTRequest lUpload = RESTRequest.builder(String.class, HttpMethod.PUT, ContentType.JSON).setPath("/a")
+        .setBody(StreamingBody.fromChannel(Channels.newChannel(new ByteArrayInputStream(new byte[10])), 10)).build();
+    assertFalse(lPolicy.isRetryable(lUpload));
+    try {
+      lExecutor.executeSingleObjectResultRequest(lUpload, 200, STRING_TYPE);
+      fail();
+    }
+    catch (UncheckedIOException e) {
+      assertEquals(10, lDelegate.getCalls());
+    }
+
+    // Bodies that can be read again are retried.
+    lFailures.set(1);
+    lUpload = lUpload.toBuilder()
+        .setBody(StreamingBody.fromInputStream(( ) -> new ByteArrayInputStream(new byte[10]), 10)).build();
+    assertEquals("OK", lExecutor.executeSingleObjectResultRequest(lUpload, 200, STRING_TYPE));
+    assertEquals(12, lDelegate.getCalls());
+  }
+
+  @Test
+  void testRetryableErrors( ) {
+    RetryPolicy lPolicy = RetryPolicy.builder().build();
+    assertTrue(lPolicy.isRetryable(new StatusCodeException(503)));
+    assertTrue(lPolicy.isRetryable(new IllegalStateException(new StatusCodeException(429))));
+    assertFalse(lPolicy.isRetryable(new StatusCodeException(400)));
+    assertFalse(lPolicy.isRetryable(new IllegalStateException("Bug")));
+    assertTrue(lPolicy.isRetryable(new IllegalStateException(new TimeoutException())));
+    assertEquals(503, RetryPolicy.getStatusCode(new StatusCodeException(503)));
+    assertEquals(RetryPolicy.NO_STATUS_CODE, RetryPolicy.getStatusCode(new IllegalStateException()));
+
+    lPolicy = RetryPolicy.builder().setRetryableStatusCodes(500).setRetryableExceptions(IllegalStateException.class)
+        .build();
+    assertTrue(lPolicy.isRetryable(new StatusCodeException(500)));
+    assertFalse(lPolicy.isRetryable(new StatusCodeException(503)));
+    assertTrue(lPolicy.isRetryable(new IllegalStateException("Bug")));
+    assertFalse(lPolicy.isRetryable(new UncheckedIOException(new IOException())));
+
+    // Client errors are not retried.
+    AtomicInteger lCalls = new AtomicInteger();
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      throw new StatusCodeException(lCalls.incrementAndGet() == 1 ? 503 : 404);
+    });
+    RetryingRESTRequestExecutor lExecutor = RetryingRESTRequestExecutor
+        .builder(lDelegate, RetryPolicy.builder().setDelays(Duration.ZERO, Duration.ZERO).build()).build();
+    try {
+      lExecutor.executeNoResultRequest(REQUEST, 204);
+      fail();
+    }
+    catch (StatusCodeException e) {
+      assertEquals(404, e.getStatusCode());
+    }
+    assertEquals(2, lDelegate.getCalls());
+  }
+
+  @Test
+  void testDecorrelatedJitter( ) {
+    RetryPolicy lPolicy = RetryPolicy.builder().setDelays(Duration.ofMillis(10), Duration.ofMillis(100)).build();
+    long lBase = TimeUnit.MILLISECONDS.toNanos(10);
+    long lMax = TimeUnit.MILLISECONDS.toNanos(100);
+    for (int i = 0; i < 100; i++) {
+      long lDelay = 0;
+      for (int j = 0; j < 10; j++) {
+        long lNext = lPolicy.nextDelayNanos(lDelay);
+        assertTrue(lNext >= lBase && lNext <= lMax && lNext <= Math.max(lBase, lDelay) * 3, "Delay: " + lNext);
+        lDelay = lNext;
+      }
+    }
+  }
+
+  @Test
+  void testBudget( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      throw new StatusCodeException(503);
+    });
+    RetryPolicy lPolicy = RetryPolicy.builder().setMaxAttempts(5).setDelays(Duration.ZERO, Duration.ZERO)
+        .setBudget(10, 3).build();
+    RetryingRESTRequestExecutor lExecutor = RetryingRESTRequestExecutor.builder(lDelegate, lPolicy).build();
+
+    // Budget starts full and is exhausted by the first failing call.
+    for (int i = 0; i < 10; i++) {
+      try {
+        lExecutor.executeNoResultRequest(REQUEST, 204);
+        fail();
+      }
+      catch (StatusCodeException e) {
+        assertEquals(503, e.getStatusCode());
+      }
+    }
+    RetryPolicy.Service lService = lPolicy.getService(String.class);
+    assertEquals(10, lService.getCalls());
+    assertEquals(3, lService.getRetries(), lService.toString());
+    assertEquals(10, lService.getRejectedRetries());
+    assertEquals(13, lDelegate.getCalls());
+
+    try {
+      RetryPolicy.builder().setDelays(Duration.ofSeconds(2), Duration.ofSeconds(1));
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameters must fulfill 0 <= 'pBaseDelay' <= 'pMaxDelay'.", e.getMessage());
+    }
+  }
+
+  /**
+   * Exception with a status code like the one of the http client executor.
+   */
+  public static class StatusCodeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    public StatusCodeException( int pStatusCode ) {
+      super("Status " + pStatusCode);
+      statusCode = pStatusCode;
+    }
+
+    public int getStatusCode( ) {
+      return statusCode;
+    }
+  }
+}
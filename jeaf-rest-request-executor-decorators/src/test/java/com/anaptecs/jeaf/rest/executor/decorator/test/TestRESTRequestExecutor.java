@@ -0,0 +1,103 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+
+/**
+ * Executor that is used as delegate in tests of decorators. Results are created by the passed handler. Besides that the
+ * executor keeps track of the amount of calls and the maximum amount of concurrent calls.
+ */
+class TestRESTRequestExecutor implements RESTRequestExecutor {
+  private final Function<RESTRequest, Object> handler;
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final AtomicInteger running = new AtomicInteger();
+
+  private final AtomicInteger maxRunning = new AtomicInteger();
+
+  TestRESTRequestExecutor( Function<RESTRequest, Object> pHandler ) {
+    handler = pHandler;
+  }
+
+  /**
+   * Method returns a list with two elements whose second element can not be read. Streams of the list fail while they
+   * are consumed.
+   */
+  static List<String> brokenList( String pFirstElement ) {
+    return new AbstractList<String>() {
+      @Override
+      public String get( int pIndex ) {
+        if (pIndex == 0) {
+          return pFirstElement;
+        }
+        else {
+          throw new IllegalStateException("Broken element");
+        }
+      }
+
+      @Override
+      public int size( ) {
+        return 2;
+      }
+    };
+  }
+
+  int getCalls( ) {
+    return calls.get();
+  }
+
+  int getMaxRunning( ) {
+    return maxRunning.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T handle( RESTRequest pRequest ) {
+    calls.incrementAndGet();
+    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    try {
+      return (T) handler.apply(pRequest);
+    }
+    finally {
+      running.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    this.handle(pRequest);
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    return this.handle(pRequest);
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    return this.handle(pRequest);
+  }
+
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    List<T> lResult = this.handle(pRequest);
+    return lResult.stream();
+  }
+}
@@ -0,0 +1,194 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.decorator.InMemorySpanExporter;
+import com.anaptecs.jeaf.rest.executor.decorator.RESTRequestTracer;
+import com.anaptecs.jeaf.rest.executor.decorator.SpanData;
+import com.anaptecs.jeaf.rest.executor.decorator.TraceContext;
+import com.anaptecs.jeaf.rest.executor.decorator.TracingRESTRequestExecutor;
+import org.junit.jupiter.api.Test;
+
+public class TracingRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static final RESTRequest.Template GET_PRODUCT =
+      RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/products/{id}").buildTemplate();
+
+  @Test
+  void testTracing( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (pRequest.getPath().endsWith("/0")) {
+        throw new IllegalStateException("Failed");
+      }
+      if (pRequest.getPath().endsWith("/broken")) {
+        return TestRESTRequestExecutor.brokenList(pRequest.getHeader(HeaderNames.TRACEPARENT));
+      }
+      if (pRequest.getPath().endsWith("/list")) {
+        return List.of(pRequest.getHeader(HeaderNames.TRACEPARENT));
+      }
+      return pRequest.getHeader(HeaderNames.TRACEPARENT);
+    });
+    InMemorySpanExporter lExporter = new InMemorySpanExporter();
+    RESTRequestTracer lTracer = RESTRequestTracer.builder(lExporter).build();
+    RESTRequestExecutor lExecutor = TracingRESTRequestExecutor.builder(lDelegate, lTracer).build();
+
+    // Without parent a new trace is started.
+    String lTraceparent = lExecutor.executeSingleObjectResultRequest(GET_PRODUCT.request(1), 200, STRING_TYPE);
+    List<SpanData> lSpans = lExporter.getFinishedSpans();
+    assertEquals(1, lSpans.size());
+    SpanData lSpan = lSpans.get(0);
+    assertEquals("GET /products/{id}", lSpan.getName());
+    assertEquals(lSpan.getContext().getTraceparent(), lTraceparent);
+    assertNull(lSpan.getParentSpanId());
+    assertFalse(lSpan.isError());
+    assertEquals("GET", lSpan.getAttribute(RESTRequestTracer.HTTP_REQUEST_METHOD));
+    assertEquals("/products/{id}", lSpan.getAttribute(RESTRequestTracer.URL_TEMPLATE));
+    assertEquals(200, lSpan.getAttribute(RESTRequestTracer.HTTP_RESPONSE_STATUS_CODE));
+    assertTrue(lSpan.getDurationNanos() >= 0);
+
+    // Spans are children of the current context.
+    lExporter.reset();
+    TraceContext lParent = TraceContext.newRoot(true);
+    try (TraceContext.Scope lScope = lParent.makeCurrent()) {
+      assertSame(lParent, TraceContext.current());
+      lExecutor.executeNoResultRequest(GET_PRODUCT.request(2), 204);
+      try {
+        lExecutor.executeNoResultRequest(GET_PRODUCT.request(0), 204);
+        fail();
+      }
+      catch (IllegalStateException e) {
+        assertEquals("Failed", e.getMessage());
+      }
+    }
+    assertNull(TraceContext.current());
+    lSpans = lExporter.getFinishedSpans();
+    assertEquals(2, lSpans.size());
+    for (SpanData lChild : lSpans) {
+      assertEquals(lParent.getTraceId(), lChild.getTraceId());
+      assertEquals(lParent.getSpanId(), lChild.getParentSpanId());
+      assertNotEquals(lParent.getSpanId(), lChild.getSpanId());
+    }
+    assertTrue(lSpans.get(1).isError());
+    assertEquals(IllegalStateException.class.getName(), lSpans.get(1).getAttribute(RESTRequestTracer.ERROR_TYPE));
+    assertNull(lSpans.get(1).getAttribute(RESTRequestTracer.HTTP_RESPONSE_STATUS_CODE));
+
+    // Unsampled traces are propagated but not recorded.
+    lExporter.reset();
+    try (TraceContext.Scope lScope = TraceContext.newRoot(false).makeCurrent()) {
+      lTraceparent = lExecutor.executeSingleObjectResultRequest(GET_PRODUCT.request(3), 200, STRING_TYPE);
+    }
+    assertTrue(lTraceparent.endsWith("-00"));
+    assertEquals(0, lExporter.getFinishedSpans().size());
+
+    // Streams that fail while they are consumed finish their span with an error.
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(GET_PRODUCT.request("broken"), 200,
+        STRING_TYPE)) {
+      Iterator<String> lElements = lStream.iterator();
+      lTraceparent = lElements.next();
+      assertEquals(0, lExporter.getFinishedSpans().size());
+      lElements.next();
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Broken element", e.getMessage());
+    }
+    lSpans = lExporter.getFinishedSpans();
+    assertEquals(1, lSpans.size());
+    assertEquals(lTraceparent, lSpans.get(0).getContext().getTraceparent());
+    assertTrue(lSpans.get(0).isError());
+    assertNull(lSpans.get(0).getAttribute(RESTRequestTracer.HTTP_RESPONSE_STATUS_CODE));
+
+    lExporter.reset();
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(GET_PRODUCT.request("list"), 200, STRING_TYPE)) {
+      assertEquals(1, lStream.count());
+      assertEquals(0, lExporter.getFinishedSpans().size());
+    }
+    lSpans = lExporter.getFinishedSpans();
+    assertEquals(1, lSpans.size());
+    assertFalse(lSpans.get(0).isError());
+    assertEquals(200, lSpans.get(0).getAttribute(RESTRequestTracer.HTTP_RESPONSE_STATUS_CODE));
+  }
+
+  @Test
+  void testPropagation( ) {
+    InMemorySpanExporter lExporter = new InMemorySpanExporter();
+    RESTRequestTracer lTracer = RESTRequestTracer.builder(lExporter).build();
+
+    // Trace context of the request is used as parent and replaced with the one of the span.
+    TraceContext lParent = TraceContext.parse("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", "vendor=a");
+    RESTRequest lRequest = GET_PRODUCT.builder(4).setHeader(HeaderNames.TRACEPARENT, lParent.getTraceparent())
+        .setHeader(HeaderNames.TRACESTATE, lParent.getTraceState()).setHeader("Accept-Language", "de").build();
+    RESTRequestTracer.Span lSpan = lTracer.startSpan(lRequest, null);
+    RESTRequest lTraced = lSpan.getRequest();
+    assertEquals(lParent.getTraceId(), lSpan.getContext().getTraceId());
+    assertEquals(lSpan.getContext().getTraceparent(), lTraced.getHeader(HeaderNames.TRACEPARENT));
+    assertEquals("vendor=a", lTraced.getHeader(HeaderNames.TRACESTATE));
+    assertEquals("de", lTraced.getHeader("accept-language"));
+    assertEquals(lParent.getTraceparent(), lRequest.getHeader(HeaderNames.TRACEPARENT));
+    // Trace headers do not change the fingerprint of a request.
+    assertEquals(lRequest.getFingerprint(), lTraced.getFingerprint());
+    assertEquals(lRequest, lTraced);
+
+    // Phases are recorded if the tracer also listens to the executor.
+    RequestEvent lEvent = RequestEvent.start(lTraced, List.of(lTracer));
+    lEvent.setStatusCode(201);
+    lEvent.setSendNanos(10);
+    lEvent.setConnectNanos(20);
+    lEvent.setWaitNanos(30);
+    lEvent.setDeserializeNanos(40);
+    lEvent.setBytesReceived(50);
+    lEvent.end();
+    lSpan.end((int) RequestEvent.UNKNOWN);
+    lSpan.fail(new IllegalStateException("Spans are finished only once."));
+    List<SpanData> lSpans = lExporter.getFinishedSpans();
+    assertEquals(1, lSpans.size());
+    SpanData lData = lSpans.get(0);
+    assertEquals(lParent.getSpanId(), lData.getParentSpanId());
+    assertEquals(201, lData.getAttribute(RESTRequestTracer.HTTP_RESPONSE_STATUS_CODE));
+    assertEquals(10L, lData.getAttribute(RESTRequestTracer.SERIALIZE_DURATION));
+    assertEquals(50L, lData.getAttribute(RESTRequestTracer.NETWORK_DURATION));
+    assertEquals(40L, lData.getAttribute(RESTRequestTracer.DESERIALIZE_DURATION));
+    assertEquals(50L, lData.getAttribute(RESTRequestTracer.HTTP_RESPONSE_BODY_SIZE));
+    assertNull(lData.getAttribute(RESTRequestTracer.HTTP_REQUEST_BODY_SIZE));
+
+    // Invalid trace contexts are ignored.
+    assertNull(TraceContext.parse("00-00000000000000000000000000000000-b7ad6b7169203331-01", null));
+    assertNull(TraceContext.parse("ff-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", null));
+    assertNull(TraceContext.parse("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-0", null));
+    assertNull(TraceContext.parse(null, null));
+    assertEquals(lParent, TraceContext.parse(lParent.getTraceparent(), null));
+
+    RESTRequestTracer lUnsampled = RESTRequestTracer.builder(lExporter).setSamplingRatio(0).build();
+    assertFalse(lUnsampled.startSpan(GET_PRODUCT.request(5), null).getContext().isSampled());
+    try {
+      RESTRequestTracer.builder(lExporter).setSamplingRatio(1.5);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pSamplingRatio' must be between 0 and 1.", e.getMessage());
+    }
+  }
+}
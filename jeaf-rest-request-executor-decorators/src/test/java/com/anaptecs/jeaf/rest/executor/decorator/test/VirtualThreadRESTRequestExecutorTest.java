@@ -0,0 +1,206 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.decorator.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.BatchItem;
+import com.anaptecs.jeaf.rest.executor.api.BatchResult;
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreadRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.decorator.VirtualThreads;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  @Test
+  void testConcurrencyLimit( ) throws InterruptedException, ExecutionException {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      sleep(20);
+      return Thread.currentThread().getName();
+    });
+    VirtualThreadRESTRequestExecutor lExecutor = VirtualThreadRESTRequestExecutor.builder(lDelegate)
+        .setConcurrencyLimit(String.class, 3).build();
+    assertEquals(3, lExecutor.getConcurrencyLimit(String.class));
+    assertEquals(VirtualThreadRESTRequestExecutor.UNLIMITED, lExecutor.getConcurrencyLimit(Integer.class));
+
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).build();
+    ExecutorService lCallers = VirtualThreads.newExecutor("caller-");
+    List<Future<String>> lResults = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      lResults.add(lCallers.submit(( ) -> lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE)));
+    }
+    for (Future<String> lResult : lResults) {
+      assertTrue(lResult.get().length() > 0);
+    }
+    lCallers.shutdown();
+    assertEquals(20, lDelegate.getCalls());
+    assertTrue(lDelegate.getMaxRunning() <= 3, "Max running: " + lDelegate.getMaxRunning());
+    assertEquals(3, lExecutor.getAvailablePermits(String.class));
+
+    // Calls from platform threads are executed on another thread.
+    String lThreadName = lExecutor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    if (VirtualThreads.isVirtual(Thread.currentThread()) == false) {
+      assertTrue(lThreadName.equals(Thread.currentThread().getName()) == false);
+    }
+  }
+
+  @Test
+  void testBatch( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      sleep(5);
+      return pRequest.getPath();
+    });
+    VirtualThreadRESTRequestExecutor lExecutor = VirtualThreadRESTRequestExecutor.builder(lDelegate)
+        .setConcurrencyLimit(String.class, 4).build();
+    List<BatchItem<String>> lItems = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      lItems.add(BatchItem.singleObject(
+          RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/" + i).build(), 200,
+          STRING_TYPE));
+    }
+    List<BatchResult<String>> lResults = lExecutor.executeBatch(lItems, 10);
+    for (int i = 0; i < lResults.size(); i++) {
+      assertEquals("/" + i, lResults.get(i).getResult());
+    }
+    assertEquals(40, lDelegate.getCalls());
+    assertTrue(lDelegate.getMaxRunning() > 1);
+    assertTrue(lDelegate.getMaxRunning() <= 4, "Max running: " + lDelegate.getMaxRunning());
+  }
+
+  @Test
+  void testBatchWithBoundedExecutorService( ) {
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> Thread.currentThread().getName());
+    ExecutorService lThreadPool = Executors.newFixedThreadPool(1, pRunnable -> new Thread(pRunnable, "bounded"));
+    VirtualThreadRESTRequestExecutor lExecutor = VirtualThreadRESTRequestExecutor.builder(lDelegate)
+        .setExecutorService(lThreadPool).setDefaultConcurrencyLimit(2).build();
+    List<BatchItem<String>> lItems = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      lItems.add(BatchItem.singleObject(
+          RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/" + i).build(), 200,
+          STRING_TYPE));
+    }
+    try {
+      // Items must be executed directly on the thread of the executor service without handing them over again.
+      List<BatchResult<String>> lResults =
+          assertTimeoutPreemptively(Duration.ofSeconds(10), ( ) -> lExecutor.executeBatch(lItems, 3));
+      for (BatchResult<String> lResult : lResults) {
+        assertEquals("bounded", lResult.getResult());
+      }
+      assertEquals(5, lDelegate.getCalls());
+      assertEquals(2, lExecutor.getAvailablePermits(String.class));
+    }
+    finally {
+      lThreadPool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRejection( ) throws InterruptedException {
+    CountDownLatch lStarted = new CountDownLatch(1);
+    CountDownLatch lRelease = new CountDownLatch(1);
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      lStarted.countDown();
+      await(lRelease);
+      return null;
+    });
+    VirtualThreadRESTRequestExecutor lExecutor = VirtualThreadRESTRequestExecutor.builder(lDelegate)
+        .setDefaultConcurrencyLimit(1).setAcquireTimeout(Duration.ofMillis(10)).build();
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.DELETE, ContentType.JSON).build();
+
+    Thread lBlocking = new Thread(( ) -> lExecutor.executeNoResultRequest(lRequest, 204));
+    lBlocking.start();
+    assertTrue(lStarted.await(5, TimeUnit.SECONDS));
+    try {
+      lExecutor.executeNoResultRequest(lRequest, 204);
+      fail();
+    }
+    catch (RejectedExecutionException e) {
+      assertEquals("Concurrency limit of 1 reached for service class 'java.lang.String'.", e.getMessage());
+    }
+    lRelease.countDown();
+    lBlocking.join();
+    assertEquals(1, lExecutor.getAvailablePermits(String.class));
+  }
+
+  @Test
+  void testExceptionsAndStreams( ) {
+    IllegalStateException lException = new IllegalStateException("Failed");
+    TestRESTRequestExecutor lDelegate = new TestRESTRequestExecutor(pRequest -> {
+      if (pRequest.getPath().equals("/fail")) {
+        throw lException;
+      }
+      return List.of("a", "b");
+    });
+    VirtualThreadRESTRequestExecutor lExecutor =
+        VirtualThreadRESTRequestExecutor.builder(lDelegate).setDefaultConcurrencyLimit(2).build();
+
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/fail")
+        .build();
+    try {
+      lExecutor.executeCollectionResultRequest(lRequest, 200, List.class, STRING_TYPE);
+      fail();
+    }
+    catch (IllegalStateException e) {
+      assertSame(lException, e);
+    }
+    assertEquals(2, lExecutor.getAvailablePermits(String.class));
+
+    // Permit is held until the stream is closed.
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).build();
+    try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, STRING_TYPE)) {
+      assertEquals(1, lExecutor.getAvailablePermits(String.class));
+      assertEquals(2, lStream.count());
+    }
+    assertEquals(2, lExecutor.getAvailablePermits(String.class));
+
+    try {
+      VirtualThreadRESTRequestExecutor.builder(lDelegate).setDefaultConcurrencyLimit(0);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pConcurrencyLimit' must be greater than 0.", e.getMessage());
+    }
+  }
+
+  static void sleep( long pMillis ) {
+    try {
+      Thread.sleep(pMillis);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  static void await( CountDownLatch pLatch ) {
+    try {
+      pLatch.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
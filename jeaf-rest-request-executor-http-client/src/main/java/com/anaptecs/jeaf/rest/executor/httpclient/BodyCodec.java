@@ -0,0 +1,82 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+
+/**
+ * Interface defines the conversion between objects and the body of http requests and responses for one
+ * {@link ContentType}. This way {@link HttpClientRESTRequestExecutor} does not depend on a specific JSON or XML
+ * library. Applications register the codecs they need when the executor is built.
+ * <p/>
+ * Implementations have to be thread-safe as one codec is shared by all requests of an executor.
+ *
+ * @author JEAF Development Team
+ */
+public interface BodyCodec {
+  /**
+   * Method serializes the passed object into the body of a request.
+   *
+   * @param pObject Object that should be serialized. The parameter must not be null.
+   * @return byte[] Serialized form of the passed object. The method never returns null.
+   * @throws IOException if the object could not be serialized.
+   */
+  byte[] serialize( Object pObject ) throws IOException;
+
+  /**
+   * Method deserializes a single object from the passed response body.
+   *
+   * @param pInput Stream with the response body. The stream will be closed by the caller. The parameter must not be
+   * null.
+   * @param pObjectType Type of the object that should be returned. The parameter must not be null.
+   * @return T Deserialized object. The method may return null.
+   * @throws IOException if the response body could not be read or deserialized.
+   */
+  <T> T deserialize( InputStream pInput, ObjectType pObjectType ) throws IOException;
+
+  /**
+   * Method deserializes a collection of objects from the passed response body.
+   *
+   * @param pInput Stream with the response body. The stream will be closed by the caller. The parameter must not be
+   * null.
+   * @param pCollectionClass Class object of collection class that should be returned e.g. List. The parameter must not
+   * be null.
+   * @param pObjectType Type of the objects inside the collection. The parameter must not be null.
+   * @return T Deserialized collection. The method may return null.
+   * @throws IOException if the response body could not be read or deserialized.
+   */
+  <T> T deserializeCollection( InputStream pInput, @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) throws IOException;
+
+  /**
+   * Method returns an iterator that deserializes the elements of a collection one after the other from the passed
+   * response body. Elements must only be read from the stream when they are requested through the iterator. Problems
+   * while reading elements should be reported as {@link java.io.UncheckedIOException}.
+   * <p/>
+   * The default implementation is only a fallback that buffers everything: It reads the whole collection using
+   * {@link #deserializeCollection(InputStream, Class, ObjectType)} before the first element is returned. Codecs should
+   * override this method. JSON codecs can simply return a {@link JSONElementIterator} which splits JSON arrays as well
+   * as newline delimited JSON into single elements while the response is read. Alternatively the streaming API of the
+   * used JSON library can be used.
+   *
+   * @param pInput Stream with the response body. The stream will be closed by the caller as soon as the elements are no
+   * longer needed. The parameter must not be null.
+   * @param pObjectType Type of the elements. The parameter must not be null.
+   * @return {@link Iterator} Iterator over all elements of the response body. The method never returns null.
+   * @throws IOException if the response body could not be read or deserialized.
+   */
+  default <T> Iterator<T> deserializeElements( InputStream pInput, ObjectType pObjectType ) throws IOException {
+    Collection<T> lElements = this.<Collection<T>> deserializeCollection(pInput, List.class, pObjectType);
+    return lElements != null ? lElements.iterator() : List.<T> of().iterator();
+  }
+}
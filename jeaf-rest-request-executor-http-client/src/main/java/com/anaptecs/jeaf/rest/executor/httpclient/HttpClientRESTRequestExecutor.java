@@ -0,0 +1,831 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.httpclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.anaptecs.jeaf.rest.executor.api.BatchItem;
+import com.anaptecs.jeaf.rest.executor.api.BatchResult;
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HeaderNames;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestListener;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.api.StreamTermination;
+import com.anaptecs.jeaf.rest.executor.api.StreamingBody;
+
+/**
+ * Class implements {@link RESTRequestExecutor} based on the {@link HttpClient} of the JDK.
+ * <p/>
+ * All requests are executed using one shared {@link HttpClient}. By default the client prefers HTTP/2 so that
+ * concurrent requests to the same server are multiplexed over one connection. HTTP/1.1 connections are pooled and
+ * reused by the client. Requests are sent on the calling thread so no threads are created per call.
+ * <p/>
+ * The URI of the called REST resource as well as other settings are taken from the {@link ServiceConfiguration} that
+ * was registered for the service class of a request. Bodies are converted using the {@link BodyCodec} that was
+ * registered for the content type of a request. Bodies of type {@link StreamingBody} are sent without conversion.
+ * <p/>
+ * If a REST resource responds with another status code than the expected one then a {@link HttpStatusException} is
+ * thrown. Technical problems are reported as {@link UncheckedIOException}.
+ * <p/>
+ * For non blocking execution of many concurrent requests {@link #getAsyncExecutor()} provides a
+ * {@link RESTRequestExecutorAsync} based on the same http client.
+ * <p/>
+ * All calls are reported to the {@link RESTRequestListener}s of the executor. Besides status code and size of the
+ * bodies the durations of the send, wait and deserialize phase are provided (see {@link RequestEvent}). The JDK http
+ * client does not expose the time for establishing connections. It is therefore part of the wait phase. The size of
+ * received bodies is taken from the header field <code>Content-Length</code> for blocking calls. For asynchronous calls
+ * the wait phase also contains receiving the whole response body.
+ * <p/>
+ * Instances are immutable and thread-safe.
+ *
+ * @author JEAF Development Team
+ */
+public class HttpClientRESTRequestExecutor implements RESTRequestExecutor {
+  /**
+   * Default timeout for establishing new connections if no http client is passed to the builder.
+   */
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * Maximum amount of bytes of a response body that are read in case of an unexpected status code.
+   */
+  private static final int MAX_ERROR_BODY_SIZE = 8192;
+
+  /**
+   * Header fields that are controlled by {@link HttpClient} itself and thus can not be set by a request.
+   */
+  private static final String[] RESTRICTED_HEADERS = { "Connection", "Content-Length", "Expect", "Host", "Upgrade" };
+
+  private static final int NO_CONTENT = 204;
+
+  /**
+   * Http client that is used for all requests.
+   */
+  private final HttpClient httpClient;
+
+  /**
+   * Configurations of all services that can be called. The service class is used as key.
+   */
+  private final Map<Class<?>, ServiceConfiguration> serviceConfigurations;
+
+  /**
+   * Codecs for all supported content types.
+   */
+  private final Map<ContentType, BodyCodec> codecs;
+
+  /**
+   * Listeners that are notified about all calls.
+   */
+  private final List<RESTRequestListener> listeners;
+
+  /**
+   * Asynchronous view of this executor.
+   */
+  private final RESTRequestExecutorAsync asyncExecutor = new AsyncExecutor();
+
+  /**
+   * Method creates new builder.
+   *
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the executor. The parameter must not be null.
+   */
+  protected HttpClientRESTRequestExecutor( Builder pBuilder ) {
+    if (pBuilder.httpClient != null) {
+      httpClient = pBuilder.httpClient;
+    }
+    else {
+      httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).connectTimeout(pBuilder.connectTimeout)
+          .build();
+    }
+    serviceConfigurations = Map.copyOf(pBuilder.serviceConfigurations);
+    codecs = new EnumMap<>(ContentType.class);
+    codecs.putAll(pBuilder.codecs);
+    listeners = List.copyOf(pBuilder.listeners);
+  }
+
+  /**
+   * Method returns the http client that is used by this executor.
+   *
+   * @return {@link HttpClient} Http client of this executor. The method never returns null.
+   */
+  public HttpClient getHttpClient( ) {
+    return httpClient;
+  }
+
+  /**
+   * Method returns an asynchronous view of this executor. It uses the same http client and configuration but sends
+   * requests using {@link HttpClient#sendAsync(HttpRequest, HttpResponse.BodyHandler)}. This way many requests can be
+   * executed concurrently without blocking a thread per request. Response bodies are received completely before they
+   * are deserialized.
+   *
+   * @return {@link RESTRequestExecutorAsync} Asynchronous executor. The method never returns null.
+   */
+  public RESTRequestExecutorAsync getAsyncExecutor( ) {
+    return asyncExecutor;
+  }
+
+  /**
+   * Method returns the configuration of the passed service class.
+   *
+   * @param pServiceClass Service class whose configuration should be returned. The parameter must not be null.
+   * @return {@link ServiceConfiguration} Configuration of the service class. The method never returns null.
+   * @throws IllegalArgumentException if no configuration was registered for the passed service class.
+   */
+  public ServiceConfiguration getServiceConfiguration( Class<?> pServiceClass ) {
+    ServiceConfiguration lConfiguration = serviceConfigurations.get(pServiceClass);
+    if (lConfiguration != null) {
+      return lConfiguration;
+    }
+    else {
+      throw new IllegalArgumentException("No configuration defined for service class '" + pServiceClass + "'.");
+    }
+  }
+
+  @Override
+  public void executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+    RequestEvent lEvent = this.startEvent(pRequest);
+    try {
+      HttpResponse<InputStream> lResponse = this.send(pRequest, false, lEvent);
+      try (InputStream lBody = this.checkStatus(lResponse, pSuccessfulStatusCode)) {
+        long lStart = System.nanoTime();
+        // Remaining content is consumed so that the connection can be reused.
+        lBody.transferTo(OutputStream.nullOutputStream());
+        endEvent(lEvent, lStart);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Unable to read response of request " + describe(lResponse), e);
+      }
+    }
+    catch (RuntimeException | Error e) {
+      failEvent(lEvent, e);
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> T executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    RequestEvent lEvent = this.startEvent(pRequest);
+    try {
+      HttpResponse<InputStream> lResponse = this.send(pRequest, true, lEvent);
+      try (InputStream lBody = this.checkStatus(lResponse, pSuccessfulStatusCode)) {
+        long lStart = System.nanoTime();
+        T lResult;
+        if (lResponse.statusCode() != NO_CONTENT) {
+          lResult = this.getCodec(pRequest.getContentType()).deserialize(lBody, pObjectType);
+        }
+        else {
+          lResult = null;
+        }
+        lBody.transferTo(OutputStream.nullOutputStream());
+        endEvent(lEvent, lStart);
+        return lResult;
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Unable to read response of request " + describe(lResponse), e);
+      }
+    }
+    catch (RuntimeException | Error e) {
+      failEvent(lEvent, e);
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> T executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    RequestEvent lEvent = this.startEvent(pRequest);
+    try {
+      HttpResponse<InputStream> lResponse = this.send(pRequest, true, lEvent);
+      try (InputStream lBody = this.checkStatus(lResponse, pSuccessfulStatusCode)) {
+        long lStart = System.nanoTime();
+        T lResult;
+        if (lResponse.statusCode() != NO_CONTENT) {
+          lResult =
+              this.getCodec(pRequest.getContentType()).deserializeCollection(lBody, pCollectionClass, pObjectType);
+        }
+        else {
+          lResult = null;
+        }
+        lBody.transferTo(OutputStream.nullOutputStream());
+        endEvent(lEvent, lStart);
+        return lResult;
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Unable to read response of request " + describe(lResponse), e);
+      }
+    }
+    catch (RuntimeException | Error e) {
+      failEvent(lEvent, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method executes a HTTP request that is expected to return a collection of objects. Elements are deserialized using
+   * {@link BodyCodec#deserializeElements(InputStream, ObjectType)} while the returned stream is consumed. The returned
+   * stream has to be closed. Closing it before all elements were read aborts the transfer of the response. For
+   * listeners the call ends when the stream is closed. The deserialize phase thus also contains the time that the
+   * caller needs to process the elements. If reading an element fails then the call is reported as failed right away.
+   */
+  @Override
+  public <T> Stream<T> executeStreamResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      ObjectType pObjectType ) {
+    RequestEvent lEvent = this.startEvent(pRequest);
+    try {
+      HttpResponse<InputStream> lResponse = this.send(pRequest, true, lEvent);
+      InputStream lBody = this.checkStatus(lResponse, pSuccessfulStatusCode);
+      long lStart = System.nanoTime();
+      try {
+        Iterator<T> lElements;
+        if (lResponse.statusCode() != NO_CONTENT) {
+          lElements = this.getCodec(pRequest.getContentType()).deserializeElements(lBody, pObjectType);
+        }
+        else {
+          lElements = List.<T> of().iterator();
+        }
+        Spliterator<T> lSpliterator = Spliterators.spliteratorUnknownSize(lElements, Spliterator.ORDERED);
+        Stream<T> lStream = StreamSupport.stream(lSpliterator, false).onClose(( ) -> closeQuietly(lBody));
+        return StreamTermination.observe(lStream, false, pError -> {
+          if (pError == null) {
+            endEvent(lEvent, lStart);
+          }
+          else {
+            failEvent(lEvent, pError);
+          }
+        });
+      }
+      catch (IOException e) {
+        closeQuietly(lBody);
+        throw new UncheckedIOException("Unable to read response of request " + describe(lResponse), e);
+      }
+      catch (RuntimeException e) {
+        closeQuietly(lBody);
+        throw e;
+      }
+    }
+    catch (RuntimeException | Error e) {
+      failEvent(lEvent, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Method executes the request and returns the result together with the status code and all header fields of the
+   * response. Status code {@link RESTResponse#NOT_MODIFIED} is treated as successful for conditional requests.
+   */
+  @Override
+  public <T> RESTResponse<T> executeResponseRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+      @SuppressWarnings("rawtypes")
+      Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+    RequestEvent lEvent = this.startEvent(pRequest);
+    try {
+      HttpResponse<InputStream> lResponse = this.send(pRequest, pObjectType != null, lEvent);
+      int lStatusCode = lResponse.statusCode();
+      boolean lNotModified = lStatusCode == RESTResponse.NOT_MODIFIED && isConditional(pRequest);
+      try (InputStream lBody = lNotModified ? lResponse.body() : this.checkStatus(lResponse, pSuccessfulStatusCode)) {
+        long lStart = System.nanoTime();
+        T lResult;
+        if (pObjectType != null && lNotModified == false && lStatusCode != NO_CONTENT) {
+          BodyCodec lCodec = this.getCodec(pRequest.getContentType());
+          if (pCollectionClass != null) {
+            lResult = lCodec.deserializeCollection(lBody, pCollectionClass, pObjectType);
+          }
+          else {
+            lResult = lCodec.deserialize(lBody, pObjectType);
+          }
+        }
+        else {
+          lResult = null;
+        }
+        lBody.transferTo(OutputStream.nullOutputStream());
+        endEvent(lEvent, lStart);
+        return RESTResponse.of(lStatusCode, lResponse.headers().map(), lResult);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Unable to read response of request " + describe(lResponse), e);
+      }
+    }
+    catch (RuntimeException | Error e) {
+      failEvent(lEvent, e);
+      throw e;
+    }
+  }
+
+  private static boolean isConditional( RESTRequest pRequest ) {
+    Map<String, List<String>> lHeaderFields = pRequest.getHeaderFields();
+    return lHeaderFields.containsKey(HeaderNames.IF_NONE_MATCH)
+        || lHeaderFields.containsKey(HeaderNames.IF_MODIFIED_SINCE);
+  }
+
+  /**
+   * Method executes the batch using the asynchronous view of this executor (see {@link #getAsyncExecutor()}). This way
+   * up to <code>pMaxParallelism</code> requests share the connections of the http client without requiring a thread per
+   * request. The calling thread waits until all requests are completed.
+   */
+  @Override
+  public <T> List<BatchResult<T>> executeBatch( List<BatchItem<T>> pItems, int pMaxParallelism ) {
+    return asyncExecutor.executeBatch(pItems, pMaxParallelism).join();
+  }
+
+  /**
+   * Method sends the passed request and waits for the response headers. The body of the response is not yet read.
+   *
+   * @param pRequest Request that should be sent. The parameter must not be null.
+   * @param pExpectsResult Flag indicates if the request expects a result. In this case the accept header is set.
+   * @param pEvent Event to which send and wait phase as well as the response status are reported. The parameter may be
+   * null.
+   * @return {@link HttpResponse} Response whose body can be read as stream. The method never returns null.
+   */
+  private HttpResponse<InputStream> send( RESTRequest pRequest, boolean pExpectsResult, RequestEvent pEvent ) {
+    long lStart = System.nanoTime();
+    HttpRequest lHttpRequest = this.createHttpRequest(pRequest, pExpectsResult);
+    try {
+      HttpResponse<InputStream> lResponse;
+      if (pEvent != null) {
+        long lSent = System.nanoTime();
+        pEvent.setSendNanos(lSent - lStart);
+        pEvent.setBytesSent(lHttpRequest.bodyPublisher().map(BodyPublisher::contentLength).orElse(0L));
+        lResponse = httpClient.send(lHttpRequest, BodyHandlers.ofInputStream());
+        pEvent.setWaitNanos(System.nanoTime() - lSent);
+        pEvent.setStatusCode(lResponse.statusCode());
+        pEvent.setBytesReceived(
+            lResponse.headers().firstValueAsLong(HeaderNames.CONTENT_LENGTH).orElse(RequestEvent.UNKNOWN));
+      }
+      else {
+        lResponse = httpClient.send(lHttpRequest, BodyHandlers.ofInputStream());
+      }
+      return lResponse;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Unable to execute request " + describe(lHttpRequest), e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException("Unable to execute request " + describe(lHttpRequest),
+          new InterruptedIOException("Thread was interrupted while waiting for response."));
+    }
+  }
+
+  /**
+   * Method creates the http request that represents the passed REST request.
+   *
+   * @param pRequest Request that should be converted. The parameter must not be null.
+   * @param pExpectsResult Flag indicates if the request expects a result. In this case the accept header is set.
+   * @return {@link HttpRequest} Created http request. The method never returns null.
+   */
+  protected HttpRequest createHttpRequest( RESTRequest pRequest, boolean pExpectsResult ) {
+    ServiceConfiguration lConfiguration = this.getServiceConfiguration(pRequest.getServiceClass());
+    String lBaseURI = lConfiguration.getBaseURI();
+    String lURI = pRequest.appendEncodedPathAndQuery(new StringBuilder(lBaseURI.length() + 64).append(lBaseURI))
+        .toString();
+    HttpRequest.Builder lBuilder = HttpRequest.newBuilder(URI.create(lURI));
+    if (lConfiguration.getRequestTimeout() != null) {
+      lBuilder.timeout(lConfiguration.getRequestTimeout());
+    }
+
+    // Standard headers are set first so that they can be overwritten by headers of the request.
+    String lMimeType = pRequest.getContentType().getMimeType();
+    if (pExpectsResult) {
+      lBuilder.setHeader(HeaderNames.ACCEPT, lMimeType);
+    }
+    if (pRequest.getBody() != null) {
+      lBuilder.setHeader(HeaderNames.CONTENT_TYPE, lMimeType);
+    }
+    pRequest.getHeaderFields().forEach(( pName, pValues ) -> addHeader(lBuilder, pName, pValues));
+    Map<String, String> lCookies = pRequest.getCookies();
+    if (lCookies.isEmpty() == false) {
+      StringBuilder lCookieHeader = new StringBuilder();
+      lCookies.forEach(( pName, pValue ) -> {
+        if (lCookieHeader.length() > 0) {
+          lCookieHeader.append("; ");
+        }
+        lCookieHeader.append(pName).append('=').append(pValue);
+      });
+      lBuilder.header(HeaderNames.COOKIE, lCookieHeader.toString());
+    }
+
+    lBuilder.method(pRequest.getHttpMethod().name(), this.createBodyPublisher(pRequest));
+    return lBuilder.build();
+  }
+
+  private static void addHeader( HttpRequest.Builder pBuilder, String pName, List<String> pValues ) {
+    if (pValues != null && isRestrictedHeader(pName) == false) {
+      boolean lFirst = true;
+      for (String lValue : pValues) {
+        if (lValue != null) {
+          if (lFirst) {
+            pBuilder.setHeader(pName, lValue);
+            lFirst = false;
+          }
+          else {
+            pBuilder.header(pName, lValue);
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean isRestrictedHeader( String pName ) {
+    for (String lRestrictedHeader : RESTRICTED_HEADERS) {
+      if (lRestrictedHeader.equalsIgnoreCase(pName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Method creates the publisher for the body of the passed request.
+   *
+   * @param pRequest Request whose body should be sent. The parameter must not be null.
+   * @return {@link BodyPublisher} Publisher for the body of the request. The method never returns null.
+   */
+  private BodyPublisher createBodyPublisher( RESTRequest pRequest ) {
+    Object lBody = pRequest.getBody();
+    BodyPublisher lPublisher;
+    if (lBody == null) {
+      lPublisher = BodyPublishers.noBody();
+    }
+    else if (lBody instanceof StreamingBody) {
+      lPublisher = createStreamingBodyPublisher((StreamingBody) lBody);
+    }
+    else {
+      try {
+        lPublisher = BodyPublishers.ofByteArray(this.getCodec(pRequest.getContentType()).serialize(lBody));
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Unable to serialize body of type " + lBody.getClass().getName(), e);
+      }
+    }
+    return lPublisher;
+  }
+
+  private static BodyPublisher createStreamingBodyPublisher( StreamingBody pBody ) {
+    BodyPublisher lPublisher;
+    if (pBody instanceof StreamingBody.FileBody) {
+      try {
+        lPublisher = BodyPublishers.ofFile(((StreamingBody.FileBody) pBody).getFile());
+      }
+      catch (FileNotFoundException e) {
+        throw new UncheckedIOException("Unable to read file " + ((StreamingBody.FileBody) pBody).getFile(), e);
+      }
+    }
+    else if (pBody instanceof StreamingBody.InputStreamBody) {
+      StreamingBody.InputStreamBody lStreamBody = (StreamingBody.InputStreamBody) pBody;
+      lPublisher = withContentLength(BodyPublishers.ofInputStream(lStreamBody::openStream), pBody);
+    }
+    else if (pBody instanceof StreamingBody.ChannelBody) {
+      StreamingBody.ChannelBody lChannelBody = (StreamingBody.ChannelBody) pBody;
+      lPublisher = withContentLength(
+          BodyPublishers.ofInputStream(( ) -> Channels.newInputStream(lChannelBody.getChannel())), pBody);
+    }
+    else {
+      lPublisher = withContentLength(((StreamingBody.PublisherBody) pBody).getPublisher(), pBody);
+    }
+    return lPublisher;
+  }
+
+  private static BodyPublisher withContentLength( Flow.Publisher<ByteBuffer> pPublisher, StreamingBody pBody ) {
+    // Without content length chunked transfer encoding will be used.
+    if (pBody.getContentLength() > 0) {
+      return BodyPublishers.fromPublisher(pPublisher, pBody.getContentLength());
+    }
+    else if (pBody.getContentLength() == 0) {
+      return BodyPublishers.noBody();
+    }
+    else {
+      return BodyPublishers.fromPublisher(pPublisher);
+    }
+  }
+
+  /**
+   * Method checks the status code of the passed response.
+   *
+   * @param pResponse Response that should be checked. The parameter must not be null.
+   * @param pSuccessfulStatusCode Expected status code.
+   * @return {@link InputStream} Body of the response. The method never returns null.
+   * @throws HttpStatusException if the response has another status code than the expected one.
+   */
+  private InputStream checkStatus( HttpResponse<InputStream> pResponse, int pSuccessfulStatusCode ) {
+    InputStream lBody = pResponse.body();
+    if (pResponse.statusCode() == pSuccessfulStatusCode) {
+      return lBody;
+    }
+    else {
+      String lResponseBody;
+      try (lBody) {
+        lResponseBody = new String(lBody.readNBytes(MAX_ERROR_BODY_SIZE), StandardCharsets.UTF_8);
+      }
+      catch (IOException e) {
+        lResponseBody = null;
+      }
+      throw createStatusException(pResponse, pSuccessfulStatusCode, lResponseBody);
+    }
+  }
+
+  private static HttpStatusException createStatusException( HttpResponse<?> pResponse, int pSuccessfulStatusCode,
+      String pResponseBody ) {
+    return new HttpStatusException("Request " + describe(pResponse) + " failed with status code "
+        + pResponse.statusCode() + " (expected " + pSuccessfulStatusCode + ").", pResponse.statusCode(),
+        pResponseBody);
+  }
+
+  private BodyCodec getCodec( ContentType pContentType ) {
+    BodyCodec lCodec = codecs.get(pContentType);
+    if (lCodec != null) {
+      return lCodec;
+    }
+    else {
+      throw new IllegalArgumentException("No codec defined for content type " + pContentType + ".");
+    }
+  }
+
+  /**
+   * Method notifies all listeners about the start of a call.
+   *
+   * @param pRequest Request that is executed. The parameter must not be null.
+   * @return {@link RequestEvent} Event of the call. The method returns null if the executor has no listeners.
+   */
+  private RequestEvent startEvent( RESTRequest pRequest ) {
+    return listeners.isEmpty() ? null : RequestEvent.start(pRequest, listeners);
+  }
+
+  private static void endEvent( RequestEvent pEvent, long pDeserializeStart ) {
+    if (pEvent != null) {
+      pEvent.setDeserializeNanos(System.nanoTime() - pDeserializeStart);
+      pEvent.end();
+    }
+  }
+
+  private static void failEvent( RequestEvent pEvent, Throwable pError ) {
+    if (pEvent != null) {
+      pEvent.fail(pError instanceof CompletionException && pError.getCause() != null ? pError.getCause() : pError);
+    }
+  }
+
+  private static String describe( HttpRequest pRequest ) {
+    return pRequest.method() + " " + pRequest.uri();
+  }
+
+  private static String describe( HttpResponse<?> pResponse ) {
+    return describe(pResponse.request());
+  }
+
+  private static void closeQuietly( InputStream pStream ) {
+    try {
+      pStream.close();
+    }
+    catch (IOException e) {
+      // Nothing we can do about it as the response is no longer needed anyway.
+    }
+  }
+
+  /**
+   * Interface is used to read the result of a request from the response body.
+   */
+  private interface ResultReader<T> {
+    T read( BodyCodec pCodec, InputStream pInput ) throws IOException;
+  }
+
+  /**
+   * Class implements the asynchronous view of the executor.
+   */
+  private final class AsyncExecutor implements RESTRequestExecutorAsync {
+    @Override
+    public CompletableFuture<Void> executeNoResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode ) {
+      return this.sendAsync(pRequest, pSuccessfulStatusCode, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeSingleObjectResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+        ObjectType pObjectType ) {
+      return this.sendAsync(pRequest, pSuccessfulStatusCode,
+          ( pCodec, pInput ) -> pCodec.<T> deserialize(pInput, pObjectType));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeCollectionResultRequest( RESTRequest pRequest, int pSuccessfulStatusCode,
+        @SuppressWarnings("rawtypes")
+        Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) {
+      return this.sendAsync(pRequest, pSuccessfulStatusCode,
+          ( pCodec, pInput ) -> pCodec.<T> deserializeCollection(pInput, pCollectionClass, pObjectType));
+    }
+
+    private <T> CompletableFuture<T> sendAsync( RESTRequest pRequest, int pSuccessfulStatusCode,
+        ResultReader<T> pReader ) {
+      RequestEvent lEvent = HttpClientRESTRequestExecutor.this.startEvent(pRequest);
+      long lStart = System.nanoTime();
+      HttpRequest lHttpRequest;
+      try {
+        lHttpRequest = HttpClientRESTRequestExecutor.this.createHttpRequest(pRequest, pReader != null);
+      }
+      catch (RuntimeException e) {
+        failEvent(lEvent, e);
+        return CompletableFuture.failedFuture(e);
+      }
+      long lSent = System.nanoTime();
+      if (lEvent != null) {
+        lEvent.setSendNanos(lSent - lStart);
+        lEvent.setBytesSent(lHttpRequest.bodyPublisher().map(BodyPublisher::contentLength).orElse(0L));
+      }
+      CompletableFuture<T> lResult =
+          httpClient.sendAsync(lHttpRequest, BodyHandlers.ofByteArray()).thenApply(pResponse -> {
+            byte[] lBody = pResponse.body();
+            long lReceived = System.nanoTime();
+            if (lEvent != null) {
+              lEvent.setWaitNanos(lReceived - lSent);
+              lEvent.setStatusCode(pResponse.statusCode());
+              lEvent.setBytesReceived(lBody.length);
+            }
+            T lValue;
+            if (pResponse.statusCode() != pSuccessfulStatusCode) {
+              int lLength = Math.min(lBody.length, MAX_ERROR_BODY_SIZE);
+              throw createStatusException(pResponse, pSuccessfulStatusCode,
+                  new String(lBody, 0, lLength, StandardCharsets.UTF_8));
+            }
+            else if (pReader != null && pResponse.statusCode() != NO_CONTENT) {
+              try {
+                lValue = pReader.read(HttpClientRESTRequestExecutor.this.getCodec(pRequest.getContentType()),
+                    new ByteArrayInputStream(lBody));
+              }
+              catch (IOException e) {
+                throw new UncheckedIOException("Unable to read response of request " + describe(pResponse), e);
+              }
+            }
+            else {
+              lValue = null;
+            }
+            endEvent(lEvent, lReceived);
+            return lValue;
+          });
+      if (lEvent != null) {
+        lResult = lResult.whenComplete(( pValue, pError ) -> {
+          if (pError != null) {
+            failEvent(lEvent, pError);
+          }
+        });
+      }
+      return lResult;
+    }
+  }
+
+  /**
+   * Class is used to create {@link HttpClientRESTRequestExecutor} objects.
+   */
+  public static class Builder {
+    private HttpClient httpClient;
+
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    private final Map<Class<?>, ServiceConfiguration> serviceConfigurations = new HashMap<>();
+
+    private final Map<ContentType, BodyCodec> codecs = new EnumMap<>(ContentType.class);
+
+    private final List<RESTRequestListener> listeners = new ArrayList<>();
+
+    /**
+     * Initialize object.
+     */
+    protected Builder( ) {
+    }
+
+    /**
+     * Method sets the http client that should be used by the executor. If no client is set then a new one preferring
+     * HTTP/2 will be created. Custom clients should be shared between executors where possible.
+     *
+     * @param pHttpClient Http client that should be used. The parameter may be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setHttpClient( HttpClient pHttpClient ) {
+      httpClient = pHttpClient;
+      return this;
+    }
+
+    /**
+     * Method sets the timeout for establishing new connections. It is only used if no http client is set.
+     *
+     * @param pConnectTimeout Connect timeout. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setConnectTimeout( Duration pConnectTimeout ) {
+      if (pConnectTimeout != null) {
+        connectTimeout = pConnectTimeout;
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pConnectTimeout' must not be null.");
+      }
+    }
+
+    /**
+     * Method adds the configuration for the passed service class. May be already existing configuration for the same
+     * service class will be overwritten.
+     *
+     * @param pServiceClass Service class to which the configuration belongs. The parameter must not be null.
+     * @param pConfiguration Configuration of the service. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder addService( Class<?> pServiceClass, ServiceConfiguration pConfiguration ) {
+      if (pServiceClass != null && pConfiguration != null) {
+        serviceConfigurations.put(pServiceClass, pConfiguration);
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pServiceClass' and 'pConfiguration' must not be null.");
+      }
+    }
+
+    /**
+     * Method sets the codec that should be used for the passed content type. May be already existing codec for the
+     * same content type will be overwritten.
+     *
+     * @param pContentType Content type for which the codec should be used. The parameter must not be null.
+     * @param pCodec Codec for the content type. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setCodec( ContentType pContentType, BodyCodec pCodec ) {
+      if (pContentType != null && pCodec != null) {
+        codecs.put(pContentType, pCodec);
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameters 'pContentType' and 'pCodec' must not be null.");
+      }
+    }
+
+    /**
+     * Method adds the passed listener. Listeners are notified about all calls of the executor in the order in which
+     * they were added.
+     *
+     * @param pListener Listener that should be added. The parameter must not be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder addListener( RESTRequestListener pListener ) {
+      if (pListener != null) {
+        listeners.add(pListener);
+        return this;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pListener' must not be null.");
+      }
+    }
+
+    /**
+     * Method builds the {@link HttpClientRESTRequestExecutor} object based on the set values.
+     *
+     * @return {@link HttpClientRESTRequestExecutor} Created object. The method never returns null.
+     */
+    public HttpClientRESTRequestExecutor build( ) {
+      return new HttpClientRESTRequestExecutor(this);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.httpclient;
+
+/**
+ * Exception is thrown by {@link HttpClientRESTRequestExecutor} if a REST resource responded with another status code
+ * than the expected one.
+ *
+ * @author JEAF Development Team
+ */
+public class HttpStatusException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Status code that was returned by the REST resource.
+   */
+  private final int statusCode;
+
+  /**
+   * Body of the response as string. In case of large responses only the beginning of the body is contained.
+   */
+  private final String responseBody;
+
+  /**
+   * Initialize object.
+   *
+   * @param pMessage Message describing the failed request. The parameter may be null.
+   * @param pStatusCode Status code that was returned by the REST resource.
+   * @param pResponseBody Body of the response. The parameter may be null.
+   */
+  public HttpStatusException( String pMessage, int pStatusCode, String pResponseBody ) {
+    super(pMessage);
+    statusCode = pStatusCode;
+    responseBody = pResponseBody;
+  }
+
+  /**
+   * Method returns the status code that was returned by the REST resource.
+   *
+   * @return int Http status code.
+   */
+  public int getStatusCode( ) {
+    return statusCode;
+  }
+
+  /**
+   * Method returns the body of the response. In case of large responses only the beginning of the body is returned.
+   *
+   * @return {@link String} Body of the response. The method may return null.
+   */
+  public String getResponseBody( ) {
+    return responseBody;
+  }
+}
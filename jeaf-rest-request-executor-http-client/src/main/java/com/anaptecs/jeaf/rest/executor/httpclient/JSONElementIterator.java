@@ -0,0 +1,285 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.httpclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+
+/**
+ * Class implements an iterator that splits a JSON response body into its elements while it is read. The body may either
+ * be a JSON array or newline delimited JSON (NDJSON), i.e. a sequence of JSON values separated by whitespace. Every
+ * element is deserialized on its own using {@link BodyCodec#deserialize(InputStream, ObjectType)}. This way codecs
+ * only need to support single objects to provide an incremental implementation of
+ * {@link BodyCodec#deserializeElements(InputStream, ObjectType)}:
+ *
+ * <pre>
+ * public &lt;T&gt; Iterator&lt;T&gt; deserializeElements( InputStream pInput, ObjectType pObjectType ) {
+ *   return new JSONElementIterator&lt;&gt;(pInput, this, pObjectType);
+ * }
+ * </pre>
+ *
+ * The response body is only read as far as elements are requested. Besides a fixed read buffer only the bytes of the
+ * current element are kept in memory. The iterator only tracks the structure of the JSON document. Validation of the
+ * elements is left to the codec.
+ *
+ * @author JEAF Development Team
+ */
+public final class JSONElementIterator<T> implements Iterator<T> {
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final int INITIAL_ELEMENT_SIZE = 256;
+
+  private static final int END_OF_INPUT = -1;
+
+  /**
+   * Position of the iterator inside the JSON document.
+   */
+  private enum State {
+    START, ARRAY, VALUES, END
+  }
+
+  private final InputStream input;
+
+  private final BodyCodec codec;
+
+  private final ObjectType objectType;
+
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+
+  private int position;
+
+  private int limit;
+
+  /**
+   * Bytes of the element that is returned next. The array is reused for all elements.
+   */
+  private byte[] element = new byte[INITIAL_ELEMENT_SIZE];
+
+  private int elementLength;
+
+  private boolean elementAvailable;
+
+  private State state = State.START;
+
+  /**
+   * Initialize object.
+   *
+   * @param pInput Stream with the response body. The stream will not be closed by the iterator. The parameter must
+   * not be null.
+   * @param pCodec Codec that is used to deserialize every single element. The parameter must not be null.
+   * @param pObjectType Type of the elements. The parameter must not be null.
+   */
+  public JSONElementIterator( InputStream pInput, BodyCodec pCodec, ObjectType pObjectType ) {
+    if (pInput != null && pCodec != null && pObjectType != null) {
+      input = pInput;
+      codec = pCodec;
+      objectType = pObjectType;
+    }
+    else {
+      throw new IllegalArgumentException("Parameters 'pInput', 'pCodec' and 'pObjectType' must not be null.");
+    }
+  }
+
+  @Override
+  public boolean hasNext( ) {
+    if (elementAvailable == false && state != State.END) {
+      try {
+        elementAvailable = this.readNextElement();
+      }
+      catch (IOException e) {
+        state = State.END;
+        throw new UncheckedIOException("Unable to read next element of JSON response.", e);
+      }
+    }
+    return elementAvailable;
+  }
+
+  @Override
+  public T next( ) {
+    if (this.hasNext()) {
+      elementAvailable = false;
+      try {
+        return codec.deserialize(new ByteArrayInputStream(element, 0, elementLength), objectType);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Unable to deserialize element of JSON response.", e);
+      }
+    }
+    else {
+      throw new NoSuchElementException();
+    }
+  }
+
+  /**
+   * Method reads the next element of the JSON document into {@link #element}.
+   *
+   * @return boolean Method returns true if an element was read and false if the end of the document was reached.
+   */
+  private boolean readNextElement( ) throws IOException {
+    int lNext = this.skipWhitespace();
+    switch (state) {
+      case START:
+        if (lNext == '[') {
+          position++;
+          state = State.ARRAY;
+          lNext = this.skipWhitespace();
+          if (lNext == ']') {
+            position++;
+            state = State.END;
+          }
+        }
+        else if (lNext == END_OF_INPUT) {
+          state = State.END;
+        }
+        else {
+          state = State.VALUES;
+        }
+        break;
+
+      case ARRAY:
+        if (lNext == ',') {
+          position++;
+          lNext = this.skipWhitespace();
+        }
+        else if (lNext == ']') {
+          position++;
+          state = State.END;
+        }
+        else if (lNext != END_OF_INPUT) {
+          throw new IOException("Expected ',' or ']' in JSON array but found '" + (char) lNext + "'.");
+        }
+        break;
+
+      default:
+        if (lNext == END_OF_INPUT) {
+          state = State.END;
+        }
+    }
+    boolean lElementRead;
+    if (state != State.END) {
+      if (lNext == END_OF_INPUT) {
+        throw new EOFException("Unexpected end of JSON array.");
+      }
+      this.readValue();
+      lElementRead = true;
+    }
+    else {
+      lElementRead = false;
+    }
+    return lElementRead;
+  }
+
+  /**
+   * Method reads a complete JSON value. Objects and arrays end with their closing bracket, strings with their closing
+   * quote and all other values before the next whitespace, comma or closing bracket.
+   */
+  private void readValue( ) throws IOException {
+    elementLength = 0;
+    int lDepth = 0;
+    boolean lInString = false;
+    boolean lEscaped = false;
+    boolean lComplete = false;
+    while (lComplete == false) {
+      int lNext = this.peek();
+      if (lNext == END_OF_INPUT) {
+        if (lDepth > 0 || lInString || elementLength == 0) {
+          throw new EOFException("Unexpected end of JSON value.");
+        }
+        lComplete = true;
+      }
+      else if (lInString) {
+        this.append(lNext);
+        if (lEscaped) {
+          lEscaped = false;
+        }
+        else if (lNext == '\\') {
+          lEscaped = true;
+        }
+        else if (lNext == '"') {
+          lInString = false;
+          lComplete = lDepth == 0;
+        }
+      }
+      else if (lNext == '"') {
+        this.append(lNext);
+        lInString = true;
+      }
+      else if (lNext == '{' || lNext == '[') {
+        this.append(lNext);
+        lDepth++;
+      }
+      else if (lNext == '}' || lNext == ']') {
+        if (lDepth > 0) {
+          this.append(lNext);
+          lDepth--;
+          lComplete = lDepth == 0;
+        }
+        else if (elementLength > 0) {
+          lComplete = true;
+        }
+        else {
+          throw new IOException("Unexpected '" + (char) lNext + "' in JSON document.");
+        }
+      }
+      else if (lDepth == 0 && (lNext == ',' || isWhitespace(lNext))) {
+        if (elementLength == 0) {
+          throw new IOException("Missing value in JSON document.");
+        }
+        lComplete = true;
+      }
+      else {
+        this.append(lNext);
+      }
+    }
+  }
+
+  /**
+   * Method consumes the passed byte and adds it to the current element.
+   */
+  private void append( int pByte ) {
+    if (elementLength == element.length) {
+      element = Arrays.copyOf(element, element.length << 1);
+    }
+    element[elementLength++] = (byte) pByte;
+    position++;
+  }
+
+  /**
+   * Method skips all whitespace and returns the next byte without consuming it.
+   */
+  private int skipWhitespace( ) throws IOException {
+    int lNext = this.peek();
+    while (lNext != END_OF_INPUT && isWhitespace(lNext)) {
+      position++;
+      lNext = this.peek();
+    }
+    return lNext;
+  }
+
+  /**
+   * Method returns the next byte without consuming it. The buffer is refilled from the input if required.
+   */
+  private int peek( ) throws IOException {
+    if (position == limit) {
+      int lRead = input.read(buffer);
+      position = 0;
+      limit = Math.max(lRead, 0);
+    }
+    return position < limit ? buffer[position] & 0xFF : END_OF_INPUT;
+  }
+
+  private static boolean isWhitespace( int pByte ) {
+    return pByte == ' ' || pByte == '\n' || pByte == '\r' || pByte == '\t';
+  }
+}
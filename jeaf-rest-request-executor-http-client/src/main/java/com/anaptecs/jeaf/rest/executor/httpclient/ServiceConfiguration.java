@@ -0,0 +1,111 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.httpclient;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Class contains the configuration that is used by {@link HttpClientRESTRequestExecutor} for all requests of one
+ * service class (see {@link com.anaptecs.jeaf.rest.executor.api.RESTRequest#getServiceClass()}).
+ *
+ * @author JEAF Development Team
+ */
+public final class ServiceConfiguration {
+  /**
+   * Base URI of the REST resource e.g. <code>https://products.example.com/api</code>. The encoded path and query of a
+   * request is appended to it. The base URI never ends with '/'.
+   */
+  private final String baseURI;
+
+  /**
+   * Timeout for a single request or null if no timeout should be applied.
+   */
+  private final Duration requestTimeout;
+
+  /**
+   * Method creates new builder.
+   *
+   * @param pBaseURI Base URI of the REST resource. The URI must be absolute. The parameter must not be null.
+   * @return {@link Builder} Created builder. The method never returns null.
+   */
+  public static Builder builder( URI pBaseURI ) {
+    return new Builder(pBaseURI);
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all values of the configuration. The parameter must not be null.
+   */
+  private ServiceConfiguration( Builder pBuilder ) {
+    String lBaseURI = pBuilder.baseURI.toString();
+    baseURI = lBaseURI.endsWith("/") ? lBaseURI.substring(0, lBaseURI.length() - 1) : lBaseURI;
+    requestTimeout = pBuilder.requestTimeout;
+  }
+
+  /**
+   * Method returns the base URI of the REST resource.
+   *
+   * @return {@link String} Base URI without trailing '/'. The method never returns null.
+   */
+  public String getBaseURI( ) {
+    return baseURI;
+  }
+
+  /**
+   * Method returns the timeout for a single request.
+   *
+   * @return {@link Duration} Request timeout. The method returns null if no timeout should be applied.
+   */
+  public Duration getRequestTimeout( ) {
+    return requestTimeout;
+  }
+
+  /**
+   * Class is used to create {@link ServiceConfiguration} objects.
+   */
+  public static final class Builder {
+    private final URI baseURI;
+
+    private Duration requestTimeout;
+
+    /**
+     * Initialize object.
+     *
+     * @param pBaseURI Base URI of the REST resource. The parameter must not be null.
+     */
+    private Builder( URI pBaseURI ) {
+      if (pBaseURI != null && pBaseURI.isAbsolute()) {
+        baseURI = pBaseURI;
+      }
+      else {
+        throw new IllegalArgumentException("Parameter 'pBaseURI' must be an absolute URI.");
+      }
+    }
+
+    /**
+     * Method sets the timeout for a single request. If no timeout is set then requests may wait for a response
+     * forever.
+     *
+     * @param pRequestTimeout Timeout for a single request. The parameter may be null.
+     * @return {@link Builder} Builder object to concatenate calls to builder. The method never returns null.
+     */
+    public Builder setRequestTimeout( Duration pRequestTimeout ) {
+      requestTimeout = pRequestTimeout;
+      return this;
+    }
+
+    /**
+     * Method builds the {@link ServiceConfiguration} object based on the set values.
+     *
+     * @return {@link ServiceConfiguration} Created object. The method never returns null.
+     */
+    public ServiceConfiguration build( ) {
+      return new ServiceConfiguration(this);
+    }
+  }
+}
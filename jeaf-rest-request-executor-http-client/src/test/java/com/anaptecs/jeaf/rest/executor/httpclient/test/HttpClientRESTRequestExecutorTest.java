@@ -0,0 +1,579 @@
+/**
+ * anaptecs GmbH, Ricarda-Huch-Str. 71, 72760 Reutlingen, Germany
+ *
+ * Copyright 2004 - 2026. All rights reserved.
+ */
+package com.anaptecs.jeaf.rest.executor.httpclient.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.rest.executor.api.BatchItem;
+import com.anaptecs.jeaf.rest.executor.api.BatchResult;
+import com.anaptecs.jeaf.rest.executor.api.ContentType;
+import com.anaptecs.jeaf.rest.executor.api.HttpMethod;
+import com.anaptecs.jeaf.rest.executor.api.ObjectType;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequest;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestExecutorAsync;
+import com.anaptecs.jeaf.rest.executor.api.RESTRequestListener;
+import com.anaptecs.jeaf.rest.executor.api.RESTResponse;
+import com.anaptecs.jeaf.rest.executor.api.RequestEvent;
+import com.anaptecs.jeaf.rest.executor.api.StreamingBody;
+import com.anaptecs.jeaf.rest.executor.httpclient.BodyCodec;
+import com.anaptecs.jeaf.rest.executor.httpclient.HttpClientRESTRequestExecutor;
+import com.anaptecs.jeaf.rest.executor.httpclient.HttpStatusException;
+import com.anaptecs.jeaf.rest.executor.httpclient.JSONElementIterator;
+import com.anaptecs.jeaf.rest.executor.httpclient.ServiceConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HttpClientRESTRequestExecutorTest {
+  private static final ObjectType STRING_TYPE = ObjectType.createObjectType(String.class);
+
+  private static HttpServer server;
+
+  private static ExecutorService serverThreads;
+
+  private static HttpClientRESTRequestExecutor executor;
+
+  /**
+   * Latch that releases the second part of the response of resource <code>/json</code>.
+   */
+  private static volatile CountDownLatch jsonReleased;
+
+  @BeforeAll
+  static void startServer( ) throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/echo", HttpClientRESTRequestExecutorTest::echo);
+    server.createContext("/lines", HttpClientRESTRequestExecutorTest::lines);
+    server.createContext("/upload", HttpClientRESTRequestExecutorTest::upload);
+    server.createContext("/missing", pExchange -> respond(pExchange, 404, "Not here"));
+    server.createContext("/empty", pExchange -> respond(pExchange, 204, null));
+    server.createContext("/etag", HttpClientRESTRequestExecutorTest::etag);
+    server.createContext("/json", HttpClientRESTRequestExecutorTest::json);
+    serverThreads = Executors.newCachedThreadPool();
+    server.setExecutor(serverThreads);
+    server.start();
+
+    URI lBaseURI = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    executor = HttpClientRESTRequestExecutor.builder()
+        .addService(String.class, ServiceConfiguration.builder(lBaseURI).build())
+        .setCodec(ContentType.JSON, new LineCodec()).build();
+  }
+
+  @AfterAll
+  static void stopServer( ) {
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  @Test
+  void testSingleObjectResult( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/echo")
+        .setQueryParameter("q", "a b").setQueryParameter("n", 1, 2).setHeader("X-Custom", "1", "2")
+        .setHeader("Host", "ignored").setCookie("session", "4711").setCookie("user", "me").build();
+    String lResult = executor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    List<String> lLines = List.of(lResult.split("\n"));
+    assertEquals("GET /echo?q=a+b&n=1&n=2", lLines.get(0));
+    assertTrue(lLines.contains("X-custom: [1, 2]"), lResult);
+    assertTrue(lLines.contains("Cookie: [session=4711; user=me]"), lResult);
+    assertTrue(lLines.contains("Accept: [application/json]"), lResult);
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/echo")
+        .setBody("Hello World").build();
+    lResult = executor.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE);
+    lLines = List.of(lResult.split("\n"));
+    assertEquals("POST /echo", lLines.get(0));
+    assertTrue(lLines.contains("Content-type: [application/json]"), lResult);
+    assertEquals("Hello World", lLines.get(lLines.size() - 1));
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/empty").build();
+    assertNull(executor.executeSingleObjectResultRequest(lRequest, 204, STRING_TYPE));
+    executor.executeNoResultRequest(lRequest, 204);
+  }
+
+  @Test
+  void testResponseRequest( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/etag").build();
+    RESTResponse<String> lResponse = executor.executeResponseRequest(lRequest, 200, null, STRING_TYPE);
+    assertEquals(200, lResponse.getStatusCode());
+    assertEquals("Version 1", lResponse.getResult());
+    assertEquals("\"v1\"", lResponse.getHeader("etag"));
+    assertEquals("max-age=60", lResponse.getHeader("Cache-Control"));
+
+    RESTRequest lConditional = lRequest.toBuilder().setHeader("If-None-Match", "\"v1\"").build();
+    lResponse = executor.executeResponseRequest(lConditional, 200, null, STRING_TYPE);
+    assertTrue(lResponse.isNotModified());
+    assertNull(lResponse.getResult());
+
+    // 304 is only accepted for conditional requests.
+    RESTRequest lUnconditional = lRequest.toBuilder().setHeader("X-Force", "304").build();
+    try {
+      executor.executeResponseRequest(lUnconditional, 200, null, STRING_TYPE);
+      fail();
+    }
+    catch (HttpStatusException e) {
+      assertEquals(304, e.getStatusCode());
+    }
+  }
+
+  @Test
+  void testUnexpectedStatus( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/missing")
+        .build();
+    try {
+      executor.executeNoResultRequest(lRequest, 200);
+      fail();
+    }
+    catch (HttpStatusException e) {
+      assertEquals(404, e.getStatusCode());
+      assertEquals("Not here", e.getResponseBody());
+      assertTrue(e.getMessage().startsWith("Request GET http://localhost:"), e.getMessage());
+    }
+  }
+
+  @Test
+  void testCollectionResults( ) {
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/lines")
+        .setQueryParameter("count", 1000).build();
+    List<String> lLines = executor.executeCollectionResultRequest(lRequest, 200, List.class, STRING_TYPE);
+    assertEquals(1000, lLines.size());
+    assertEquals("element-999", lLines.get(999));
+
+    // Only the consumed part of the very large response is read.
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/lines")
+        .setQueryParameter("count", 10000000).build();
+    try (Stream<String> lStream = executor.executeStreamResultRequest(lRequest, 200, STRING_TYPE)) {
+      assertEquals("element-0,element-1,element-2", lStream.limit(3).collect(Collectors.joining(",")));
+    }
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/empty").build();
+    try (Stream<String> lStream = executor.executeStreamResultRequest(lRequest, 204, STRING_TYPE)) {
+      assertEquals(0, lStream.count());
+    }
+  }
+
+  @Test
+  void testJSONStreamResult( ) {
+    URI lBaseURI = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    HttpClientRESTRequestExecutor lExecutor = HttpClientRESTRequestExecutor.builder()
+        .setHttpClient(executor.getHttpClient())
+        .addService(String.class, ServiceConfiguration.builder(lBaseURI).build())
+        .setCodec(ContentType.JSON, new JSONTextCodec()).build();
+
+    // Server only sends the rest of the response after the first elements were consumed by the client.
+    for (String lFormat : List.of("array", "ndjson")) {
+      jsonReleased = new CountDownLatch(1);
+      RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/json")
+          .setQueryParameter("format", lFormat).build();
+      try (Stream<String> lStream = lExecutor.executeStreamResultRequest(lRequest, 200, STRING_TYPE)) {
+        Iterator<String> lElements = lStream.iterator();
+        assertEquals("{\"id\":0,\"tags\":[\"a\",\"b\"]}", lElements.next());
+        assertEquals("\"}]\\\"\"", lElements.next());
+        jsonReleased.countDown();
+        List<String> lRest = new ArrayList<>();
+        lElements.forEachRemaining(lRest::add);
+        assertEquals(List.of("42", "null", "[]", "{\"id\":3}"), lRest);
+      }
+    }
+  }
+
+  @Test
+  void testJSONElementIterator( ) {
+    assertEquals(List.of(), readJSONElements(""));
+    assertEquals(List.of(), readJSONElements(" [ ] "));
+    assertEquals(List.of("1", "true", "\"a,b\"", "{\"x\":[1,{\"y\":\"]\"}]}", "[[]]"),
+        readJSONElements("[1, true ,\"a,b\",\n{\"x\":[1,{\"y\":\"]\"}]},[[]]]"));
+    assertEquals(List.of("{\"a\":1}", "{\"a\":2}", "3"), readJSONElements("{\"a\":1}\r\n{\"a\":2}\n3\n"));
+
+    for (String lInvalid : List.of("[1,]", "[1 2]", "[1", "[{\"a\":1}", "{\"a\":\"1}", "[,1]")) {
+      try {
+        readJSONElements(lInvalid);
+        fail(lInvalid);
+      }
+      catch (UncheckedIOException e) {
+        assertTrue(e.getMessage().startsWith("Unable to read next element of JSON response."), e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  void testAsyncExecutor( ) throws InterruptedException {
+    RESTRequestExecutorAsync lAsync = executor.getAsyncExecutor();
+    List<CompletableFuture<String>> lResults = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/echo")
+          .setQueryParameter("i", i).build();
+      lResults.add(lAsync.executeSingleObjectResultRequest(lRequest, 200, STRING_TYPE));
+    }
+    for (int i = 0; i < lResults.size(); i++) {
+      assertTrue(lResults.get(i).join().startsWith("GET /echo?i=" + i + "\n"));
+    }
+
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/lines")
+        .setQueryParameter("count", 10).build();
+    List<String> lLines = lAsync.<List<String>> executeCollectionResultRequest(lRequest, 200, List.class,
+        STRING_TYPE).join();
+    assertEquals(10, lLines.size());
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/missing").build();
+    try {
+      lAsync.executeNoResultRequest(lRequest, 200).get();
+      fail();
+    }
+    catch (ExecutionException e) {
+      assertEquals(404, ((HttpStatusException) e.getCause()).getStatusCode());
+      assertEquals("Not here", ((HttpStatusException) e.getCause()).getResponseBody());
+    }
+
+    // Configuration problems are also reported through the future.
+    lRequest = RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).build();
+    assertTrue(lAsync.executeNoResultRequest(lRequest, 200).isCompletedExceptionally());
+  }
+
+  @Test
+  void testBatch( ) {
+    List<BatchItem<String>> lItems = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON)
+          .setPath(i == 7 ? "/missing" : "/echo").setQueryParameter("i", i).build();
+      lItems.add(BatchItem.singleObject(lRequest, 200, STRING_TYPE));
+    }
+    List<BatchResult<String>> lResults = executor.executeBatch(lItems, 8);
+    assertEquals(50, lResults.size());
+    for (int i = 0; i < lResults.size(); i++) {
+      if (i == 7) {
+        assertEquals(404, ((HttpStatusException) lResults.get(i).getFailure()).getStatusCode());
+      }
+      else {
+        assertTrue(lResults.get(i).getResult().startsWith("GET /echo?i=" + i + "\n"));
+      }
+    }
+  }
+
+  @Test
+  void testStreamingBody( @TempDir Path pDirectory ) throws IOException {
+    byte[] lContent = new byte[100000];
+    RESTRequest lRequest = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/upload")
+        .setBody(StreamingBody.fromInputStream(( ) -> new ByteArrayInputStream(lContent), lContent.length)).build();
+    assertEquals("100000 bytes, length 100000",
+        executor.executeSingleObjectResultRequest(lRequest, 201, STRING_TYPE));
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON).setPath("/upload")
+        .setBody(StreamingBody.fromInputStream(( ) -> new ByteArrayInputStream(lContent),
+            StreamingBody.UNKNOWN_LENGTH))
+        .build();
+    assertEquals("100000 bytes, chunked", executor.executeSingleObjectResultRequest(lRequest, 201, STRING_TYPE));
+
+    Path lFile = pDirectory.resolve("upload.bin");
+    Files.write(lFile, new byte[4711]);
+    lRequest = RESTRequest.builder(String.class, HttpMethod.PUT, ContentType.JSON).setPath("/upload")
+        .setBody(StreamingBody.fromFile(lFile)).build();
+    assertEquals("4711 bytes, length 4711", executor.executeSingleObjectResultRequest(lRequest, 201, STRING_TYPE));
+  }
+
+  @Test
+  void testConfiguration( ) {
+    RESTRequest lRequest = RESTRequest.builder(Integer.class, HttpMethod.GET, ContentType.JSON).build();
+    try {
+      executor.executeNoResultRequest(lRequest, 200);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("No configuration defined for service class 'class java.lang.Integer'.", e.getMessage());
+    }
+
+    lRequest = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.XML).setBody("Hello").build();
+    try {
+      executor.executeNoResultRequest(lRequest, 200);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("No codec defined for content type XML.", e.getMessage());
+    }
+
+    try {
+      ServiceConfiguration.builder(URI.create("/relative"));
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Parameter 'pBaseURI' must be an absolute URI.", e.getMessage());
+    }
+    assertEquals("http://localhost:8080/api",
+        ServiceConfiguration.builder(URI.create("http://localhost:8080/api/")).build().getBaseURI());
+  }
+
+  @Test
+  void testListener( ) {
+    List<String> lCalls = new CopyOnWriteArrayList<>();
+    List<RequestEvent> lEvents = new CopyOnWriteArrayList<>();
+    RESTRequestListener lListener = new RESTRequestListener() {
+      @Override
+      public void onStart( RequestEvent pEvent ) {
+        lCalls.add("start " + pEvent.getPathTemplate());
+      }
+
+      @Override
+      public void onEnd( RequestEvent pEvent ) {
+        lCalls.add("end " + pEvent.getStatusCode());
+        lEvents.add(pEvent);
+      }
+
+      @Override
+      public void onError( RequestEvent pEvent, Throwable pError ) {
+        lCalls.add("error " + pEvent.getStatusCode() + " " + pError.getClass().getSimpleName());
+        lEvents.add(pEvent);
+      }
+    };
+    URI lBaseURI = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    HttpClientRESTRequestExecutor lExecutor = HttpClientRESTRequestExecutor.builder()
+        .setHttpClient(executor.getHttpClient()).addListener(lListener)
+        .addService(String.class, ServiceConfiguration.builder(lBaseURI).build())
+        .setCodec(ContentType.JSON, new LineCodec()).build();
+
+    RESTRequest.Template lTemplate = RESTRequest.builder(String.class, HttpMethod.POST, ContentType.JSON)
+        .setPath("/{resource}").buildTemplate();
+    String lResult = lExecutor.executeSingleObjectResultRequest(lTemplate.builder("echo").setBody("Hello").build(),
+        200, STRING_TYPE);
+    assertEquals(List.of("start /{resource}", "end 200"), lCalls);
+    RequestEvent lEvent = lEvents.get(0);
+    assertEquals(String.class, lEvent.getServiceClass());
+    assertEquals(HttpMethod.POST, lEvent.getHttpMethod());
+    assertEquals(5, lEvent.getBytesSent());
+    assertEquals(lResult.getBytes(StandardCharsets.UTF_8).length, lEvent.getBytesReceived());
+    assertEquals(RequestEvent.UNKNOWN, lEvent.getConnectNanos());
+    assertTrue(lEvent.getSendNanos() >= 0);
+    assertTrue(lEvent.getWaitNanos() >= 0);
+    assertTrue(lEvent.getDeserializeNanos() >= 0);
+    assertTrue(lEvent.getDurationNanos() >= lEvent.getSendNanos() + lEvent.getWaitNanos());
+
+    lCalls.clear();
+    try {
+      lExecutor.executeNoResultRequest(lTemplate.request("missing"), 200);
+      fail();
+    }
+    catch (HttpStatusException e) {
+      assertEquals(List.of("start /{resource}", "error 404 HttpStatusException"), lCalls);
+    }
+
+    lCalls.clear();
+    RESTRequest lLinesRequest = RESTRequest.builder(String.class, HttpMethod.GET, ContentType.JSON).setPath("/lines")
+        .setQueryParameter("count", 3).build();
+    try (Stream<String> lLines = lExecutor.executeStreamResultRequest(lLinesRequest, 200, STRING_TYPE)) {
+      assertEquals(3, lLines.count());
+      assertEquals(List.of("start /lines"), lCalls);
+    }
+    assertEquals(List.of("start /lines", "end 200"), lCalls);
+
+    // Failures while reading elements are reported as failed calls.
+    HttpClientRESTRequestExecutor lFailingExecutor = HttpClientRESTRequestExecutor.builder()
+        .setHttpClient(executor.getHttpClient()).addListener(lListener)
+        .addService(String.class, ServiceConfiguration.builder(lBaseURI).build())
+        .setCodec(ContentType.JSON, new FailingLineCodec()).build();
+    lCalls.clear();
+    try (Stream<String> lLines = lFailingExecutor.executeStreamResultRequest(lLinesRequest, 200, STRING_TYPE)) {
+      lLines.count();
+      fail();
+    }
+    catch (UncheckedIOException e) {
+      assertEquals("Broken element", e.getMessage());
+    }
+    assertEquals(List.of("start /lines", "error 200 UncheckedIOException"), lCalls);
+
+    lCalls.clear();
+    lExecutor.getAsyncExecutor().executeNoResultRequest(lTemplate.request("empty"), 204).join();
+    assertEquals(List.of("start /{resource}", "end 204"), lCalls);
+    assertEquals(0, lEvents.get(lEvents.size() - 1).getBytesReceived());
+    lCalls.clear();
+    CompletableFuture<Void> lFuture = lExecutor.getAsyncExecutor().executeNoResultRequest(lTemplate.request("missing"),
+        200);
+    assertTrue(lFuture.handle(( pResult, pError ) -> pError != null).join());
+    assertEquals(List.of("start /{resource}", "error 404 HttpStatusException"), lCalls);
+  }
+
+  private static void echo( HttpExchange pExchange ) throws IOException {
+    StringBuilder lResponse = new StringBuilder();
+    lResponse.append(pExchange.getRequestMethod()).append(' ').append(pExchange.getRequestURI()).append('\n');
+    pExchange.getRequestHeaders().forEach(( pName, pValues ) -> lResponse.append(pName).append(": ").append(pValues)
+        .append('\n'));
+    try (InputStream lBody = pExchange.getRequestBody()) {
+      lResponse.append(new String(lBody.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    respond(pExchange, 200, lResponse.toString());
+  }
+
+  private static void etag( HttpExchange pExchange ) throws IOException {
+    pExchange.getResponseHeaders().set("ETag", "\"v1\"");
+    pExchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+    String lIfNoneMatch = pExchange.getRequestHeaders().getFirst("If-None-Match");
+    if ("\"v1\"".equals(lIfNoneMatch) || pExchange.getRequestHeaders().containsKey("X-Force")) {
+      respond(pExchange, 304, null);
+    }
+    else {
+      respond(pExchange, 200, "Version 1");
+    }
+  }
+
+  private static void lines( HttpExchange pExchange ) throws IOException {
+    int lCount = Integer.parseInt(pExchange.getRequestURI().getQuery().substring("count=".length()));
+    pExchange.sendResponseHeaders(200, 0);
+    try (OutputStream lBody = pExchange.getResponseBody()) {
+      for (int i = 0; i < lCount; i++) {
+        lBody.write(("element-" + i + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    catch (IOException e) {
+      // Client stopped reading.
+    }
+  }
+
+  private static void json( HttpExchange pExchange ) throws IOException {
+    boolean lArray = pExchange.getRequestURI().getQuery().endsWith("array");
+    String lSeparator = lArray ? "," : "\n";
+    pExchange.sendResponseHeaders(200, 0);
+    try (OutputStream lBody = pExchange.getResponseBody()) {
+      String lFirst =
+          (lArray ? "[" : "") + " {\"id\":0,\"tags\":[\"a\",\"b\"]}" + lSeparator + "\"}]\\\"\"" + lSeparator;
+      lBody.write(lFirst.getBytes(StandardCharsets.UTF_8));
+      lBody.flush();
+      boolean lReleased = jsonReleased.await(10, TimeUnit.SECONDS);
+      String lRest = lReleased ? String.join(lSeparator, "42", "null", "[]", "{\"id\":3}") : "\"not released\"";
+      lBody.write((lRest + (lArray ? "]" : "\n")).getBytes(StandardCharsets.UTF_8));
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static List<String> readJSONElements( String pJSON ) {
+    List<String> lElements = new ArrayList<>();
+    new JSONElementIterator<String>(new ByteArrayInputStream(pJSON.getBytes(StandardCharsets.UTF_8)),
+        new JSONTextCodec(), STRING_TYPE).forEachRemaining(lElements::add);
+    return lElements;
+  }
+
+  private static void upload( HttpExchange pExchange ) throws IOException {
+    String lLength = pExchange.getRequestHeaders().getFirst("Content-Length");
+    try (InputStream lBody = pExchange.getRequestBody()) {
+      int lSize = lBody.readAllBytes().length;
+      respond(pExchange, 201, lSize + " bytes, " + (lLength != null ? "length " + lLength : "chunked"));
+    }
+  }
+
+  private static void respond( HttpExchange pExchange, int pStatusCode, String pBody ) throws IOException {
+    if (pBody != null) {
+      byte[] lBytes = pBody.getBytes(StandardCharsets.UTF_8);
+      pExchange.sendResponseHeaders(pStatusCode, lBytes.length);
+      try (OutputStream lOutput = pExchange.getResponseBody()) {
+        lOutput.write(lBytes);
+      }
+    }
+    else {
+      pExchange.sendResponseHeaders(pStatusCode, -1);
+      pExchange.close();
+    }
+  }
+
+  /**
+   * Codec for plain text. Single objects are the whole body, collections consist of one element per line.
+   */
+  static class LineCodec implements BodyCodec {
+    @Override
+    public byte[] serialize( Object pObject ) {
+      return pObject.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize( InputStream pInput, ObjectType pObjectType ) throws IOException {
+      return (T) new String(pInput.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserializeCollection( InputStream pInput, @SuppressWarnings("rawtypes")
+    Class<? extends Collection> pCollectionClass, ObjectType pObjectType ) throws IOException {
+      List<String> lLines = new ArrayList<>();
+      Iterator<String> lIterator = this.deserializeElements(pInput, pObjectType);
+      lIterator.forEachRemaining(lLines::add);
+      return (T) lLines;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Iterator<T> deserializeElements( InputStream pInput, ObjectType pObjectType ) {
+      BufferedReader lReader = new BufferedReader(new InputStreamReader(pInput, StandardCharsets.UTF_8));
+      return (Iterator<T>) lReader.lines().iterator();
+    }
+  }
+
+  /**
+   * Codec that returns the JSON text of objects. Collections are split into their elements using
+   * {@link JSONElementIterator}.
+   */
+  static class JSONTextCodec extends LineCodec {
+    @Override
+    public <T> Iterator<T> deserializeElements( InputStream pInput, ObjectType pObjectType ) {
+      return new JSONElementIterator<>(pInput, this, pObjectType);
+    }
+  }
+
+  /**
+   * Codec that fails when the second element of a collection is read.
+   */
+  static class FailingLineCodec extends LineCodec {
+    @Override
+    public <T> Iterator<T> deserializeElements( InputStream pInput, ObjectType pObjectType ) {
+      Iterator<T> lLines = super.deserializeElements(pInput, pObjectType);
+      return new Iterator<T>() {
+        private int count;
+
+        @Override
+        public boolean hasNext( ) {
+          return lLines.hasNext();
+        }
+
+        @Override
+        public T next( ) {
+          if (count++ == 1) {
+            throw new UncheckedIOException("Broken element", new IOException("Broken"));
+          }
+          return lLines.next();
+        }
+      };
+    }
+  }
+}